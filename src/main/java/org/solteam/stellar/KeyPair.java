@@ -11,8 +11,6 @@ import net.i2p.crypto.eddsa.spec.EdDSAPublicKeySpec;
 import org.solteam.stellar.xdr.*;
 
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.Signature;
@@ -144,19 +142,14 @@ public class KeyPair {
   }
 
   public SignatureHint getSignatureHint() {
-    try {
-      ByteArrayOutputStream publicKeyBytesStream = new ByteArrayOutputStream();
-      XdrDataOutputStream xdrOutputStream = new XdrDataOutputStream(publicKeyBytesStream);
-      PublicKey.encode(xdrOutputStream, this.getXdrPublicKey());
-      byte[] publicKeyBytes = publicKeyBytesStream.toByteArray();
-      byte[] signatureHintBytes = Arrays.copyOfRange(publicKeyBytes, publicKeyBytes.length - 4, publicKeyBytes.length);
-
-      SignatureHint signatureHint = new SignatureHint();
-      signatureHint.setSignatureHint(signatureHintBytes);
-      return signatureHint;
-    } catch (IOException e) {
-      throw new AssertionError(e);
-    }
+    // The hint is the last 4 bytes of the XDR encoded PublicKey, which are the
+    // last 4 bytes of the raw ed25519 key.
+    byte[] publicKey = getPublicKey();
+    byte[] signatureHintBytes = Arrays.copyOfRange(publicKey, publicKey.length - 4, publicKey.length);
+
+    SignatureHint signatureHint = new SignatureHint();
+    signatureHint.setSignatureHint(signatureHintBytes);
+    return signatureHint;
   }
 
   public PublicKey getXdrPublicKey() {
@@ -240,8 +233,22 @@ public class KeyPair {
     }
   }
 
+  /**
+   * Keypairs are equal when they have the same public key.
+   */
   @Override
   public boolean equals(Object obj) {
-    return super.equals(obj);
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof KeyPair)) {
+      return false;
+    }
+    return Arrays.equals(getPublicKey(), ((KeyPair) obj).getPublicKey());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(getPublicKey());
   }
 }
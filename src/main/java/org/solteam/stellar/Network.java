@@ -0,0 +1,125 @@
+package org.solteam.stellar;
+
+import org.solteam.stellar.xdr.DecoratedSignature;
+import org.solteam.stellar.xdr.EncodedTransactionEnvelope;
+import org.solteam.stellar.xdr.EnvelopeType;
+import org.solteam.stellar.xdr.Hash;
+import org.solteam.stellar.xdr.Transaction;
+import org.solteam.stellar.xdr.XdrDigestWriter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Hashes and signs transactions for one Stellar network.
+ * <p>
+ * Every transaction hash is the SHA-256 of a TransactionSignaturePayload, which starts
+ * with the same 36 bytes for a given network: the network ID followed by the
+ * ENVELOPE_TYPE_TX discriminant. This prefix is encoded once when the network is
+ * created and fed to a per-thread digest ahead of each transaction, so no payload
+ * objects are built and nothing but the resulting hash is allocated.
+ */
+public final class Network {
+
+  public static final String PUBLIC_PASSPHRASE = "Public Global Stellar Network ; September 2015";
+  public static final String TESTNET_PASSPHRASE = "Test SDF Network ; September 2015";
+
+  public static final Network PUBLIC = new Network(PUBLIC_PASSPHRASE);
+  public static final Network TESTNET = new Network(TESTNET_PASSPHRASE);
+
+  private final String mPassphrase;
+  private final byte[] mNetworkId;
+  private final Hash mNetworkIdHash;
+  // networkId + ENVELOPE_TYPE_TX
+  private final byte[] mTransactionPrefix;
+
+  /**
+   * Creates a network context.
+   * @param passphrase The network passphrase, e.g. {@link #PUBLIC_PASSPHRASE}.
+   */
+  public Network(String passphrase) {
+    if (passphrase == null) {
+      throw new NullPointerException("passphrase cannot be null");
+    }
+    mPassphrase = passphrase;
+    try {
+      mNetworkId = MessageDigest.getInstance("SHA-256").digest(passphrase.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+    mNetworkIdHash = getNetworkId();
+    int type = EnvelopeType.ENVELOPE_TYPE_TX.getValue();
+    mTransactionPrefix = Arrays.copyOf(mNetworkId, mNetworkId.length + 4);
+    mTransactionPrefix[32] = (byte) (type >>> 24);
+    mTransactionPrefix[33] = (byte) (type >>> 16);
+    mTransactionPrefix[34] = (byte) (type >>> 8);
+    mTransactionPrefix[35] = (byte) type;
+  }
+
+  public String getPassphrase() {
+    return mPassphrase;
+  }
+
+  /**
+   * Returns the network ID, the SHA-256 of the passphrase.
+   */
+  public Hash getNetworkId() {
+    Hash hash = new Hash();
+    hash.setHash(mNetworkId.clone());
+    return hash;
+  }
+
+  /**
+   * Returns the hash of the given transaction on this network, which is what gets signed.
+   * @param transaction The transaction to hash.
+   */
+  public byte[] hash(Transaction transaction) throws IOException {
+    if (transaction.isFrozen()) {
+      // reuses the hash the frozen transaction caches for the last network
+      return transaction.hash(mNetworkIdHash);
+    }
+    XdrDigestWriter writer = XdrDigestWriter.sha256();
+    writer.write(mTransactionPrefix, 0, mTransactionPrefix.length);
+    Transaction.encode(writer, transaction);
+    return writer.digest();
+  }
+
+  /**
+   * Signs the given transaction for this network.
+   * @param transaction The transaction to sign.
+   * @param signer The keypair to sign with, which must contain a secret key.
+   */
+  public DecoratedSignature sign(Transaction transaction, KeyPair signer) throws IOException {
+    return signer.signDecorated(hash(transaction));
+  }
+
+  /**
+   * Signs the transaction in the given envelope for this network and appends the
+   * signature to it.
+   * @param envelope The envelope to add the signature to.
+   * @param signer The keypair to sign with, which must contain a secret key.
+   */
+  public DecoratedSignature sign(EncodedTransactionEnvelope envelope, KeyPair signer) throws IOException {
+    DecoratedSignature signature = sign(envelope.getTransaction(), signer);
+    envelope.addSignature(signature);
+    return signature;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof Network && ((Network) obj).mPassphrase.equals(mPassphrase);
+  }
+
+  @Override
+  public int hashCode() {
+    return mPassphrase.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return mPassphrase;
+  }
+}
@@ -4,6 +4,9 @@
 package org.solteam.stellar.xdr;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -139,7 +142,7 @@ public class AccountEntry {
         this.ext = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, AccountEntry encodedAccountEntry) throws IOException {
+    public static void encode(XdrWriter stream, AccountEntry encodedAccountEntry) throws IOException {
         AccountID.encode(stream, encodedAccountEntry.accountID);
         Int64.encode(stream, encodedAccountEntry.balance);
         SequenceNumber.encode(stream, encodedAccountEntry.seqNum);
@@ -161,7 +164,7 @@ public class AccountEntry {
         AccountEntryExt.encode(stream, encodedAccountEntry.ext);
     }
 
-    public static AccountEntry decode(XdrDataInputStream stream) throws IOException {
+    public static AccountEntry decode(XdrReader stream) throws IOException {
         AccountEntry decodedAccountEntry = new AccountEntry();
         decodedAccountEntry.accountID = AccountID.decode(stream);
         decodedAccountEntry.balance = Int64.decode(stream);
@@ -175,6 +178,7 @@ public class AccountEntry {
         decodedAccountEntry.homeDomain = String32.decode(stream);
         decodedAccountEntry.thresholds = Thresholds.decode(stream);
         int signerssize = stream.readInt();
+        stream.checkArrayLength(signerssize, 20);
         decodedAccountEntry.signers = new Signer[signerssize];
         for (int i = 0; i < signerssize; i++) {
             decodedAccountEntry.signers[i] = Signer.decode(stream);
@@ -183,11 +187,127 @@ public class AccountEntry {
         return decodedAccountEntry;
     }
 
+    public static AccountEntry decodeInto(XdrReader stream, AccountEntry existing) throws IOException {
+        AccountEntry decodedAccountEntry = existing != null ? existing : new AccountEntry();
+        decodedAccountEntry.accountID = AccountID.decodeInto(stream, decodedAccountEntry.accountID);
+        decodedAccountEntry.balance = Int64.decodeInto(stream, decodedAccountEntry.balance);
+        decodedAccountEntry.seqNum = SequenceNumber.decodeInto(stream, decodedAccountEntry.seqNum);
+        decodedAccountEntry.numSubEntries = Uint32.decodeInto(stream, decodedAccountEntry.numSubEntries);
+        int inflationDestPresent = stream.readInt();
+        if (inflationDestPresent != 0) {
+            decodedAccountEntry.inflationDest = AccountID.decodeInto(stream, decodedAccountEntry.inflationDest);
+        } else {
+            decodedAccountEntry.inflationDest = null;
+        }
+        decodedAccountEntry.flags = Uint32.decodeInto(stream, decodedAccountEntry.flags);
+        decodedAccountEntry.homeDomain = String32.decodeInto(stream, decodedAccountEntry.homeDomain);
+        decodedAccountEntry.thresholds = Thresholds.decodeInto(stream, decodedAccountEntry.thresholds);
+        int signerssize = stream.readInt();
+        stream.checkArrayLength(signerssize, 20);
+        if (decodedAccountEntry.signers == null) {
+            decodedAccountEntry.signers = new Signer[signerssize];
+        } else if (decodedAccountEntry.signers.length != signerssize) {
+            decodedAccountEntry.signers = Arrays.copyOf(decodedAccountEntry.signers, signerssize);
+        }
+        for (int i = 0; i < signerssize; i++) {
+            decodedAccountEntry.signers[i] = Signer.decodeInto(stream, decodedAccountEntry.signers[i]);
+        }
+        decodedAccountEntry.ext = AccountEntryExt.decodeInto(stream, decodedAccountEntry.ext);
+        return decodedAccountEntry;
+    }
+
+    public static void skip(XdrReader stream) throws IOException {
+        AccountID.skip(stream);
+        Int64.skip(stream);
+        SequenceNumber.skip(stream);
+        Uint32.skip(stream);
+        int inflationDestPresent = stream.readInt();
+        if (inflationDestPresent != 0) {
+            AccountID.skip(stream);
+        }
+        Uint32.skip(stream);
+        String32.skip(stream);
+        Thresholds.skip(stream);
+        int signerssize = stream.readInt();
+        for (int i = 0; i < signerssize; i++) {
+            Signer.skip(stream);
+        }
+        AccountEntryExt.skip(stream);
+    }
+
+    public static int encodedSize(AccountEntry encodedAccountEntry) {
+        int size = 0;
+        size += AccountID.encodedSize(encodedAccountEntry.accountID);
+        size += Int64.encodedSize(encodedAccountEntry.balance);
+        size += SequenceNumber.encodedSize(encodedAccountEntry.seqNum);
+        size += Uint32.encodedSize(encodedAccountEntry.numSubEntries);
+        size += 4;
+        if (encodedAccountEntry.inflationDest != null) {
+            size += AccountID.encodedSize(encodedAccountEntry.inflationDest);
+        }
+        size += Uint32.encodedSize(encodedAccountEntry.flags);
+        size += String32.encodedSize(encodedAccountEntry.homeDomain);
+        size += Thresholds.encodedSize(encodedAccountEntry.thresholds);
+        size += 4;
+        for (int i = 0; i < encodedAccountEntry.signers.length; i++) {
+            size += Signer.encodedSize(encodedAccountEntry.signers[i]);
+        }
+        size += AccountEntryExt.encodedSize(encodedAccountEntry.ext);
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof AccountEntry)) {
+            return false;
+        }
+        AccountEntry other = (AccountEntry) object;
+        return Objects.equals(this.accountID, other.accountID)
+                && Objects.equals(this.balance, other.balance)
+                && Objects.equals(this.seqNum, other.seqNum)
+                && Objects.equals(this.numSubEntries, other.numSubEntries)
+                && Objects.equals(this.inflationDest, other.inflationDest)
+                && Objects.equals(this.flags, other.flags)
+                && Objects.equals(this.homeDomain, other.homeDomain)
+                && Objects.equals(this.thresholds, other.thresholds)
+                && Arrays.equals(this.signers, other.signers)
+                && Objects.equals(this.ext, other.ext);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(this.accountID);
+        result = 31 * result + Objects.hashCode(this.balance);
+        result = 31 * result + Objects.hashCode(this.seqNum);
+        result = 31 * result + Objects.hashCode(this.numSubEntries);
+        result = 31 * result + Objects.hashCode(this.inflationDest);
+        result = 31 * result + Objects.hashCode(this.flags);
+        result = 31 * result + Objects.hashCode(this.homeDomain);
+        result = 31 * result + Objects.hashCode(this.thresholds);
+        result = 31 * result + Arrays.hashCode(this.signers);
+        result = 31 * result + Objects.hashCode(this.ext);
+        return result;
+    }
+
     public static class AccountEntryExt {
         public AccountEntryExt() {
         }
 
-        Integer v;
+        int v;
 
         public Integer getDiscriminant() {
             return this.v;
@@ -197,24 +317,85 @@ public class AccountEntry {
             this.v = value;
         }
 
-        public static void encode(XdrDataOutputStream stream, AccountEntryExt encodedAccountEntryExt) throws IOException {
-            stream.writeInt(encodedAccountEntryExt.getDiscriminant().intValue());
-            switch (encodedAccountEntryExt.getDiscriminant()) {
+        public void setDiscriminant(int value) {
+            this.v = value;
+        }
+
+        public int getDiscriminantValue() {
+            return this.v;
+        }
+
+        public static void encode(XdrWriter stream, AccountEntryExt encodedAccountEntryExt) throws IOException {
+            stream.writeInt(encodedAccountEntryExt.v);
+            switch (encodedAccountEntryExt.v) {
                 case 0:
                     break;
             }
         }
 
-        public static AccountEntryExt decode(XdrDataInputStream stream) throws IOException {
+        public static AccountEntryExt decode(XdrReader stream) throws IOException {
             AccountEntryExt decodedAccountEntryExt = new AccountEntryExt();
-            Integer discriminant = stream.readInt();
+            int discriminant = stream.readInt();
             decodedAccountEntryExt.setDiscriminant(discriminant);
-            switch (decodedAccountEntryExt.getDiscriminant()) {
+            switch (decodedAccountEntryExt.v) {
                 case 0:
                     break;
             }
             return decodedAccountEntryExt;
         }
 
+        public static AccountEntryExt decodeInto(XdrReader stream, AccountEntryExt existing) throws IOException {
+            AccountEntryExt decodedAccountEntryExt = existing != null ? existing : new AccountEntryExt();
+            int discriminant = stream.readInt();
+            decodedAccountEntryExt.setDiscriminant(discriminant);
+            switch (discriminant) {
+                case 0:
+                    break;
+            }
+            return decodedAccountEntryExt;
+        }
+
+        public static void skip(XdrReader stream) throws IOException {
+            int discriminant = stream.readInt();
+            switch (discriminant) {
+                case 0:
+                    break;
+            }
+        }
+
+        public static int encodedSize(AccountEntryExt encodedAccountEntryExt) {
+            int size = 4;
+            switch (encodedAccountEntryExt.v) {
+                case 0:
+                    break;
+            }
+            return size;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof AccountEntryExt)) {
+                return false;
+            }
+            AccountEntryExt other = (AccountEntryExt) object;
+            if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+                return false;
+            }
+            switch (this.getDiscriminantValue()) {
+                case 0:
+                    return true;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.getDiscriminantValue();
+            return result;
+        }
+
     }
 }
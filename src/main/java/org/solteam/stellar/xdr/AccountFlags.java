@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -29,6 +30,13 @@ public enum AccountFlags {
     AUTH_IMMUTABLE_FLAG(4);
     private int mValue;
 
+    // indexed by value - MIN_VALUE, null where no constant has the value
+    private static final int MIN_VALUE = 1;
+    private static final AccountFlags[] BY_VALUE = {
+        AUTH_REQUIRED_FLAG,
+        AUTH_REVOCABLE_FLAG,
+    };
+
     AccountFlags(int value) {
         mValue = value;
     }
@@ -37,21 +45,25 @@ public enum AccountFlags {
         return mValue;
     }
 
-    static AccountFlags decode(XdrDataInputStream stream) throws IOException {
+    static AccountFlags decode(XdrReader stream) throws IOException {
         int value = stream.readInt();
-        switch (value) {
-            case 1:
-                return AUTH_REQUIRED_FLAG;
-            case 2:
-                return AUTH_REVOCABLE_FLAG;
-            case 4:
-                return AUTH_IMMUTABLE_FLAG;
-            default:
-                throw new RuntimeException("Unknown enum value: " + value);
+        int index = value - MIN_VALUE;
+        if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+            return BY_VALUE[index];
+        }
+        if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+            return null;
         }
+        throw new IOException("Unknown enum value: " + value);
+    }
+    public static void skip(XdrReader stream) throws IOException {
+        stream.skip(4);
     }
 
-    static void encode(XdrDataOutputStream stream, AccountFlags value) throws IOException {
+    static void encode(XdrWriter stream, AccountFlags value) throws IOException {
         stream.writeInt(value.getValue());
     }
+    public static int encodedSize(AccountFlags value) {
+        return 4;
+    }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -19,16 +21,91 @@ public class AccountID {
     }
 
     public void setAccountID(PublicKey value) {
+        checkMutable();
         this.AccountID = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, AccountID encodedAccountID) throws IOException {
+    public static void encode(XdrWriter stream, AccountID encodedAccountID) throws IOException {
         PublicKey.encode(stream, encodedAccountID.AccountID);
     }
 
-    public static AccountID decode(XdrDataInputStream stream) throws IOException {
+    public static AccountID decode(XdrReader stream) throws IOException {
         AccountID decodedAccountID = new AccountID();
         decodedAccountID.AccountID = PublicKey.decode(stream);
+        XdrInternPool pool = stream.getInternPool();
+        return pool != null ? pool.intern(decodedAccountID) : decodedAccountID;
+    }
+
+    public static AccountID decodeInto(XdrReader stream, AccountID existing) throws IOException {
+        if (stream.getInternPool() != null) {
+            // go through the pool, which hands out shared instances
+            return decode(stream);
+        }
+        AccountID decodedAccountID = existing != null && !existing.frozen ? existing : new AccountID();
+        decodedAccountID.AccountID = PublicKey.decodeInto(stream, decodedAccountID.AccountID);
         return decodedAccountID;
     }
+
+    public static void skip(XdrReader stream) throws IOException {
+        PublicKey.skip(stream);
+    }
+
+    public static int encodedSize(AccountID encodedAccountID) {
+        int size = 0;
+        size += PublicKey.encodedSize(encodedAccountID.AccountID);
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+    static int compare(AccountID a, AccountID b) {
+        return PublicKey.compare(a.AccountID, b.AccountID);
+    }
+
+    // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+    private boolean frozen;
+
+    void freeze() {
+        frozen = true;
+        if (this.AccountID != null) {
+            this.AccountID.freeze();
+        }
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("AccountID is frozen");
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof AccountID)) {
+            return false;
+        }
+        AccountID other = (AccountID) object;
+        return Objects.equals(this.AccountID, other.AccountID);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(this.AccountID);
+        return result;
+    }
+
 }
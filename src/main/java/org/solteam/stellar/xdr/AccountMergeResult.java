@@ -4,6 +4,8 @@
 package org.solteam.stellar.xdr;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -40,7 +42,7 @@ public class AccountMergeResult {
         this.sourceAccountBalance = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, AccountMergeResult encodedAccountMergeResult) throws IOException {
+    public static void encode(XdrWriter stream, AccountMergeResult encodedAccountMergeResult) throws IOException {
         stream.writeInt(encodedAccountMergeResult.getDiscriminant().getValue());
         switch (encodedAccountMergeResult.getDiscriminant()) {
             case ACCOUNT_MERGE_SUCCESS:
@@ -51,10 +53,13 @@ public class AccountMergeResult {
         }
     }
 
-    public static AccountMergeResult decode(XdrDataInputStream stream) throws IOException {
+    public static AccountMergeResult decode(XdrReader stream) throws IOException {
         AccountMergeResult decodedAccountMergeResult = new AccountMergeResult();
         AccountMergeResultCode discriminant = AccountMergeResultCode.decode(stream);
         decodedAccountMergeResult.setDiscriminant(discriminant);
+        if (discriminant == null) {
+            return decodedAccountMergeResult;
+        }
         switch (decodedAccountMergeResult.getDiscriminant()) {
             case ACCOUNT_MERGE_SUCCESS:
                 decodedAccountMergeResult.sourceAccountBalance = Int64.decode(stream);
@@ -64,4 +69,98 @@ public class AccountMergeResult {
         }
         return decodedAccountMergeResult;
     }
+
+    public static AccountMergeResult decodeInto(XdrReader stream, AccountMergeResult existing) throws IOException {
+        AccountMergeResult decodedAccountMergeResult = existing != null ? existing : new AccountMergeResult();
+        AccountMergeResultCode discriminant = AccountMergeResultCode.decode(stream);
+        decodedAccountMergeResult.setDiscriminant(discriminant);
+        if (discriminant == null) {
+            decodedAccountMergeResult.sourceAccountBalance = null;
+            return decodedAccountMergeResult;
+        }
+        switch (discriminant) {
+            case ACCOUNT_MERGE_SUCCESS:
+                decodedAccountMergeResult.sourceAccountBalance = Int64.decodeInto(stream, decodedAccountMergeResult.sourceAccountBalance);
+                break;
+            default:
+                break;
+        }
+        // leave only the selected arm set, as decode does
+        if (discriminant != AccountMergeResultCode.ACCOUNT_MERGE_SUCCESS) {
+            decodedAccountMergeResult.sourceAccountBalance = null;
+        }
+        return decodedAccountMergeResult;
+    }
+
+    public static void skip(XdrReader stream) throws IOException {
+        AccountMergeResultCode discriminant = AccountMergeResultCode.decode(stream);
+        if (discriminant == null) {
+            return;
+        }
+        switch (discriminant) {
+            case ACCOUNT_MERGE_SUCCESS:
+                Int64.skip(stream);
+                break;
+            default:
+                break;
+        }
+    }
+
+    public static int encodedSize(AccountMergeResult encodedAccountMergeResult) {
+        int size = 4;
+        switch (encodedAccountMergeResult.getDiscriminant()) {
+            case ACCOUNT_MERGE_SUCCESS:
+                size += Int64.encodedSize(encodedAccountMergeResult.sourceAccountBalance);
+                break;
+            default:
+                break;
+        }
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof AccountMergeResult)) {
+            return false;
+        }
+        AccountMergeResult other = (AccountMergeResult) object;
+        if (this.getDiscriminant() != other.getDiscriminant()) {
+            return false;
+        }
+        if (this.getDiscriminant() == null) {
+            return true;
+        }
+        switch (this.getDiscriminant()) {
+            case ACCOUNT_MERGE_SUCCESS:
+                return Objects.equals(this.sourceAccountBalance, other.sourceAccountBalance);
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+        if (this.getDiscriminant() != null) {
+            switch (this.getDiscriminant()) {
+                case ACCOUNT_MERGE_SUCCESS:
+                    result = 31 * result + Objects.hashCode(this.sourceAccountBalance);
+                    break;
+            }
+        }
+        return result;
+    }
+
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -28,6 +29,16 @@ public enum AccountMergeResultCode {
     ACCOUNT_MERGE_HAS_SUB_ENTRIES(-4),;
     private int mValue;
 
+    // indexed by value - MIN_VALUE, null where no constant has the value
+    private static final int MIN_VALUE = -4;
+    private static final AccountMergeResultCode[] BY_VALUE = {
+        ACCOUNT_MERGE_HAS_SUB_ENTRIES,
+        ACCOUNT_MERGE_IMMUTABLE_SET,
+        ACCOUNT_MERGE_NO_ACCOUNT,
+        ACCOUNT_MERGE_MALFORMED,
+        ACCOUNT_MERGE_SUCCESS,
+    };
+
     AccountMergeResultCode(int value) {
         mValue = value;
     }
@@ -36,25 +47,25 @@ public enum AccountMergeResultCode {
         return mValue;
     }
 
-    static AccountMergeResultCode decode(XdrDataInputStream stream) throws IOException {
+    static AccountMergeResultCode decode(XdrReader stream) throws IOException {
         int value = stream.readInt();
-        switch (value) {
-            case 0:
-                return ACCOUNT_MERGE_SUCCESS;
-            case -1:
-                return ACCOUNT_MERGE_MALFORMED;
-            case -2:
-                return ACCOUNT_MERGE_NO_ACCOUNT;
-            case -3:
-                return ACCOUNT_MERGE_IMMUTABLE_SET;
-            case -4:
-                return ACCOUNT_MERGE_HAS_SUB_ENTRIES;
-            default:
-                throw new RuntimeException("Unknown enum value: " + value);
+        int index = value - MIN_VALUE;
+        if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+            return BY_VALUE[index];
+        }
+        if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+            return null;
         }
+        throw new IOException("Unknown enum value: " + value);
+    }
+    public static void skip(XdrReader stream) throws IOException {
+        stream.skip(4);
     }
 
-    static void encode(XdrDataOutputStream stream, AccountMergeResultCode value) throws IOException {
+    static void encode(XdrWriter stream, AccountMergeResultCode value) throws IOException {
         stream.writeInt(value.getValue());
     }
+    public static int encodedSize(AccountMergeResultCode value) {
+        return 4;
+    }
 }
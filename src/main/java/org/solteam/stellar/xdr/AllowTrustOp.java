@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -39,6 +42,7 @@ public class AllowTrustOp {
     }
 
     public void setTrustor(AccountID value) {
+        checkMutable();
         this.trustor = value;
     }
 
@@ -49,6 +53,7 @@ public class AllowTrustOp {
     }
 
     public void setAsset(AllowTrustOpAsset value) {
+        checkMutable();
         this.asset = value;
     }
 
@@ -59,16 +64,17 @@ public class AllowTrustOp {
     }
 
     public void setAuthorize(Boolean value) {
+        checkMutable();
         this.authorize = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, AllowTrustOp encodedAllowTrustOp) throws IOException {
+    public static void encode(XdrWriter stream, AllowTrustOp encodedAllowTrustOp) throws IOException {
         AccountID.encode(stream, encodedAllowTrustOp.trustor);
         AllowTrustOpAsset.encode(stream, encodedAllowTrustOp.asset);
         stream.writeInt(encodedAllowTrustOp.authorize ? 1 : 0);
     }
 
-    public static AllowTrustOp decode(XdrDataInputStream stream) throws IOException {
+    public static AllowTrustOp decode(XdrReader stream) throws IOException {
         AllowTrustOp decodedAllowTrustOp = new AllowTrustOp();
         decodedAllowTrustOp.trustor = AccountID.decode(stream);
         decodedAllowTrustOp.asset = AllowTrustOpAsset.decode(stream);
@@ -76,6 +82,84 @@ public class AllowTrustOp {
         return decodedAllowTrustOp;
     }
 
+    public static AllowTrustOp decodeInto(XdrReader stream, AllowTrustOp existing) throws IOException {
+        AllowTrustOp decodedAllowTrustOp = existing != null && !existing.frozen ? existing : new AllowTrustOp();
+        decodedAllowTrustOp.trustor = AccountID.decodeInto(stream, decodedAllowTrustOp.trustor);
+        decodedAllowTrustOp.asset = AllowTrustOpAsset.decodeInto(stream, decodedAllowTrustOp.asset);
+        decodedAllowTrustOp.authorize = stream.readInt() == 1 ? true : false;
+        return decodedAllowTrustOp;
+    }
+
+    public static void skip(XdrReader stream) throws IOException {
+        AccountID.skip(stream);
+        AllowTrustOpAsset.skip(stream);
+        stream.skip(4);
+    }
+
+    public static int encodedSize(AllowTrustOp encodedAllowTrustOp) {
+        int size = 0;
+        size += AccountID.encodedSize(encodedAllowTrustOp.trustor);
+        size += AllowTrustOpAsset.encodedSize(encodedAllowTrustOp.asset);
+        size += 4;
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+
+    // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+    private boolean frozen;
+
+    void freeze() {
+        frozen = true;
+        if (this.trustor != null) {
+            this.trustor.freeze();
+        }
+        if (this.asset != null) {
+            this.asset.freeze();
+        }
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("AllowTrustOp is frozen");
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof AllowTrustOp)) {
+            return false;
+        }
+        AllowTrustOp other = (AllowTrustOp) object;
+        return Objects.equals(this.trustor, other.trustor)
+                && Objects.equals(this.asset, other.asset)
+                && this.authorize == other.authorize;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(this.trustor);
+        result = 31 * result + Objects.hashCode(this.asset);
+        result = 31 * result + Boolean.hashCode(this.authorize);
+        return result;
+    }
+
     public static class AllowTrustOpAsset {
         public AllowTrustOpAsset() {
         }
@@ -87,61 +171,194 @@ public class AllowTrustOp {
         }
 
         public void setDiscriminant(AssetType value) {
+            checkMutable();
+            this.cachedHashCode = 0;
             this.type = value;
         }
 
         private byte[] assetCode4;
 
         public byte[] getAssetCode4() {
-            return this.assetCode4;
+            return frozen && this.assetCode4 != null ? this.assetCode4.clone() : this.assetCode4;
         }
 
         public void setAssetCode4(byte[] value) {
+            checkMutable();
+            this.cachedHashCode = 0;
             this.assetCode4 = value;
         }
 
         private byte[] assetCode12;
 
         public byte[] getAssetCode12() {
-            return this.assetCode12;
+            return frozen && this.assetCode12 != null ? this.assetCode12.clone() : this.assetCode12;
         }
 
         public void setAssetCode12(byte[] value) {
+            checkMutable();
+            this.cachedHashCode = 0;
             this.assetCode12 = value;
         }
 
-        public static void encode(XdrDataOutputStream stream, AllowTrustOpAsset encodedAllowTrustOpAsset) throws IOException {
+        public static void encode(XdrWriter stream, AllowTrustOpAsset encodedAllowTrustOpAsset) throws IOException {
             stream.writeInt(encodedAllowTrustOpAsset.getDiscriminant().getValue());
             switch (encodedAllowTrustOpAsset.getDiscriminant()) {
                 case ASSET_TYPE_CREDIT_ALPHANUM4:
                     int assetCode4size = encodedAllowTrustOpAsset.assetCode4.length;
-                    stream.write(encodedAllowTrustOpAsset.getAssetCode4(), 0, assetCode4size);
+                    stream.write(encodedAllowTrustOpAsset.assetCode4, 0, assetCode4size);
                     break;
                 case ASSET_TYPE_CREDIT_ALPHANUM12:
                     int assetCode12size = encodedAllowTrustOpAsset.assetCode12.length;
-                    stream.write(encodedAllowTrustOpAsset.getAssetCode12(), 0, assetCode12size);
+                    stream.write(encodedAllowTrustOpAsset.assetCode12, 0, assetCode12size);
                     break;
             }
         }
 
-        public static AllowTrustOpAsset decode(XdrDataInputStream stream) throws IOException {
+        public static AllowTrustOpAsset decode(XdrReader stream) throws IOException {
             AllowTrustOpAsset decodedAllowTrustOpAsset = new AllowTrustOpAsset();
             AssetType discriminant = AssetType.decode(stream);
             decodedAllowTrustOpAsset.setDiscriminant(discriminant);
+            if (discriminant == null) {
+                throw new IOException("Unknown discriminant of AllowTrustOpAsset");
+            }
             switch (decodedAllowTrustOpAsset.getDiscriminant()) {
+                case ASSET_TYPE_CREDIT_ALPHANUM4:
+                    decodedAllowTrustOpAsset.assetCode4 = stream.readFixedOpaque(4);
+                    break;
+                case ASSET_TYPE_CREDIT_ALPHANUM12:
+                    decodedAllowTrustOpAsset.assetCode12 = stream.readFixedOpaque(12);
+                    break;
+            }
+            return decodedAllowTrustOpAsset;
+        }
+
+        public static AllowTrustOpAsset decodeInto(XdrReader stream, AllowTrustOpAsset existing) throws IOException {
+            AllowTrustOpAsset decodedAllowTrustOpAsset = existing != null && !existing.frozen ? existing : new AllowTrustOpAsset();
+            decodedAllowTrustOpAsset.cachedHashCode = 0;
+            AssetType discriminant = AssetType.decode(stream);
+            decodedAllowTrustOpAsset.setDiscriminant(discriminant);
+            if (discriminant == null) {
+                throw new IOException("Unknown discriminant of AllowTrustOpAsset");
+            }
+            switch (discriminant) {
                 case ASSET_TYPE_CREDIT_ALPHANUM4:
                     int assetCode4size = 4;
-                    decodedAllowTrustOpAsset.assetCode4 = new byte[assetCode4size];
-                    stream.read(decodedAllowTrustOpAsset.assetCode4, 0, assetCode4size);
+                    if (decodedAllowTrustOpAsset.assetCode4 == null || decodedAllowTrustOpAsset.assetCode4.length != assetCode4size) {
+                        decodedAllowTrustOpAsset.assetCode4 = new byte[assetCode4size];
+                    }
+                    stream.readFully(decodedAllowTrustOpAsset.assetCode4, 0, assetCode4size);
                     break;
                 case ASSET_TYPE_CREDIT_ALPHANUM12:
                     int assetCode12size = 12;
-                    decodedAllowTrustOpAsset.assetCode12 = new byte[assetCode12size];
-                    stream.read(decodedAllowTrustOpAsset.assetCode12, 0, assetCode12size);
+                    if (decodedAllowTrustOpAsset.assetCode12 == null || decodedAllowTrustOpAsset.assetCode12.length != assetCode12size) {
+                        decodedAllowTrustOpAsset.assetCode12 = new byte[assetCode12size];
+                    }
+                    stream.readFully(decodedAllowTrustOpAsset.assetCode12, 0, assetCode12size);
                     break;
             }
+            // leave only the selected arm set, as decode does
+            if (discriminant != AssetType.ASSET_TYPE_CREDIT_ALPHANUM4) {
+                decodedAllowTrustOpAsset.assetCode4 = null;
+            }
+            if (discriminant != AssetType.ASSET_TYPE_CREDIT_ALPHANUM12) {
+                decodedAllowTrustOpAsset.assetCode12 = null;
+            }
             return decodedAllowTrustOpAsset;
         }
 
+        public static void skip(XdrReader stream) throws IOException {
+            AssetType discriminant = AssetType.decode(stream);
+            if (discriminant == null) {
+                throw new IOException("Unknown discriminant of AllowTrustOpAsset");
+            }
+            switch (discriminant) {
+                case ASSET_TYPE_CREDIT_ALPHANUM4:
+                    stream.skip(4);
+                    break;
+                case ASSET_TYPE_CREDIT_ALPHANUM12:
+                    stream.skip(12);
+                    break;
+            }
+        }
+
+        public static int encodedSize(AllowTrustOpAsset encodedAllowTrustOpAsset) {
+            int size = 4;
+            switch (encodedAllowTrustOpAsset.getDiscriminant()) {
+                case ASSET_TYPE_CREDIT_ALPHANUM4:
+                    size += XdrSize.opaque(encodedAllowTrustOpAsset.assetCode4.length);
+                    break;
+                case ASSET_TYPE_CREDIT_ALPHANUM12:
+                    size += XdrSize.opaque(encodedAllowTrustOpAsset.assetCode12.length);
+                    break;
+            }
+            return size;
+        }
+
+        // computed by hashCode(); reset by the setters and decodeInto,
+        // but not when an array is changed in place
+        private int cachedHashCode;
+
+        // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+        private boolean frozen;
+
+        void freeze() {
+            frozen = true;
+        }
+
+        public boolean isFrozen() {
+            return frozen;
+        }
+
+        private void checkMutable() {
+            if (frozen) {
+                throw new IllegalStateException("AllowTrustOpAsset is frozen");
+            }
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof AllowTrustOpAsset)) {
+                return false;
+            }
+            AllowTrustOpAsset other = (AllowTrustOpAsset) object;
+            if (this.getDiscriminant() != other.getDiscriminant()) {
+                return false;
+            }
+            if (this.getDiscriminant() == null) {
+                return true;
+            }
+            switch (this.getDiscriminant()) {
+                case ASSET_TYPE_CREDIT_ALPHANUM4:
+                    return Arrays.equals(this.assetCode4, other.assetCode4);
+                case ASSET_TYPE_CREDIT_ALPHANUM12:
+                    return Arrays.equals(this.assetCode12, other.assetCode12);
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.cachedHashCode;
+            if (result != 0) {
+                return result;
+            }
+            result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+            if (this.getDiscriminant() != null) {
+                switch (this.getDiscriminant()) {
+                    case ASSET_TYPE_CREDIT_ALPHANUM4:
+                        result = 31 * result + Arrays.hashCode(this.assetCode4);
+                        break;
+                    case ASSET_TYPE_CREDIT_ALPHANUM12:
+                        result = 31 * result + Arrays.hashCode(this.assetCode12);
+                        break;
+                }
+            }
+            this.cachedHashCode = result;
+            return result;
+        }
+
     }
 }
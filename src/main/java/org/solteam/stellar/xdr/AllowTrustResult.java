@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,7 +33,7 @@ public class AllowTrustResult {
         this.code = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, AllowTrustResult encodedAllowTrustResult) throws IOException {
+    public static void encode(XdrWriter stream, AllowTrustResult encodedAllowTrustResult) throws IOException {
         stream.writeInt(encodedAllowTrustResult.getDiscriminant().getValue());
         switch (encodedAllowTrustResult.getDiscriminant()) {
             case ALLOW_TRUST_SUCCESS:
@@ -41,10 +43,13 @@ public class AllowTrustResult {
         }
     }
 
-    public static AllowTrustResult decode(XdrDataInputStream stream) throws IOException {
+    public static AllowTrustResult decode(XdrReader stream) throws IOException {
         AllowTrustResult decodedAllowTrustResult = new AllowTrustResult();
         AllowTrustResultCode discriminant = AllowTrustResultCode.decode(stream);
         decodedAllowTrustResult.setDiscriminant(discriminant);
+        if (discriminant == null) {
+            return decodedAllowTrustResult;
+        }
         switch (decodedAllowTrustResult.getDiscriminant()) {
             case ALLOW_TRUST_SUCCESS:
                 break;
@@ -53,4 +58,83 @@ public class AllowTrustResult {
         }
         return decodedAllowTrustResult;
     }
+
+    public static AllowTrustResult decodeInto(XdrReader stream, AllowTrustResult existing) throws IOException {
+        AllowTrustResult decodedAllowTrustResult = existing != null ? existing : new AllowTrustResult();
+        AllowTrustResultCode discriminant = AllowTrustResultCode.decode(stream);
+        decodedAllowTrustResult.setDiscriminant(discriminant);
+        if (discriminant == null) {
+            return decodedAllowTrustResult;
+        }
+        switch (discriminant) {
+            case ALLOW_TRUST_SUCCESS:
+                break;
+            default:
+                break;
+        }
+        return decodedAllowTrustResult;
+    }
+
+    public static void skip(XdrReader stream) throws IOException {
+        AllowTrustResultCode discriminant = AllowTrustResultCode.decode(stream);
+        if (discriminant == null) {
+            return;
+        }
+        switch (discriminant) {
+            case ALLOW_TRUST_SUCCESS:
+                break;
+            default:
+                break;
+        }
+    }
+
+    public static int encodedSize(AllowTrustResult encodedAllowTrustResult) {
+        int size = 4;
+        switch (encodedAllowTrustResult.getDiscriminant()) {
+            case ALLOW_TRUST_SUCCESS:
+                break;
+            default:
+                break;
+        }
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof AllowTrustResult)) {
+            return false;
+        }
+        AllowTrustResult other = (AllowTrustResult) object;
+        if (this.getDiscriminant() != other.getDiscriminant()) {
+            return false;
+        }
+        if (this.getDiscriminant() == null) {
+            return true;
+        }
+        switch (this.getDiscriminant()) {
+            case ALLOW_TRUST_SUCCESS:
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+        return result;
+    }
+
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,6 +32,17 @@ public enum AllowTrustResultCode {
     ALLOW_TRUST_SELF_NOT_ALLOWED(-5),;
     private int mValue;
 
+    // indexed by value - MIN_VALUE, null where no constant has the value
+    private static final int MIN_VALUE = -5;
+    private static final AllowTrustResultCode[] BY_VALUE = {
+        ALLOW_TRUST_SELF_NOT_ALLOWED,
+        ALLOW_TRUST_CANT_REVOKE,
+        ALLOW_TRUST_TRUST_NOT_REQUIRED,
+        ALLOW_TRUST_NO_TRUST_LINE,
+        ALLOW_TRUST_MALFORMED,
+        ALLOW_TRUST_SUCCESS,
+    };
+
     AllowTrustResultCode(int value) {
         mValue = value;
     }
@@ -39,27 +51,25 @@ public enum AllowTrustResultCode {
         return mValue;
     }
 
-    static AllowTrustResultCode decode(XdrDataInputStream stream) throws IOException {
+    static AllowTrustResultCode decode(XdrReader stream) throws IOException {
         int value = stream.readInt();
-        switch (value) {
-            case 0:
-                return ALLOW_TRUST_SUCCESS;
-            case -1:
-                return ALLOW_TRUST_MALFORMED;
-            case -2:
-                return ALLOW_TRUST_NO_TRUST_LINE;
-            case -3:
-                return ALLOW_TRUST_TRUST_NOT_REQUIRED;
-            case -4:
-                return ALLOW_TRUST_CANT_REVOKE;
-            case -5:
-                return ALLOW_TRUST_SELF_NOT_ALLOWED;
-            default:
-                throw new RuntimeException("Unknown enum value: " + value);
+        int index = value - MIN_VALUE;
+        if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+            return BY_VALUE[index];
+        }
+        if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+            return null;
         }
+        throw new IOException("Unknown enum value: " + value);
+    }
+    public static void skip(XdrReader stream) throws IOException {
+        stream.skip(4);
     }
 
-    static void encode(XdrDataOutputStream stream, AllowTrustResultCode value) throws IOException {
+    static void encode(XdrWriter stream, AllowTrustResultCode value) throws IOException {
         stream.writeInt(value.getValue());
     }
+    public static int encodedSize(AllowTrustResultCode value) {
+        return 4;
+    }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,7 +34,7 @@ import java.io.IOException;
 //  };
 
 //  ===========================================================================
-public class Asset {
+public class Asset implements Comparable<Asset> {
     public Asset() {
     }
 
@@ -42,6 +45,7 @@ public class Asset {
     }
 
     public void setDiscriminant(AssetType value) {
+        checkMutable();
         this.type = value;
     }
 
@@ -52,6 +56,7 @@ public class Asset {
     }
 
     public void setAlphaNum4(AssetAlphaNum4 value) {
+        checkMutable();
         this.alphaNum4 = value;
     }
 
@@ -62,10 +67,11 @@ public class Asset {
     }
 
     public void setAlphaNum12(AssetAlphaNum12 value) {
+        checkMutable();
         this.alphaNum12 = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, Asset encodedAsset) throws IOException {
+    public static void encode(XdrWriter stream, Asset encodedAsset) throws IOException {
         stream.writeInt(encodedAsset.getDiscriminant().getValue());
         switch (encodedAsset.getDiscriminant()) {
             case ASSET_TYPE_NATIVE:
@@ -79,10 +85,13 @@ public class Asset {
         }
     }
 
-    public static Asset decode(XdrDataInputStream stream) throws IOException {
+    public static Asset decode(XdrReader stream) throws IOException {
         Asset decodedAsset = new Asset();
         AssetType discriminant = AssetType.decode(stream);
         decodedAsset.setDiscriminant(discriminant);
+        if (discriminant == null) {
+            throw new IOException("Unknown discriminant of Asset");
+        }
         switch (decodedAsset.getDiscriminant()) {
             case ASSET_TYPE_NATIVE:
                 break;
@@ -93,9 +102,167 @@ public class Asset {
                 decodedAsset.alphaNum12 = AssetAlphaNum12.decode(stream);
                 break;
         }
+        XdrInternPool pool = stream.getInternPool();
+        return pool != null ? pool.intern(decodedAsset) : decodedAsset;
+    }
+
+    public static Asset decodeInto(XdrReader stream, Asset existing) throws IOException {
+        if (stream.getInternPool() != null) {
+            // go through the pool, which hands out shared instances
+            return decode(stream);
+        }
+        Asset decodedAsset = existing != null && !existing.frozen ? existing : new Asset();
+        AssetType discriminant = AssetType.decode(stream);
+        decodedAsset.setDiscriminant(discriminant);
+        if (discriminant == null) {
+            throw new IOException("Unknown discriminant of Asset");
+        }
+        switch (discriminant) {
+            case ASSET_TYPE_NATIVE:
+                break;
+            case ASSET_TYPE_CREDIT_ALPHANUM4:
+                decodedAsset.alphaNum4 = AssetAlphaNum4.decodeInto(stream, decodedAsset.alphaNum4);
+                break;
+            case ASSET_TYPE_CREDIT_ALPHANUM12:
+                decodedAsset.alphaNum12 = AssetAlphaNum12.decodeInto(stream, decodedAsset.alphaNum12);
+                break;
+        }
+        // leave only the selected arm set, as decode does
+        if (discriminant != AssetType.ASSET_TYPE_CREDIT_ALPHANUM4) {
+            decodedAsset.alphaNum4 = null;
+        }
+        if (discriminant != AssetType.ASSET_TYPE_CREDIT_ALPHANUM12) {
+            decodedAsset.alphaNum12 = null;
+        }
         return decodedAsset;
     }
 
+    public static void skip(XdrReader stream) throws IOException {
+        AssetType discriminant = AssetType.decode(stream);
+        if (discriminant == null) {
+            throw new IOException("Unknown discriminant of Asset");
+        }
+        switch (discriminant) {
+            case ASSET_TYPE_NATIVE:
+                break;
+            case ASSET_TYPE_CREDIT_ALPHANUM4:
+                AssetAlphaNum4.skip(stream);
+                break;
+            case ASSET_TYPE_CREDIT_ALPHANUM12:
+                AssetAlphaNum12.skip(stream);
+                break;
+        }
+    }
+
+    public static int encodedSize(Asset encodedAsset) {
+        int size = 4;
+        switch (encodedAsset.getDiscriminant()) {
+            case ASSET_TYPE_NATIVE:
+                break;
+            case ASSET_TYPE_CREDIT_ALPHANUM4:
+                size += AssetAlphaNum4.encodedSize(encodedAsset.alphaNum4);
+                break;
+            case ASSET_TYPE_CREDIT_ALPHANUM12:
+                size += AssetAlphaNum12.encodedSize(encodedAsset.alphaNum12);
+                break;
+        }
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+
+    static int compare(Asset a, Asset b) {
+        int result = Integer.compareUnsigned(a.getDiscriminant().getValue(), b.getDiscriminant().getValue());
+        if (result != 0) {
+            return result;
+        }
+        switch (a.getDiscriminant()) {
+            case ASSET_TYPE_CREDIT_ALPHANUM4:
+                return AssetAlphaNum4.compare(a.alphaNum4, b.alphaNum4);
+            case ASSET_TYPE_CREDIT_ALPHANUM12:
+                return AssetAlphaNum12.compare(a.alphaNum12, b.alphaNum12);
+        }
+        return 0;
+    }
+
+    @Override
+    public int compareTo(Asset other) {
+        return compare(this, other);
+    }
+
+    // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+    private boolean frozen;
+
+    void freeze() {
+        frozen = true;
+        if (this.alphaNum4 != null) {
+            this.alphaNum4.freeze();
+        }
+        if (this.alphaNum12 != null) {
+            this.alphaNum12.freeze();
+        }
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("Asset is frozen");
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof Asset)) {
+            return false;
+        }
+        Asset other = (Asset) object;
+        if (this.getDiscriminant() != other.getDiscriminant()) {
+            return false;
+        }
+        if (this.getDiscriminant() == null) {
+            return true;
+        }
+        switch (this.getDiscriminant()) {
+            case ASSET_TYPE_NATIVE:
+                return true;
+            case ASSET_TYPE_CREDIT_ALPHANUM4:
+                return Objects.equals(this.alphaNum4, other.alphaNum4);
+            case ASSET_TYPE_CREDIT_ALPHANUM12:
+                return Objects.equals(this.alphaNum12, other.alphaNum12);
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+        if (this.getDiscriminant() != null) {
+            switch (this.getDiscriminant()) {
+                case ASSET_TYPE_CREDIT_ALPHANUM4:
+                    result = 31 * result + Objects.hashCode(this.alphaNum4);
+                    break;
+                case ASSET_TYPE_CREDIT_ALPHANUM12:
+                    result = 31 * result + Objects.hashCode(this.alphaNum12);
+                    break;
+            }
+        }
+        return result;
+    }
+
     public static class AssetAlphaNum4 {
         public AssetAlphaNum4() {
         }
@@ -103,10 +270,12 @@ public class Asset {
         private byte[] assetCode;
 
         public byte[] getAssetCode() {
-            return this.assetCode;
+            return frozen && this.assetCode != null ? this.assetCode.clone() : this.assetCode;
         }
 
         public void setAssetCode(byte[] value) {
+            checkMutable();
+            this.cachedHashCode = 0;
             this.assetCode = value;
         }
 
@@ -117,24 +286,106 @@ public class Asset {
         }
 
         public void setIssuer(AccountID value) {
+            checkMutable();
+            this.cachedHashCode = 0;
             this.issuer = value;
         }
 
-        public static void encode(XdrDataOutputStream stream, AssetAlphaNum4 encodedAssetAlphaNum4) throws IOException {
+        public static void encode(XdrWriter stream, AssetAlphaNum4 encodedAssetAlphaNum4) throws IOException {
             int assetCodesize = encodedAssetAlphaNum4.assetCode.length;
-            stream.write(encodedAssetAlphaNum4.getAssetCode(), 0, assetCodesize);
+            stream.write(encodedAssetAlphaNum4.assetCode, 0, assetCodesize);
             AccountID.encode(stream, encodedAssetAlphaNum4.issuer);
         }
 
-        public static AssetAlphaNum4 decode(XdrDataInputStream stream) throws IOException {
+        public static AssetAlphaNum4 decode(XdrReader stream) throws IOException {
             AssetAlphaNum4 decodedAssetAlphaNum4 = new AssetAlphaNum4();
-            int assetCodesize = 4;
-            decodedAssetAlphaNum4.assetCode = new byte[assetCodesize];
-            stream.read(decodedAssetAlphaNum4.assetCode, 0, assetCodesize);
+            decodedAssetAlphaNum4.assetCode = stream.readFixedOpaque(4);
             decodedAssetAlphaNum4.issuer = AccountID.decode(stream);
             return decodedAssetAlphaNum4;
         }
 
+        public static AssetAlphaNum4 decodeInto(XdrReader stream, AssetAlphaNum4 existing) throws IOException {
+            AssetAlphaNum4 decodedAssetAlphaNum4 = existing != null && !existing.frozen ? existing : new AssetAlphaNum4();
+            decodedAssetAlphaNum4.cachedHashCode = 0;
+            int assetCodesize = 4;
+            if (decodedAssetAlphaNum4.assetCode == null || decodedAssetAlphaNum4.assetCode.length != assetCodesize) {
+                decodedAssetAlphaNum4.assetCode = new byte[assetCodesize];
+            }
+            stream.readFully(decodedAssetAlphaNum4.assetCode, 0, assetCodesize);
+            decodedAssetAlphaNum4.issuer = AccountID.decodeInto(stream, decodedAssetAlphaNum4.issuer);
+            return decodedAssetAlphaNum4;
+        }
+
+        public static void skip(XdrReader stream) throws IOException {
+            stream.skip(4);
+            AccountID.skip(stream);
+        }
+
+        public static int encodedSize(AssetAlphaNum4 encodedAssetAlphaNum4) {
+            int size = 0;
+            size += XdrSize.opaque(encodedAssetAlphaNum4.assetCode.length);
+            size += AccountID.encodedSize(encodedAssetAlphaNum4.issuer);
+            return size;
+        }
+
+        static int compare(AssetAlphaNum4 a, AssetAlphaNum4 b) {
+            int result = XdrOrder.compareOpaque(a.assetCode, b.assetCode);
+            if (result != 0) {
+                return result;
+            }
+            return AccountID.compare(a.issuer, b.issuer);
+        }
+
+        // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+        private boolean frozen;
+
+        void freeze() {
+            frozen = true;
+            if (this.issuer != null) {
+                this.issuer.freeze();
+            }
+        }
+
+        public boolean isFrozen() {
+            return frozen;
+        }
+
+        private void checkMutable() {
+            if (frozen) {
+                throw new IllegalStateException("AssetAlphaNum4 is frozen");
+            }
+        }
+
+        // computed by hashCode(); reset by the setters and decodeInto,
+        // but not when an array is changed in place
+        private int cachedHashCode;
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof AssetAlphaNum4)) {
+                return false;
+            }
+            AssetAlphaNum4 other = (AssetAlphaNum4) object;
+            return Arrays.equals(this.assetCode, other.assetCode)
+                    && Objects.equals(this.issuer, other.issuer);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.cachedHashCode;
+            if (result != 0) {
+                return result;
+            }
+            result = 1;
+            result = 31 * result + Arrays.hashCode(this.assetCode);
+            result = 31 * result + Objects.hashCode(this.issuer);
+            this.cachedHashCode = result;
+            return result;
+        }
+
     }
 
     public static class AssetAlphaNum12 {
@@ -144,10 +395,12 @@ public class Asset {
         private byte[] assetCode;
 
         public byte[] getAssetCode() {
-            return this.assetCode;
+            return frozen && this.assetCode != null ? this.assetCode.clone() : this.assetCode;
         }
 
         public void setAssetCode(byte[] value) {
+            checkMutable();
+            this.cachedHashCode = 0;
             this.assetCode = value;
         }
 
@@ -158,23 +411,105 @@ public class Asset {
         }
 
         public void setIssuer(AccountID value) {
+            checkMutable();
+            this.cachedHashCode = 0;
             this.issuer = value;
         }
 
-        public static void encode(XdrDataOutputStream stream, AssetAlphaNum12 encodedAssetAlphaNum12) throws IOException {
+        public static void encode(XdrWriter stream, AssetAlphaNum12 encodedAssetAlphaNum12) throws IOException {
             int assetCodesize = encodedAssetAlphaNum12.assetCode.length;
-            stream.write(encodedAssetAlphaNum12.getAssetCode(), 0, assetCodesize);
+            stream.write(encodedAssetAlphaNum12.assetCode, 0, assetCodesize);
             AccountID.encode(stream, encodedAssetAlphaNum12.issuer);
         }
 
-        public static AssetAlphaNum12 decode(XdrDataInputStream stream) throws IOException {
+        public static AssetAlphaNum12 decode(XdrReader stream) throws IOException {
             AssetAlphaNum12 decodedAssetAlphaNum12 = new AssetAlphaNum12();
-            int assetCodesize = 12;
-            decodedAssetAlphaNum12.assetCode = new byte[assetCodesize];
-            stream.read(decodedAssetAlphaNum12.assetCode, 0, assetCodesize);
+            decodedAssetAlphaNum12.assetCode = stream.readFixedOpaque(12);
             decodedAssetAlphaNum12.issuer = AccountID.decode(stream);
             return decodedAssetAlphaNum12;
         }
 
+        public static AssetAlphaNum12 decodeInto(XdrReader stream, AssetAlphaNum12 existing) throws IOException {
+            AssetAlphaNum12 decodedAssetAlphaNum12 = existing != null && !existing.frozen ? existing : new AssetAlphaNum12();
+            decodedAssetAlphaNum12.cachedHashCode = 0;
+            int assetCodesize = 12;
+            if (decodedAssetAlphaNum12.assetCode == null || decodedAssetAlphaNum12.assetCode.length != assetCodesize) {
+                decodedAssetAlphaNum12.assetCode = new byte[assetCodesize];
+            }
+            stream.readFully(decodedAssetAlphaNum12.assetCode, 0, assetCodesize);
+            decodedAssetAlphaNum12.issuer = AccountID.decodeInto(stream, decodedAssetAlphaNum12.issuer);
+            return decodedAssetAlphaNum12;
+        }
+
+        public static void skip(XdrReader stream) throws IOException {
+            stream.skip(12);
+            AccountID.skip(stream);
+        }
+
+        public static int encodedSize(AssetAlphaNum12 encodedAssetAlphaNum12) {
+            int size = 0;
+            size += XdrSize.opaque(encodedAssetAlphaNum12.assetCode.length);
+            size += AccountID.encodedSize(encodedAssetAlphaNum12.issuer);
+            return size;
+        }
+
+        static int compare(AssetAlphaNum12 a, AssetAlphaNum12 b) {
+            int result = XdrOrder.compareOpaque(a.assetCode, b.assetCode);
+            if (result != 0) {
+                return result;
+            }
+            return AccountID.compare(a.issuer, b.issuer);
+        }
+
+        // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+        private boolean frozen;
+
+        void freeze() {
+            frozen = true;
+            if (this.issuer != null) {
+                this.issuer.freeze();
+            }
+        }
+
+        public boolean isFrozen() {
+            return frozen;
+        }
+
+        private void checkMutable() {
+            if (frozen) {
+                throw new IllegalStateException("AssetAlphaNum12 is frozen");
+            }
+        }
+
+        // computed by hashCode(); reset by the setters and decodeInto,
+        // but not when an array is changed in place
+        private int cachedHashCode;
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof AssetAlphaNum12)) {
+                return false;
+            }
+            AssetAlphaNum12 other = (AssetAlphaNum12) object;
+            return Arrays.equals(this.assetCode, other.assetCode)
+                    && Objects.equals(this.issuer, other.issuer);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.cachedHashCode;
+            if (result != 0) {
+                return result;
+            }
+            result = 1;
+            result = 31 * result + Arrays.hashCode(this.assetCode);
+            result = 31 * result + Objects.hashCode(this.issuer);
+            this.cachedHashCode = result;
+            return result;
+        }
+
     }
 }
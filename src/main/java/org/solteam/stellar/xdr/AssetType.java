@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +23,14 @@ public enum AssetType {
     ASSET_TYPE_CREDIT_ALPHANUM12(2),;
     private int mValue;
 
+    // indexed by value - MIN_VALUE, null where no constant has the value
+    private static final int MIN_VALUE = 0;
+    private static final AssetType[] BY_VALUE = {
+        ASSET_TYPE_NATIVE,
+        ASSET_TYPE_CREDIT_ALPHANUM4,
+        ASSET_TYPE_CREDIT_ALPHANUM12,
+    };
+
     AssetType(int value) {
         mValue = value;
     }
@@ -30,21 +39,25 @@ public enum AssetType {
         return mValue;
     }
 
-    static AssetType decode(XdrDataInputStream stream) throws IOException {
+    static AssetType decode(XdrReader stream) throws IOException {
         int value = stream.readInt();
-        switch (value) {
-            case 0:
-                return ASSET_TYPE_NATIVE;
-            case 1:
-                return ASSET_TYPE_CREDIT_ALPHANUM4;
-            case 2:
-                return ASSET_TYPE_CREDIT_ALPHANUM12;
-            default:
-                throw new RuntimeException("Unknown enum value: " + value);
+        int index = value - MIN_VALUE;
+        if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+            return BY_VALUE[index];
+        }
+        if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+            return null;
         }
+        throw new IOException("Unknown enum value: " + value);
+    }
+    public static void skip(XdrReader stream) throws IOException {
+        stream.skip(4);
     }
 
-    static void encode(XdrDataOutputStream stream, AssetType value) throws IOException {
+    static void encode(XdrWriter stream, AssetType value) throws IOException {
         stream.writeInt(value.getValue());
     }
+    public static int encodedSize(AssetType value) {
+        return 4;
+    }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -20,7 +22,7 @@ public class Auth {
     public Auth() {
     }
 
-    private Integer unused;
+    private int unused;
 
     public Integer getUnused() {
         return this.unused;
@@ -30,13 +32,58 @@ public class Auth {
         this.unused = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, Auth encodedAuth) throws IOException {
+    public static void encode(XdrWriter stream, Auth encodedAuth) throws IOException {
         stream.writeInt(encodedAuth.unused);
     }
 
-    public static Auth decode(XdrDataInputStream stream) throws IOException {
+    public static Auth decode(XdrReader stream) throws IOException {
         Auth decodedAuth = new Auth();
         decodedAuth.unused = stream.readInt();
         return decodedAuth;
     }
+
+    public static Auth decodeInto(XdrReader stream, Auth existing) throws IOException {
+        Auth decodedAuth = existing != null ? existing : new Auth();
+        decodedAuth.unused = stream.readInt();
+        return decodedAuth;
+    }
+
+    public static void skip(XdrReader stream) throws IOException {
+        stream.skip(4);
+    }
+
+    public static int encodedSize(Auth encodedAuth) {
+        int size = 0;
+        size += 4;
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof Auth)) {
+            return false;
+        }
+        Auth other = (Auth) object;
+        return this.unused == other.unused;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + this.unused;
+        return result;
+    }
+
 }
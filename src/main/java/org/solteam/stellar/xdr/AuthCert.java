@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -50,17 +52,72 @@ public class AuthCert {
         this.sig = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, AuthCert encodedAuthCert) throws IOException {
+    public static void encode(XdrWriter stream, AuthCert encodedAuthCert) throws IOException {
         Curve25519Public.encode(stream, encodedAuthCert.pubkey);
         Uint64.encode(stream, encodedAuthCert.expiration);
         Signature.encode(stream, encodedAuthCert.sig);
     }
 
-    public static AuthCert decode(XdrDataInputStream stream) throws IOException {
+    public static AuthCert decode(XdrReader stream) throws IOException {
         AuthCert decodedAuthCert = new AuthCert();
         decodedAuthCert.pubkey = Curve25519Public.decode(stream);
         decodedAuthCert.expiration = Uint64.decode(stream);
         decodedAuthCert.sig = Signature.decode(stream);
         return decodedAuthCert;
     }
+
+    public static AuthCert decodeInto(XdrReader stream, AuthCert existing) throws IOException {
+        AuthCert decodedAuthCert = existing != null ? existing : new AuthCert();
+        decodedAuthCert.pubkey = Curve25519Public.decodeInto(stream, decodedAuthCert.pubkey);
+        decodedAuthCert.expiration = Uint64.decodeInto(stream, decodedAuthCert.expiration);
+        decodedAuthCert.sig = Signature.decodeInto(stream, decodedAuthCert.sig);
+        return decodedAuthCert;
+    }
+
+    public static void skip(XdrReader stream) throws IOException {
+        Curve25519Public.skip(stream);
+        Uint64.skip(stream);
+        Signature.skip(stream);
+    }
+
+    public static int encodedSize(AuthCert encodedAuthCert) {
+        int size = 0;
+        size += Curve25519Public.encodedSize(encodedAuthCert.pubkey);
+        size += Uint64.encodedSize(encodedAuthCert.expiration);
+        size += Signature.encodedSize(encodedAuthCert.sig);
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof AuthCert)) {
+            return false;
+        }
+        AuthCert other = (AuthCert) object;
+        return Objects.equals(this.pubkey, other.pubkey)
+                && Objects.equals(this.expiration, other.expiration)
+                && Objects.equals(this.sig, other.sig);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(this.pubkey);
+        result = 31 * result + Objects.hashCode(this.expiration);
+        result = 31 * result + Objects.hashCode(this.sig);
+        return result;
+    }
+
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -44,20 +46,20 @@ public class AuthenticatedMessage {
         this.v0 = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, AuthenticatedMessage encodedAuthenticatedMessage) throws IOException {
-        stream.writeInt(encodedAuthenticatedMessage.getDiscriminant().getUint32());
-        switch (encodedAuthenticatedMessage.getDiscriminant().getUint32()) {
+    public static void encode(XdrWriter stream, AuthenticatedMessage encodedAuthenticatedMessage) throws IOException {
+        stream.writeInt(encodedAuthenticatedMessage.getDiscriminant().intValue());
+        switch (encodedAuthenticatedMessage.getDiscriminant().intValue()) {
             case 0:
                 AuthenticatedMessageV0.encode(stream, encodedAuthenticatedMessage.v0);
                 break;
         }
     }
 
-    public static AuthenticatedMessage decode(XdrDataInputStream stream) throws IOException {
+    public static AuthenticatedMessage decode(XdrReader stream) throws IOException {
         AuthenticatedMessage decodedAuthenticatedMessage = new AuthenticatedMessage();
         Uint32 discriminant = Uint32.decode(stream);
         decodedAuthenticatedMessage.setDiscriminant(discriminant);
-        switch (decodedAuthenticatedMessage.getDiscriminant().getUint32()) {
+        switch (decodedAuthenticatedMessage.getDiscriminant().intValue()) {
             case 0:
                 decodedAuthenticatedMessage.v0 = AuthenticatedMessageV0.decode(stream);
                 break;
@@ -65,6 +67,85 @@ public class AuthenticatedMessage {
         return decodedAuthenticatedMessage;
     }
 
+    public static AuthenticatedMessage decodeInto(XdrReader stream, AuthenticatedMessage existing) throws IOException {
+        AuthenticatedMessage decodedAuthenticatedMessage = existing != null ? existing : new AuthenticatedMessage();
+        decodedAuthenticatedMessage.setDiscriminant(Uint32.decodeInto(stream, decodedAuthenticatedMessage.getDiscriminant()));
+        switch (decodedAuthenticatedMessage.getDiscriminant().intValue()) {
+            case 0:
+                decodedAuthenticatedMessage.v0 = AuthenticatedMessageV0.decodeInto(stream, decodedAuthenticatedMessage.v0);
+                break;
+        }
+        // leave only the selected arm set, as decode does
+        if (decodedAuthenticatedMessage.getDiscriminant().intValue() != 0) {
+            decodedAuthenticatedMessage.v0 = null;
+        }
+        return decodedAuthenticatedMessage;
+    }
+
+    public static void skip(XdrReader stream) throws IOException {
+        int discriminant = stream.readInt();
+        switch (discriminant) {
+            case 0:
+                AuthenticatedMessageV0.skip(stream);
+                break;
+        }
+    }
+
+    public static int encodedSize(AuthenticatedMessage encodedAuthenticatedMessage) {
+        int size = 4;
+        switch (encodedAuthenticatedMessage.getDiscriminant().intValue()) {
+            case 0:
+                size += AuthenticatedMessageV0.encodedSize(encodedAuthenticatedMessage.v0);
+                break;
+        }
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof AuthenticatedMessage)) {
+            return false;
+        }
+        AuthenticatedMessage other = (AuthenticatedMessage) object;
+        if (!Objects.equals(this.getDiscriminant(), other.getDiscriminant())) {
+            return false;
+        }
+        if (this.getDiscriminant() == null) {
+            return true;
+        }
+        switch (this.getDiscriminant().intValue()) {
+            case 0:
+                return Objects.equals(this.v0, other.v0);
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(this.getDiscriminant());
+        if (this.getDiscriminant() != null) {
+            switch (this.getDiscriminant().intValue()) {
+                case 0:
+                    result = 31 * result + Objects.hashCode(this.v0);
+                    break;
+            }
+        }
+        return result;
+    }
+
     public static class AuthenticatedMessageV0 {
         public AuthenticatedMessageV0() {
         }
@@ -99,13 +180,13 @@ public class AuthenticatedMessage {
             this.mac = value;
         }
 
-        public static void encode(XdrDataOutputStream stream, AuthenticatedMessageV0 encodedAuthenticatedMessageV0) throws IOException {
+        public static void encode(XdrWriter stream, AuthenticatedMessageV0 encodedAuthenticatedMessageV0) throws IOException {
             Uint64.encode(stream, encodedAuthenticatedMessageV0.sequence);
             StellarMessage.encode(stream, encodedAuthenticatedMessageV0.message);
             HmacSha256Mac.encode(stream, encodedAuthenticatedMessageV0.mac);
         }
 
-        public static AuthenticatedMessageV0 decode(XdrDataInputStream stream) throws IOException {
+        public static AuthenticatedMessageV0 decode(XdrReader stream) throws IOException {
             AuthenticatedMessageV0 decodedAuthenticatedMessageV0 = new AuthenticatedMessageV0();
             decodedAuthenticatedMessageV0.sequence = Uint64.decode(stream);
             decodedAuthenticatedMessageV0.message = StellarMessage.decode(stream);
@@ -113,5 +194,50 @@ public class AuthenticatedMessage {
             return decodedAuthenticatedMessageV0;
         }
 
+        public static AuthenticatedMessageV0 decodeInto(XdrReader stream, AuthenticatedMessageV0 existing) throws IOException {
+            AuthenticatedMessageV0 decodedAuthenticatedMessageV0 = existing != null ? existing : new AuthenticatedMessageV0();
+            decodedAuthenticatedMessageV0.sequence = Uint64.decodeInto(stream, decodedAuthenticatedMessageV0.sequence);
+            decodedAuthenticatedMessageV0.message = StellarMessage.decodeInto(stream, decodedAuthenticatedMessageV0.message);
+            decodedAuthenticatedMessageV0.mac = HmacSha256Mac.decodeInto(stream, decodedAuthenticatedMessageV0.mac);
+            return decodedAuthenticatedMessageV0;
+        }
+
+        public static void skip(XdrReader stream) throws IOException {
+            Uint64.skip(stream);
+            StellarMessage.skip(stream);
+            HmacSha256Mac.skip(stream);
+        }
+
+        public static int encodedSize(AuthenticatedMessageV0 encodedAuthenticatedMessageV0) {
+            int size = 0;
+            size += Uint64.encodedSize(encodedAuthenticatedMessageV0.sequence);
+            size += StellarMessage.encodedSize(encodedAuthenticatedMessageV0.message);
+            size += HmacSha256Mac.encodedSize(encodedAuthenticatedMessageV0.mac);
+            return size;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof AuthenticatedMessageV0)) {
+                return false;
+            }
+            AuthenticatedMessageV0 other = (AuthenticatedMessageV0) object;
+            return Objects.equals(this.sequence, other.sequence)
+                    && Objects.equals(this.message, other.message)
+                    && Objects.equals(this.mac, other.mac);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 1;
+            result = 31 * result + Objects.hashCode(this.sequence);
+            result = 31 * result + Objects.hashCode(this.message);
+            result = 31 * result + Objects.hashCode(this.mac);
+            return result;
+        }
+
     }
 }
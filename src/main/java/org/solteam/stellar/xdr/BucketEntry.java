@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -52,7 +54,7 @@ public class BucketEntry {
         this.deadEntry = value;
     }
 
-    public static void encode(XdrDataOutputStream stream, BucketEntry encodedBucketEntry) throws IOException {
+    public static void encode(XdrWriter stream, BucketEntry encodedBucketEntry) throws IOException {
         stream.writeInt(encodedBucketEntry.getDiscriminant().getValue());
         switch (encodedBucketEntry.getDiscriminant()) {
             case LIVEENTRY:
@@ -64,10 +66,13 @@ public class BucketEntry {
         }
     }
 
-    public static BucketEntry decode(XdrDataInputStream stream) throws IOException {
+    public static BucketEntry decode(XdrReader stream) throws IOException {
         BucketEntry decodedBucketEntry = new BucketEntry();
         BucketEntryType discriminant = BucketEntryType.decode(stream);
         decodedBucketEntry.setDiscriminant(discriminant);
+        if (discriminant == null) {
+            throw new IOException("Unknown discriminant of BucketEntry");
+        }
         switch (decodedBucketEntry.getDiscriminant()) {
             case LIVEENTRY:
                 decodedBucketEntry.liveEntry = LedgerEntry.decode(stream);
@@ -78,4 +83,107 @@ public class BucketEntry {
         }
         return decodedBucketEntry;
     }
+
+    public static BucketEntry decodeInto(XdrReader stream, BucketEntry existing) throws IOException {
+        BucketEntry decodedBucketEntry = existing != null ? existing : new BucketEntry();
+        BucketEntryType discriminant = BucketEntryType.decode(stream);
+        decodedBucketEntry.setDiscriminant(discriminant);
+        if (discriminant == null) {
+            throw new IOException("Unknown discriminant of BucketEntry");
+        }
+        switch (discriminant) {
+            case LIVEENTRY:
+                decodedBucketEntry.liveEntry = LedgerEntry.decodeInto(stream, decodedBucketEntry.liveEntry);
+                break;
+            case DEADENTRY:
+                decodedBucketEntry.deadEntry = LedgerKey.decodeInto(stream, decodedBucketEntry.deadEntry);
+                break;
+        }
+        // leave only the selected arm set, as decode does
+        if (discriminant != BucketEntryType.LIVEENTRY) {
+            decodedBucketEntry.liveEntry = null;
+        }
+        if (discriminant != BucketEntryType.DEADENTRY) {
+            decodedBucketEntry.deadEntry = null;
+        }
+        return decodedBucketEntry;
+    }
+
+    public static void skip(XdrReader stream) throws IOException {
+        BucketEntryType discriminant = BucketEntryType.decode(stream);
+        if (discriminant == null) {
+            throw new IOException("Unknown discriminant of BucketEntry");
+        }
+        switch (discriminant) {
+            case LIVEENTRY:
+                LedgerEntry.skip(stream);
+                break;
+            case DEADENTRY:
+                LedgerKey.skip(stream);
+                break;
+        }
+    }
+
+    public static int encodedSize(BucketEntry encodedBucketEntry) {
+        int size = 4;
+        switch (encodedBucketEntry.getDiscriminant()) {
+            case LIVEENTRY:
+                size += LedgerEntry.encodedSize(encodedBucketEntry.liveEntry);
+                break;
+            case DEADENTRY:
+                size += LedgerKey.encodedSize(encodedBucketEntry.deadEntry);
+                break;
+        }
+        return size;
+    }
+
+    public byte[] toXdrBytes() throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+        encode(writer, this);
+        return writer.getBuffer();
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer), this);
+    }
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof BucketEntry)) {
+            return false;
+        }
+        BucketEntry other = (BucketEntry) object;
+        if (this.getDiscriminant() != other.getDiscriminant()) {
+            return false;
+        }
+        if (this.getDiscriminant() == null) {
+            return true;
+        }
+        switch (this.getDiscriminant()) {
+            case LIVEENTRY:
+                return Objects.equals(this.liveEntry, other.liveEntry);
+            case DEADENTRY:
+                return Objects.equals(this.deadEntry, other.deadEntry);
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+        if (this.getDiscriminant() != null) {
+            switch (this.getDiscriminant()) {
+                case LIVEENTRY:
+                    result = 31 * result + Objects.hashCode(this.liveEntry);
+                    break;
+                case DEADENTRY:
+                    result = 31 * result + Objects.hashCode(this.deadEntry);
+                    break;
+            }
+        }
+        return result;
+    }
+
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -24,6 +26,7 @@ public class ChangeTrustOp  {
     return this.line;
   }
   public void setLine(Asset value) {
+    checkMutable();
     this.line = value;
   }
   private Int64 limit;
@@ -31,16 +34,79 @@ public class ChangeTrustOp  {
     return this.limit;
   }
   public void setLimit(Int64 value) {
+    checkMutable();
     this.limit = value;
   }
-  public static void encode(XdrDataOutputStream stream, ChangeTrustOp encodedChangeTrustOp) throws IOException{
+  public static void encode(XdrWriter stream, ChangeTrustOp encodedChangeTrustOp) throws IOException{
     Asset.encode(stream, encodedChangeTrustOp.line);
     Int64.encode(stream, encodedChangeTrustOp.limit);
   }
-  public static ChangeTrustOp decode(XdrDataInputStream stream) throws IOException {
+  public static ChangeTrustOp decode(XdrReader stream) throws IOException {
     ChangeTrustOp decodedChangeTrustOp = new ChangeTrustOp();
     decodedChangeTrustOp.line = Asset.decode(stream);
     decodedChangeTrustOp.limit = Int64.decode(stream);
     return decodedChangeTrustOp;
   }
+  public static ChangeTrustOp decodeInto(XdrReader stream, ChangeTrustOp existing) throws IOException {
+    ChangeTrustOp decodedChangeTrustOp = existing != null && !existing.frozen ? existing : new ChangeTrustOp();
+    decodedChangeTrustOp.line = Asset.decodeInto(stream, decodedChangeTrustOp.line);
+    decodedChangeTrustOp.limit = Int64.decodeInto(stream, decodedChangeTrustOp.limit);
+    return decodedChangeTrustOp;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Asset.skip(stream);
+    Int64.skip(stream);
+  }
+  public static int encodedSize(ChangeTrustOp encodedChangeTrustOp) {
+    int size = 0;
+    size += Asset.encodedSize(encodedChangeTrustOp.line);
+    size += Int64.encodedSize(encodedChangeTrustOp.limit);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.line != null) {
+      this.line.freeze();
+    }
+    if (this.limit != null) {
+      this.limit.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("ChangeTrustOp is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ChangeTrustOp)) {
+      return false;
+    }
+    ChangeTrustOp other = (ChangeTrustOp) object;
+    return Objects.equals(this.line, other.line)
+        && Objects.equals(this.limit, other.limit);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.line);
+    result = 31 * result + Objects.hashCode(this.limit);
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -26,7 +28,7 @@ public class ChangeTrustResult  {
   public void setDiscriminant(ChangeTrustResultCode value) {
     this.code = value;
   }
-  public static void encode(XdrDataOutputStream stream, ChangeTrustResult encodedChangeTrustResult) throws IOException {
+  public static void encode(XdrWriter stream, ChangeTrustResult encodedChangeTrustResult) throws IOException {
   stream.writeInt(encodedChangeTrustResult.getDiscriminant().getValue());
   switch (encodedChangeTrustResult.getDiscriminant()) {
   case CHANGE_TRUST_SUCCESS:
@@ -35,10 +37,13 @@ public class ChangeTrustResult  {
   break;
   }
   }
-  public static ChangeTrustResult decode(XdrDataInputStream stream) throws IOException {
+  public static ChangeTrustResult decode(XdrReader stream) throws IOException {
   ChangeTrustResult decodedChangeTrustResult = new ChangeTrustResult();
   ChangeTrustResultCode discriminant = ChangeTrustResultCode.decode(stream);
   decodedChangeTrustResult.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    return decodedChangeTrustResult;
+  }
   switch (decodedChangeTrustResult.getDiscriminant()) {
   case CHANGE_TRUST_SUCCESS:
   break;
@@ -47,4 +52,76 @@ public class ChangeTrustResult  {
   }
     return decodedChangeTrustResult;
   }
+  public static ChangeTrustResult decodeInto(XdrReader stream, ChangeTrustResult existing) throws IOException {
+    ChangeTrustResult decodedChangeTrustResult = existing != null ? existing : new ChangeTrustResult();
+    ChangeTrustResultCode discriminant = ChangeTrustResultCode.decode(stream);
+    decodedChangeTrustResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      return decodedChangeTrustResult;
+    }
+    switch (discriminant) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return decodedChangeTrustResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    ChangeTrustResultCode discriminant = ChangeTrustResultCode.decode(stream);
+    if (discriminant == null) {
+      return;
+    }
+    switch (discriminant) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      default:
+        break;
+    }
+  }
+  public static int encodedSize(ChangeTrustResult encodedChangeTrustResult) {
+    int size = 4;
+    switch (encodedChangeTrustResult.getDiscriminant()) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ChangeTrustResult)) {
+      return false;
+    }
+    ChangeTrustResult other = (ChangeTrustResult) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case CHANGE_TRUST_SUCCESS:
+        return true;
+      default:
+        return true;
+    }
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    return result;
+  }
 }
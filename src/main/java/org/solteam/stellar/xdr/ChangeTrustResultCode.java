@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,6 +32,16 @@ public enum ChangeTrustResultCode  {
   CHANGE_TRUST_SELF_NOT_ALLOWED(-5),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -5;
+  private static final ChangeTrustResultCode[] BY_VALUE = {
+    CHANGE_TRUST_SELF_NOT_ALLOWED,
+    CHANGE_TRUST_LOW_RESERVE,
+    CHANGE_TRUST_INVALID_LIMIT,
+    CHANGE_TRUST_NO_ISSUER,
+    CHANGE_TRUST_MALFORMED,
+    CHANGE_TRUST_SUCCESS,
+  };
 
   ChangeTrustResultCode(int value) {
       mValue = value;
@@ -40,21 +51,25 @@ public enum ChangeTrustResultCode  {
       return mValue;
   }
 
-  static ChangeTrustResultCode decode(XdrDataInputStream stream) throws IOException {
+  static ChangeTrustResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return CHANGE_TRUST_SUCCESS;
-      case -1: return CHANGE_TRUST_MALFORMED;
-      case -2: return CHANGE_TRUST_NO_ISSUER;
-      case -3: return CHANGE_TRUST_INVALID_LIMIT;
-      case -4: return CHANGE_TRUST_LOW_RESERVE;
-      case -5: return CHANGE_TRUST_SELF_NOT_ALLOWED;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, ChangeTrustResultCode value) throws IOException {
+  static void encode(XdrWriter stream, ChangeTrustResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(ChangeTrustResultCode value) {
+    return 4;
+  }
 }
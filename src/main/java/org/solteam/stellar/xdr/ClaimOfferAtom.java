@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -68,7 +70,7 @@ public class ClaimOfferAtom  {
   public void setAmountBought(Int64 value) {
     this.amountBought = value;
   }
-  public static void encode(XdrDataOutputStream stream, ClaimOfferAtom encodedClaimOfferAtom) throws IOException{
+  public static void encode(XdrWriter stream, ClaimOfferAtom encodedClaimOfferAtom) throws IOException{
     AccountID.encode(stream, encodedClaimOfferAtom.sellerID);
     Uint64.encode(stream, encodedClaimOfferAtom.offerID);
     Asset.encode(stream, encodedClaimOfferAtom.assetSold);
@@ -76,7 +78,7 @@ public class ClaimOfferAtom  {
     Asset.encode(stream, encodedClaimOfferAtom.assetBought);
     Int64.encode(stream, encodedClaimOfferAtom.amountBought);
   }
-  public static ClaimOfferAtom decode(XdrDataInputStream stream) throws IOException {
+  public static ClaimOfferAtom decode(XdrReader stream) throws IOException {
     ClaimOfferAtom decodedClaimOfferAtom = new ClaimOfferAtom();
     decodedClaimOfferAtom.sellerID = AccountID.decode(stream);
     decodedClaimOfferAtom.offerID = Uint64.decode(stream);
@@ -86,4 +88,67 @@ public class ClaimOfferAtom  {
     decodedClaimOfferAtom.amountBought = Int64.decode(stream);
     return decodedClaimOfferAtom;
   }
+  public static ClaimOfferAtom decodeInto(XdrReader stream, ClaimOfferAtom existing) throws IOException {
+    ClaimOfferAtom decodedClaimOfferAtom = existing != null ? existing : new ClaimOfferAtom();
+    decodedClaimOfferAtom.sellerID = AccountID.decodeInto(stream, decodedClaimOfferAtom.sellerID);
+    decodedClaimOfferAtom.offerID = Uint64.decodeInto(stream, decodedClaimOfferAtom.offerID);
+    decodedClaimOfferAtom.assetSold = Asset.decodeInto(stream, decodedClaimOfferAtom.assetSold);
+    decodedClaimOfferAtom.amountSold = Int64.decodeInto(stream, decodedClaimOfferAtom.amountSold);
+    decodedClaimOfferAtom.assetBought = Asset.decodeInto(stream, decodedClaimOfferAtom.assetBought);
+    decodedClaimOfferAtom.amountBought = Int64.decodeInto(stream, decodedClaimOfferAtom.amountBought);
+    return decodedClaimOfferAtom;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    AccountID.skip(stream);
+    Uint64.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+  }
+  public static int encodedSize(ClaimOfferAtom encodedClaimOfferAtom) {
+    int size = 0;
+    size += AccountID.encodedSize(encodedClaimOfferAtom.sellerID);
+    size += Uint64.encodedSize(encodedClaimOfferAtom.offerID);
+    size += Asset.encodedSize(encodedClaimOfferAtom.assetSold);
+    size += Int64.encodedSize(encodedClaimOfferAtom.amountSold);
+    size += Asset.encodedSize(encodedClaimOfferAtom.assetBought);
+    size += Int64.encodedSize(encodedClaimOfferAtom.amountBought);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ClaimOfferAtom)) {
+      return false;
+    }
+    ClaimOfferAtom other = (ClaimOfferAtom) object;
+    return Objects.equals(this.sellerID, other.sellerID)
+        && Objects.equals(this.offerID, other.offerID)
+        && Objects.equals(this.assetSold, other.assetSold)
+        && Objects.equals(this.amountSold, other.amountSold)
+        && Objects.equals(this.assetBought, other.assetBought)
+        && Objects.equals(this.amountBought, other.amountBought);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.sellerID);
+    result = 31 * result + Objects.hashCode(this.offerID);
+    result = 31 * result + Objects.hashCode(this.assetSold);
+    result = 31 * result + Objects.hashCode(this.amountSold);
+    result = 31 * result + Objects.hashCode(this.assetBought);
+    result = 31 * result + Objects.hashCode(this.amountBought);
+    return result;
+  }
 }
@@ -0,0 +1,165 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+
+/**
+ * Immutable ed25519 {@link AccountID} held as four {@code long}s in a single object,
+ * for caches that keep very many account IDs in memory. The generated
+ * {@code AccountID} needs four objects and a byte array for the same 32 bytes.
+ * <p>
+ * Instances are equal when their keys are, and are ordered like their XDR encodings.
+ */
+public final class CompactAccountID implements Comparable<CompactAccountID> {
+
+    /** The encoded size of an ed25519 account ID: discriminant + 32 byte key. */
+    public static final int ENCODED_SIZE = 4 + 32;
+
+    private final long mKey0;
+    private final long mKey1;
+    private final long mKey2;
+    private final long mKey3;
+
+    /**
+     * Creates an account ID from the four big-endian 8-byte words of an ed25519 key.
+     */
+    public CompactAccountID(long key0, long key1, long key2, long key3) {
+        mKey0 = key0;
+        mKey1 = key1;
+        mKey2 = key2;
+        mKey3 = key3;
+    }
+
+    /**
+     * Creates an account ID from a 32 byte ed25519 key.
+     */
+    public static CompactAccountID fromKey(byte[] key) {
+        if (key == null || key.length != 32) {
+            throw new IllegalArgumentException("key must be 32 bytes, not " + (key == null ? null : key.length));
+        }
+        return new CompactAccountID(getLong(key, 0), getLong(key, 8), getLong(key, 16), getLong(key, 24));
+    }
+
+    /**
+     * Converts a generated {@link AccountID}.
+     */
+    public static CompactAccountID of(AccountID accountID) {
+        PublicKey key = accountID.getAccountID();
+        if (key == null || key.getDiscriminant() != PublicKeyType.PUBLIC_KEY_TYPE_ED25519 || key.getEd25519() == null) {
+            throw new IllegalArgumentException("account ID must hold an ed25519 key");
+        }
+        return fromKey(key.getEd25519().getUint256());
+    }
+
+    /**
+     * Decodes an account ID without creating the intermediate objects.
+     */
+    public static CompactAccountID decode(XdrReader stream) throws IOException {
+        if (PublicKeyType.decode(stream) != PublicKeyType.PUBLIC_KEY_TYPE_ED25519) {
+            throw new IOException("unsupported key type");
+        }
+        return new CompactAccountID(stream.readLong(), stream.readLong(), stream.readLong(), stream.readLong());
+    }
+
+    public static void encode(XdrWriter stream, CompactAccountID accountID) throws IOException {
+        stream.writeInt(PublicKeyType.PUBLIC_KEY_TYPE_ED25519.getValue());
+        accountID.encodeKey(stream);
+    }
+
+    void encodeKey(XdrWriter stream) throws IOException {
+        stream.writeLong(mKey0);
+        stream.writeLong(mKey1);
+        stream.writeLong(mKey2);
+        stream.writeLong(mKey3);
+    }
+
+    static long getLong(byte[] b, int offset) {
+        long v = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            v = v << 8 | (b[i] & 0xff);
+        }
+        return v;
+    }
+
+    static void putLong(byte[] b, int offset, long v) {
+        for (int i = offset + 7; i >= offset; i--) {
+            b[i] = (byte) v;
+            v >>>= 8;
+        }
+    }
+
+    /**
+     * Returns word {@code index} (0 to 3) of the key, big-endian.
+     */
+    public long getKeyWord(int index) {
+        switch (index) {
+            case 0:
+                return mKey0;
+            case 1:
+                return mKey1;
+            case 2:
+                return mKey2;
+            case 3:
+                return mKey3;
+            default:
+                throw new IndexOutOfBoundsException("word " + index + " of 4");
+        }
+    }
+
+    /**
+     * Returns a new copy of the 32 byte ed25519 key.
+     */
+    public byte[] getKey() {
+        byte[] key = new byte[32];
+        putLong(key, 0, mKey0);
+        putLong(key, 8, mKey1);
+        putLong(key, 16, mKey2);
+        putLong(key, 24, mKey3);
+        return key;
+    }
+
+    /**
+     * Converts back to a generated {@link AccountID}.
+     */
+    public AccountID toAccountID() {
+        Uint256 ed25519 = new Uint256();
+        ed25519.setUint256(getKey());
+        PublicKey key = new PublicKey();
+        key.setDiscriminant(PublicKeyType.PUBLIC_KEY_TYPE_ED25519);
+        key.setEd25519(ed25519);
+        AccountID accountID = new AccountID();
+        accountID.setAccountID(key);
+        return accountID;
+    }
+
+    @Override
+    public int compareTo(CompactAccountID other) {
+        int result = Long.compareUnsigned(mKey0, other.mKey0);
+        if (result == 0) {
+            result = Long.compareUnsigned(mKey1, other.mKey1);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(mKey2, other.mKey2);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(mKey3, other.mKey3);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof CompactAccountID)) {
+            return false;
+        }
+        CompactAccountID other = (CompactAccountID) obj;
+        return mKey0 == other.mKey0 && mKey1 == other.mKey1 && mKey2 == other.mKey2 && mKey3 == other.mKey3;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(mKey0);
+        result = 31 * result + Long.hashCode(mKey1);
+        result = 31 * result + Long.hashCode(mKey2);
+        return 31 * result + Long.hashCode(mKey3);
+    }
+}
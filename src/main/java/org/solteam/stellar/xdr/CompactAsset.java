@@ -0,0 +1,304 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Immutable {@link Asset} held in a single object: the asset code is packed
+ * big-endian into a {@code long} and an {@code int}, and the issuer's ed25519 key
+ * into four {@code long}s. The generated credit {@code Asset} needs six objects
+ * and two byte arrays.
+ * <p>
+ * Instances are equal when their XDR encodings are, and are ordered like them.
+ */
+public final class CompactAsset implements Comparable<CompactAsset> {
+
+    public static final CompactAsset NATIVE = new CompactAsset(AssetType.ASSET_TYPE_NATIVE, 0, 0, 0, 0, 0, 0);
+
+    private final AssetType mType;
+    // code bytes 0-7 and, for ASSET_TYPE_CREDIT_ALPHANUM12, bytes 8-11
+    private final long mCode;
+    private final int mCodeTail;
+    private final long mIssuer0;
+    private final long mIssuer1;
+    private final long mIssuer2;
+    private final long mIssuer3;
+
+    private CompactAsset(AssetType type, long code, int codeTail,
+                         long issuer0, long issuer1, long issuer2, long issuer3) {
+        mType = type;
+        mCode = code;
+        mCodeTail = codeTail;
+        mIssuer0 = issuer0;
+        mIssuer1 = issuer1;
+        mIssuer2 = issuer2;
+        mIssuer3 = issuer3;
+    }
+
+    private CompactAsset(AssetType type, long code, int codeTail, CompactAccountID issuer) {
+        this(type, code, codeTail,
+                issuer.getKeyWord(0), issuer.getKeyWord(1), issuer.getKeyWord(2), issuer.getKeyWord(3));
+    }
+
+    /**
+     * Creates a credit asset. Codes of up to 4 characters are
+     * {@code ASSET_TYPE_CREDIT_ALPHANUM4}, longer ones {@code ASSET_TYPE_CREDIT_ALPHANUM12}.
+     *
+     * @param code   the asset code, 1 to 12 ASCII characters
+     * @param issuer the issuing account
+     */
+    public static CompactAsset credit(String code, CompactAccountID issuer) {
+        byte[] bytes = code.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length < 1 || bytes.length > 12) {
+            throw new IllegalArgumentException("asset code must be 1 to 12 characters: " + code);
+        }
+        return credit(bytes, issuer);
+    }
+
+    private static CompactAsset credit(byte[] code, CompactAccountID issuer) {
+        if (code.length <= 4) {
+            return new CompactAsset(AssetType.ASSET_TYPE_CREDIT_ALPHANUM4, (long) getInt(code, 0) << 32, 0, issuer);
+        }
+        long head = (long) getInt(code, 0) << 32 | getInt(code, 4) & 0xffffffffL;
+        return new CompactAsset(AssetType.ASSET_TYPE_CREDIT_ALPHANUM12, head, getInt(code, 8), issuer);
+    }
+
+    /**
+     * Converts a generated {@link Asset}.
+     *
+     * @throws IllegalArgumentException if the asset code is not the 4 or 12 bytes its
+     *                                  type requires, or the issuer is not an ed25519 key
+     */
+    public static CompactAsset of(Asset asset) {
+        switch (asset.getDiscriminant()) {
+            case ASSET_TYPE_NATIVE:
+                return NATIVE;
+            case ASSET_TYPE_CREDIT_ALPHANUM4: {
+                Asset.AssetAlphaNum4 alphaNum4 = asset.getAlphaNum4();
+                return new CompactAsset(AssetType.ASSET_TYPE_CREDIT_ALPHANUM4,
+                        (long) getInt(checkCode(alphaNum4.getAssetCode(), 4), 0) << 32, 0,
+                        CompactAccountID.of(alphaNum4.getIssuer()));
+            }
+            case ASSET_TYPE_CREDIT_ALPHANUM12: {
+                Asset.AssetAlphaNum12 alphaNum12 = asset.getAlphaNum12();
+                byte[] code = checkCode(alphaNum12.getAssetCode(), 12);
+                return new CompactAsset(AssetType.ASSET_TYPE_CREDIT_ALPHANUM12,
+                        CompactAccountID.getLong(code, 0), getInt(code, 8),
+                        CompactAccountID.of(alphaNum12.getIssuer()));
+            }
+            default:
+                throw new IllegalArgumentException("unsupported asset type " + asset.getDiscriminant());
+        }
+    }
+
+    private static byte[] checkCode(byte[] code, int length) {
+        if (code == null || code.length != length) {
+            throw new IllegalArgumentException("asset code must be " + length + " bytes, not "
+                    + (code == null ? null : code.length));
+        }
+        return code;
+    }
+
+    /**
+     * Decodes an asset without creating the intermediate objects. Native assets
+     * decode to {@link #NATIVE}.
+     */
+    public static CompactAsset decode(XdrReader stream) throws IOException {
+        AssetType type = AssetType.decode(stream);
+        if (type == null) {
+            throw new IOException("unknown asset type");
+        }
+        long code;
+        int codeTail = 0;
+        switch (type) {
+            case ASSET_TYPE_NATIVE:
+                return NATIVE;
+            case ASSET_TYPE_CREDIT_ALPHANUM4:
+                code = (long) stream.readInt() << 32;
+                break;
+            case ASSET_TYPE_CREDIT_ALPHANUM12:
+                code = stream.readLong();
+                codeTail = stream.readInt();
+                break;
+            default:
+                throw new IOException("unsupported asset type " + type);
+        }
+        if (PublicKeyType.decode(stream) != PublicKeyType.PUBLIC_KEY_TYPE_ED25519) {
+            throw new IOException("unsupported key type");
+        }
+        return new CompactAsset(type, code, codeTail,
+                stream.readLong(), stream.readLong(), stream.readLong(), stream.readLong());
+    }
+
+    public static void encode(XdrWriter stream, CompactAsset asset) throws IOException {
+        stream.writeInt(asset.mType.getValue());
+        switch (asset.mType) {
+            case ASSET_TYPE_CREDIT_ALPHANUM4:
+                stream.writeInt((int) (asset.mCode >>> 32));
+                break;
+            case ASSET_TYPE_CREDIT_ALPHANUM12:
+                stream.writeLong(asset.mCode);
+                stream.writeInt(asset.mCodeTail);
+                break;
+            default:
+                return;
+        }
+        stream.writeInt(PublicKeyType.PUBLIC_KEY_TYPE_ED25519.getValue());
+        stream.writeLong(asset.mIssuer0);
+        stream.writeLong(asset.mIssuer1);
+        stream.writeLong(asset.mIssuer2);
+        stream.writeLong(asset.mIssuer3);
+    }
+
+    public static int encodedSize(CompactAsset asset) {
+        switch (asset.mType) {
+            case ASSET_TYPE_CREDIT_ALPHANUM4:
+                return 4 + 4 + CompactAccountID.ENCODED_SIZE;
+            case ASSET_TYPE_CREDIT_ALPHANUM12:
+                return 4 + 12 + CompactAccountID.ENCODED_SIZE;
+            default:
+                return 4;
+        }
+    }
+
+    private static int getInt(byte[] b, int offset) {
+        int v = 0;
+        for (int i = offset; i < offset + 4; i++) {
+            v = v << 8 | (i < b.length ? b[i] & 0xff : 0);
+        }
+        return v;
+    }
+
+    public AssetType getType() {
+        return mType;
+    }
+
+    public boolean isNative() {
+        return mType == AssetType.ASSET_TYPE_NATIVE;
+    }
+
+    /**
+     * Returns the asset code bytes as encoded: 4 or 12 bytes, padded with zeros,
+     * or an empty array for the native asset.
+     */
+    public byte[] getCodeBytes() {
+        switch (mType) {
+            case ASSET_TYPE_CREDIT_ALPHANUM4: {
+                byte[] code = new byte[4];
+                putInt(code, 0, (int) (mCode >>> 32));
+                return code;
+            }
+            case ASSET_TYPE_CREDIT_ALPHANUM12: {
+                byte[] code = new byte[12];
+                CompactAccountID.putLong(code, 0, mCode);
+                putInt(code, 8, mCodeTail);
+                return code;
+            }
+            default:
+                return new byte[0];
+        }
+    }
+
+    private static void putInt(byte[] b, int offset, int v) {
+        b[offset] = (byte) (v >>> 24);
+        b[offset + 1] = (byte) (v >>> 16);
+        b[offset + 2] = (byte) (v >>> 8);
+        b[offset + 3] = (byte) v;
+    }
+
+    /**
+     * Returns the asset code without its zero padding, or {@code null} for the native asset.
+     */
+    public String getCode() {
+        if (isNative()) {
+            return null;
+        }
+        byte[] code = getCodeBytes();
+        int length = code.length;
+        while (length > 0 && code[length - 1] == 0) {
+            length--;
+        }
+        return new String(code, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the issuer, or {@code null} for the native asset.
+     */
+    public CompactAccountID getIssuer() {
+        if (isNative()) {
+            return null;
+        }
+        return new CompactAccountID(mIssuer0, mIssuer1, mIssuer2, mIssuer3);
+    }
+
+    /**
+     * Converts back to a generated {@link Asset}.
+     */
+    public Asset toAsset() {
+        Asset asset = new Asset();
+        asset.setDiscriminant(mType);
+        switch (mType) {
+            case ASSET_TYPE_CREDIT_ALPHANUM4: {
+                Asset.AssetAlphaNum4 alphaNum4 = new Asset.AssetAlphaNum4();
+                alphaNum4.setAssetCode(getCodeBytes());
+                alphaNum4.setIssuer(getIssuer().toAccountID());
+                asset.setAlphaNum4(alphaNum4);
+                break;
+            }
+            case ASSET_TYPE_CREDIT_ALPHANUM12: {
+                Asset.AssetAlphaNum12 alphaNum12 = new Asset.AssetAlphaNum12();
+                alphaNum12.setAssetCode(getCodeBytes());
+                alphaNum12.setIssuer(getIssuer().toAccountID());
+                asset.setAlphaNum12(alphaNum12);
+                break;
+            }
+        }
+        return asset;
+    }
+
+    @Override
+    public int compareTo(CompactAsset other) {
+        int result = Integer.compareUnsigned(mType.getValue(), other.mType.getValue());
+        if (result == 0) {
+            result = Long.compareUnsigned(mCode, other.mCode);
+        }
+        if (result == 0) {
+            result = Integer.compareUnsigned(mCodeTail, other.mCodeTail);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(mIssuer0, other.mIssuer0);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(mIssuer1, other.mIssuer1);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(mIssuer2, other.mIssuer2);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(mIssuer3, other.mIssuer3);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof CompactAsset)) {
+            return false;
+        }
+        CompactAsset other = (CompactAsset) obj;
+        return mType == other.mType && mCode == other.mCode && mCodeTail == other.mCodeTail
+                && mIssuer0 == other.mIssuer0 && mIssuer1 == other.mIssuer1
+                && mIssuer2 == other.mIssuer2 && mIssuer3 == other.mIssuer3;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mType.getValue();
+        result = 31 * result + Long.hashCode(mCode);
+        result = 31 * result + mCodeTail;
+        result = 31 * result + Long.hashCode(mIssuer0);
+        result = 31 * result + Long.hashCode(mIssuer1);
+        result = 31 * result + Long.hashCode(mIssuer2);
+        return 31 * result + Long.hashCode(mIssuer3);
+    }
+}
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +24,7 @@ public class CreateAccountOp  {
     return this.destination;
   }
   public void setDestination(AccountID value) {
+    checkMutable();
     this.destination = value;
   }
   private Int64 startingBalance;
@@ -29,16 +32,79 @@ public class CreateAccountOp  {
     return this.startingBalance;
   }
   public void setStartingBalance(Int64 value) {
+    checkMutable();
     this.startingBalance = value;
   }
-  public static void encode(XdrDataOutputStream stream, CreateAccountOp encodedCreateAccountOp) throws IOException{
+  public static void encode(XdrWriter stream, CreateAccountOp encodedCreateAccountOp) throws IOException{
     AccountID.encode(stream, encodedCreateAccountOp.destination);
     Int64.encode(stream, encodedCreateAccountOp.startingBalance);
   }
-  public static CreateAccountOp decode(XdrDataInputStream stream) throws IOException {
+  public static CreateAccountOp decode(XdrReader stream) throws IOException {
     CreateAccountOp decodedCreateAccountOp = new CreateAccountOp();
     decodedCreateAccountOp.destination = AccountID.decode(stream);
     decodedCreateAccountOp.startingBalance = Int64.decode(stream);
     return decodedCreateAccountOp;
   }
+  public static CreateAccountOp decodeInto(XdrReader stream, CreateAccountOp existing) throws IOException {
+    CreateAccountOp decodedCreateAccountOp = existing != null && !existing.frozen ? existing : new CreateAccountOp();
+    decodedCreateAccountOp.destination = AccountID.decodeInto(stream, decodedCreateAccountOp.destination);
+    decodedCreateAccountOp.startingBalance = Int64.decodeInto(stream, decodedCreateAccountOp.startingBalance);
+    return decodedCreateAccountOp;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    AccountID.skip(stream);
+    Int64.skip(stream);
+  }
+  public static int encodedSize(CreateAccountOp encodedCreateAccountOp) {
+    int size = 0;
+    size += AccountID.encodedSize(encodedCreateAccountOp.destination);
+    size += Int64.encodedSize(encodedCreateAccountOp.startingBalance);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.destination != null) {
+      this.destination.freeze();
+    }
+    if (this.startingBalance != null) {
+      this.startingBalance.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("CreateAccountOp is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof CreateAccountOp)) {
+      return false;
+    }
+    CreateAccountOp other = (CreateAccountOp) object;
+    return Objects.equals(this.destination, other.destination)
+        && Objects.equals(this.startingBalance, other.startingBalance);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.destination);
+    result = 31 * result + Objects.hashCode(this.startingBalance);
+    return result;
+  }
 }
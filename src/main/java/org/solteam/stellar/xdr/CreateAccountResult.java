@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -26,7 +28,7 @@ public class CreateAccountResult  {
   public void setDiscriminant(CreateAccountResultCode value) {
     this.code = value;
   }
-  public static void encode(XdrDataOutputStream stream, CreateAccountResult encodedCreateAccountResult) throws IOException {
+  public static void encode(XdrWriter stream, CreateAccountResult encodedCreateAccountResult) throws IOException {
   stream.writeInt(encodedCreateAccountResult.getDiscriminant().getValue());
   switch (encodedCreateAccountResult.getDiscriminant()) {
   case CREATE_ACCOUNT_SUCCESS:
@@ -35,10 +37,13 @@ public class CreateAccountResult  {
   break;
   }
   }
-  public static CreateAccountResult decode(XdrDataInputStream stream) throws IOException {
+  public static CreateAccountResult decode(XdrReader stream) throws IOException {
   CreateAccountResult decodedCreateAccountResult = new CreateAccountResult();
   CreateAccountResultCode discriminant = CreateAccountResultCode.decode(stream);
   decodedCreateAccountResult.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    return decodedCreateAccountResult;
+  }
   switch (decodedCreateAccountResult.getDiscriminant()) {
   case CREATE_ACCOUNT_SUCCESS:
   break;
@@ -47,4 +52,76 @@ public class CreateAccountResult  {
   }
     return decodedCreateAccountResult;
   }
+  public static CreateAccountResult decodeInto(XdrReader stream, CreateAccountResult existing) throws IOException {
+    CreateAccountResult decodedCreateAccountResult = existing != null ? existing : new CreateAccountResult();
+    CreateAccountResultCode discriminant = CreateAccountResultCode.decode(stream);
+    decodedCreateAccountResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      return decodedCreateAccountResult;
+    }
+    switch (discriminant) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return decodedCreateAccountResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    CreateAccountResultCode discriminant = CreateAccountResultCode.decode(stream);
+    if (discriminant == null) {
+      return;
+    }
+    switch (discriminant) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      default:
+        break;
+    }
+  }
+  public static int encodedSize(CreateAccountResult encodedCreateAccountResult) {
+    int size = 4;
+    switch (encodedCreateAccountResult.getDiscriminant()) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof CreateAccountResult)) {
+      return false;
+    }
+    CreateAccountResult other = (CreateAccountResult) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case CREATE_ACCOUNT_SUCCESS:
+        return true;
+      default:
+        return true;
+    }
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    return result;
+  }
 }
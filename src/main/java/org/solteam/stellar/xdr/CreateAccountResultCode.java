@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -30,6 +31,15 @@ public enum CreateAccountResultCode  {
   CREATE_ACCOUNT_ALREADY_EXIST(-4),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -4;
+  private static final CreateAccountResultCode[] BY_VALUE = {
+    CREATE_ACCOUNT_ALREADY_EXIST,
+    CREATE_ACCOUNT_LOW_RESERVE,
+    CREATE_ACCOUNT_UNDERFUNDED,
+    CREATE_ACCOUNT_MALFORMED,
+    CREATE_ACCOUNT_SUCCESS,
+  };
 
   CreateAccountResultCode(int value) {
       mValue = value;
@@ -39,20 +49,25 @@ public enum CreateAccountResultCode  {
       return mValue;
   }
 
-  static CreateAccountResultCode decode(XdrDataInputStream stream) throws IOException {
+  static CreateAccountResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return CREATE_ACCOUNT_SUCCESS;
-      case -1: return CREATE_ACCOUNT_MALFORMED;
-      case -2: return CREATE_ACCOUNT_UNDERFUNDED;
-      case -3: return CREATE_ACCOUNT_LOW_RESERVE;
-      case -4: return CREATE_ACCOUNT_ALREADY_EXIST;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, CreateAccountResultCode value) throws IOException {
+  static void encode(XdrWriter stream, CreateAccountResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(CreateAccountResultCode value) {
+    return 4;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -24,6 +26,7 @@ public class CreatePassiveOfferOp  {
     return this.selling;
   }
   public void setSelling(Asset value) {
+    checkMutable();
     this.selling = value;
   }
   private Asset buying;
@@ -31,6 +34,7 @@ public class CreatePassiveOfferOp  {
     return this.buying;
   }
   public void setBuying(Asset value) {
+    checkMutable();
     this.buying = value;
   }
   private Int64 amount;
@@ -38,6 +42,7 @@ public class CreatePassiveOfferOp  {
     return this.amount;
   }
   public void setAmount(Int64 value) {
+    checkMutable();
     this.amount = value;
   }
   private Price price;
@@ -45,15 +50,16 @@ public class CreatePassiveOfferOp  {
     return this.price;
   }
   public void setPrice(Price value) {
+    checkMutable();
     this.price = value;
   }
-  public static void encode(XdrDataOutputStream stream, CreatePassiveOfferOp encodedCreatePassiveOfferOp) throws IOException{
+  public static void encode(XdrWriter stream, CreatePassiveOfferOp encodedCreatePassiveOfferOp) throws IOException{
     Asset.encode(stream, encodedCreatePassiveOfferOp.selling);
     Asset.encode(stream, encodedCreatePassiveOfferOp.buying);
     Int64.encode(stream, encodedCreatePassiveOfferOp.amount);
     Price.encode(stream, encodedCreatePassiveOfferOp.price);
   }
-  public static CreatePassiveOfferOp decode(XdrDataInputStream stream) throws IOException {
+  public static CreatePassiveOfferOp decode(XdrReader stream) throws IOException {
     CreatePassiveOfferOp decodedCreatePassiveOfferOp = new CreatePassiveOfferOp();
     decodedCreatePassiveOfferOp.selling = Asset.decode(stream);
     decodedCreatePassiveOfferOp.buying = Asset.decode(stream);
@@ -61,4 +67,82 @@ public class CreatePassiveOfferOp  {
     decodedCreatePassiveOfferOp.price = Price.decode(stream);
     return decodedCreatePassiveOfferOp;
   }
+  public static CreatePassiveOfferOp decodeInto(XdrReader stream, CreatePassiveOfferOp existing) throws IOException {
+    CreatePassiveOfferOp decodedCreatePassiveOfferOp = existing != null && !existing.frozen ? existing : new CreatePassiveOfferOp();
+    decodedCreatePassiveOfferOp.selling = Asset.decodeInto(stream, decodedCreatePassiveOfferOp.selling);
+    decodedCreatePassiveOfferOp.buying = Asset.decodeInto(stream, decodedCreatePassiveOfferOp.buying);
+    decodedCreatePassiveOfferOp.amount = Int64.decodeInto(stream, decodedCreatePassiveOfferOp.amount);
+    decodedCreatePassiveOfferOp.price = Price.decodeInto(stream, decodedCreatePassiveOfferOp.price);
+    return decodedCreatePassiveOfferOp;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Asset.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Price.skip(stream);
+  }
+  public static int encodedSize(CreatePassiveOfferOp encodedCreatePassiveOfferOp) {
+    int size = 0;
+    size += Asset.encodedSize(encodedCreatePassiveOfferOp.selling);
+    size += Asset.encodedSize(encodedCreatePassiveOfferOp.buying);
+    size += Int64.encodedSize(encodedCreatePassiveOfferOp.amount);
+    size += Price.encodedSize(encodedCreatePassiveOfferOp.price);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.selling != null) {
+      this.selling.freeze();
+    }
+    if (this.buying != null) {
+      this.buying.freeze();
+    }
+    if (this.amount != null) {
+      this.amount.freeze();
+    }
+    if (this.price != null) {
+      this.price.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("CreatePassiveOfferOp is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof CreatePassiveOfferOp)) {
+      return false;
+    }
+    CreatePassiveOfferOp other = (CreatePassiveOfferOp) object;
+    return Objects.equals(this.selling, other.selling)
+        && Objects.equals(this.buying, other.buying)
+        && Objects.equals(this.amount, other.amount)
+        && Objects.equals(this.price, other.price);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.selling);
+    result = 31 * result + Objects.hashCode(this.buying);
+    result = 31 * result + Objects.hashCode(this.amount);
+    result = 31 * result + Objects.hashCode(this.price);
+    return result;
+  }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +23,13 @@ public enum CryptoKeyType  {
   KEY_TYPE_HASH_X(2),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final CryptoKeyType[] BY_VALUE = {
+    KEY_TYPE_ED25519,
+    KEY_TYPE_PRE_AUTH_TX,
+    KEY_TYPE_HASH_X,
+  };
 
   CryptoKeyType(int value) {
       mValue = value;
@@ -31,18 +39,25 @@ public enum CryptoKeyType  {
       return mValue;
   }
 
-  static CryptoKeyType decode(XdrDataInputStream stream) throws IOException {
+  static CryptoKeyType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return KEY_TYPE_ED25519;
-      case 1: return KEY_TYPE_PRE_AUTH_TX;
-      case 2: return KEY_TYPE_HASH_X;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, CryptoKeyType value) throws IOException {
+  static void encode(XdrWriter stream, CryptoKeyType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(CryptoKeyType value) {
+    return 4;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -21,17 +24,67 @@ public class Curve25519Secret  {
     return this.key;
   }
   public void setKey(byte[] value) {
+    this.cachedHashCode = 0;
     this.key = value;
   }
-  public static void encode(XdrDataOutputStream stream, Curve25519Secret encodedCurve25519Secret) throws IOException{
+  public static void encode(XdrWriter stream, Curve25519Secret encodedCurve25519Secret) throws IOException{
     int keysize = encodedCurve25519Secret.key.length;
     stream.write(encodedCurve25519Secret.getKey(), 0, keysize);
   }
-  public static Curve25519Secret decode(XdrDataInputStream stream) throws IOException {
+  public static Curve25519Secret decode(XdrReader stream) throws IOException {
     Curve25519Secret decodedCurve25519Secret = new Curve25519Secret();
+    decodedCurve25519Secret.key = stream.readFixedOpaque(32);
+    return decodedCurve25519Secret;
+  }
+  public static Curve25519Secret decodeInto(XdrReader stream, Curve25519Secret existing) throws IOException {
+    Curve25519Secret decodedCurve25519Secret = existing != null ? existing : new Curve25519Secret();
+    decodedCurve25519Secret.cachedHashCode = 0;
     int keysize = 32;
-    decodedCurve25519Secret.key = new byte[keysize];
-    stream.read(decodedCurve25519Secret.key, 0, keysize);
+    if (decodedCurve25519Secret.key == null || decodedCurve25519Secret.key.length != keysize) {
+      decodedCurve25519Secret.key = new byte[keysize];
+    }
+    stream.readFully(decodedCurve25519Secret.key, 0, keysize);
     return decodedCurve25519Secret;
   }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(32);
+  }
+  public static int encodedSize(Curve25519Secret encodedCurve25519Secret) {
+    int size = 0;
+    size += XdrSize.opaque(encodedCurve25519Secret.key.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Curve25519Secret)) {
+      return false;
+    }
+    Curve25519Secret other = (Curve25519Secret) object;
+    return Arrays.equals(this.key, other.key);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.key);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
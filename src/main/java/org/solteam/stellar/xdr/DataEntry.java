@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -54,13 +56,13 @@ public class DataEntry  {
   public void setExt(DataEntryExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, DataEntry encodedDataEntry) throws IOException{
+  public static void encode(XdrWriter stream, DataEntry encodedDataEntry) throws IOException{
     AccountID.encode(stream, encodedDataEntry.accountID);
     String64.encode(stream, encodedDataEntry.dataName);
     DataValue.encode(stream, encodedDataEntry.dataValue);
     DataEntryExt.encode(stream, encodedDataEntry.ext);
   }
-  public static DataEntry decode(XdrDataInputStream stream) throws IOException {
+  public static DataEntry decode(XdrReader stream) throws IOException {
     DataEntry decodedDataEntry = new DataEntry();
     decodedDataEntry.accountID = AccountID.decode(stream);
     decodedDataEntry.dataName = String64.decode(stream);
@@ -68,33 +70,140 @@ public class DataEntry  {
     decodedDataEntry.ext = DataEntryExt.decode(stream);
     return decodedDataEntry;
   }
+  public static DataEntry decodeInto(XdrReader stream, DataEntry existing) throws IOException {
+    DataEntry decodedDataEntry = existing != null ? existing : new DataEntry();
+    decodedDataEntry.accountID = AccountID.decodeInto(stream, decodedDataEntry.accountID);
+    decodedDataEntry.dataName = String64.decodeInto(stream, decodedDataEntry.dataName);
+    decodedDataEntry.dataValue = DataValue.decodeInto(stream, decodedDataEntry.dataValue);
+    decodedDataEntry.ext = DataEntryExt.decodeInto(stream, decodedDataEntry.ext);
+    return decodedDataEntry;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    AccountID.skip(stream);
+    String64.skip(stream);
+    DataValue.skip(stream);
+    DataEntryExt.skip(stream);
+  }
+  public static int encodedSize(DataEntry encodedDataEntry) {
+    int size = 0;
+    size += AccountID.encodedSize(encodedDataEntry.accountID);
+    size += String64.encodedSize(encodedDataEntry.dataName);
+    size += DataValue.encodedSize(encodedDataEntry.dataValue);
+    size += DataEntryExt.encodedSize(encodedDataEntry.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof DataEntry)) {
+      return false;
+    }
+    DataEntry other = (DataEntry) object;
+    return Objects.equals(this.accountID, other.accountID)
+        && Objects.equals(this.dataName, other.dataName)
+        && Objects.equals(this.dataValue, other.dataValue)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.accountID);
+    result = 31 * result + Objects.hashCode(this.dataName);
+    result = 31 * result + Objects.hashCode(this.dataValue);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class DataEntryExt {
     public DataEntryExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, DataEntryExt encodedDataEntryExt) throws IOException {
-    stream.writeInt(encodedDataEntryExt.getDiscriminant().intValue());
-    switch (encodedDataEntryExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, DataEntryExt encodedDataEntryExt) throws IOException {
+    stream.writeInt(encodedDataEntryExt.v);
+    switch (encodedDataEntryExt.v) {
     case 0:
     break;
     }
     }
-    public static DataEntryExt decode(XdrDataInputStream stream) throws IOException {
+    public static DataEntryExt decode(XdrReader stream) throws IOException {
     DataEntryExt decodedDataEntryExt = new DataEntryExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedDataEntryExt.setDiscriminant(discriminant);
-    switch (decodedDataEntryExt.getDiscriminant()) {
+    switch (decodedDataEntryExt.v) {
     case 0:
     break;
     }
       return decodedDataEntryExt;
     }
+    public static DataEntryExt decodeInto(XdrReader stream, DataEntryExt existing) throws IOException {
+      DataEntryExt decodedDataEntryExt = existing != null ? existing : new DataEntryExt();
+      int discriminant = stream.readInt();
+      decodedDataEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedDataEntryExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(DataEntryExt encodedDataEntryExt) {
+      int size = 4;
+      switch (encodedDataEntryExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof DataEntryExt)) {
+        return false;
+      }
+      DataEntryExt other = (DataEntryExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -14,21 +17,86 @@ import java.io.IOException;
 public class DataValue  {
   private byte[] DataValue;
   public byte[] getDataValue() {
-    return this.DataValue;
+    return frozen && this.DataValue != null ? this.DataValue.clone() : this.DataValue;
   }
   public void setDataValue(byte[] value) {
+    checkMutable();
+    this.cachedHashCode = 0;
     this.DataValue = value;
   }
-  public static void encode(XdrDataOutputStream stream, DataValue  encodedDataValue) throws IOException {
+  public static void encode(XdrWriter stream, DataValue  encodedDataValue) throws IOException {
   int DataValuesize = encodedDataValue.DataValue.length;
   stream.writeInt(DataValuesize);
-  stream.write(encodedDataValue.getDataValue(), 0, DataValuesize);
+  stream.write(encodedDataValue.DataValue, 0, DataValuesize);
   }
-  public static DataValue decode(XdrDataInputStream stream) throws IOException {
+  public static DataValue decode(XdrReader stream) throws IOException {
     DataValue decodedDataValue = new DataValue();
-  int DataValuesize = stream.readInt();
-  decodedDataValue.DataValue = new byte[DataValuesize];
-  stream.read(decodedDataValue.DataValue, 0, DataValuesize);
+  decodedDataValue.DataValue = stream.readVarOpaque(64);
     return decodedDataValue;
   }
+  public static DataValue decodeInto(XdrReader stream, DataValue existing) throws IOException {
+    DataValue decodedDataValue = existing != null && !existing.frozen ? existing : new DataValue();
+    decodedDataValue.cachedHashCode = 0;
+    int DataValuesize = stream.readInt();
+    stream.checkOpaqueLength(DataValuesize, 64);
+    if (decodedDataValue.DataValue == null || decodedDataValue.DataValue.length != DataValuesize) {
+      decodedDataValue.DataValue = new byte[DataValuesize];
+    }
+    stream.readFully(decodedDataValue.DataValue, 0, DataValuesize);
+    return decodedDataValue;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(stream.readInt());
+  }
+  public static int encodedSize(DataValue encodedDataValue) {
+    int size = 0;
+    size += 4 + XdrSize.opaque(encodedDataValue.DataValue.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("DataValue is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof DataValue)) {
+      return false;
+    }
+    DataValue other = (DataValue) object;
+    return Arrays.equals(this.DataValue, other.DataValue);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.DataValue);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
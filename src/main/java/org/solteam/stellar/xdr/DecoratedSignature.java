@@ -6,6 +6,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -23,6 +25,7 @@ public class DecoratedSignature  {
     return this.hint;
   }
   public void setHint(SignatureHint value) {
+    checkMutable();
     this.hint = value;
   }
   private Signature signature;
@@ -30,16 +33,79 @@ public class DecoratedSignature  {
     return this.signature;
   }
   public void setSignature(Signature value) {
+    checkMutable();
     this.signature = value;
   }
-  public static void encode(XdrDataOutputStream stream, DecoratedSignature encodedDecoratedSignature) throws IOException{
+  public static void encode(XdrWriter stream, DecoratedSignature encodedDecoratedSignature) throws IOException{
     SignatureHint.encode(stream, encodedDecoratedSignature.hint);
     Signature.encode(stream, encodedDecoratedSignature.signature);
   }
-  public static DecoratedSignature decode(XdrDataInputStream stream) throws IOException {
+  public static DecoratedSignature decode(XdrReader stream) throws IOException {
     DecoratedSignature decodedDecoratedSignature = new DecoratedSignature();
     decodedDecoratedSignature.hint = SignatureHint.decode(stream);
     decodedDecoratedSignature.signature = Signature.decode(stream);
     return decodedDecoratedSignature;
   }
+  public static DecoratedSignature decodeInto(XdrReader stream, DecoratedSignature existing) throws IOException {
+    DecoratedSignature decodedDecoratedSignature = existing != null && !existing.frozen ? existing : new DecoratedSignature();
+    decodedDecoratedSignature.hint = SignatureHint.decodeInto(stream, decodedDecoratedSignature.hint);
+    decodedDecoratedSignature.signature = Signature.decodeInto(stream, decodedDecoratedSignature.signature);
+    return decodedDecoratedSignature;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    SignatureHint.skip(stream);
+    Signature.skip(stream);
+  }
+  public static int encodedSize(DecoratedSignature encodedDecoratedSignature) {
+    int size = 0;
+    size += SignatureHint.encodedSize(encodedDecoratedSignature.hint);
+    size += Signature.encodedSize(encodedDecoratedSignature.signature);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.hint != null) {
+      this.hint.freeze();
+    }
+    if (this.signature != null) {
+      this.signature.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("DecoratedSignature is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof DecoratedSignature)) {
+      return false;
+    }
+    DecoratedSignature other = (DecoratedSignature) object;
+    return Objects.equals(this.hint, other.hint)
+        && Objects.equals(this.signature, other.signature);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.hint);
+    result = 31 * result + Objects.hashCode(this.signature);
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,14 +33,56 @@ public class DontHave  {
   public void setReqHash(Uint256 value) {
     this.reqHash = value;
   }
-  public static void encode(XdrDataOutputStream stream, DontHave encodedDontHave) throws IOException{
+  public static void encode(XdrWriter stream, DontHave encodedDontHave) throws IOException{
     MessageType.encode(stream, encodedDontHave.type);
     Uint256.encode(stream, encodedDontHave.reqHash);
   }
-  public static DontHave decode(XdrDataInputStream stream) throws IOException {
+  public static DontHave decode(XdrReader stream) throws IOException {
     DontHave decodedDontHave = new DontHave();
     decodedDontHave.type = MessageType.decode(stream);
     decodedDontHave.reqHash = Uint256.decode(stream);
     return decodedDontHave;
   }
+  public static DontHave decodeInto(XdrReader stream, DontHave existing) throws IOException {
+    DontHave decodedDontHave = existing != null ? existing : new DontHave();
+    decodedDontHave.type = MessageType.decode(stream);
+    decodedDontHave.reqHash = Uint256.decodeInto(stream, decodedDontHave.reqHash);
+    return decodedDontHave;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(36);
+  }
+  public static int encodedSize(DontHave encodedDontHave) {
+    int size = 0;
+    size += MessageType.encodedSize(encodedDontHave.type);
+    size += Uint256.encodedSize(encodedDontHave.reqHash);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof DontHave)) {
+      return false;
+    }
+    DontHave other = (DontHave) object;
+    return Objects.equals(this.type, other.type)
+        && Objects.equals(this.reqHash, other.reqHash);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.type);
+    result = 31 * result + Objects.hashCode(this.reqHash);
+    return result;
+  }
 }
@@ -0,0 +1,179 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.util.Arrays;
+
+/**
+ * A transaction envelope that is only ever added to: the transaction is frozen and
+ * its encoding kept, and each signature is frozen and encoded once when it is added. Writing
+ * the envelope out copies the body, the signature count and the encoded signatures
+ * side by side, so collecting signatures never re-encodes the transaction.
+ * <p>
+ * The encoding is the same as that of the equivalent {@link TransactionEnvelope}.
+ */
+public class EncodedTransactionEnvelope {
+
+    /** The bound declared on {@code TransactionEnvelope.signatures}. */
+    public static final int MAX_SIGNATURES = 20;
+
+    // hint + length-prefixed 64 byte ed25519 signature
+    private static final int SIGNATURE_SIZE = 4 + 4 + 64;
+
+    private final Transaction mTransaction;
+    private final byte[] mBody;
+    private DecoratedSignature[] mSignatures = new DecoratedSignature[0];
+    private byte[] mSignatureBytes = new byte[0];
+    private int mSignatureLength;
+
+    /**
+     * Creates an envelope with no signatures. The transaction is frozen.
+     *
+     * @param transaction the transaction to collect signatures for
+     */
+    public EncodedTransactionEnvelope(Transaction transaction) throws IOException {
+        mTransaction = transaction.freeze();
+        mBody = transaction.frozenEncoding();
+    }
+
+    /**
+     * Creates an envelope holding the transaction and signatures of {@code envelope}.
+     * The transaction is frozen; the envelope itself is not changed.
+     */
+    public static EncodedTransactionEnvelope from(TransactionEnvelope envelope) throws IOException {
+        EncodedTransactionEnvelope encoded = new EncodedTransactionEnvelope(envelope.getTx());
+        for (DecoratedSignature signature : envelope.getSignatures()) {
+            encoded.addSignature(signature);
+        }
+        return encoded;
+    }
+
+    /**
+     * Decodes a {@link TransactionEnvelope} into an envelope that signatures can be added to.
+     */
+    public static EncodedTransactionEnvelope decode(XdrReader stream) throws IOException {
+        EncodedTransactionEnvelope encoded = new EncodedTransactionEnvelope(Transaction.decode(stream));
+        int signaturessize = stream.readInt();
+        stream.checkArrayLength(signaturessize, MAX_SIGNATURES);
+        for (int i = 0; i < signaturessize; i++) {
+            encoded.addSignature(DecoratedSignature.decode(stream));
+        }
+        return encoded;
+    }
+
+    public Transaction getTransaction() {
+        return mTransaction;
+    }
+
+    public int getSignatureCount() {
+        return mSignatures.length;
+    }
+
+    /**
+     * Returns a copy of the signatures added so far.
+     */
+    public DecoratedSignature[] getSignatures() {
+        return mSignatures.clone();
+    }
+
+    /**
+     * Returns the hash that signers sign, cached by the frozen transaction.
+     *
+     * @param networkId the SHA-256 of the network passphrase
+     */
+    public byte[] hash(Hash networkId) throws IOException {
+        return mTransaction.hash(networkId);
+    }
+
+    /**
+     * Encodes {@code signature}, freezes it so that it keeps matching its encoding, and
+     * appends it to the envelope.
+     *
+     * @throws IllegalStateException if the envelope already holds {@link #MAX_SIGNATURES} signatures
+     */
+    public void addSignature(DecoratedSignature signature) throws IOException {
+        if (mSignatures.length == MAX_SIGNATURES) {
+            throw new IllegalStateException("envelope already has " + MAX_SIGNATURES + " signatures");
+        }
+        int size = DecoratedSignature.encodedSize(signature);
+        if (mSignatureLength + size > mSignatureBytes.length) {
+            mSignatureBytes = Arrays.copyOf(mSignatureBytes,
+                    Math.max(mSignatureLength + size, mSignatureBytes.length + 2 * SIGNATURE_SIZE));
+        }
+        DecoratedSignature.encode(new XdrByteBufferWriter(ByteBuffer.wrap(mSignatureBytes, mSignatureLength, size)), signature);
+        mSignatureLength += size;
+        signature.freeze();
+        mSignatures = Arrays.copyOf(mSignatures, mSignatures.length + 1);
+        mSignatures[mSignatures.length - 1] = signature;
+    }
+
+    public int encodedSize() {
+        return mBody.length + 4 + mSignatureLength;
+    }
+
+    public void encode(XdrWriter stream) throws IOException {
+        stream.write(mBody, 0, mBody.length);
+        stream.writeInt(mSignatures.length);
+        stream.write(mSignatureBytes, 0, mSignatureLength);
+    }
+
+    /**
+     * Returns the encoded envelope, built with a single allocation.
+     */
+    public byte[] toXdrBytes() {
+        byte[] bytes = new byte[encodedSize()];
+        System.arraycopy(mBody, 0, bytes, 0, mBody.length);
+        int count = mSignatures.length;
+        int i = mBody.length;
+        bytes[i] = (byte) (count >>> 24);
+        bytes[i + 1] = (byte) (count >>> 16);
+        bytes[i + 2] = (byte) (count >>> 8);
+        bytes[i + 3] = (byte) count;
+        System.arraycopy(mSignatureBytes, 0, bytes, i + 4, mSignatureLength);
+        return bytes;
+    }
+
+    public void encodeTo(ByteBuffer buffer) throws IOException {
+        encode(new XdrByteBufferWriter(buffer));
+    }
+
+    /**
+     * Writes the encoded envelope to {@code channel} with gathering writes, without
+     * copying the body or the signatures. The channel must be in blocking mode, as the
+     * envelope is written out in full.
+     *
+     * @return the number of bytes written
+     * @throws IllegalBlockingModeException if {@code channel} is in non-blocking mode
+     */
+    public long writeTo(GatheringByteChannel channel) throws IOException {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalBlockingModeException();
+        }
+        ByteBuffer count = ByteBuffer.allocate(4).putInt(0, mSignatures.length);
+        ByteBuffer[] buffers = {
+                ByteBuffer.wrap(mBody),
+                count,
+                ByteBuffer.wrap(mSignatureBytes, 0, mSignatureLength)
+        };
+        long total = encodedSize();
+        long written = 0;
+        while (written < total) {
+            written += channel.write(buffers);
+        }
+        return written;
+    }
+
+    /**
+     * Returns a {@link TransactionEnvelope} with the frozen transaction and the
+     * signatures added so far.
+     */
+    public TransactionEnvelope toEnvelope() {
+        TransactionEnvelope envelope = new TransactionEnvelope();
+        envelope.setTx(mTransaction);
+        envelope.setSignatures(mSignatures.clone());
+        return envelope;
+    }
+}
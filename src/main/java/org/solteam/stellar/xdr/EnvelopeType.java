@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +23,13 @@ public enum EnvelopeType  {
   ENVELOPE_TYPE_AUTH(3),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 1;
+  private static final EnvelopeType[] BY_VALUE = {
+    ENVELOPE_TYPE_SCP,
+    ENVELOPE_TYPE_TX,
+    ENVELOPE_TYPE_AUTH,
+  };
 
   EnvelopeType(int value) {
       mValue = value;
@@ -31,18 +39,25 @@ public enum EnvelopeType  {
       return mValue;
   }
 
-  static EnvelopeType decode(XdrDataInputStream stream) throws IOException {
+  static EnvelopeType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 1: return ENVELOPE_TYPE_SCP;
-      case 2: return ENVELOPE_TYPE_TX;
-      case 3: return ENVELOPE_TYPE_AUTH;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, EnvelopeType value) throws IOException {
+  static void encode(XdrWriter stream, EnvelopeType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(EnvelopeType value) {
+    return 4;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,14 +33,57 @@ public class Error  {
   public void setMsg(String value) {
     this.msg = value;
   }
-  public static void encode(XdrDataOutputStream stream, Error encodedError) throws IOException{
+  public static void encode(XdrWriter stream, Error encodedError) throws IOException{
     ErrorCode.encode(stream, encodedError.code);
     stream.writeString(encodedError.msg);
   }
-  public static Error decode(XdrDataInputStream stream) throws IOException {
+  public static Error decode(XdrReader stream) throws IOException {
     Error decodedError = new Error();
     decodedError.code = ErrorCode.decode(stream);
-    decodedError.msg = stream.readString();
+    decodedError.msg = stream.readString(100);
     return decodedError;
   }
+  public static Error decodeInto(XdrReader stream, Error existing) throws IOException {
+    Error decodedError = existing != null ? existing : new Error();
+    decodedError.code = ErrorCode.decode(stream);
+    decodedError.msg = stream.readString(100);
+    return decodedError;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    ErrorCode.skip(stream);
+    stream.skip(stream.readInt());
+  }
+  public static int encodedSize(Error encodedError) {
+    int size = 0;
+    size += ErrorCode.encodedSize(encodedError.code);
+    size += XdrSize.string(encodedError.msg);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Error)) {
+      return false;
+    }
+    Error other = (Error) object;
+    return Objects.equals(this.code, other.code)
+        && Objects.equals(this.msg, other.msg);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.code);
+    result = 31 * result + Objects.hashCode(this.msg);
+    return result;
+  }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -26,6 +27,15 @@ public enum ErrorCode  {
   ERR_LOAD(4),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final ErrorCode[] BY_VALUE = {
+    ERR_MISC,
+    ERR_DATA,
+    ERR_CONF,
+    ERR_AUTH,
+    ERR_LOAD,
+  };
 
   ErrorCode(int value) {
       mValue = value;
@@ -35,20 +45,25 @@ public enum ErrorCode  {
       return mValue;
   }
 
-  static ErrorCode decode(XdrDataInputStream stream) throws IOException {
+  static ErrorCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return ERR_MISC;
-      case 1: return ERR_DATA;
-      case 2: return ERR_CONF;
-      case 3: return ERR_AUTH;
-      case 4: return ERR_LOAD;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, ErrorCode value) throws IOException {
+  static void encode(XdrWriter stream, ErrorCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(ErrorCode value) {
+    return 4;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -14,20 +17,84 @@ import java.io.IOException;
 public class Hash  {
   private byte[] Hash;
   public byte[] getHash() {
-    return this.Hash;
+    return frozen && this.Hash != null ? this.Hash.clone() : this.Hash;
   }
   public void setHash(byte[] value) {
+    checkMutable();
+    this.cachedHashCode = 0;
     this.Hash = value;
   }
-  public static void encode(XdrDataOutputStream stream, Hash  encodedHash) throws IOException {
+  public static void encode(XdrWriter stream, Hash  encodedHash) throws IOException {
   int Hashsize = encodedHash.Hash.length;
-  stream.write(encodedHash.getHash(), 0, Hashsize);
+  stream.write(encodedHash.Hash, 0, Hashsize);
   }
-  public static Hash decode(XdrDataInputStream stream) throws IOException {
+  public static Hash decode(XdrReader stream) throws IOException {
     Hash decodedHash = new Hash();
-  int Hashsize = 32;
-  decodedHash.Hash = new byte[Hashsize];
-  stream.read(decodedHash.Hash, 0, Hashsize);
+  decodedHash.Hash = stream.readFixedOpaque(32);
     return decodedHash;
   }
+  public static Hash decodeInto(XdrReader stream, Hash existing) throws IOException {
+    Hash decodedHash = existing != null && !existing.frozen ? existing : new Hash();
+    decodedHash.cachedHashCode = 0;
+    int Hashsize = 32;
+    if (decodedHash.Hash == null || decodedHash.Hash.length != Hashsize) {
+      decodedHash.Hash = new byte[Hashsize];
+    }
+    stream.readFully(decodedHash.Hash, 0, Hashsize);
+    return decodedHash;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(32);
+  }
+  public static int encodedSize(Hash encodedHash) {
+    int size = 0;
+    size += XdrSize.opaque(encodedHash.Hash.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Hash is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Hash)) {
+      return false;
+    }
+    Hash other = (Hash) object;
+    return Arrays.equals(this.Hash, other.Hash);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.Hash);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -59,7 +61,7 @@ public class Hello  {
   public void setVersionStr(String value) {
     this.versionStr = value;
   }
-  private Integer listeningPort;
+  private int listeningPort;
   public Integer getListeningPort() {
     return this.listeningPort;
   }
@@ -87,7 +89,7 @@ public class Hello  {
   public void setNonce(Uint256 value) {
     this.nonce = value;
   }
-  public static void encode(XdrDataOutputStream stream, Hello encodedHello) throws IOException{
+  public static void encode(XdrWriter stream, Hello encodedHello) throws IOException{
     Uint32.encode(stream, encodedHello.ledgerVersion);
     Uint32.encode(stream, encodedHello.overlayVersion);
     Uint32.encode(stream, encodedHello.overlayMinVersion);
@@ -98,17 +100,95 @@ public class Hello  {
     AuthCert.encode(stream, encodedHello.cert);
     Uint256.encode(stream, encodedHello.nonce);
   }
-  public static Hello decode(XdrDataInputStream stream) throws IOException {
+  public static Hello decode(XdrReader stream) throws IOException {
     Hello decodedHello = new Hello();
     decodedHello.ledgerVersion = Uint32.decode(stream);
     decodedHello.overlayVersion = Uint32.decode(stream);
     decodedHello.overlayMinVersion = Uint32.decode(stream);
     decodedHello.networkID = Hash.decode(stream);
-    decodedHello.versionStr = stream.readString();
+    decodedHello.versionStr = stream.readString(100);
     decodedHello.listeningPort = stream.readInt();
     decodedHello.peerID = NodeID.decode(stream);
     decodedHello.cert = AuthCert.decode(stream);
     decodedHello.nonce = Uint256.decode(stream);
     return decodedHello;
   }
+  public static Hello decodeInto(XdrReader stream, Hello existing) throws IOException {
+    Hello decodedHello = existing != null ? existing : new Hello();
+    decodedHello.ledgerVersion = Uint32.decodeInto(stream, decodedHello.ledgerVersion);
+    decodedHello.overlayVersion = Uint32.decodeInto(stream, decodedHello.overlayVersion);
+    decodedHello.overlayMinVersion = Uint32.decodeInto(stream, decodedHello.overlayMinVersion);
+    decodedHello.networkID = Hash.decodeInto(stream, decodedHello.networkID);
+    decodedHello.versionStr = stream.readString(100);
+    decodedHello.listeningPort = stream.readInt();
+    decodedHello.peerID = NodeID.decodeInto(stream, decodedHello.peerID);
+    decodedHello.cert = AuthCert.decodeInto(stream, decodedHello.cert);
+    decodedHello.nonce = Uint256.decodeInto(stream, decodedHello.nonce);
+    return decodedHello;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Hash.skip(stream);
+    stream.skip(stream.readInt());
+    stream.skip(4);
+    NodeID.skip(stream);
+    AuthCert.skip(stream);
+    Uint256.skip(stream);
+  }
+  public static int encodedSize(Hello encodedHello) {
+    int size = 0;
+    size += Uint32.encodedSize(encodedHello.ledgerVersion);
+    size += Uint32.encodedSize(encodedHello.overlayVersion);
+    size += Uint32.encodedSize(encodedHello.overlayMinVersion);
+    size += Hash.encodedSize(encodedHello.networkID);
+    size += XdrSize.string(encodedHello.versionStr);
+    size += 4;
+    size += NodeID.encodedSize(encodedHello.peerID);
+    size += AuthCert.encodedSize(encodedHello.cert);
+    size += Uint256.encodedSize(encodedHello.nonce);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Hello)) {
+      return false;
+    }
+    Hello other = (Hello) object;
+    return Objects.equals(this.ledgerVersion, other.ledgerVersion)
+        && Objects.equals(this.overlayVersion, other.overlayVersion)
+        && Objects.equals(this.overlayMinVersion, other.overlayMinVersion)
+        && Objects.equals(this.networkID, other.networkID)
+        && Objects.equals(this.versionStr, other.versionStr)
+        && this.listeningPort == other.listeningPort
+        && Objects.equals(this.peerID, other.peerID)
+        && Objects.equals(this.cert, other.cert)
+        && Objects.equals(this.nonce, other.nonce);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.ledgerVersion);
+    result = 31 * result + Objects.hashCode(this.overlayVersion);
+    result = 31 * result + Objects.hashCode(this.overlayMinVersion);
+    result = 31 * result + Objects.hashCode(this.networkID);
+    result = 31 * result + Objects.hashCode(this.versionStr);
+    result = 31 * result + this.listeningPort;
+    result = 31 * result + Objects.hashCode(this.peerID);
+    result = 31 * result + Objects.hashCode(this.cert);
+    result = 31 * result + Objects.hashCode(this.nonce);
+    return result;
+  }
 }
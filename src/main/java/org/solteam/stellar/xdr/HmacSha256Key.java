@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -21,17 +24,67 @@ public class HmacSha256Key  {
     return this.key;
   }
   public void setKey(byte[] value) {
+    this.cachedHashCode = 0;
     this.key = value;
   }
-  public static void encode(XdrDataOutputStream stream, HmacSha256Key encodedHmacSha256Key) throws IOException{
+  public static void encode(XdrWriter stream, HmacSha256Key encodedHmacSha256Key) throws IOException{
     int keysize = encodedHmacSha256Key.key.length;
     stream.write(encodedHmacSha256Key.getKey(), 0, keysize);
   }
-  public static HmacSha256Key decode(XdrDataInputStream stream) throws IOException {
+  public static HmacSha256Key decode(XdrReader stream) throws IOException {
     HmacSha256Key decodedHmacSha256Key = new HmacSha256Key();
+    decodedHmacSha256Key.key = stream.readFixedOpaque(32);
+    return decodedHmacSha256Key;
+  }
+  public static HmacSha256Key decodeInto(XdrReader stream, HmacSha256Key existing) throws IOException {
+    HmacSha256Key decodedHmacSha256Key = existing != null ? existing : new HmacSha256Key();
+    decodedHmacSha256Key.cachedHashCode = 0;
     int keysize = 32;
-    decodedHmacSha256Key.key = new byte[keysize];
-    stream.read(decodedHmacSha256Key.key, 0, keysize);
+    if (decodedHmacSha256Key.key == null || decodedHmacSha256Key.key.length != keysize) {
+      decodedHmacSha256Key.key = new byte[keysize];
+    }
+    stream.readFully(decodedHmacSha256Key.key, 0, keysize);
     return decodedHmacSha256Key;
   }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(32);
+  }
+  public static int encodedSize(HmacSha256Key encodedHmacSha256Key) {
+    int size = 0;
+    size += XdrSize.opaque(encodedHmacSha256Key.key.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof HmacSha256Key)) {
+      return false;
+    }
+    HmacSha256Key other = (HmacSha256Key) object;
+    return Arrays.equals(this.key, other.key);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.key);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
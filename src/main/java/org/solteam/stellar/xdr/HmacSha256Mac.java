@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -21,17 +24,67 @@ public class HmacSha256Mac  {
     return this.mac;
   }
   public void setMac(byte[] value) {
+    this.cachedHashCode = 0;
     this.mac = value;
   }
-  public static void encode(XdrDataOutputStream stream, HmacSha256Mac encodedHmacSha256Mac) throws IOException{
+  public static void encode(XdrWriter stream, HmacSha256Mac encodedHmacSha256Mac) throws IOException{
     int macsize = encodedHmacSha256Mac.mac.length;
     stream.write(encodedHmacSha256Mac.getMac(), 0, macsize);
   }
-  public static HmacSha256Mac decode(XdrDataInputStream stream) throws IOException {
+  public static HmacSha256Mac decode(XdrReader stream) throws IOException {
     HmacSha256Mac decodedHmacSha256Mac = new HmacSha256Mac();
+    decodedHmacSha256Mac.mac = stream.readFixedOpaque(32);
+    return decodedHmacSha256Mac;
+  }
+  public static HmacSha256Mac decodeInto(XdrReader stream, HmacSha256Mac existing) throws IOException {
+    HmacSha256Mac decodedHmacSha256Mac = existing != null ? existing : new HmacSha256Mac();
+    decodedHmacSha256Mac.cachedHashCode = 0;
     int macsize = 32;
-    decodedHmacSha256Mac.mac = new byte[macsize];
-    stream.read(decodedHmacSha256Mac.mac, 0, macsize);
+    if (decodedHmacSha256Mac.mac == null || decodedHmacSha256Mac.mac.length != macsize) {
+      decodedHmacSha256Mac.mac = new byte[macsize];
+    }
+    stream.readFully(decodedHmacSha256Mac.mac, 0, macsize);
     return decodedHmacSha256Mac;
   }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(32);
+  }
+  public static int encodedSize(HmacSha256Mac encodedHmacSha256Mac) {
+    int size = 0;
+    size += XdrSize.opaque(encodedHmacSha256Mac.mac.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof HmacSha256Mac)) {
+      return false;
+    }
+    HmacSha256Mac other = (HmacSha256Mac) object;
+    return Arrays.equals(this.mac, other.mac);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.mac);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
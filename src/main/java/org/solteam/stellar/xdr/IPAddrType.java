@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -20,6 +21,12 @@ public enum IPAddrType  {
   IPv6(1),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final IPAddrType[] BY_VALUE = {
+    IPv4,
+    IPv6,
+  };
 
   IPAddrType(int value) {
       mValue = value;
@@ -29,17 +36,25 @@ public enum IPAddrType  {
       return mValue;
   }
 
-  static IPAddrType decode(XdrDataInputStream stream) throws IOException {
+  static IPAddrType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return IPv4;
-      case 1: return IPv6;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, IPAddrType value) throws IOException {
+  static void encode(XdrWriter stream, IPAddrType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(IPAddrType value) {
+    return 4;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,14 +33,57 @@ public class InflationPayout  {
   public void setAmount(Int64 value) {
     this.amount = value;
   }
-  public static void encode(XdrDataOutputStream stream, InflationPayout encodedInflationPayout) throws IOException{
+  public static void encode(XdrWriter stream, InflationPayout encodedInflationPayout) throws IOException{
     AccountID.encode(stream, encodedInflationPayout.destination);
     Int64.encode(stream, encodedInflationPayout.amount);
   }
-  public static InflationPayout decode(XdrDataInputStream stream) throws IOException {
+  public static InflationPayout decode(XdrReader stream) throws IOException {
     InflationPayout decodedInflationPayout = new InflationPayout();
     decodedInflationPayout.destination = AccountID.decode(stream);
     decodedInflationPayout.amount = Int64.decode(stream);
     return decodedInflationPayout;
   }
+  public static InflationPayout decodeInto(XdrReader stream, InflationPayout existing) throws IOException {
+    InflationPayout decodedInflationPayout = existing != null ? existing : new InflationPayout();
+    decodedInflationPayout.destination = AccountID.decodeInto(stream, decodedInflationPayout.destination);
+    decodedInflationPayout.amount = Int64.decodeInto(stream, decodedInflationPayout.amount);
+    return decodedInflationPayout;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    AccountID.skip(stream);
+    Int64.skip(stream);
+  }
+  public static int encodedSize(InflationPayout encodedInflationPayout) {
+    int size = 0;
+    size += AccountID.encodedSize(encodedInflationPayout.destination);
+    size += Int64.encodedSize(encodedInflationPayout.amount);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof InflationPayout)) {
+      return false;
+    }
+    InflationPayout other = (InflationPayout) object;
+    return Objects.equals(this.destination, other.destination)
+        && Objects.equals(this.amount, other.amount);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.destination);
+    result = 31 * result + Objects.hashCode(this.amount);
+    return result;
+  }
 }
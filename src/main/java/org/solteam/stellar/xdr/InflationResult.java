@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -33,7 +36,7 @@ public class InflationResult  {
   public void setPayouts(InflationPayout[] value) {
     this.payouts = value;
   }
-  public static void encode(XdrDataOutputStream stream, InflationResult encodedInflationResult) throws IOException {
+  public static void encode(XdrWriter stream, InflationResult encodedInflationResult) throws IOException {
   stream.writeInt(encodedInflationResult.getDiscriminant().getValue());
   switch (encodedInflationResult.getDiscriminant()) {
   case INFLATION_SUCCESS:
@@ -47,13 +50,17 @@ public class InflationResult  {
   break;
   }
   }
-  public static InflationResult decode(XdrDataInputStream stream) throws IOException {
+  public static InflationResult decode(XdrReader stream) throws IOException {
   InflationResult decodedInflationResult = new InflationResult();
   InflationResultCode discriminant = InflationResultCode.decode(stream);
   decodedInflationResult.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    throw new IOException("Unknown discriminant of InflationResult");
+  }
   switch (decodedInflationResult.getDiscriminant()) {
   case INFLATION_SUCCESS:
   int payoutssize = stream.readInt();
+  stream.checkArrayLength(payoutssize, Integer.MAX_VALUE);
   decodedInflationResult.payouts = new InflationPayout[payoutssize];
   for (int i = 0; i < payoutssize; i++) {
     decodedInflationResult.payouts[i] = InflationPayout.decode(stream);
@@ -64,4 +71,106 @@ public class InflationResult  {
   }
     return decodedInflationResult;
   }
+  public static InflationResult decodeInto(XdrReader stream, InflationResult existing) throws IOException {
+    InflationResult decodedInflationResult = existing != null ? existing : new InflationResult();
+    InflationResultCode discriminant = InflationResultCode.decode(stream);
+    decodedInflationResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      decodedInflationResult.payouts = null;
+      return decodedInflationResult;
+    }
+    switch (discriminant) {
+      case INFLATION_SUCCESS:
+        int payoutssize = stream.readInt();
+        stream.checkArrayLength(payoutssize, Integer.MAX_VALUE);
+        if (decodedInflationResult.payouts == null) {
+          decodedInflationResult.payouts = new InflationPayout[payoutssize];
+        } else if (decodedInflationResult.payouts.length != payoutssize) {
+          decodedInflationResult.payouts = Arrays.copyOf(decodedInflationResult.payouts, payoutssize);
+        }
+        for (int i = 0; i < payoutssize; i++) {
+          decodedInflationResult.payouts[i] = InflationPayout.decodeInto(stream, decodedInflationResult.payouts[i]);
+        }
+        break;
+      default:
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != InflationResultCode.INFLATION_SUCCESS) {
+      decodedInflationResult.payouts = null;
+    }
+    return decodedInflationResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    InflationResultCode discriminant = InflationResultCode.decode(stream);
+    if (discriminant == null) {
+      return;
+    }
+    switch (discriminant) {
+      case INFLATION_SUCCESS:
+        int payoutssize = stream.readInt();
+        for (int i = 0; i < payoutssize; i++) {
+          InflationPayout.skip(stream);
+        }
+        break;
+      default:
+        break;
+    }
+  }
+  public static int encodedSize(InflationResult encodedInflationResult) {
+    int size = 4;
+    switch (encodedInflationResult.getDiscriminant()) {
+      case INFLATION_SUCCESS:
+        size += 4;
+        for (int i = 0; i < encodedInflationResult.payouts.length; i++) {
+          size += InflationPayout.encodedSize(encodedInflationResult.payouts[i]);
+        }
+        break;
+      default:
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof InflationResult)) {
+      return false;
+    }
+    InflationResult other = (InflationResult) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case INFLATION_SUCCESS:
+        return Arrays.equals(this.payouts, other.payouts);
+      default:
+        return true;
+    }
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case INFLATION_SUCCESS:
+          result = 31 * result + Arrays.hashCode(this.payouts);
+          break;
+      }
+    }
+    return result;
+  }
 }
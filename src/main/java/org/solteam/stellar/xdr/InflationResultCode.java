@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +23,12 @@ public enum InflationResultCode  {
   INFLATION_NOT_TIME(-1),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -1;
+  private static final InflationResultCode[] BY_VALUE = {
+    INFLATION_NOT_TIME,
+    INFLATION_SUCCESS,
+  };
 
   InflationResultCode(int value) {
       mValue = value;
@@ -31,17 +38,25 @@ public enum InflationResultCode  {
       return mValue;
   }
 
-  static InflationResultCode decode(XdrDataInputStream stream) throws IOException {
+  static InflationResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return INFLATION_SUCCESS;
-      case -1: return INFLATION_NOT_TIME;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, InflationResultCode value) throws IOException {
+  static void encode(XdrWriter stream, InflationResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(InflationResultCode value) {
+    return 4;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -12,19 +14,78 @@ import java.io.IOException;
 
 //  ===========================================================================
 public class Int32  {
-  private Integer int32;
+  private int int32;
   public Integer getInt32() {
     return this.int32;
   }
   public void setInt32(Integer value) {
+    checkMutable();
     this.int32 = value;
   }
-  public static void encode(XdrDataOutputStream stream, Int32  encodedInt32) throws IOException {
+  public void setInt32(int value) {
+    checkMutable();
+    this.int32 = value;
+  }
+  public int intValue() {
+    return this.int32;
+  }
+  public static void encode(XdrWriter stream, Int32  encodedInt32) throws IOException {
   stream.writeInt(encodedInt32.int32);
   }
-  public static Int32 decode(XdrDataInputStream stream) throws IOException {
+  public static Int32 decode(XdrReader stream) throws IOException {
     Int32 decodedInt32 = new Int32();
   decodedInt32.int32 = stream.readInt();
     return decodedInt32;
   }
+  public static Int32 decodeInto(XdrReader stream, Int32 existing) throws IOException {
+    Int32 decodedInt32 = existing != null && !existing.frozen ? existing : new Int32();
+    decodedInt32.int32 = stream.readInt();
+    return decodedInt32;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
+  }
+  public static int encodedSize(Int32 encodedInt32) {
+    int size = 0;
+    size += 4;
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Int32 is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Int32)) {
+      return false;
+    }
+    Int32 other = (Int32) object;
+    return this.int32 == other.int32;
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + this.int32;
+    return result;
+  }
 }
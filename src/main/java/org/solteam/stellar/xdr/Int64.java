@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -12,19 +14,78 @@ import java.io.IOException;
 
 //  ===========================================================================
 public class Int64  {
-  private Long int64;
+  private long int64;
   public Long getInt64() {
     return this.int64;
   }
   public void setInt64(Long value) {
+    checkMutable();
     this.int64 = value;
   }
-  public static void encode(XdrDataOutputStream stream, Int64  encodedInt64) throws IOException {
+  public void setInt64(long value) {
+    checkMutable();
+    this.int64 = value;
+  }
+  public long longValue() {
+    return this.int64;
+  }
+  public static void encode(XdrWriter stream, Int64  encodedInt64) throws IOException {
   stream.writeLong(encodedInt64.int64);
   }
-  public static Int64 decode(XdrDataInputStream stream) throws IOException {
+  public static Int64 decode(XdrReader stream) throws IOException {
     Int64 decodedInt64 = new Int64();
   decodedInt64.int64 = stream.readLong();
     return decodedInt64;
   }
+  public static Int64 decodeInto(XdrReader stream, Int64 existing) throws IOException {
+    Int64 decodedInt64 = existing != null && !existing.frozen ? existing : new Int64();
+    decodedInt64.int64 = stream.readLong();
+    return decodedInt64;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(8);
+  }
+  public static int encodedSize(Int64 encodedInt64) {
+    int size = 0;
+    size += 8;
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Int64 is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Int64)) {
+      return false;
+    }
+    Int64 other = (Int64) object;
+    return this.int64 == other.int64;
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Long.hashCode(this.int64);
+    return result;
+  }
 }
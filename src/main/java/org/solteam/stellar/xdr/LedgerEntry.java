@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -58,18 +60,66 @@ public class LedgerEntry  {
   public void setExt(LedgerEntryExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, LedgerEntry encodedLedgerEntry) throws IOException{
+  public static void encode(XdrWriter stream, LedgerEntry encodedLedgerEntry) throws IOException{
     Uint32.encode(stream, encodedLedgerEntry.lastModifiedLedgerSeq);
     LedgerEntryData.encode(stream, encodedLedgerEntry.data);
     LedgerEntryExt.encode(stream, encodedLedgerEntry.ext);
   }
-  public static LedgerEntry decode(XdrDataInputStream stream) throws IOException {
+  public static LedgerEntry decode(XdrReader stream) throws IOException {
     LedgerEntry decodedLedgerEntry = new LedgerEntry();
     decodedLedgerEntry.lastModifiedLedgerSeq = Uint32.decode(stream);
     decodedLedgerEntry.data = LedgerEntryData.decode(stream);
     decodedLedgerEntry.ext = LedgerEntryExt.decode(stream);
     return decodedLedgerEntry;
   }
+  public static LedgerEntry decodeInto(XdrReader stream, LedgerEntry existing) throws IOException {
+    LedgerEntry decodedLedgerEntry = existing != null ? existing : new LedgerEntry();
+    decodedLedgerEntry.lastModifiedLedgerSeq = Uint32.decodeInto(stream, decodedLedgerEntry.lastModifiedLedgerSeq);
+    decodedLedgerEntry.data = LedgerEntryData.decodeInto(stream, decodedLedgerEntry.data);
+    decodedLedgerEntry.ext = LedgerEntryExt.decodeInto(stream, decodedLedgerEntry.ext);
+    return decodedLedgerEntry;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Uint32.skip(stream);
+    LedgerEntryData.skip(stream);
+    LedgerEntryExt.skip(stream);
+  }
+  public static int encodedSize(LedgerEntry encodedLedgerEntry) {
+    int size = 0;
+    size += Uint32.encodedSize(encodedLedgerEntry.lastModifiedLedgerSeq);
+    size += LedgerEntryData.encodedSize(encodedLedgerEntry.data);
+    size += LedgerEntryExt.encodedSize(encodedLedgerEntry.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof LedgerEntry)) {
+      return false;
+    }
+    LedgerEntry other = (LedgerEntry) object;
+    return Objects.equals(this.lastModifiedLedgerSeq, other.lastModifiedLedgerSeq)
+        && Objects.equals(this.data, other.data)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.lastModifiedLedgerSeq);
+    result = 31 * result + Objects.hashCode(this.data);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class LedgerEntryData {
     public LedgerEntryData () {}
@@ -108,7 +158,7 @@ public class LedgerEntry  {
     public void setData(DataEntry value) {
       this.data = value;
     }
-    public static void encode(XdrDataOutputStream stream, LedgerEntryData encodedLedgerEntryData) throws IOException {
+    public static void encode(XdrWriter stream, LedgerEntryData encodedLedgerEntryData) throws IOException {
     stream.writeInt(encodedLedgerEntryData.getDiscriminant().getValue());
     switch (encodedLedgerEntryData.getDiscriminant()) {
     case ACCOUNT:
@@ -125,10 +175,13 @@ public class LedgerEntry  {
     break;
     }
     }
-    public static LedgerEntryData decode(XdrDataInputStream stream) throws IOException {
+    public static LedgerEntryData decode(XdrReader stream) throws IOException {
     LedgerEntryData decodedLedgerEntryData = new LedgerEntryData();
     LedgerEntryType discriminant = LedgerEntryType.decode(stream);
     decodedLedgerEntryData.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of LedgerEntryData");
+    }
     switch (decodedLedgerEntryData.getDiscriminant()) {
     case ACCOUNT:
     decodedLedgerEntryData.account = AccountEntry.decode(stream);
@@ -145,34 +198,210 @@ public class LedgerEntry  {
     }
       return decodedLedgerEntryData;
     }
+    public static LedgerEntryData decodeInto(XdrReader stream, LedgerEntryData existing) throws IOException {
+      LedgerEntryData decodedLedgerEntryData = existing != null ? existing : new LedgerEntryData();
+      LedgerEntryType discriminant = LedgerEntryType.decode(stream);
+      decodedLedgerEntryData.setDiscriminant(discriminant);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of LedgerEntryData");
+      }
+      switch (discriminant) {
+        case ACCOUNT:
+          decodedLedgerEntryData.account = AccountEntry.decodeInto(stream, decodedLedgerEntryData.account);
+          break;
+        case TRUSTLINE:
+          decodedLedgerEntryData.trustLine = TrustLineEntry.decodeInto(stream, decodedLedgerEntryData.trustLine);
+          break;
+        case OFFER:
+          decodedLedgerEntryData.offer = OfferEntry.decodeInto(stream, decodedLedgerEntryData.offer);
+          break;
+        case DATA:
+          decodedLedgerEntryData.data = DataEntry.decodeInto(stream, decodedLedgerEntryData.data);
+          break;
+      }
+      // leave only the selected arm set, as decode does
+      if (discriminant != LedgerEntryType.ACCOUNT) {
+        decodedLedgerEntryData.account = null;
+      }
+      if (discriminant != LedgerEntryType.TRUSTLINE) {
+        decodedLedgerEntryData.trustLine = null;
+      }
+      if (discriminant != LedgerEntryType.OFFER) {
+        decodedLedgerEntryData.offer = null;
+      }
+      if (discriminant != LedgerEntryType.DATA) {
+        decodedLedgerEntryData.data = null;
+      }
+      return decodedLedgerEntryData;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      LedgerEntryType discriminant = LedgerEntryType.decode(stream);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of LedgerEntryData");
+      }
+      switch (discriminant) {
+        case ACCOUNT:
+          AccountEntry.skip(stream);
+          break;
+        case TRUSTLINE:
+          TrustLineEntry.skip(stream);
+          break;
+        case OFFER:
+          OfferEntry.skip(stream);
+          break;
+        case DATA:
+          DataEntry.skip(stream);
+          break;
+      }
+    }
+    public static int encodedSize(LedgerEntryData encodedLedgerEntryData) {
+      int size = 4;
+      switch (encodedLedgerEntryData.getDiscriminant()) {
+        case ACCOUNT:
+          size += AccountEntry.encodedSize(encodedLedgerEntryData.account);
+          break;
+        case TRUSTLINE:
+          size += TrustLineEntry.encodedSize(encodedLedgerEntryData.trustLine);
+          break;
+        case OFFER:
+          size += OfferEntry.encodedSize(encodedLedgerEntryData.offer);
+          break;
+        case DATA:
+          size += DataEntry.encodedSize(encodedLedgerEntryData.data);
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof LedgerEntryData)) {
+        return false;
+      }
+      LedgerEntryData other = (LedgerEntryData) object;
+      if (this.getDiscriminant() != other.getDiscriminant()) {
+        return false;
+      }
+      if (this.getDiscriminant() == null) {
+        return true;
+      }
+      switch (this.getDiscriminant()) {
+        case ACCOUNT:
+          return Objects.equals(this.account, other.account);
+        case TRUSTLINE:
+          return Objects.equals(this.trustLine, other.trustLine);
+        case OFFER:
+          return Objects.equals(this.offer, other.offer);
+        case DATA:
+          return Objects.equals(this.data, other.data);
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+      if (this.getDiscriminant() != null) {
+        switch (this.getDiscriminant()) {
+          case ACCOUNT:
+            result = 31 * result + Objects.hashCode(this.account);
+            break;
+          case TRUSTLINE:
+            result = 31 * result + Objects.hashCode(this.trustLine);
+            break;
+          case OFFER:
+            result = 31 * result + Objects.hashCode(this.offer);
+            break;
+          case DATA:
+            result = 31 * result + Objects.hashCode(this.data);
+            break;
+        }
+      }
+      return result;
+    }
   }
   public static class LedgerEntryExt {
     public LedgerEntryExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, LedgerEntryExt encodedLedgerEntryExt) throws IOException {
-    stream.writeInt(encodedLedgerEntryExt.getDiscriminant().intValue());
-    switch (encodedLedgerEntryExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, LedgerEntryExt encodedLedgerEntryExt) throws IOException {
+    stream.writeInt(encodedLedgerEntryExt.v);
+    switch (encodedLedgerEntryExt.v) {
     case 0:
     break;
     }
     }
-    public static LedgerEntryExt decode(XdrDataInputStream stream) throws IOException {
+    public static LedgerEntryExt decode(XdrReader stream) throws IOException {
     LedgerEntryExt decodedLedgerEntryExt = new LedgerEntryExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedLedgerEntryExt.setDiscriminant(discriminant);
-    switch (decodedLedgerEntryExt.getDiscriminant()) {
+    switch (decodedLedgerEntryExt.v) {
     case 0:
     break;
     }
       return decodedLedgerEntryExt;
     }
+    public static LedgerEntryExt decodeInto(XdrReader stream, LedgerEntryExt existing) throws IOException {
+      LedgerEntryExt decodedLedgerEntryExt = existing != null ? existing : new LedgerEntryExt();
+      int discriminant = stream.readInt();
+      decodedLedgerEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedLedgerEntryExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(LedgerEntryExt encodedLedgerEntryExt) {
+      int size = 4;
+      switch (encodedLedgerEntryExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof LedgerEntryExt)) {
+        return false;
+      }
+      LedgerEntryExt other = (LedgerEntryExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -58,7 +60,7 @@ public class LedgerEntryChange  {
   public void setState(LedgerEntry value) {
     this.state = value;
   }
-  public static void encode(XdrDataOutputStream stream, LedgerEntryChange encodedLedgerEntryChange) throws IOException {
+  public static void encode(XdrWriter stream, LedgerEntryChange encodedLedgerEntryChange) throws IOException {
   stream.writeInt(encodedLedgerEntryChange.getDiscriminant().getValue());
   switch (encodedLedgerEntryChange.getDiscriminant()) {
   case LEDGER_ENTRY_CREATED:
@@ -75,10 +77,13 @@ public class LedgerEntryChange  {
   break;
   }
   }
-  public static LedgerEntryChange decode(XdrDataInputStream stream) throws IOException {
+  public static LedgerEntryChange decode(XdrReader stream) throws IOException {
   LedgerEntryChange decodedLedgerEntryChange = new LedgerEntryChange();
   LedgerEntryChangeType discriminant = LedgerEntryChangeType.decode(stream);
   decodedLedgerEntryChange.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    throw new IOException("Unknown discriminant of LedgerEntryChange");
+  }
   switch (decodedLedgerEntryChange.getDiscriminant()) {
   case LEDGER_ENTRY_CREATED:
   decodedLedgerEntryChange.created = LedgerEntry.decode(stream);
@@ -95,4 +100,134 @@ public class LedgerEntryChange  {
   }
     return decodedLedgerEntryChange;
   }
+  public static LedgerEntryChange decodeInto(XdrReader stream, LedgerEntryChange existing) throws IOException {
+    LedgerEntryChange decodedLedgerEntryChange = existing != null ? existing : new LedgerEntryChange();
+    LedgerEntryChangeType discriminant = LedgerEntryChangeType.decode(stream);
+    decodedLedgerEntryChange.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of LedgerEntryChange");
+    }
+    switch (discriminant) {
+      case LEDGER_ENTRY_CREATED:
+        decodedLedgerEntryChange.created = LedgerEntry.decodeInto(stream, decodedLedgerEntryChange.created);
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        decodedLedgerEntryChange.updated = LedgerEntry.decodeInto(stream, decodedLedgerEntryChange.updated);
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        decodedLedgerEntryChange.removed = LedgerKey.decodeInto(stream, decodedLedgerEntryChange.removed);
+        break;
+      case LEDGER_ENTRY_STATE:
+        decodedLedgerEntryChange.state = LedgerEntry.decodeInto(stream, decodedLedgerEntryChange.state);
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != LedgerEntryChangeType.LEDGER_ENTRY_CREATED) {
+      decodedLedgerEntryChange.created = null;
+    }
+    if (discriminant != LedgerEntryChangeType.LEDGER_ENTRY_UPDATED) {
+      decodedLedgerEntryChange.updated = null;
+    }
+    if (discriminant != LedgerEntryChangeType.LEDGER_ENTRY_REMOVED) {
+      decodedLedgerEntryChange.removed = null;
+    }
+    if (discriminant != LedgerEntryChangeType.LEDGER_ENTRY_STATE) {
+      decodedLedgerEntryChange.state = null;
+    }
+    return decodedLedgerEntryChange;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    LedgerEntryChangeType discriminant = LedgerEntryChangeType.decode(stream);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of LedgerEntryChange");
+    }
+    switch (discriminant) {
+      case LEDGER_ENTRY_CREATED:
+        LedgerEntry.skip(stream);
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        LedgerEntry.skip(stream);
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        LedgerKey.skip(stream);
+        break;
+      case LEDGER_ENTRY_STATE:
+        LedgerEntry.skip(stream);
+        break;
+    }
+  }
+  public static int encodedSize(LedgerEntryChange encodedLedgerEntryChange) {
+    int size = 4;
+    switch (encodedLedgerEntryChange.getDiscriminant()) {
+      case LEDGER_ENTRY_CREATED:
+        size += LedgerEntry.encodedSize(encodedLedgerEntryChange.created);
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        size += LedgerEntry.encodedSize(encodedLedgerEntryChange.updated);
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        size += LedgerKey.encodedSize(encodedLedgerEntryChange.removed);
+        break;
+      case LEDGER_ENTRY_STATE:
+        size += LedgerEntry.encodedSize(encodedLedgerEntryChange.state);
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof LedgerEntryChange)) {
+      return false;
+    }
+    LedgerEntryChange other = (LedgerEntryChange) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case LEDGER_ENTRY_CREATED:
+        return Objects.equals(this.created, other.created);
+      case LEDGER_ENTRY_UPDATED:
+        return Objects.equals(this.updated, other.updated);
+      case LEDGER_ENTRY_REMOVED:
+        return Objects.equals(this.removed, other.removed);
+      case LEDGER_ENTRY_STATE:
+        return Objects.equals(this.state, other.state);
+    }
+    return true;
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case LEDGER_ENTRY_CREATED:
+          result = 31 * result + Objects.hashCode(this.created);
+          break;
+        case LEDGER_ENTRY_UPDATED:
+          result = 31 * result + Objects.hashCode(this.updated);
+          break;
+        case LEDGER_ENTRY_REMOVED:
+          result = 31 * result + Objects.hashCode(this.removed);
+          break;
+        case LEDGER_ENTRY_STATE:
+          result = 31 * result + Objects.hashCode(this.state);
+          break;
+      }
+    }
+    return result;
+  }
 }
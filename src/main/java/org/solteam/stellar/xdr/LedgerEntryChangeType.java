@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -24,6 +25,14 @@ public enum LedgerEntryChangeType  {
   LEDGER_ENTRY_STATE(3),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final LedgerEntryChangeType[] BY_VALUE = {
+    LEDGER_ENTRY_CREATED,
+    LEDGER_ENTRY_UPDATED,
+    LEDGER_ENTRY_REMOVED,
+    LEDGER_ENTRY_STATE,
+  };
 
   LedgerEntryChangeType(int value) {
       mValue = value;
@@ -33,19 +42,25 @@ public enum LedgerEntryChangeType  {
       return mValue;
   }
 
-  static LedgerEntryChangeType decode(XdrDataInputStream stream) throws IOException {
+  static LedgerEntryChangeType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return LEDGER_ENTRY_CREATED;
-      case 1: return LEDGER_ENTRY_UPDATED;
-      case 2: return LEDGER_ENTRY_REMOVED;
-      case 3: return LEDGER_ENTRY_STATE;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, LedgerEntryChangeType value) throws IOException {
+  static void encode(XdrWriter stream, LedgerEntryChangeType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(LedgerEntryChangeType value) {
+    return 4;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -19,20 +22,80 @@ public class LedgerEntryChanges  {
   public void setLedgerEntryChanges(LedgerEntryChange[] value) {
     this.LedgerEntryChanges = value;
   }
-  public static void encode(XdrDataOutputStream stream, LedgerEntryChanges  encodedLedgerEntryChanges) throws IOException {
+  public static void encode(XdrWriter stream, LedgerEntryChanges  encodedLedgerEntryChanges) throws IOException {
   int LedgerEntryChangessize = encodedLedgerEntryChanges.getLedgerEntryChanges().length;
   stream.writeInt(LedgerEntryChangessize);
   for (int i = 0; i < LedgerEntryChangessize; i++) {
     LedgerEntryChange.encode(stream, encodedLedgerEntryChanges.LedgerEntryChanges[i]);
   }
   }
-  public static LedgerEntryChanges decode(XdrDataInputStream stream) throws IOException {
+  public static LedgerEntryChanges decode(XdrReader stream) throws IOException {
     LedgerEntryChanges decodedLedgerEntryChanges = new LedgerEntryChanges();
   int LedgerEntryChangessize = stream.readInt();
+  stream.checkArrayLength(LedgerEntryChangessize, Integer.MAX_VALUE);
   decodedLedgerEntryChanges.LedgerEntryChanges = new LedgerEntryChange[LedgerEntryChangessize];
   for (int i = 0; i < LedgerEntryChangessize; i++) {
     decodedLedgerEntryChanges.LedgerEntryChanges[i] = LedgerEntryChange.decode(stream);
   }
     return decodedLedgerEntryChanges;
   }
+  public static LedgerEntryChanges decodeInto(XdrReader stream, LedgerEntryChanges existing) throws IOException {
+    LedgerEntryChanges decodedLedgerEntryChanges = existing != null ? existing : new LedgerEntryChanges();
+    int LedgerEntryChangessize = stream.readInt();
+    stream.checkArrayLength(LedgerEntryChangessize, Integer.MAX_VALUE);
+    if (decodedLedgerEntryChanges.LedgerEntryChanges == null) {
+      decodedLedgerEntryChanges.LedgerEntryChanges = new LedgerEntryChange[LedgerEntryChangessize];
+    } else if (decodedLedgerEntryChanges.LedgerEntryChanges.length != LedgerEntryChangessize) {
+      decodedLedgerEntryChanges.LedgerEntryChanges = Arrays.copyOf(decodedLedgerEntryChanges.LedgerEntryChanges, LedgerEntryChangessize);
+    }
+    for (int i = 0; i < LedgerEntryChangessize; i++) {
+      decodedLedgerEntryChanges.LedgerEntryChanges[i] = LedgerEntryChange.decodeInto(stream, decodedLedgerEntryChanges.LedgerEntryChanges[i]);
+    }
+    return decodedLedgerEntryChanges;
+  }
+  /**
+   * Returns an iterator that decodes the changes one at a time.
+   */
+  public static XdrArrayIterator<LedgerEntryChange> decodeLedgerEntryChanges(XdrReader stream) throws IOException {
+    return new XdrArrayIterator<>(stream, LedgerEntryChange::decode, Integer.MAX_VALUE);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    int LedgerEntryChangessize = stream.readInt();
+    for (int i = 0; i < LedgerEntryChangessize; i++) {
+      LedgerEntryChange.skip(stream);
+    }
+  }
+  public static int encodedSize(LedgerEntryChanges encodedLedgerEntryChanges) {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < encodedLedgerEntryChanges.LedgerEntryChanges.length; i++) {
+      size += LedgerEntryChange.encodedSize(encodedLedgerEntryChanges.LedgerEntryChanges[i]);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof LedgerEntryChanges)) {
+      return false;
+    }
+    LedgerEntryChanges other = (LedgerEntryChanges) object;
+    return Arrays.equals(this.LedgerEntryChanges, other.LedgerEntryChanges);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Arrays.hashCode(this.LedgerEntryChanges);
+    return result;
+  }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -24,6 +25,14 @@ public enum LedgerEntryType  {
   DATA(3),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final LedgerEntryType[] BY_VALUE = {
+    ACCOUNT,
+    TRUSTLINE,
+    OFFER,
+    DATA,
+  };
 
   LedgerEntryType(int value) {
       mValue = value;
@@ -33,19 +42,25 @@ public enum LedgerEntryType  {
       return mValue;
   }
 
-  static LedgerEntryType decode(XdrDataInputStream stream) throws IOException {
+  static LedgerEntryType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return ACCOUNT;
-      case 1: return TRUSTLINE;
-      case 2: return OFFER;
-      case 3: return DATA;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, LedgerEntryType value) throws IOException {
+  static void encode(XdrWriter stream, LedgerEntryType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(LedgerEntryType value) {
+    return 4;
+  }
 }
@@ -0,0 +1,158 @@
+package org.solteam.stellar.xdr;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only view of an XDR encoded {@link LedgerEntry} that decodes only the fields
+ * that are asked for.
+ * <p>
+ * Every kind of ledger entry starts with the account it belongs to, so the entry type
+ * and the owning account are read at constant offsets. One instance can be reused for
+ * many entries by pointing it at each of them with {@code wrap}:
+ * <pre>
+ * LedgerEntryView view = new LedgerEntryView();
+ * for (...) {
+ *     view.wrap(bytes, offset);
+ *     if (view.getType() == LedgerEntryType.ACCOUNT) {
+ *         long balance = view.getBalance();
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * The bytes are not validated up front; malformed input is reported by the accessor
+ * that reaches it.
+ */
+public class LedgerEntryView {
+
+    private static final int TYPE = 4;
+    private static final int ACCOUNT = 8;
+    // PublicKey: discriminant + 32 byte key
+    private static final int ACCOUNT_KEY = 12;
+    private static final int ACCOUNT_BALANCE = 44;
+
+    private static final int KEY_LENGTH = 32;
+
+    private final XdrByteBufferReader mReader = new XdrByteBufferReader(new byte[0]);
+    private int mOffset;
+
+    /**
+     * Points this view at an entry in an array.
+     *
+     * @param bytes  the array holding the encoded entry
+     * @param offset the index of the first byte of the entry
+     * @return this view
+     */
+    public LedgerEntryView wrap(byte[] bytes, int offset) {
+        return wrap(ByteBuffer.wrap(bytes), offset);
+    }
+
+    /**
+     * Points this view at an entry in a buffer.
+     *
+     * @param buffer the buffer holding the encoded entry between its position and limit
+     * @param offset the absolute index of the first byte of the entry
+     * @return this view
+     */
+    public LedgerEntryView wrap(ByteBuffer buffer, int offset) {
+        mReader.reset(buffer);
+        mReader.setPosition(offset);
+        mOffset = offset;
+        return this;
+    }
+
+    /**
+     * Returns the index of the first byte of the entry.
+     */
+    public int getOffset() {
+        return mOffset;
+    }
+
+    public int getLastModifiedLedgerSeq() throws IOException {
+        seek(0);
+        return mReader.readInt();
+    }
+
+    public LedgerEntryType getType() throws IOException {
+        seek(TYPE);
+        return LedgerEntryType.decode(mReader);
+    }
+
+    /**
+     * Returns the account that owns the entry: the account itself, the trustline holder,
+     * the offer seller or the data entry owner.
+     */
+    public AccountID getAccountID() throws IOException {
+        seek(ACCOUNT);
+        return AccountID.decode(mReader);
+    }
+
+    /**
+     * Copies the 32 byte ed25519 key of the owning account without allocating.
+     *
+     * @param dest       the array to copy to
+     * @param destOffset the index in {@code dest} of the first key byte
+     */
+    public void copyAccountKey(byte[] dest, int destOffset) throws IOException {
+        seek(ACCOUNT_KEY);
+        mReader.readFully(dest, destOffset, KEY_LENGTH);
+    }
+
+    /**
+     * Returns the balance of an account or trustline entry.
+     *
+     * @throws IllegalStateException if the entry is an offer or a data entry
+     */
+    public long getBalance() throws IOException {
+        LedgerEntryType type = getType();
+        switch (type) {
+            case ACCOUNT:
+                seek(ACCOUNT_BALANCE);
+                break;
+            case TRUSTLINE:
+                seek(ACCOUNT_BALANCE);
+                Asset.skip(mReader);
+                break;
+            default:
+                throw new IllegalStateException("no balance in a " + type + " entry");
+        }
+        return mReader.readLong();
+    }
+
+    /**
+     * Decodes the account, trustline, offer or data entry.
+     */
+    public LedgerEntry.LedgerEntryData getData() throws IOException {
+        seek(TYPE);
+        return LedgerEntry.LedgerEntryData.decode(mReader);
+    }
+
+    /**
+     * Decodes the whole entry.
+     */
+    public LedgerEntry getLedgerEntry() throws IOException {
+        seek(0);
+        return LedgerEntry.decode(mReader);
+    }
+
+    /**
+     * Returns the number of bytes taken by the encoded entry.
+     */
+    public int getLength() throws IOException {
+        seek(0);
+        LedgerEntry.skip(mReader);
+        return mReader.getPosition() - mOffset;
+    }
+
+    /**
+     * Moves the reader to a fixed offset from the start of the entry.
+     */
+    private void seek(int offset) throws IOException {
+        mReader.setPosition(mOffset);
+        if (mReader.remaining() < offset) {
+            throw new EOFException();
+        }
+        mReader.setPosition(mOffset + offset);
+    }
+}
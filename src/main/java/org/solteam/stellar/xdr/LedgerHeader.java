@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -154,7 +157,7 @@ public class LedgerHeader  {
   public void setExt(LedgerHeaderExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, LedgerHeader encodedLedgerHeader) throws IOException{
+  public static void encode(XdrWriter stream, LedgerHeader encodedLedgerHeader) throws IOException{
     Uint32.encode(stream, encodedLedgerHeader.ledgerVersion);
     Hash.encode(stream, encodedLedgerHeader.previousLedgerHash);
     StellarValue.encode(stream, encodedLedgerHeader.scpValue);
@@ -174,7 +177,7 @@ public class LedgerHeader  {
     }
     LedgerHeaderExt.encode(stream, encodedLedgerHeader.ext);
   }
-  public static LedgerHeader decode(XdrDataInputStream stream) throws IOException {
+  public static LedgerHeader decode(XdrReader stream) throws IOException {
     LedgerHeader decodedLedgerHeader = new LedgerHeader();
     decodedLedgerHeader.ledgerVersion = Uint32.decode(stream);
     decodedLedgerHeader.previousLedgerHash = Hash.decode(stream);
@@ -197,33 +200,213 @@ public class LedgerHeader  {
     decodedLedgerHeader.ext = LedgerHeaderExt.decode(stream);
     return decodedLedgerHeader;
   }
+  public static LedgerHeader decodeInto(XdrReader stream, LedgerHeader existing) throws IOException {
+    LedgerHeader decodedLedgerHeader = existing != null ? existing : new LedgerHeader();
+    decodedLedgerHeader.ledgerVersion = Uint32.decodeInto(stream, decodedLedgerHeader.ledgerVersion);
+    decodedLedgerHeader.previousLedgerHash = Hash.decodeInto(stream, decodedLedgerHeader.previousLedgerHash);
+    decodedLedgerHeader.scpValue = StellarValue.decodeInto(stream, decodedLedgerHeader.scpValue);
+    decodedLedgerHeader.txSetResultHash = Hash.decodeInto(stream, decodedLedgerHeader.txSetResultHash);
+    decodedLedgerHeader.bucketListHash = Hash.decodeInto(stream, decodedLedgerHeader.bucketListHash);
+    decodedLedgerHeader.ledgerSeq = Uint32.decodeInto(stream, decodedLedgerHeader.ledgerSeq);
+    decodedLedgerHeader.totalCoins = Int64.decodeInto(stream, decodedLedgerHeader.totalCoins);
+    decodedLedgerHeader.feePool = Int64.decodeInto(stream, decodedLedgerHeader.feePool);
+    decodedLedgerHeader.inflationSeq = Uint32.decodeInto(stream, decodedLedgerHeader.inflationSeq);
+    decodedLedgerHeader.idPool = Uint64.decodeInto(stream, decodedLedgerHeader.idPool);
+    decodedLedgerHeader.baseFee = Uint32.decodeInto(stream, decodedLedgerHeader.baseFee);
+    decodedLedgerHeader.baseReserve = Uint32.decodeInto(stream, decodedLedgerHeader.baseReserve);
+    decodedLedgerHeader.maxTxSetSize = Uint32.decodeInto(stream, decodedLedgerHeader.maxTxSetSize);
+    int skipListsize = 4;
+    if (decodedLedgerHeader.skipList == null) {
+      decodedLedgerHeader.skipList = new Hash[skipListsize];
+    } else if (decodedLedgerHeader.skipList.length != skipListsize) {
+      decodedLedgerHeader.skipList = Arrays.copyOf(decodedLedgerHeader.skipList, skipListsize);
+    }
+    for (int i = 0; i < skipListsize; i++) {
+      decodedLedgerHeader.skipList[i] = Hash.decodeInto(stream, decodedLedgerHeader.skipList[i]);
+    }
+    decodedLedgerHeader.ext = LedgerHeaderExt.decodeInto(stream, decodedLedgerHeader.ext);
+    return decodedLedgerHeader;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Uint32.skip(stream);
+    Hash.skip(stream);
+    StellarValue.skip(stream);
+    Hash.skip(stream);
+    Hash.skip(stream);
+    Uint32.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Uint32.skip(stream);
+    Uint64.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+    int skipListsize = 4;
+    for (int i = 0; i < skipListsize; i++) {
+      Hash.skip(stream);
+    }
+    LedgerHeaderExt.skip(stream);
+  }
+  public static int encodedSize(LedgerHeader encodedLedgerHeader) {
+    int size = 0;
+    size += Uint32.encodedSize(encodedLedgerHeader.ledgerVersion);
+    size += Hash.encodedSize(encodedLedgerHeader.previousLedgerHash);
+    size += StellarValue.encodedSize(encodedLedgerHeader.scpValue);
+    size += Hash.encodedSize(encodedLedgerHeader.txSetResultHash);
+    size += Hash.encodedSize(encodedLedgerHeader.bucketListHash);
+    size += Uint32.encodedSize(encodedLedgerHeader.ledgerSeq);
+    size += Int64.encodedSize(encodedLedgerHeader.totalCoins);
+    size += Int64.encodedSize(encodedLedgerHeader.feePool);
+    size += Uint32.encodedSize(encodedLedgerHeader.inflationSeq);
+    size += Uint64.encodedSize(encodedLedgerHeader.idPool);
+    size += Uint32.encodedSize(encodedLedgerHeader.baseFee);
+    size += Uint32.encodedSize(encodedLedgerHeader.baseReserve);
+    size += Uint32.encodedSize(encodedLedgerHeader.maxTxSetSize);
+    for (int i = 0; i < encodedLedgerHeader.skipList.length; i++) {
+      size += Hash.encodedSize(encodedLedgerHeader.skipList[i]);
+    }
+    size += LedgerHeaderExt.encodedSize(encodedLedgerHeader.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  public byte[] sha256() throws IOException {
+    XdrDigestWriter writer = XdrDigestWriter.sha256();
+    encode(writer, this);
+    return writer.digest();
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof LedgerHeader)) {
+      return false;
+    }
+    LedgerHeader other = (LedgerHeader) object;
+    return Objects.equals(this.ledgerVersion, other.ledgerVersion)
+        && Objects.equals(this.previousLedgerHash, other.previousLedgerHash)
+        && Objects.equals(this.scpValue, other.scpValue)
+        && Objects.equals(this.txSetResultHash, other.txSetResultHash)
+        && Objects.equals(this.bucketListHash, other.bucketListHash)
+        && Objects.equals(this.ledgerSeq, other.ledgerSeq)
+        && Objects.equals(this.totalCoins, other.totalCoins)
+        && Objects.equals(this.feePool, other.feePool)
+        && Objects.equals(this.inflationSeq, other.inflationSeq)
+        && Objects.equals(this.idPool, other.idPool)
+        && Objects.equals(this.baseFee, other.baseFee)
+        && Objects.equals(this.baseReserve, other.baseReserve)
+        && Objects.equals(this.maxTxSetSize, other.maxTxSetSize)
+        && Arrays.equals(this.skipList, other.skipList)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.ledgerVersion);
+    result = 31 * result + Objects.hashCode(this.previousLedgerHash);
+    result = 31 * result + Objects.hashCode(this.scpValue);
+    result = 31 * result + Objects.hashCode(this.txSetResultHash);
+    result = 31 * result + Objects.hashCode(this.bucketListHash);
+    result = 31 * result + Objects.hashCode(this.ledgerSeq);
+    result = 31 * result + Objects.hashCode(this.totalCoins);
+    result = 31 * result + Objects.hashCode(this.feePool);
+    result = 31 * result + Objects.hashCode(this.inflationSeq);
+    result = 31 * result + Objects.hashCode(this.idPool);
+    result = 31 * result + Objects.hashCode(this.baseFee);
+    result = 31 * result + Objects.hashCode(this.baseReserve);
+    result = 31 * result + Objects.hashCode(this.maxTxSetSize);
+    result = 31 * result + Arrays.hashCode(this.skipList);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class LedgerHeaderExt {
     public LedgerHeaderExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, LedgerHeaderExt encodedLedgerHeaderExt) throws IOException {
-    stream.writeInt(encodedLedgerHeaderExt.getDiscriminant().intValue());
-    switch (encodedLedgerHeaderExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, LedgerHeaderExt encodedLedgerHeaderExt) throws IOException {
+    stream.writeInt(encodedLedgerHeaderExt.v);
+    switch (encodedLedgerHeaderExt.v) {
     case 0:
     break;
     }
     }
-    public static LedgerHeaderExt decode(XdrDataInputStream stream) throws IOException {
+    public static LedgerHeaderExt decode(XdrReader stream) throws IOException {
     LedgerHeaderExt decodedLedgerHeaderExt = new LedgerHeaderExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedLedgerHeaderExt.setDiscriminant(discriminant);
-    switch (decodedLedgerHeaderExt.getDiscriminant()) {
+    switch (decodedLedgerHeaderExt.v) {
     case 0:
     break;
     }
       return decodedLedgerHeaderExt;
     }
+    public static LedgerHeaderExt decodeInto(XdrReader stream, LedgerHeaderExt existing) throws IOException {
+      LedgerHeaderExt decodedLedgerHeaderExt = existing != null ? existing : new LedgerHeaderExt();
+      int discriminant = stream.readInt();
+      decodedLedgerHeaderExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedLedgerHeaderExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(LedgerHeaderExt encodedLedgerHeaderExt) {
+      int size = 4;
+      switch (encodedLedgerHeaderExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof LedgerHeaderExt)) {
+        return false;
+      }
+      LedgerHeaderExt other = (LedgerHeaderExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
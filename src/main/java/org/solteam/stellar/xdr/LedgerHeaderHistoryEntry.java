@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -46,45 +48,147 @@ public class LedgerHeaderHistoryEntry  {
   public void setExt(LedgerHeaderHistoryEntryExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, LedgerHeaderHistoryEntry encodedLedgerHeaderHistoryEntry) throws IOException{
+  public static void encode(XdrWriter stream, LedgerHeaderHistoryEntry encodedLedgerHeaderHistoryEntry) throws IOException{
     Hash.encode(stream, encodedLedgerHeaderHistoryEntry.hash);
     LedgerHeader.encode(stream, encodedLedgerHeaderHistoryEntry.header);
     LedgerHeaderHistoryEntryExt.encode(stream, encodedLedgerHeaderHistoryEntry.ext);
   }
-  public static LedgerHeaderHistoryEntry decode(XdrDataInputStream stream) throws IOException {
+  public static LedgerHeaderHistoryEntry decode(XdrReader stream) throws IOException {
     LedgerHeaderHistoryEntry decodedLedgerHeaderHistoryEntry = new LedgerHeaderHistoryEntry();
     decodedLedgerHeaderHistoryEntry.hash = Hash.decode(stream);
     decodedLedgerHeaderHistoryEntry.header = LedgerHeader.decode(stream);
     decodedLedgerHeaderHistoryEntry.ext = LedgerHeaderHistoryEntryExt.decode(stream);
     return decodedLedgerHeaderHistoryEntry;
   }
+  public static LedgerHeaderHistoryEntry decodeInto(XdrReader stream, LedgerHeaderHistoryEntry existing) throws IOException {
+    LedgerHeaderHistoryEntry decodedLedgerHeaderHistoryEntry = existing != null ? existing : new LedgerHeaderHistoryEntry();
+    decodedLedgerHeaderHistoryEntry.hash = Hash.decodeInto(stream, decodedLedgerHeaderHistoryEntry.hash);
+    decodedLedgerHeaderHistoryEntry.header = LedgerHeader.decodeInto(stream, decodedLedgerHeaderHistoryEntry.header);
+    decodedLedgerHeaderHistoryEntry.ext = LedgerHeaderHistoryEntryExt.decodeInto(stream, decodedLedgerHeaderHistoryEntry.ext);
+    return decodedLedgerHeaderHistoryEntry;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Hash.skip(stream);
+    LedgerHeader.skip(stream);
+    LedgerHeaderHistoryEntryExt.skip(stream);
+  }
+  public static int encodedSize(LedgerHeaderHistoryEntry encodedLedgerHeaderHistoryEntry) {
+    int size = 0;
+    size += Hash.encodedSize(encodedLedgerHeaderHistoryEntry.hash);
+    size += LedgerHeader.encodedSize(encodedLedgerHeaderHistoryEntry.header);
+    size += LedgerHeaderHistoryEntryExt.encodedSize(encodedLedgerHeaderHistoryEntry.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof LedgerHeaderHistoryEntry)) {
+      return false;
+    }
+    LedgerHeaderHistoryEntry other = (LedgerHeaderHistoryEntry) object;
+    return Objects.equals(this.hash, other.hash)
+        && Objects.equals(this.header, other.header)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.hash);
+    result = 31 * result + Objects.hashCode(this.header);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class LedgerHeaderHistoryEntryExt {
     public LedgerHeaderHistoryEntryExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, LedgerHeaderHistoryEntryExt encodedLedgerHeaderHistoryEntryExt) throws IOException {
-    stream.writeInt(encodedLedgerHeaderHistoryEntryExt.getDiscriminant().intValue());
-    switch (encodedLedgerHeaderHistoryEntryExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, LedgerHeaderHistoryEntryExt encodedLedgerHeaderHistoryEntryExt) throws IOException {
+    stream.writeInt(encodedLedgerHeaderHistoryEntryExt.v);
+    switch (encodedLedgerHeaderHistoryEntryExt.v) {
     case 0:
     break;
     }
     }
-    public static LedgerHeaderHistoryEntryExt decode(XdrDataInputStream stream) throws IOException {
+    public static LedgerHeaderHistoryEntryExt decode(XdrReader stream) throws IOException {
     LedgerHeaderHistoryEntryExt decodedLedgerHeaderHistoryEntryExt = new LedgerHeaderHistoryEntryExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedLedgerHeaderHistoryEntryExt.setDiscriminant(discriminant);
-    switch (decodedLedgerHeaderHistoryEntryExt.getDiscriminant()) {
+    switch (decodedLedgerHeaderHistoryEntryExt.v) {
     case 0:
     break;
     }
       return decodedLedgerHeaderHistoryEntryExt;
     }
+    public static LedgerHeaderHistoryEntryExt decodeInto(XdrReader stream, LedgerHeaderHistoryEntryExt existing) throws IOException {
+      LedgerHeaderHistoryEntryExt decodedLedgerHeaderHistoryEntryExt = existing != null ? existing : new LedgerHeaderHistoryEntryExt();
+      int discriminant = stream.readInt();
+      decodedLedgerHeaderHistoryEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedLedgerHeaderHistoryEntryExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(LedgerHeaderHistoryEntryExt encodedLedgerHeaderHistoryEntryExt) {
+      int size = 4;
+      switch (encodedLedgerHeaderHistoryEntryExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof LedgerHeaderHistoryEntryExt)) {
+        return false;
+      }
+      LedgerHeaderHistoryEntryExt other = (LedgerHeaderHistoryEntryExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
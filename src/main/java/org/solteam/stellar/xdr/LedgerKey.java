@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -39,7 +41,7 @@ import java.io.IOException;
 //  };
 
 //  ===========================================================================
-public class LedgerKey  {
+public class LedgerKey implements Comparable<LedgerKey> {
   public LedgerKey () {}
   LedgerEntryType type;
   public LedgerEntryType getDiscriminant() {
@@ -76,7 +78,7 @@ public class LedgerKey  {
   public void setData(LedgerKeyData value) {
     this.data = value;
   }
-  public static void encode(XdrDataOutputStream stream, LedgerKey encodedLedgerKey) throws IOException {
+  public static void encode(XdrWriter stream, LedgerKey encodedLedgerKey) throws IOException {
   stream.writeInt(encodedLedgerKey.getDiscriminant().getValue());
   switch (encodedLedgerKey.getDiscriminant()) {
   case ACCOUNT:
@@ -93,10 +95,13 @@ public class LedgerKey  {
   break;
   }
   }
-  public static LedgerKey decode(XdrDataInputStream stream) throws IOException {
+  public static LedgerKey decode(XdrReader stream) throws IOException {
   LedgerKey decodedLedgerKey = new LedgerKey();
   LedgerEntryType discriminant = LedgerEntryType.decode(stream);
   decodedLedgerKey.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    throw new IOException("Unknown discriminant of LedgerKey");
+  }
   switch (decodedLedgerKey.getDiscriminant()) {
   case ACCOUNT:
   decodedLedgerKey.account = LedgerKeyAccount.decode(stream);
@@ -113,6 +118,157 @@ public class LedgerKey  {
   }
     return decodedLedgerKey;
   }
+  public static LedgerKey decodeInto(XdrReader stream, LedgerKey existing) throws IOException {
+    LedgerKey decodedLedgerKey = existing != null ? existing : new LedgerKey();
+    LedgerEntryType discriminant = LedgerEntryType.decode(stream);
+    decodedLedgerKey.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of LedgerKey");
+    }
+    switch (discriminant) {
+      case ACCOUNT:
+        decodedLedgerKey.account = LedgerKeyAccount.decodeInto(stream, decodedLedgerKey.account);
+        break;
+      case TRUSTLINE:
+        decodedLedgerKey.trustLine = LedgerKeyTrustLine.decodeInto(stream, decodedLedgerKey.trustLine);
+        break;
+      case OFFER:
+        decodedLedgerKey.offer = LedgerKeyOffer.decodeInto(stream, decodedLedgerKey.offer);
+        break;
+      case DATA:
+        decodedLedgerKey.data = LedgerKeyData.decodeInto(stream, decodedLedgerKey.data);
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != LedgerEntryType.ACCOUNT) {
+      decodedLedgerKey.account = null;
+    }
+    if (discriminant != LedgerEntryType.TRUSTLINE) {
+      decodedLedgerKey.trustLine = null;
+    }
+    if (discriminant != LedgerEntryType.OFFER) {
+      decodedLedgerKey.offer = null;
+    }
+    if (discriminant != LedgerEntryType.DATA) {
+      decodedLedgerKey.data = null;
+    }
+    return decodedLedgerKey;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    LedgerEntryType discriminant = LedgerEntryType.decode(stream);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of LedgerKey");
+    }
+    switch (discriminant) {
+      case ACCOUNT:
+        LedgerKeyAccount.skip(stream);
+        break;
+      case TRUSTLINE:
+        LedgerKeyTrustLine.skip(stream);
+        break;
+      case OFFER:
+        LedgerKeyOffer.skip(stream);
+        break;
+      case DATA:
+        LedgerKeyData.skip(stream);
+        break;
+    }
+  }
+  public static int encodedSize(LedgerKey encodedLedgerKey) {
+    int size = 4;
+    switch (encodedLedgerKey.getDiscriminant()) {
+      case ACCOUNT:
+        size += LedgerKeyAccount.encodedSize(encodedLedgerKey.account);
+        break;
+      case TRUSTLINE:
+        size += LedgerKeyTrustLine.encodedSize(encodedLedgerKey.trustLine);
+        break;
+      case OFFER:
+        size += LedgerKeyOffer.encodedSize(encodedLedgerKey.offer);
+        break;
+      case DATA:
+        size += LedgerKeyData.encodedSize(encodedLedgerKey.data);
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  static int compare(LedgerKey a, LedgerKey b) {
+    int result = Integer.compareUnsigned(a.getDiscriminant().getValue(), b.getDiscriminant().getValue());
+    if (result != 0) {
+      return result;
+    }
+    switch (a.getDiscriminant()) {
+      case ACCOUNT:
+        return LedgerKeyAccount.compare(a.account, b.account);
+      case TRUSTLINE:
+        return LedgerKeyTrustLine.compare(a.trustLine, b.trustLine);
+      case OFFER:
+        return LedgerKeyOffer.compare(a.offer, b.offer);
+      case DATA:
+        return LedgerKeyData.compare(a.data, b.data);
+    }
+    return 0;
+  }
+  @Override
+  public int compareTo(LedgerKey other) {
+    return compare(this, other);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof LedgerKey)) {
+      return false;
+    }
+    LedgerKey other = (LedgerKey) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case ACCOUNT:
+        return Objects.equals(this.account, other.account);
+      case TRUSTLINE:
+        return Objects.equals(this.trustLine, other.trustLine);
+      case OFFER:
+        return Objects.equals(this.offer, other.offer);
+      case DATA:
+        return Objects.equals(this.data, other.data);
+    }
+    return true;
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case ACCOUNT:
+          result = 31 * result + Objects.hashCode(this.account);
+          break;
+        case TRUSTLINE:
+          result = 31 * result + Objects.hashCode(this.trustLine);
+          break;
+        case OFFER:
+          result = 31 * result + Objects.hashCode(this.offer);
+          break;
+        case DATA:
+          result = 31 * result + Objects.hashCode(this.data);
+          break;
+      }
+    }
+    return result;
+  }
 
   public static class LedgerKeyAccount {
     public LedgerKeyAccount () {}
@@ -123,15 +279,48 @@ public class LedgerKey  {
     public void setAccountID(AccountID value) {
       this.accountID = value;
     }
-    public static void encode(XdrDataOutputStream stream, LedgerKeyAccount encodedLedgerKeyAccount) throws IOException{
+    public static void encode(XdrWriter stream, LedgerKeyAccount encodedLedgerKeyAccount) throws IOException{
       AccountID.encode(stream, encodedLedgerKeyAccount.accountID);
     }
-    public static LedgerKeyAccount decode(XdrDataInputStream stream) throws IOException {
+    public static LedgerKeyAccount decode(XdrReader stream) throws IOException {
       LedgerKeyAccount decodedLedgerKeyAccount = new LedgerKeyAccount();
       decodedLedgerKeyAccount.accountID = AccountID.decode(stream);
       return decodedLedgerKeyAccount;
     }
+    public static LedgerKeyAccount decodeInto(XdrReader stream, LedgerKeyAccount existing) throws IOException {
+      LedgerKeyAccount decodedLedgerKeyAccount = existing != null ? existing : new LedgerKeyAccount();
+      decodedLedgerKeyAccount.accountID = AccountID.decodeInto(stream, decodedLedgerKeyAccount.accountID);
+      return decodedLedgerKeyAccount;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      AccountID.skip(stream);
+    }
+    public static int encodedSize(LedgerKeyAccount encodedLedgerKeyAccount) {
+      int size = 0;
+      size += AccountID.encodedSize(encodedLedgerKeyAccount.accountID);
+      return size;
+    }
 
+    static int compare(LedgerKeyAccount a, LedgerKeyAccount b) {
+      return AccountID.compare(a.accountID, b.accountID);
+    }
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof LedgerKeyAccount)) {
+        return false;
+      }
+      LedgerKeyAccount other = (LedgerKeyAccount) object;
+      return Objects.equals(this.accountID, other.accountID);
+    }
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(this.accountID);
+      return result;
+    }
   }
   public static class LedgerKeyTrustLine {
     public LedgerKeyTrustLine () {}
@@ -149,17 +338,59 @@ public class LedgerKey  {
     public void setAsset(Asset value) {
       this.asset = value;
     }
-    public static void encode(XdrDataOutputStream stream, LedgerKeyTrustLine encodedLedgerKeyTrustLine) throws IOException{
+    public static void encode(XdrWriter stream, LedgerKeyTrustLine encodedLedgerKeyTrustLine) throws IOException{
       AccountID.encode(stream, encodedLedgerKeyTrustLine.accountID);
       Asset.encode(stream, encodedLedgerKeyTrustLine.asset);
     }
-    public static LedgerKeyTrustLine decode(XdrDataInputStream stream) throws IOException {
+    public static LedgerKeyTrustLine decode(XdrReader stream) throws IOException {
       LedgerKeyTrustLine decodedLedgerKeyTrustLine = new LedgerKeyTrustLine();
       decodedLedgerKeyTrustLine.accountID = AccountID.decode(stream);
       decodedLedgerKeyTrustLine.asset = Asset.decode(stream);
       return decodedLedgerKeyTrustLine;
     }
+    public static LedgerKeyTrustLine decodeInto(XdrReader stream, LedgerKeyTrustLine existing) throws IOException {
+      LedgerKeyTrustLine decodedLedgerKeyTrustLine = existing != null ? existing : new LedgerKeyTrustLine();
+      decodedLedgerKeyTrustLine.accountID = AccountID.decodeInto(stream, decodedLedgerKeyTrustLine.accountID);
+      decodedLedgerKeyTrustLine.asset = Asset.decodeInto(stream, decodedLedgerKeyTrustLine.asset);
+      return decodedLedgerKeyTrustLine;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      AccountID.skip(stream);
+      Asset.skip(stream);
+    }
+    public static int encodedSize(LedgerKeyTrustLine encodedLedgerKeyTrustLine) {
+      int size = 0;
+      size += AccountID.encodedSize(encodedLedgerKeyTrustLine.accountID);
+      size += Asset.encodedSize(encodedLedgerKeyTrustLine.asset);
+      return size;
+    }
 
+    static int compare(LedgerKeyTrustLine a, LedgerKeyTrustLine b) {
+      int result = AccountID.compare(a.accountID, b.accountID);
+      if (result != 0) {
+        return result;
+      }
+      return Asset.compare(a.asset, b.asset);
+    }
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof LedgerKeyTrustLine)) {
+        return false;
+      }
+      LedgerKeyTrustLine other = (LedgerKeyTrustLine) object;
+      return Objects.equals(this.accountID, other.accountID)
+          && Objects.equals(this.asset, other.asset);
+    }
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(this.accountID);
+      result = 31 * result + Objects.hashCode(this.asset);
+      return result;
+    }
   }
   public static class LedgerKeyOffer {
     public LedgerKeyOffer () {}
@@ -177,17 +408,59 @@ public class LedgerKey  {
     public void setOfferID(Uint64 value) {
       this.offerID = value;
     }
-    public static void encode(XdrDataOutputStream stream, LedgerKeyOffer encodedLedgerKeyOffer) throws IOException{
+    public static void encode(XdrWriter stream, LedgerKeyOffer encodedLedgerKeyOffer) throws IOException{
       AccountID.encode(stream, encodedLedgerKeyOffer.sellerID);
       Uint64.encode(stream, encodedLedgerKeyOffer.offerID);
     }
-    public static LedgerKeyOffer decode(XdrDataInputStream stream) throws IOException {
+    public static LedgerKeyOffer decode(XdrReader stream) throws IOException {
       LedgerKeyOffer decodedLedgerKeyOffer = new LedgerKeyOffer();
       decodedLedgerKeyOffer.sellerID = AccountID.decode(stream);
       decodedLedgerKeyOffer.offerID = Uint64.decode(stream);
       return decodedLedgerKeyOffer;
     }
+    public static LedgerKeyOffer decodeInto(XdrReader stream, LedgerKeyOffer existing) throws IOException {
+      LedgerKeyOffer decodedLedgerKeyOffer = existing != null ? existing : new LedgerKeyOffer();
+      decodedLedgerKeyOffer.sellerID = AccountID.decodeInto(stream, decodedLedgerKeyOffer.sellerID);
+      decodedLedgerKeyOffer.offerID = Uint64.decodeInto(stream, decodedLedgerKeyOffer.offerID);
+      return decodedLedgerKeyOffer;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      AccountID.skip(stream);
+      Uint64.skip(stream);
+    }
+    public static int encodedSize(LedgerKeyOffer encodedLedgerKeyOffer) {
+      int size = 0;
+      size += AccountID.encodedSize(encodedLedgerKeyOffer.sellerID);
+      size += Uint64.encodedSize(encodedLedgerKeyOffer.offerID);
+      return size;
+    }
 
+    static int compare(LedgerKeyOffer a, LedgerKeyOffer b) {
+      int result = AccountID.compare(a.sellerID, b.sellerID);
+      if (result != 0) {
+        return result;
+      }
+      return Uint64.compare(a.offerID, b.offerID);
+    }
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof LedgerKeyOffer)) {
+        return false;
+      }
+      LedgerKeyOffer other = (LedgerKeyOffer) object;
+      return Objects.equals(this.sellerID, other.sellerID)
+          && Objects.equals(this.offerID, other.offerID);
+    }
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(this.sellerID);
+      result = 31 * result + Objects.hashCode(this.offerID);
+      return result;
+    }
   }
   public static class LedgerKeyData {
     public LedgerKeyData () {}
@@ -205,16 +478,58 @@ public class LedgerKey  {
     public void setDataName(String64 value) {
       this.dataName = value;
     }
-    public static void encode(XdrDataOutputStream stream, LedgerKeyData encodedLedgerKeyData) throws IOException{
+    public static void encode(XdrWriter stream, LedgerKeyData encodedLedgerKeyData) throws IOException{
       AccountID.encode(stream, encodedLedgerKeyData.accountID);
       String64.encode(stream, encodedLedgerKeyData.dataName);
     }
-    public static LedgerKeyData decode(XdrDataInputStream stream) throws IOException {
+    public static LedgerKeyData decode(XdrReader stream) throws IOException {
       LedgerKeyData decodedLedgerKeyData = new LedgerKeyData();
       decodedLedgerKeyData.accountID = AccountID.decode(stream);
       decodedLedgerKeyData.dataName = String64.decode(stream);
       return decodedLedgerKeyData;
     }
+    public static LedgerKeyData decodeInto(XdrReader stream, LedgerKeyData existing) throws IOException {
+      LedgerKeyData decodedLedgerKeyData = existing != null ? existing : new LedgerKeyData();
+      decodedLedgerKeyData.accountID = AccountID.decodeInto(stream, decodedLedgerKeyData.accountID);
+      decodedLedgerKeyData.dataName = String64.decodeInto(stream, decodedLedgerKeyData.dataName);
+      return decodedLedgerKeyData;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      AccountID.skip(stream);
+      String64.skip(stream);
+    }
+    public static int encodedSize(LedgerKeyData encodedLedgerKeyData) {
+      int size = 0;
+      size += AccountID.encodedSize(encodedLedgerKeyData.accountID);
+      size += String64.encodedSize(encodedLedgerKeyData.dataName);
+      return size;
+    }
 
+    static int compare(LedgerKeyData a, LedgerKeyData b) {
+      int result = AccountID.compare(a.accountID, b.accountID);
+      if (result != 0) {
+        return result;
+      }
+      return String64.compare(a.dataName, b.dataName);
+    }
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof LedgerKeyData)) {
+        return false;
+      }
+      LedgerKeyData other = (LedgerKeyData) object;
+      return Objects.equals(this.accountID, other.accountID)
+          && Objects.equals(this.dataName, other.dataName);
+    }
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(this.accountID);
+      result = 31 * result + Objects.hashCode(this.dataName);
+      return result;
+    }
   }
 }
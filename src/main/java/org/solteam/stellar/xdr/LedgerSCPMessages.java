@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,7 +34,7 @@ public class LedgerSCPMessages  {
   public void setMessages(SCPEnvelope[] value) {
     this.messages = value;
   }
-  public static void encode(XdrDataOutputStream stream, LedgerSCPMessages encodedLedgerSCPMessages) throws IOException{
+  public static void encode(XdrWriter stream, LedgerSCPMessages encodedLedgerSCPMessages) throws IOException{
     Uint32.encode(stream, encodedLedgerSCPMessages.ledgerSeq);
     int messagessize = encodedLedgerSCPMessages.getMessages().length;
     stream.writeInt(messagessize);
@@ -39,14 +42,85 @@ public class LedgerSCPMessages  {
       SCPEnvelope.encode(stream, encodedLedgerSCPMessages.messages[i]);
     }
   }
-  public static LedgerSCPMessages decode(XdrDataInputStream stream) throws IOException {
+  public static LedgerSCPMessages decode(XdrReader stream) throws IOException {
     LedgerSCPMessages decodedLedgerSCPMessages = new LedgerSCPMessages();
     decodedLedgerSCPMessages.ledgerSeq = Uint32.decode(stream);
     int messagessize = stream.readInt();
+    stream.checkArrayLength(messagessize, Integer.MAX_VALUE);
     decodedLedgerSCPMessages.messages = new SCPEnvelope[messagessize];
     for (int i = 0; i < messagessize; i++) {
       decodedLedgerSCPMessages.messages[i] = SCPEnvelope.decode(stream);
     }
     return decodedLedgerSCPMessages;
   }
+  public static LedgerSCPMessages decodeInto(XdrReader stream, LedgerSCPMessages existing) throws IOException {
+    LedgerSCPMessages decodedLedgerSCPMessages = existing != null ? existing : new LedgerSCPMessages();
+    decodedLedgerSCPMessages.ledgerSeq = Uint32.decodeInto(stream, decodedLedgerSCPMessages.ledgerSeq);
+    int messagessize = stream.readInt();
+    stream.checkArrayLength(messagessize, Integer.MAX_VALUE);
+    if (decodedLedgerSCPMessages.messages == null) {
+      decodedLedgerSCPMessages.messages = new SCPEnvelope[messagessize];
+    } else if (decodedLedgerSCPMessages.messages.length != messagessize) {
+      decodedLedgerSCPMessages.messages = Arrays.copyOf(decodedLedgerSCPMessages.messages, messagessize);
+    }
+    for (int i = 0; i < messagessize; i++) {
+      decodedLedgerSCPMessages.messages[i] = SCPEnvelope.decodeInto(stream, decodedLedgerSCPMessages.messages[i]);
+    }
+    return decodedLedgerSCPMessages;
+  }
+  /**
+   * Decodes ledgerSeq into {@code head}, or skips it if {@code head} is null,
+   * and returns an iterator that decodes messages one envelope at a time.
+   */
+  public static XdrArrayIterator<SCPEnvelope> decodeMessages(XdrReader stream, LedgerSCPMessages head) throws IOException {
+    if (head != null) {
+      head.ledgerSeq = Uint32.decode(stream);
+    } else {
+      Uint32.skip(stream);
+    }
+    return new XdrArrayIterator<>(stream, SCPEnvelope::decode, Integer.MAX_VALUE);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Uint32.skip(stream);
+    int messagessize = stream.readInt();
+    for (int i = 0; i < messagessize; i++) {
+      SCPEnvelope.skip(stream);
+    }
+  }
+  public static int encodedSize(LedgerSCPMessages encodedLedgerSCPMessages) {
+    int size = 0;
+    size += Uint32.encodedSize(encodedLedgerSCPMessages.ledgerSeq);
+    size += 4;
+    for (int i = 0; i < encodedLedgerSCPMessages.messages.length; i++) {
+      size += SCPEnvelope.encodedSize(encodedLedgerSCPMessages.messages[i]);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof LedgerSCPMessages)) {
+      return false;
+    }
+    LedgerSCPMessages other = (LedgerSCPMessages) object;
+    return Objects.equals(this.ledgerSeq, other.ledgerSeq)
+        && Arrays.equals(this.messages, other.messages);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.ledgerSeq);
+    result = 31 * result + Arrays.hashCode(this.messages);
+    return result;
+  }
 }
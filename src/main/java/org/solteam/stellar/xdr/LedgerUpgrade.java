@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -49,7 +51,7 @@ public class LedgerUpgrade  {
   public void setNewMaxTxSetSize(Uint32 value) {
     this.newMaxTxSetSize = value;
   }
-  public static void encode(XdrDataOutputStream stream, LedgerUpgrade encodedLedgerUpgrade) throws IOException {
+  public static void encode(XdrWriter stream, LedgerUpgrade encodedLedgerUpgrade) throws IOException {
   stream.writeInt(encodedLedgerUpgrade.getDiscriminant().getValue());
   switch (encodedLedgerUpgrade.getDiscriminant()) {
   case LEDGER_UPGRADE_VERSION:
@@ -63,10 +65,13 @@ public class LedgerUpgrade  {
   break;
   }
   }
-  public static LedgerUpgrade decode(XdrDataInputStream stream) throws IOException {
+  public static LedgerUpgrade decode(XdrReader stream) throws IOException {
   LedgerUpgrade decodedLedgerUpgrade = new LedgerUpgrade();
   LedgerUpgradeType discriminant = LedgerUpgradeType.decode(stream);
   decodedLedgerUpgrade.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    throw new IOException("Unknown discriminant of LedgerUpgrade");
+  }
   switch (decodedLedgerUpgrade.getDiscriminant()) {
   case LEDGER_UPGRADE_VERSION:
   decodedLedgerUpgrade.newLedgerVersion = Uint32.decode(stream);
@@ -80,4 +85,117 @@ public class LedgerUpgrade  {
   }
     return decodedLedgerUpgrade;
   }
+  public static LedgerUpgrade decodeInto(XdrReader stream, LedgerUpgrade existing) throws IOException {
+    LedgerUpgrade decodedLedgerUpgrade = existing != null ? existing : new LedgerUpgrade();
+    LedgerUpgradeType discriminant = LedgerUpgradeType.decode(stream);
+    decodedLedgerUpgrade.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of LedgerUpgrade");
+    }
+    switch (discriminant) {
+      case LEDGER_UPGRADE_VERSION:
+        decodedLedgerUpgrade.newLedgerVersion = Uint32.decodeInto(stream, decodedLedgerUpgrade.newLedgerVersion);
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        decodedLedgerUpgrade.newBaseFee = Uint32.decodeInto(stream, decodedLedgerUpgrade.newBaseFee);
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        decodedLedgerUpgrade.newMaxTxSetSize = Uint32.decodeInto(stream, decodedLedgerUpgrade.newMaxTxSetSize);
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != LedgerUpgradeType.LEDGER_UPGRADE_VERSION) {
+      decodedLedgerUpgrade.newLedgerVersion = null;
+    }
+    if (discriminant != LedgerUpgradeType.LEDGER_UPGRADE_BASE_FEE) {
+      decodedLedgerUpgrade.newBaseFee = null;
+    }
+    if (discriminant != LedgerUpgradeType.LEDGER_UPGRADE_MAX_TX_SET_SIZE) {
+      decodedLedgerUpgrade.newMaxTxSetSize = null;
+    }
+    return decodedLedgerUpgrade;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    LedgerUpgradeType discriminant = LedgerUpgradeType.decode(stream);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of LedgerUpgrade");
+    }
+    switch (discriminant) {
+      case LEDGER_UPGRADE_VERSION:
+        Uint32.skip(stream);
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        Uint32.skip(stream);
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        Uint32.skip(stream);
+        break;
+    }
+  }
+  public static int encodedSize(LedgerUpgrade encodedLedgerUpgrade) {
+    int size = 4;
+    switch (encodedLedgerUpgrade.getDiscriminant()) {
+      case LEDGER_UPGRADE_VERSION:
+        size += Uint32.encodedSize(encodedLedgerUpgrade.newLedgerVersion);
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        size += Uint32.encodedSize(encodedLedgerUpgrade.newBaseFee);
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        size += Uint32.encodedSize(encodedLedgerUpgrade.newMaxTxSetSize);
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof LedgerUpgrade)) {
+      return false;
+    }
+    LedgerUpgrade other = (LedgerUpgrade) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case LEDGER_UPGRADE_VERSION:
+        return Objects.equals(this.newLedgerVersion, other.newLedgerVersion);
+      case LEDGER_UPGRADE_BASE_FEE:
+        return Objects.equals(this.newBaseFee, other.newBaseFee);
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        return Objects.equals(this.newMaxTxSetSize, other.newMaxTxSetSize);
+    }
+    return true;
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case LEDGER_UPGRADE_VERSION:
+          result = 31 * result + Objects.hashCode(this.newLedgerVersion);
+          break;
+        case LEDGER_UPGRADE_BASE_FEE:
+          result = 31 * result + Objects.hashCode(this.newBaseFee);
+          break;
+        case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+          result = 31 * result + Objects.hashCode(this.newMaxTxSetSize);
+          break;
+      }
+    }
+    return result;
+  }
 }
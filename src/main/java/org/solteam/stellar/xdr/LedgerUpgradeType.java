@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +23,13 @@ public enum LedgerUpgradeType  {
   LEDGER_UPGRADE_MAX_TX_SET_SIZE(3),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 1;
+  private static final LedgerUpgradeType[] BY_VALUE = {
+    LEDGER_UPGRADE_VERSION,
+    LEDGER_UPGRADE_BASE_FEE,
+    LEDGER_UPGRADE_MAX_TX_SET_SIZE,
+  };
 
   LedgerUpgradeType(int value) {
       mValue = value;
@@ -31,18 +39,25 @@ public enum LedgerUpgradeType  {
       return mValue;
   }
 
-  static LedgerUpgradeType decode(XdrDataInputStream stream) throws IOException {
+  static LedgerUpgradeType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 1: return LEDGER_UPGRADE_VERSION;
-      case 2: return LEDGER_UPGRADE_BASE_FEE;
-      case 3: return LEDGER_UPGRADE_MAX_TX_SET_SIZE;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, LedgerUpgradeType value) throws IOException {
+  static void encode(XdrWriter stream, LedgerUpgradeType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(LedgerUpgradeType value) {
+    return 4;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +24,7 @@ public class ManageDataOp  {
     return this.dataName;
   }
   public void setDataName(String64 value) {
+    checkMutable();
     this.dataName = value;
   }
   private DataValue dataValue;
@@ -29,9 +32,10 @@ public class ManageDataOp  {
     return this.dataValue;
   }
   public void setDataValue(DataValue value) {
+    checkMutable();
     this.dataValue = value;
   }
-  public static void encode(XdrDataOutputStream stream, ManageDataOp encodedManageDataOp) throws IOException{
+  public static void encode(XdrWriter stream, ManageDataOp encodedManageDataOp) throws IOException{
     String64.encode(stream, encodedManageDataOp.dataName);
     if (encodedManageDataOp.dataValue != null) {
     stream.writeInt(1);
@@ -40,7 +44,7 @@ public class ManageDataOp  {
     stream.writeInt(0);
     }
   }
-  public static ManageDataOp decode(XdrDataInputStream stream) throws IOException {
+  public static ManageDataOp decode(XdrReader stream) throws IOException {
     ManageDataOp decodedManageDataOp = new ManageDataOp();
     decodedManageDataOp.dataName = String64.decode(stream);
     int dataValuePresent = stream.readInt();
@@ -49,4 +53,77 @@ public class ManageDataOp  {
     }
     return decodedManageDataOp;
   }
+  public static ManageDataOp decodeInto(XdrReader stream, ManageDataOp existing) throws IOException {
+    ManageDataOp decodedManageDataOp = existing != null && !existing.frozen ? existing : new ManageDataOp();
+    decodedManageDataOp.dataName = String64.decodeInto(stream, decodedManageDataOp.dataName);
+    int dataValuePresent = stream.readInt();
+    if (dataValuePresent != 0) {
+      decodedManageDataOp.dataValue = DataValue.decodeInto(stream, decodedManageDataOp.dataValue);
+    } else {
+      decodedManageDataOp.dataValue = null;
+    }
+    return decodedManageDataOp;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    String64.skip(stream);
+    int dataValuePresent = stream.readInt();
+    if (dataValuePresent != 0) {
+      DataValue.skip(stream);
+    }
+  }
+  public static int encodedSize(ManageDataOp encodedManageDataOp) {
+    int size = 0;
+    size += String64.encodedSize(encodedManageDataOp.dataName);
+    size += 4;
+    if (encodedManageDataOp.dataValue != null) {
+      size += DataValue.encodedSize(encodedManageDataOp.dataValue);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.dataName != null) {
+      this.dataName.freeze();
+    }
+    if (this.dataValue != null) {
+      this.dataValue.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("ManageDataOp is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ManageDataOp)) {
+      return false;
+    }
+    ManageDataOp other = (ManageDataOp) object;
+    return Objects.equals(this.dataName, other.dataName)
+        && Objects.equals(this.dataValue, other.dataValue);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.dataName);
+    result = 31 * result + Objects.hashCode(this.dataValue);
+    return result;
+  }
 }
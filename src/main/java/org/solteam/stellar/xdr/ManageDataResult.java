@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -26,7 +28,7 @@ public class ManageDataResult  {
   public void setDiscriminant(ManageDataResultCode value) {
     this.code = value;
   }
-  public static void encode(XdrDataOutputStream stream, ManageDataResult encodedManageDataResult) throws IOException {
+  public static void encode(XdrWriter stream, ManageDataResult encodedManageDataResult) throws IOException {
   stream.writeInt(encodedManageDataResult.getDiscriminant().getValue());
   switch (encodedManageDataResult.getDiscriminant()) {
   case MANAGE_DATA_SUCCESS:
@@ -35,10 +37,13 @@ public class ManageDataResult  {
   break;
   }
   }
-  public static ManageDataResult decode(XdrDataInputStream stream) throws IOException {
+  public static ManageDataResult decode(XdrReader stream) throws IOException {
   ManageDataResult decodedManageDataResult = new ManageDataResult();
   ManageDataResultCode discriminant = ManageDataResultCode.decode(stream);
   decodedManageDataResult.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    return decodedManageDataResult;
+  }
   switch (decodedManageDataResult.getDiscriminant()) {
   case MANAGE_DATA_SUCCESS:
   break;
@@ -47,4 +52,76 @@ public class ManageDataResult  {
   }
     return decodedManageDataResult;
   }
+  public static ManageDataResult decodeInto(XdrReader stream, ManageDataResult existing) throws IOException {
+    ManageDataResult decodedManageDataResult = existing != null ? existing : new ManageDataResult();
+    ManageDataResultCode discriminant = ManageDataResultCode.decode(stream);
+    decodedManageDataResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      return decodedManageDataResult;
+    }
+    switch (discriminant) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return decodedManageDataResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    ManageDataResultCode discriminant = ManageDataResultCode.decode(stream);
+    if (discriminant == null) {
+      return;
+    }
+    switch (discriminant) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      default:
+        break;
+    }
+  }
+  public static int encodedSize(ManageDataResult encodedManageDataResult) {
+    int size = 4;
+    switch (encodedManageDataResult.getDiscriminant()) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ManageDataResult)) {
+      return false;
+    }
+    ManageDataResult other = (ManageDataResult) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case MANAGE_DATA_SUCCESS:
+        return true;
+      default:
+        return true;
+    }
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    return result;
+  }
 }
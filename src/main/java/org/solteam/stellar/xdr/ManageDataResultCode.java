@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -28,6 +29,15 @@ public enum ManageDataResultCode  {
   MANAGE_DATA_INVALID_NAME(-4),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -4;
+  private static final ManageDataResultCode[] BY_VALUE = {
+    MANAGE_DATA_INVALID_NAME,
+    MANAGE_DATA_LOW_RESERVE,
+    MANAGE_DATA_NAME_NOT_FOUND,
+    MANAGE_DATA_NOT_SUPPORTED_YET,
+    MANAGE_DATA_SUCCESS,
+  };
 
   ManageDataResultCode(int value) {
       mValue = value;
@@ -37,20 +47,25 @@ public enum ManageDataResultCode  {
       return mValue;
   }
 
-  static ManageDataResultCode decode(XdrDataInputStream stream) throws IOException {
+  static ManageDataResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return MANAGE_DATA_SUCCESS;
-      case -1: return MANAGE_DATA_NOT_SUPPORTED_YET;
-      case -2: return MANAGE_DATA_NAME_NOT_FOUND;
-      case -3: return MANAGE_DATA_LOW_RESERVE;
-      case -4: return MANAGE_DATA_INVALID_NAME;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, ManageDataResultCode value) throws IOException {
+  static void encode(XdrWriter stream, ManageDataResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(ManageDataResultCode value) {
+    return 4;
+  }
 }
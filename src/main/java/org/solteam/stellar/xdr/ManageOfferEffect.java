@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +23,13 @@ public enum ManageOfferEffect  {
   MANAGE_OFFER_DELETED(2),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final ManageOfferEffect[] BY_VALUE = {
+    MANAGE_OFFER_CREATED,
+    MANAGE_OFFER_UPDATED,
+    MANAGE_OFFER_DELETED,
+  };
 
   ManageOfferEffect(int value) {
       mValue = value;
@@ -31,18 +39,25 @@ public enum ManageOfferEffect  {
       return mValue;
   }
 
-  static ManageOfferEffect decode(XdrDataInputStream stream) throws IOException {
+  static ManageOfferEffect decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return MANAGE_OFFER_CREATED;
-      case 1: return MANAGE_OFFER_UPDATED;
-      case 2: return MANAGE_OFFER_DELETED;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, ManageOfferEffect value) throws IOException {
+  static void encode(XdrWriter stream, ManageOfferEffect value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(ManageOfferEffect value) {
+    return 4;
+  }
 }
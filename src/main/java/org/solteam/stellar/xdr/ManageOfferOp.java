@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -27,6 +29,7 @@ public class ManageOfferOp  {
     return this.selling;
   }
   public void setSelling(Asset value) {
+    checkMutable();
     this.selling = value;
   }
   private Asset buying;
@@ -34,6 +37,7 @@ public class ManageOfferOp  {
     return this.buying;
   }
   public void setBuying(Asset value) {
+    checkMutable();
     this.buying = value;
   }
   private Int64 amount;
@@ -41,6 +45,7 @@ public class ManageOfferOp  {
     return this.amount;
   }
   public void setAmount(Int64 value) {
+    checkMutable();
     this.amount = value;
   }
   private Price price;
@@ -48,6 +53,7 @@ public class ManageOfferOp  {
     return this.price;
   }
   public void setPrice(Price value) {
+    checkMutable();
     this.price = value;
   }
   private Uint64 offerID;
@@ -55,16 +61,17 @@ public class ManageOfferOp  {
     return this.offerID;
   }
   public void setOfferID(Uint64 value) {
+    checkMutable();
     this.offerID = value;
   }
-  public static void encode(XdrDataOutputStream stream, ManageOfferOp encodedManageOfferOp) throws IOException{
+  public static void encode(XdrWriter stream, ManageOfferOp encodedManageOfferOp) throws IOException{
     Asset.encode(stream, encodedManageOfferOp.selling);
     Asset.encode(stream, encodedManageOfferOp.buying);
     Int64.encode(stream, encodedManageOfferOp.amount);
     Price.encode(stream, encodedManageOfferOp.price);
     Uint64.encode(stream, encodedManageOfferOp.offerID);
   }
-  public static ManageOfferOp decode(XdrDataInputStream stream) throws IOException {
+  public static ManageOfferOp decode(XdrReader stream) throws IOException {
     ManageOfferOp decodedManageOfferOp = new ManageOfferOp();
     decodedManageOfferOp.selling = Asset.decode(stream);
     decodedManageOfferOp.buying = Asset.decode(stream);
@@ -73,4 +80,90 @@ public class ManageOfferOp  {
     decodedManageOfferOp.offerID = Uint64.decode(stream);
     return decodedManageOfferOp;
   }
+  public static ManageOfferOp decodeInto(XdrReader stream, ManageOfferOp existing) throws IOException {
+    ManageOfferOp decodedManageOfferOp = existing != null && !existing.frozen ? existing : new ManageOfferOp();
+    decodedManageOfferOp.selling = Asset.decodeInto(stream, decodedManageOfferOp.selling);
+    decodedManageOfferOp.buying = Asset.decodeInto(stream, decodedManageOfferOp.buying);
+    decodedManageOfferOp.amount = Int64.decodeInto(stream, decodedManageOfferOp.amount);
+    decodedManageOfferOp.price = Price.decodeInto(stream, decodedManageOfferOp.price);
+    decodedManageOfferOp.offerID = Uint64.decodeInto(stream, decodedManageOfferOp.offerID);
+    return decodedManageOfferOp;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Asset.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Price.skip(stream);
+    Uint64.skip(stream);
+  }
+  public static int encodedSize(ManageOfferOp encodedManageOfferOp) {
+    int size = 0;
+    size += Asset.encodedSize(encodedManageOfferOp.selling);
+    size += Asset.encodedSize(encodedManageOfferOp.buying);
+    size += Int64.encodedSize(encodedManageOfferOp.amount);
+    size += Price.encodedSize(encodedManageOfferOp.price);
+    size += Uint64.encodedSize(encodedManageOfferOp.offerID);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.selling != null) {
+      this.selling.freeze();
+    }
+    if (this.buying != null) {
+      this.buying.freeze();
+    }
+    if (this.amount != null) {
+      this.amount.freeze();
+    }
+    if (this.price != null) {
+      this.price.freeze();
+    }
+    if (this.offerID != null) {
+      this.offerID.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("ManageOfferOp is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ManageOfferOp)) {
+      return false;
+    }
+    ManageOfferOp other = (ManageOfferOp) object;
+    return Objects.equals(this.selling, other.selling)
+        && Objects.equals(this.buying, other.buying)
+        && Objects.equals(this.amount, other.amount)
+        && Objects.equals(this.price, other.price)
+        && Objects.equals(this.offerID, other.offerID);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.selling);
+    result = 31 * result + Objects.hashCode(this.buying);
+    result = 31 * result + Objects.hashCode(this.amount);
+    result = 31 * result + Objects.hashCode(this.price);
+    result = 31 * result + Objects.hashCode(this.offerID);
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -33,7 +35,7 @@ public class ManageOfferResult  {
   public void setSuccess(ManageOfferSuccessResult value) {
     this.success = value;
   }
-  public static void encode(XdrDataOutputStream stream, ManageOfferResult encodedManageOfferResult) throws IOException {
+  public static void encode(XdrWriter stream, ManageOfferResult encodedManageOfferResult) throws IOException {
   stream.writeInt(encodedManageOfferResult.getDiscriminant().getValue());
   switch (encodedManageOfferResult.getDiscriminant()) {
   case MANAGE_OFFER_SUCCESS:
@@ -43,10 +45,13 @@ public class ManageOfferResult  {
   break;
   }
   }
-  public static ManageOfferResult decode(XdrDataInputStream stream) throws IOException {
+  public static ManageOfferResult decode(XdrReader stream) throws IOException {
   ManageOfferResult decodedManageOfferResult = new ManageOfferResult();
   ManageOfferResultCode discriminant = ManageOfferResultCode.decode(stream);
   decodedManageOfferResult.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    return decodedManageOfferResult;
+  }
   switch (decodedManageOfferResult.getDiscriminant()) {
   case MANAGE_OFFER_SUCCESS:
   decodedManageOfferResult.success = ManageOfferSuccessResult.decode(stream);
@@ -56,4 +61,91 @@ public class ManageOfferResult  {
   }
     return decodedManageOfferResult;
   }
+  public static ManageOfferResult decodeInto(XdrReader stream, ManageOfferResult existing) throws IOException {
+    ManageOfferResult decodedManageOfferResult = existing != null ? existing : new ManageOfferResult();
+    ManageOfferResultCode discriminant = ManageOfferResultCode.decode(stream);
+    decodedManageOfferResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      decodedManageOfferResult.success = null;
+      return decodedManageOfferResult;
+    }
+    switch (discriminant) {
+      case MANAGE_OFFER_SUCCESS:
+        decodedManageOfferResult.success = ManageOfferSuccessResult.decodeInto(stream, decodedManageOfferResult.success);
+        break;
+      default:
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != ManageOfferResultCode.MANAGE_OFFER_SUCCESS) {
+      decodedManageOfferResult.success = null;
+    }
+    return decodedManageOfferResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    ManageOfferResultCode discriminant = ManageOfferResultCode.decode(stream);
+    if (discriminant == null) {
+      return;
+    }
+    switch (discriminant) {
+      case MANAGE_OFFER_SUCCESS:
+        ManageOfferSuccessResult.skip(stream);
+        break;
+      default:
+        break;
+    }
+  }
+  public static int encodedSize(ManageOfferResult encodedManageOfferResult) {
+    int size = 4;
+    switch (encodedManageOfferResult.getDiscriminant()) {
+      case MANAGE_OFFER_SUCCESS:
+        size += ManageOfferSuccessResult.encodedSize(encodedManageOfferResult.success);
+        break;
+      default:
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ManageOfferResult)) {
+      return false;
+    }
+    ManageOfferResult other = (ManageOfferResult) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case MANAGE_OFFER_SUCCESS:
+        return Objects.equals(this.success, other.success);
+      default:
+        return true;
+    }
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case MANAGE_OFFER_SUCCESS:
+          result = 31 * result + Objects.hashCode(this.success);
+          break;
+      }
+    }
+    return result;
+  }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -48,6 +49,23 @@ public enum ManageOfferResultCode  {
   MANAGE_OFFER_LOW_RESERVE(-12),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -12;
+  private static final ManageOfferResultCode[] BY_VALUE = {
+    MANAGE_OFFER_LOW_RESERVE,
+    MANAGE_OFFER_NOT_FOUND,
+    MANAGE_OFFER_BUY_NO_ISSUER,
+    MANAGE_OFFER_SELL_NO_ISSUER,
+    MANAGE_OFFER_CROSS_SELF,
+    MANAGE_OFFER_UNDERFUNDED,
+    MANAGE_OFFER_LINE_FULL,
+    MANAGE_OFFER_BUY_NOT_AUTHORIZED,
+    MANAGE_OFFER_SELL_NOT_AUTHORIZED,
+    MANAGE_OFFER_BUY_NO_TRUST,
+    MANAGE_OFFER_SELL_NO_TRUST,
+    MANAGE_OFFER_MALFORMED,
+    MANAGE_OFFER_SUCCESS,
+  };
 
   ManageOfferResultCode(int value) {
       mValue = value;
@@ -57,28 +75,25 @@ public enum ManageOfferResultCode  {
       return mValue;
   }
 
-  static ManageOfferResultCode decode(XdrDataInputStream stream) throws IOException {
+  static ManageOfferResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return MANAGE_OFFER_SUCCESS;
-      case -1: return MANAGE_OFFER_MALFORMED;
-      case -2: return MANAGE_OFFER_SELL_NO_TRUST;
-      case -3: return MANAGE_OFFER_BUY_NO_TRUST;
-      case -4: return MANAGE_OFFER_SELL_NOT_AUTHORIZED;
-      case -5: return MANAGE_OFFER_BUY_NOT_AUTHORIZED;
-      case -6: return MANAGE_OFFER_LINE_FULL;
-      case -7: return MANAGE_OFFER_UNDERFUNDED;
-      case -8: return MANAGE_OFFER_CROSS_SELF;
-      case -9: return MANAGE_OFFER_SELL_NO_ISSUER;
-      case -10: return MANAGE_OFFER_BUY_NO_ISSUER;
-      case -11: return MANAGE_OFFER_NOT_FOUND;
-      case -12: return MANAGE_OFFER_LOW_RESERVE;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, ManageOfferResultCode value) throws IOException {
+  static void encode(XdrWriter stream, ManageOfferResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(ManageOfferResultCode value) {
+    return 4;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -41,7 +44,7 @@ public class ManageOfferSuccessResult  {
   public void setOffer(ManageOfferSuccessResultOffer value) {
     this.offer = value;
   }
-  public static void encode(XdrDataOutputStream stream, ManageOfferSuccessResult encodedManageOfferSuccessResult) throws IOException{
+  public static void encode(XdrWriter stream, ManageOfferSuccessResult encodedManageOfferSuccessResult) throws IOException{
     int offersClaimedsize = encodedManageOfferSuccessResult.getOffersClaimed().length;
     stream.writeInt(offersClaimedsize);
     for (int i = 0; i < offersClaimedsize; i++) {
@@ -49,9 +52,10 @@ public class ManageOfferSuccessResult  {
     }
     ManageOfferSuccessResultOffer.encode(stream, encodedManageOfferSuccessResult.offer);
   }
-  public static ManageOfferSuccessResult decode(XdrDataInputStream stream) throws IOException {
+  public static ManageOfferSuccessResult decode(XdrReader stream) throws IOException {
     ManageOfferSuccessResult decodedManageOfferSuccessResult = new ManageOfferSuccessResult();
     int offersClaimedsize = stream.readInt();
+    stream.checkArrayLength(offersClaimedsize, Integer.MAX_VALUE);
     decodedManageOfferSuccessResult.offersClaimed = new ClaimOfferAtom[offersClaimedsize];
     for (int i = 0; i < offersClaimedsize; i++) {
       decodedManageOfferSuccessResult.offersClaimed[i] = ClaimOfferAtom.decode(stream);
@@ -59,6 +63,64 @@ public class ManageOfferSuccessResult  {
     decodedManageOfferSuccessResult.offer = ManageOfferSuccessResultOffer.decode(stream);
     return decodedManageOfferSuccessResult;
   }
+  public static ManageOfferSuccessResult decodeInto(XdrReader stream, ManageOfferSuccessResult existing) throws IOException {
+    ManageOfferSuccessResult decodedManageOfferSuccessResult = existing != null ? existing : new ManageOfferSuccessResult();
+    int offersClaimedsize = stream.readInt();
+    stream.checkArrayLength(offersClaimedsize, Integer.MAX_VALUE);
+    if (decodedManageOfferSuccessResult.offersClaimed == null) {
+      decodedManageOfferSuccessResult.offersClaimed = new ClaimOfferAtom[offersClaimedsize];
+    } else if (decodedManageOfferSuccessResult.offersClaimed.length != offersClaimedsize) {
+      decodedManageOfferSuccessResult.offersClaimed = Arrays.copyOf(decodedManageOfferSuccessResult.offersClaimed, offersClaimedsize);
+    }
+    for (int i = 0; i < offersClaimedsize; i++) {
+      decodedManageOfferSuccessResult.offersClaimed[i] = ClaimOfferAtom.decodeInto(stream, decodedManageOfferSuccessResult.offersClaimed[i]);
+    }
+    decodedManageOfferSuccessResult.offer = ManageOfferSuccessResultOffer.decodeInto(stream, decodedManageOfferSuccessResult.offer);
+    return decodedManageOfferSuccessResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    int offersClaimedsize = stream.readInt();
+    for (int i = 0; i < offersClaimedsize; i++) {
+      ClaimOfferAtom.skip(stream);
+    }
+    ManageOfferSuccessResultOffer.skip(stream);
+  }
+  public static int encodedSize(ManageOfferSuccessResult encodedManageOfferSuccessResult) {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < encodedManageOfferSuccessResult.offersClaimed.length; i++) {
+      size += ClaimOfferAtom.encodedSize(encodedManageOfferSuccessResult.offersClaimed[i]);
+    }
+    size += ManageOfferSuccessResultOffer.encodedSize(encodedManageOfferSuccessResult.offer);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ManageOfferSuccessResult)) {
+      return false;
+    }
+    ManageOfferSuccessResult other = (ManageOfferSuccessResult) object;
+    return Arrays.equals(this.offersClaimed, other.offersClaimed)
+        && Objects.equals(this.offer, other.offer);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Arrays.hashCode(this.offersClaimed);
+    result = 31 * result + Objects.hashCode(this.offer);
+    return result;
+  }
 
   public static class ManageOfferSuccessResultOffer {
     public ManageOfferSuccessResultOffer () {}
@@ -76,7 +138,7 @@ public class ManageOfferSuccessResult  {
     public void setOffer(OfferEntry value) {
       this.offer = value;
     }
-    public static void encode(XdrDataOutputStream stream, ManageOfferSuccessResultOffer encodedManageOfferSuccessResultOffer) throws IOException {
+    public static void encode(XdrWriter stream, ManageOfferSuccessResultOffer encodedManageOfferSuccessResultOffer) throws IOException {
     stream.writeInt(encodedManageOfferSuccessResultOffer.getDiscriminant().getValue());
     switch (encodedManageOfferSuccessResultOffer.getDiscriminant()) {
     case MANAGE_OFFER_CREATED:
@@ -87,10 +149,13 @@ public class ManageOfferSuccessResult  {
     break;
     }
     }
-    public static ManageOfferSuccessResultOffer decode(XdrDataInputStream stream) throws IOException {
+    public static ManageOfferSuccessResultOffer decode(XdrReader stream) throws IOException {
     ManageOfferSuccessResultOffer decodedManageOfferSuccessResultOffer = new ManageOfferSuccessResultOffer();
     ManageOfferEffect discriminant = ManageOfferEffect.decode(stream);
     decodedManageOfferSuccessResultOffer.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      return decodedManageOfferSuccessResultOffer;
+    }
     switch (decodedManageOfferSuccessResultOffer.getDiscriminant()) {
     case MANAGE_OFFER_CREATED:
     case MANAGE_OFFER_UPDATED:
@@ -101,6 +166,90 @@ public class ManageOfferSuccessResult  {
     }
       return decodedManageOfferSuccessResultOffer;
     }
+    public static ManageOfferSuccessResultOffer decodeInto(XdrReader stream, ManageOfferSuccessResultOffer existing) throws IOException {
+      ManageOfferSuccessResultOffer decodedManageOfferSuccessResultOffer = existing != null ? existing : new ManageOfferSuccessResultOffer();
+      ManageOfferEffect discriminant = ManageOfferEffect.decode(stream);
+      decodedManageOfferSuccessResultOffer.setDiscriminant(discriminant);
+      if (discriminant == null) {
+        decodedManageOfferSuccessResultOffer.offer = null;
+        return decodedManageOfferSuccessResultOffer;
+      }
+      switch (discriminant) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          decodedManageOfferSuccessResultOffer.offer = OfferEntry.decodeInto(stream, decodedManageOfferSuccessResultOffer.offer);
+          break;
+        default:
+          break;
+      }
+      // leave only the selected arm set, as decode does
+      if (discriminant != ManageOfferEffect.MANAGE_OFFER_CREATED && discriminant != ManageOfferEffect.MANAGE_OFFER_UPDATED) {
+        decodedManageOfferSuccessResultOffer.offer = null;
+      }
+      return decodedManageOfferSuccessResultOffer;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      ManageOfferEffect discriminant = ManageOfferEffect.decode(stream);
+      if (discriminant == null) {
+        return;
+      }
+      switch (discriminant) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          OfferEntry.skip(stream);
+          break;
+        default:
+          break;
+      }
+    }
+    public static int encodedSize(ManageOfferSuccessResultOffer encodedManageOfferSuccessResultOffer) {
+      int size = 4;
+      switch (encodedManageOfferSuccessResultOffer.getDiscriminant()) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          size += OfferEntry.encodedSize(encodedManageOfferSuccessResultOffer.offer);
+          break;
+        default:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof ManageOfferSuccessResultOffer)) {
+        return false;
+      }
+      ManageOfferSuccessResultOffer other = (ManageOfferSuccessResultOffer) object;
+      if (this.getDiscriminant() != other.getDiscriminant()) {
+        return false;
+      }
+      if (this.getDiscriminant() == null) {
+        return true;
+      }
+      switch (this.getDiscriminant()) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          return Objects.equals(this.offer, other.offer);
+        default:
+          return true;
+      }
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+      if (this.getDiscriminant() != null) {
+        switch (this.getDiscriminant()) {
+          case MANAGE_OFFER_CREATED:
+          case MANAGE_OFFER_UPDATED:
+            result = 31 * result + Objects.hashCode(this.offer);
+            break;
+        }
+      }
+      return result;
+    }
   }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -30,6 +32,7 @@ public class Memo  {
     return this.type;
   }
   public void setDiscriminant(MemoType value) {
+    checkMutable();
     this.type = value;
   }
   private String text;
@@ -37,6 +40,7 @@ public class Memo  {
     return this.text;
   }
   public void setText(String value) {
+    checkMutable();
     this.text = value;
   }
   private Uint64 id;
@@ -44,6 +48,7 @@ public class Memo  {
     return this.id;
   }
   public void setId(Uint64 value) {
+    checkMutable();
     this.id = value;
   }
   private Hash hash;
@@ -51,6 +56,7 @@ public class Memo  {
     return this.hash;
   }
   public void setHash(Hash value) {
+    checkMutable();
     this.hash = value;
   }
   private Hash retHash;
@@ -58,9 +64,10 @@ public class Memo  {
     return this.retHash;
   }
   public void setRetHash(Hash value) {
+    checkMutable();
     this.retHash = value;
   }
-  public static void encode(XdrDataOutputStream stream, Memo encodedMemo) throws IOException {
+  public static void encode(XdrWriter stream, Memo encodedMemo) throws IOException {
   stream.writeInt(encodedMemo.getDiscriminant().getValue());
   switch (encodedMemo.getDiscriminant()) {
   case MEMO_NONE:
@@ -79,15 +86,18 @@ public class Memo  {
   break;
   }
   }
-  public static Memo decode(XdrDataInputStream stream) throws IOException {
+  public static Memo decode(XdrReader stream) throws IOException {
   Memo decodedMemo = new Memo();
   MemoType discriminant = MemoType.decode(stream);
   decodedMemo.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    throw new IOException("Unknown discriminant of Memo");
+  }
   switch (decodedMemo.getDiscriminant()) {
   case MEMO_NONE:
   break;
   case MEMO_TEXT:
-  decodedMemo.text = stream.readString();
+  decodedMemo.text = stream.readString(28);
   break;
   case MEMO_ID:
   decodedMemo.id = Uint64.decode(stream);
@@ -101,4 +111,164 @@ public class Memo  {
   }
     return decodedMemo;
   }
+  public static Memo decodeInto(XdrReader stream, Memo existing) throws IOException {
+    Memo decodedMemo = existing != null && !existing.frozen ? existing : new Memo();
+    MemoType discriminant = MemoType.decode(stream);
+    decodedMemo.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of Memo");
+    }
+    switch (discriminant) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        decodedMemo.text = stream.readString(28);
+        break;
+      case MEMO_ID:
+        decodedMemo.id = Uint64.decodeInto(stream, decodedMemo.id);
+        break;
+      case MEMO_HASH:
+        decodedMemo.hash = Hash.decodeInto(stream, decodedMemo.hash);
+        break;
+      case MEMO_RETURN:
+        decodedMemo.retHash = Hash.decodeInto(stream, decodedMemo.retHash);
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != MemoType.MEMO_TEXT) {
+      decodedMemo.text = null;
+    }
+    if (discriminant != MemoType.MEMO_ID) {
+      decodedMemo.id = null;
+    }
+    if (discriminant != MemoType.MEMO_HASH) {
+      decodedMemo.hash = null;
+    }
+    if (discriminant != MemoType.MEMO_RETURN) {
+      decodedMemo.retHash = null;
+    }
+    return decodedMemo;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    MemoType discriminant = MemoType.decode(stream);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of Memo");
+    }
+    switch (discriminant) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        stream.skip(stream.readInt());
+        break;
+      case MEMO_ID:
+        Uint64.skip(stream);
+        break;
+      case MEMO_HASH:
+        Hash.skip(stream);
+        break;
+      case MEMO_RETURN:
+        Hash.skip(stream);
+        break;
+    }
+  }
+  public static int encodedSize(Memo encodedMemo) {
+    int size = 4;
+    switch (encodedMemo.getDiscriminant()) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        size += XdrSize.string(encodedMemo.text);
+        break;
+      case MEMO_ID:
+        size += Uint64.encodedSize(encodedMemo.id);
+        break;
+      case MEMO_HASH:
+        size += Hash.encodedSize(encodedMemo.hash);
+        break;
+      case MEMO_RETURN:
+        size += Hash.encodedSize(encodedMemo.retHash);
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.id != null) {
+      this.id.freeze();
+    }
+    if (this.hash != null) {
+      this.hash.freeze();
+    }
+    if (this.retHash != null) {
+      this.retHash.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Memo is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Memo)) {
+      return false;
+    }
+    Memo other = (Memo) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case MEMO_NONE:
+        return true;
+      case MEMO_TEXT:
+        return Objects.equals(this.text, other.text);
+      case MEMO_ID:
+        return Objects.equals(this.id, other.id);
+      case MEMO_HASH:
+        return Objects.equals(this.hash, other.hash);
+      case MEMO_RETURN:
+        return Objects.equals(this.retHash, other.retHash);
+    }
+    return true;
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case MEMO_TEXT:
+          result = 31 * result + Objects.hashCode(this.text);
+          break;
+        case MEMO_ID:
+          result = 31 * result + Objects.hashCode(this.id);
+          break;
+        case MEMO_HASH:
+          result = 31 * result + Objects.hashCode(this.hash);
+          break;
+        case MEMO_RETURN:
+          result = 31 * result + Objects.hashCode(this.retHash);
+          break;
+      }
+    }
+    return result;
+  }
 }
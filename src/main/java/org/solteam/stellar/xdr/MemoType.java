@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -26,6 +27,15 @@ public enum MemoType  {
   MEMO_RETURN(4),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final MemoType[] BY_VALUE = {
+    MEMO_NONE,
+    MEMO_TEXT,
+    MEMO_ID,
+    MEMO_HASH,
+    MEMO_RETURN,
+  };
 
   MemoType(int value) {
       mValue = value;
@@ -35,20 +45,25 @@ public enum MemoType  {
       return mValue;
   }
 
-  static MemoType decode(XdrDataInputStream stream) throws IOException {
+  static MemoType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return MEMO_NONE;
-      case 1: return MEMO_TEXT;
-      case 2: return MEMO_ID;
-      case 3: return MEMO_HASH;
-      case 4: return MEMO_RETURN;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, MemoType value) throws IOException {
+  static void encode(XdrWriter stream, MemoType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(MemoType value) {
+    return 4;
+  }
 }
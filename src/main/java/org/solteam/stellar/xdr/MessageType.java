@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -49,6 +50,24 @@ public enum MessageType  {
   HELLO(13),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final MessageType[] BY_VALUE = {
+    ERROR_MSG,
+    null,
+    AUTH,
+    DONT_HAVE,
+    GET_PEERS,
+    PEERS,
+    GET_TX_SET,
+    TX_SET,
+    TRANSACTION,
+    GET_SCP_QUORUMSET,
+    SCP_QUORUMSET,
+    SCP_MESSAGE,
+    GET_SCP_STATE,
+    HELLO,
+  };
 
   MessageType(int value) {
       mValue = value;
@@ -58,28 +77,25 @@ public enum MessageType  {
       return mValue;
   }
 
-  static MessageType decode(XdrDataInputStream stream) throws IOException {
+  static MessageType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return ERROR_MSG;
-      case 2: return AUTH;
-      case 3: return DONT_HAVE;
-      case 4: return GET_PEERS;
-      case 5: return PEERS;
-      case 6: return GET_TX_SET;
-      case 7: return TX_SET;
-      case 8: return TRANSACTION;
-      case 9: return GET_SCP_QUORUMSET;
-      case 10: return SCP_QUORUMSET;
-      case 11: return SCP_MESSAGE;
-      case 12: return GET_SCP_STATE;
-      case 13: return HELLO;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, MessageType value) throws IOException {
+  static void encode(XdrWriter stream, MessageType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(MessageType value) {
+    return 4;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -19,12 +21,50 @@ public class NodeID  {
   public void setNodeID(PublicKey value) {
     this.NodeID = value;
   }
-  public static void encode(XdrDataOutputStream stream, NodeID  encodedNodeID) throws IOException {
+  public static void encode(XdrWriter stream, NodeID  encodedNodeID) throws IOException {
   PublicKey.encode(stream, encodedNodeID.NodeID);
   }
-  public static NodeID decode(XdrDataInputStream stream) throws IOException {
+  public static NodeID decode(XdrReader stream) throws IOException {
     NodeID decodedNodeID = new NodeID();
   decodedNodeID.NodeID = PublicKey.decode(stream);
     return decodedNodeID;
   }
+  public static NodeID decodeInto(XdrReader stream, NodeID existing) throws IOException {
+    NodeID decodedNodeID = existing != null ? existing : new NodeID();
+    decodedNodeID.NodeID = PublicKey.decodeInto(stream, decodedNodeID.NodeID);
+    return decodedNodeID;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    PublicKey.skip(stream);
+  }
+  public static int encodedSize(NodeID encodedNodeID) {
+    int size = 0;
+    size += PublicKey.encodedSize(encodedNodeID.NodeID);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof NodeID)) {
+      return false;
+    }
+    NodeID other = (NodeID) object;
+    return Objects.equals(this.NodeID, other.NodeID);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.NodeID);
+    return result;
+  }
 }
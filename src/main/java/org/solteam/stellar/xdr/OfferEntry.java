@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -92,7 +94,7 @@ public class OfferEntry  {
   public void setExt(OfferEntryExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, OfferEntry encodedOfferEntry) throws IOException{
+  public static void encode(XdrWriter stream, OfferEntry encodedOfferEntry) throws IOException{
     AccountID.encode(stream, encodedOfferEntry.sellerID);
     Uint64.encode(stream, encodedOfferEntry.offerID);
     Asset.encode(stream, encodedOfferEntry.selling);
@@ -102,7 +104,7 @@ public class OfferEntry  {
     Uint32.encode(stream, encodedOfferEntry.flags);
     OfferEntryExt.encode(stream, encodedOfferEntry.ext);
   }
-  public static OfferEntry decode(XdrDataInputStream stream) throws IOException {
+  public static OfferEntry decode(XdrReader stream) throws IOException {
     OfferEntry decodedOfferEntry = new OfferEntry();
     decodedOfferEntry.sellerID = AccountID.decode(stream);
     decodedOfferEntry.offerID = Uint64.decode(stream);
@@ -114,33 +116,160 @@ public class OfferEntry  {
     decodedOfferEntry.ext = OfferEntryExt.decode(stream);
     return decodedOfferEntry;
   }
+  public static OfferEntry decodeInto(XdrReader stream, OfferEntry existing) throws IOException {
+    OfferEntry decodedOfferEntry = existing != null ? existing : new OfferEntry();
+    decodedOfferEntry.sellerID = AccountID.decodeInto(stream, decodedOfferEntry.sellerID);
+    decodedOfferEntry.offerID = Uint64.decodeInto(stream, decodedOfferEntry.offerID);
+    decodedOfferEntry.selling = Asset.decodeInto(stream, decodedOfferEntry.selling);
+    decodedOfferEntry.buying = Asset.decodeInto(stream, decodedOfferEntry.buying);
+    decodedOfferEntry.amount = Int64.decodeInto(stream, decodedOfferEntry.amount);
+    decodedOfferEntry.price = Price.decodeInto(stream, decodedOfferEntry.price);
+    decodedOfferEntry.flags = Uint32.decodeInto(stream, decodedOfferEntry.flags);
+    decodedOfferEntry.ext = OfferEntryExt.decodeInto(stream, decodedOfferEntry.ext);
+    return decodedOfferEntry;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    AccountID.skip(stream);
+    Uint64.skip(stream);
+    Asset.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Price.skip(stream);
+    Uint32.skip(stream);
+    OfferEntryExt.skip(stream);
+  }
+  public static int encodedSize(OfferEntry encodedOfferEntry) {
+    int size = 0;
+    size += AccountID.encodedSize(encodedOfferEntry.sellerID);
+    size += Uint64.encodedSize(encodedOfferEntry.offerID);
+    size += Asset.encodedSize(encodedOfferEntry.selling);
+    size += Asset.encodedSize(encodedOfferEntry.buying);
+    size += Int64.encodedSize(encodedOfferEntry.amount);
+    size += Price.encodedSize(encodedOfferEntry.price);
+    size += Uint32.encodedSize(encodedOfferEntry.flags);
+    size += OfferEntryExt.encodedSize(encodedOfferEntry.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof OfferEntry)) {
+      return false;
+    }
+    OfferEntry other = (OfferEntry) object;
+    return Objects.equals(this.sellerID, other.sellerID)
+        && Objects.equals(this.offerID, other.offerID)
+        && Objects.equals(this.selling, other.selling)
+        && Objects.equals(this.buying, other.buying)
+        && Objects.equals(this.amount, other.amount)
+        && Objects.equals(this.price, other.price)
+        && Objects.equals(this.flags, other.flags)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.sellerID);
+    result = 31 * result + Objects.hashCode(this.offerID);
+    result = 31 * result + Objects.hashCode(this.selling);
+    result = 31 * result + Objects.hashCode(this.buying);
+    result = 31 * result + Objects.hashCode(this.amount);
+    result = 31 * result + Objects.hashCode(this.price);
+    result = 31 * result + Objects.hashCode(this.flags);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class OfferEntryExt {
     public OfferEntryExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, OfferEntryExt encodedOfferEntryExt) throws IOException {
-    stream.writeInt(encodedOfferEntryExt.getDiscriminant().intValue());
-    switch (encodedOfferEntryExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, OfferEntryExt encodedOfferEntryExt) throws IOException {
+    stream.writeInt(encodedOfferEntryExt.v);
+    switch (encodedOfferEntryExt.v) {
     case 0:
     break;
     }
     }
-    public static OfferEntryExt decode(XdrDataInputStream stream) throws IOException {
+    public static OfferEntryExt decode(XdrReader stream) throws IOException {
     OfferEntryExt decodedOfferEntryExt = new OfferEntryExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedOfferEntryExt.setDiscriminant(discriminant);
-    switch (decodedOfferEntryExt.getDiscriminant()) {
+    switch (decodedOfferEntryExt.v) {
     case 0:
     break;
     }
       return decodedOfferEntryExt;
     }
+    public static OfferEntryExt decodeInto(XdrReader stream, OfferEntryExt existing) throws IOException {
+      OfferEntryExt decodedOfferEntryExt = existing != null ? existing : new OfferEntryExt();
+      int discriminant = stream.readInt();
+      decodedOfferEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedOfferEntryExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(OfferEntryExt encodedOfferEntryExt) {
+      int size = 4;
+      switch (encodedOfferEntryExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof OfferEntryExt)) {
+        return false;
+      }
+      OfferEntryExt other = (OfferEntryExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -19,6 +20,11 @@ public enum OfferEntryFlags  {
   PASSIVE_FLAG(1),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 1;
+  private static final OfferEntryFlags[] BY_VALUE = {
+    PASSIVE_FLAG,
+  };
 
   OfferEntryFlags(int value) {
       mValue = value;
@@ -28,16 +34,25 @@ public enum OfferEntryFlags  {
       return mValue;
   }
 
-  static OfferEntryFlags decode(XdrDataInputStream stream) throws IOException {
+  static OfferEntryFlags decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 1: return PASSIVE_FLAG;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, OfferEntryFlags value) throws IOException {
+  static void encode(XdrWriter stream, OfferEntryFlags value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(OfferEntryFlags value) {
+    return 4;
+  }
 }
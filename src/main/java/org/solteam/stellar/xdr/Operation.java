@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -51,6 +53,7 @@ public class Operation  {
     return this.sourceAccount;
   }
   public void setSourceAccount(AccountID value) {
+    checkMutable();
     this.sourceAccount = value;
   }
   private OperationBody body;
@@ -58,9 +61,10 @@ public class Operation  {
     return this.body;
   }
   public void setBody(OperationBody value) {
+    checkMutable();
     this.body = value;
   }
-  public static void encode(XdrDataOutputStream stream, Operation encodedOperation) throws IOException{
+  public static void encode(XdrWriter stream, Operation encodedOperation) throws IOException{
     if (encodedOperation.sourceAccount != null) {
     stream.writeInt(1);
     AccountID.encode(stream, encodedOperation.sourceAccount);
@@ -69,7 +73,7 @@ public class Operation  {
     }
     OperationBody.encode(stream, encodedOperation.body);
   }
-  public static Operation decode(XdrDataInputStream stream) throws IOException {
+  public static Operation decode(XdrReader stream) throws IOException {
     Operation decodedOperation = new Operation();
     int sourceAccountPresent = stream.readInt();
     if (sourceAccountPresent != 0) {
@@ -78,6 +82,79 @@ public class Operation  {
     decodedOperation.body = OperationBody.decode(stream);
     return decodedOperation;
   }
+  public static Operation decodeInto(XdrReader stream, Operation existing) throws IOException {
+    Operation decodedOperation = existing != null && !existing.frozen ? existing : new Operation();
+    int sourceAccountPresent = stream.readInt();
+    if (sourceAccountPresent != 0) {
+      decodedOperation.sourceAccount = AccountID.decodeInto(stream, decodedOperation.sourceAccount);
+    } else {
+      decodedOperation.sourceAccount = null;
+    }
+    decodedOperation.body = OperationBody.decodeInto(stream, decodedOperation.body);
+    return decodedOperation;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    int sourceAccountPresent = stream.readInt();
+    if (sourceAccountPresent != 0) {
+      AccountID.skip(stream);
+    }
+    OperationBody.skip(stream);
+  }
+  public static int encodedSize(Operation encodedOperation) {
+    int size = 0;
+    size += 4;
+    if (encodedOperation.sourceAccount != null) {
+      size += AccountID.encodedSize(encodedOperation.sourceAccount);
+    }
+    size += OperationBody.encodedSize(encodedOperation.body);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.sourceAccount != null) {
+      this.sourceAccount.freeze();
+    }
+    if (this.body != null) {
+      this.body.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Operation is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Operation)) {
+      return false;
+    }
+    Operation other = (Operation) object;
+    return Objects.equals(this.sourceAccount, other.sourceAccount)
+        && Objects.equals(this.body, other.body);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.sourceAccount);
+    result = 31 * result + Objects.hashCode(this.body);
+    return result;
+  }
 
   public static class OperationBody {
     public OperationBody () {}
@@ -86,6 +163,7 @@ public class Operation  {
       return this.type;
     }
     public void setDiscriminant(OperationType value) {
+      checkMutable();
       this.type = value;
     }
     private CreateAccountOp createAccountOp;
@@ -93,6 +171,7 @@ public class Operation  {
       return this.createAccountOp;
     }
     public void setCreateAccountOp(CreateAccountOp value) {
+      checkMutable();
       this.createAccountOp = value;
     }
     private PaymentOp paymentOp;
@@ -100,6 +179,7 @@ public class Operation  {
       return this.paymentOp;
     }
     public void setPaymentOp(PaymentOp value) {
+      checkMutable();
       this.paymentOp = value;
     }
     private PathPaymentOp pathPaymentOp;
@@ -107,6 +187,7 @@ public class Operation  {
       return this.pathPaymentOp;
     }
     public void setPathPaymentOp(PathPaymentOp value) {
+      checkMutable();
       this.pathPaymentOp = value;
     }
     private ManageOfferOp manageOfferOp;
@@ -114,6 +195,7 @@ public class Operation  {
       return this.manageOfferOp;
     }
     public void setManageOfferOp(ManageOfferOp value) {
+      checkMutable();
       this.manageOfferOp = value;
     }
     private CreatePassiveOfferOp createPassiveOfferOp;
@@ -121,6 +203,7 @@ public class Operation  {
       return this.createPassiveOfferOp;
     }
     public void setCreatePassiveOfferOp(CreatePassiveOfferOp value) {
+      checkMutable();
       this.createPassiveOfferOp = value;
     }
     private SetOptionsOp setOptionsOp;
@@ -128,6 +211,7 @@ public class Operation  {
       return this.setOptionsOp;
     }
     public void setSetOptionsOp(SetOptionsOp value) {
+      checkMutable();
       this.setOptionsOp = value;
     }
     private ChangeTrustOp changeTrustOp;
@@ -135,6 +219,7 @@ public class Operation  {
       return this.changeTrustOp;
     }
     public void setChangeTrustOp(ChangeTrustOp value) {
+      checkMutable();
       this.changeTrustOp = value;
     }
     private AllowTrustOp allowTrustOp;
@@ -142,6 +227,7 @@ public class Operation  {
       return this.allowTrustOp;
     }
     public void setAllowTrustOp(AllowTrustOp value) {
+      checkMutable();
       this.allowTrustOp = value;
     }
     private AccountID destination;
@@ -149,6 +235,7 @@ public class Operation  {
       return this.destination;
     }
     public void setDestination(AccountID value) {
+      checkMutable();
       this.destination = value;
     }
     private ManageDataOp manageDataOp;
@@ -156,9 +243,10 @@ public class Operation  {
       return this.manageDataOp;
     }
     public void setManageDataOp(ManageDataOp value) {
+      checkMutable();
       this.manageDataOp = value;
     }
-    public static void encode(XdrDataOutputStream stream, OperationBody encodedOperationBody) throws IOException {
+    public static void encode(XdrWriter stream, OperationBody encodedOperationBody) throws IOException {
     stream.writeInt(encodedOperationBody.getDiscriminant().getValue());
     switch (encodedOperationBody.getDiscriminant()) {
     case CREATE_ACCOUNT:
@@ -195,10 +283,13 @@ public class Operation  {
     break;
     }
     }
-    public static OperationBody decode(XdrDataInputStream stream) throws IOException {
+    public static OperationBody decode(XdrReader stream) throws IOException {
     OperationBody decodedOperationBody = new OperationBody();
     OperationType discriminant = OperationType.decode(stream);
     decodedOperationBody.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of OperationBody");
+    }
     switch (decodedOperationBody.getDiscriminant()) {
     case CREATE_ACCOUNT:
     decodedOperationBody.createAccountOp = CreateAccountOp.decode(stream);
@@ -235,6 +326,281 @@ public class Operation  {
     }
       return decodedOperationBody;
     }
+    public static OperationBody decodeInto(XdrReader stream, OperationBody existing) throws IOException {
+      OperationBody decodedOperationBody = existing != null && !existing.frozen ? existing : new OperationBody();
+      OperationType discriminant = OperationType.decode(stream);
+      decodedOperationBody.setDiscriminant(discriminant);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of OperationBody");
+      }
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          decodedOperationBody.createAccountOp = CreateAccountOp.decodeInto(stream, decodedOperationBody.createAccountOp);
+          break;
+        case PAYMENT:
+          decodedOperationBody.paymentOp = PaymentOp.decodeInto(stream, decodedOperationBody.paymentOp);
+          break;
+        case PATH_PAYMENT:
+          decodedOperationBody.pathPaymentOp = PathPaymentOp.decodeInto(stream, decodedOperationBody.pathPaymentOp);
+          break;
+        case MANAGE_OFFER:
+          decodedOperationBody.manageOfferOp = ManageOfferOp.decodeInto(stream, decodedOperationBody.manageOfferOp);
+          break;
+        case CREATE_PASSIVE_OFFER:
+          decodedOperationBody.createPassiveOfferOp = CreatePassiveOfferOp.decodeInto(stream, decodedOperationBody.createPassiveOfferOp);
+          break;
+        case SET_OPTIONS:
+          decodedOperationBody.setOptionsOp = SetOptionsOp.decodeInto(stream, decodedOperationBody.setOptionsOp);
+          break;
+        case CHANGE_TRUST:
+          decodedOperationBody.changeTrustOp = ChangeTrustOp.decodeInto(stream, decodedOperationBody.changeTrustOp);
+          break;
+        case ALLOW_TRUST:
+          decodedOperationBody.allowTrustOp = AllowTrustOp.decodeInto(stream, decodedOperationBody.allowTrustOp);
+          break;
+        case ACCOUNT_MERGE:
+          decodedOperationBody.destination = AccountID.decodeInto(stream, decodedOperationBody.destination);
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          decodedOperationBody.manageDataOp = ManageDataOp.decodeInto(stream, decodedOperationBody.manageDataOp);
+          break;
+      }
+      // leave only the selected arm set, as decode does
+      if (discriminant != OperationType.CREATE_ACCOUNT) {
+        decodedOperationBody.createAccountOp = null;
+      }
+      if (discriminant != OperationType.PAYMENT) {
+        decodedOperationBody.paymentOp = null;
+      }
+      if (discriminant != OperationType.PATH_PAYMENT) {
+        decodedOperationBody.pathPaymentOp = null;
+      }
+      if (discriminant != OperationType.MANAGE_OFFER) {
+        decodedOperationBody.manageOfferOp = null;
+      }
+      if (discriminant != OperationType.CREATE_PASSIVE_OFFER) {
+        decodedOperationBody.createPassiveOfferOp = null;
+      }
+      if (discriminant != OperationType.SET_OPTIONS) {
+        decodedOperationBody.setOptionsOp = null;
+      }
+      if (discriminant != OperationType.CHANGE_TRUST) {
+        decodedOperationBody.changeTrustOp = null;
+      }
+      if (discriminant != OperationType.ALLOW_TRUST) {
+        decodedOperationBody.allowTrustOp = null;
+      }
+      if (discriminant != OperationType.ACCOUNT_MERGE) {
+        decodedOperationBody.destination = null;
+      }
+      if (discriminant != OperationType.MANAGE_DATA) {
+        decodedOperationBody.manageDataOp = null;
+      }
+      return decodedOperationBody;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      OperationType discriminant = OperationType.decode(stream);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of OperationBody");
+      }
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          CreateAccountOp.skip(stream);
+          break;
+        case PAYMENT:
+          PaymentOp.skip(stream);
+          break;
+        case PATH_PAYMENT:
+          PathPaymentOp.skip(stream);
+          break;
+        case MANAGE_OFFER:
+          ManageOfferOp.skip(stream);
+          break;
+        case CREATE_PASSIVE_OFFER:
+          CreatePassiveOfferOp.skip(stream);
+          break;
+        case SET_OPTIONS:
+          SetOptionsOp.skip(stream);
+          break;
+        case CHANGE_TRUST:
+          ChangeTrustOp.skip(stream);
+          break;
+        case ALLOW_TRUST:
+          AllowTrustOp.skip(stream);
+          break;
+        case ACCOUNT_MERGE:
+          AccountID.skip(stream);
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          ManageDataOp.skip(stream);
+          break;
+      }
+    }
+    public static int encodedSize(OperationBody encodedOperationBody) {
+      int size = 4;
+      switch (encodedOperationBody.getDiscriminant()) {
+        case CREATE_ACCOUNT:
+          size += CreateAccountOp.encodedSize(encodedOperationBody.createAccountOp);
+          break;
+        case PAYMENT:
+          size += PaymentOp.encodedSize(encodedOperationBody.paymentOp);
+          break;
+        case PATH_PAYMENT:
+          size += PathPaymentOp.encodedSize(encodedOperationBody.pathPaymentOp);
+          break;
+        case MANAGE_OFFER:
+          size += ManageOfferOp.encodedSize(encodedOperationBody.manageOfferOp);
+          break;
+        case CREATE_PASSIVE_OFFER:
+          size += CreatePassiveOfferOp.encodedSize(encodedOperationBody.createPassiveOfferOp);
+          break;
+        case SET_OPTIONS:
+          size += SetOptionsOp.encodedSize(encodedOperationBody.setOptionsOp);
+          break;
+        case CHANGE_TRUST:
+          size += ChangeTrustOp.encodedSize(encodedOperationBody.changeTrustOp);
+          break;
+        case ALLOW_TRUST:
+          size += AllowTrustOp.encodedSize(encodedOperationBody.allowTrustOp);
+          break;
+        case ACCOUNT_MERGE:
+          size += AccountID.encodedSize(encodedOperationBody.destination);
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          size += ManageDataOp.encodedSize(encodedOperationBody.manageDataOp);
+          break;
+      }
+      return size;
+    }
 
+    // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+    private boolean frozen;
+    void freeze() {
+      frozen = true;
+      if (this.createAccountOp != null) {
+        this.createAccountOp.freeze();
+      }
+      if (this.paymentOp != null) {
+        this.paymentOp.freeze();
+      }
+      if (this.pathPaymentOp != null) {
+        this.pathPaymentOp.freeze();
+      }
+      if (this.manageOfferOp != null) {
+        this.manageOfferOp.freeze();
+      }
+      if (this.createPassiveOfferOp != null) {
+        this.createPassiveOfferOp.freeze();
+      }
+      if (this.setOptionsOp != null) {
+        this.setOptionsOp.freeze();
+      }
+      if (this.changeTrustOp != null) {
+        this.changeTrustOp.freeze();
+      }
+      if (this.allowTrustOp != null) {
+        this.allowTrustOp.freeze();
+      }
+      if (this.destination != null) {
+        this.destination.freeze();
+      }
+      if (this.manageDataOp != null) {
+        this.manageDataOp.freeze();
+      }
+    }
+    public boolean isFrozen() {
+      return frozen;
+    }
+    private void checkMutable() {
+      if (frozen) {
+        throw new IllegalStateException("OperationBody is frozen");
+      }
+    }
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof OperationBody)) {
+        return false;
+      }
+      OperationBody other = (OperationBody) object;
+      if (this.getDiscriminant() != other.getDiscriminant()) {
+        return false;
+      }
+      if (this.getDiscriminant() == null) {
+        return true;
+      }
+      switch (this.getDiscriminant()) {
+        case CREATE_ACCOUNT:
+          return Objects.equals(this.createAccountOp, other.createAccountOp);
+        case PAYMENT:
+          return Objects.equals(this.paymentOp, other.paymentOp);
+        case PATH_PAYMENT:
+          return Objects.equals(this.pathPaymentOp, other.pathPaymentOp);
+        case MANAGE_OFFER:
+          return Objects.equals(this.manageOfferOp, other.manageOfferOp);
+        case CREATE_PASSIVE_OFFER:
+          return Objects.equals(this.createPassiveOfferOp, other.createPassiveOfferOp);
+        case SET_OPTIONS:
+          return Objects.equals(this.setOptionsOp, other.setOptionsOp);
+        case CHANGE_TRUST:
+          return Objects.equals(this.changeTrustOp, other.changeTrustOp);
+        case ALLOW_TRUST:
+          return Objects.equals(this.allowTrustOp, other.allowTrustOp);
+        case ACCOUNT_MERGE:
+          return Objects.equals(this.destination, other.destination);
+        case INFLATION:
+          return true;
+        case MANAGE_DATA:
+          return Objects.equals(this.manageDataOp, other.manageDataOp);
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+      if (this.getDiscriminant() != null) {
+        switch (this.getDiscriminant()) {
+          case CREATE_ACCOUNT:
+            result = 31 * result + Objects.hashCode(this.createAccountOp);
+            break;
+          case PAYMENT:
+            result = 31 * result + Objects.hashCode(this.paymentOp);
+            break;
+          case PATH_PAYMENT:
+            result = 31 * result + Objects.hashCode(this.pathPaymentOp);
+            break;
+          case MANAGE_OFFER:
+            result = 31 * result + Objects.hashCode(this.manageOfferOp);
+            break;
+          case CREATE_PASSIVE_OFFER:
+            result = 31 * result + Objects.hashCode(this.createPassiveOfferOp);
+            break;
+          case SET_OPTIONS:
+            result = 31 * result + Objects.hashCode(this.setOptionsOp);
+            break;
+          case CHANGE_TRUST:
+            result = 31 * result + Objects.hashCode(this.changeTrustOp);
+            break;
+          case ALLOW_TRUST:
+            result = 31 * result + Objects.hashCode(this.allowTrustOp);
+            break;
+          case ACCOUNT_MERGE:
+            result = 31 * result + Objects.hashCode(this.destination);
+            break;
+          case MANAGE_DATA:
+            result = 31 * result + Objects.hashCode(this.manageDataOp);
+            break;
+        }
+      }
+      return result;
+    }
   }
 }
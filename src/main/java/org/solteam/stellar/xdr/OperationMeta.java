@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -23,12 +25,50 @@ public class OperationMeta  {
   public void setChanges(LedgerEntryChanges value) {
     this.changes = value;
   }
-  public static void encode(XdrDataOutputStream stream, OperationMeta encodedOperationMeta) throws IOException{
+  public static void encode(XdrWriter stream, OperationMeta encodedOperationMeta) throws IOException{
     LedgerEntryChanges.encode(stream, encodedOperationMeta.changes);
   }
-  public static OperationMeta decode(XdrDataInputStream stream) throws IOException {
+  public static OperationMeta decode(XdrReader stream) throws IOException {
     OperationMeta decodedOperationMeta = new OperationMeta();
     decodedOperationMeta.changes = LedgerEntryChanges.decode(stream);
     return decodedOperationMeta;
   }
+  public static OperationMeta decodeInto(XdrReader stream, OperationMeta existing) throws IOException {
+    OperationMeta decodedOperationMeta = existing != null ? existing : new OperationMeta();
+    decodedOperationMeta.changes = LedgerEntryChanges.decodeInto(stream, decodedOperationMeta.changes);
+    return decodedOperationMeta;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    LedgerEntryChanges.skip(stream);
+  }
+  public static int encodedSize(OperationMeta encodedOperationMeta) {
+    int size = 0;
+    size += LedgerEntryChanges.encodedSize(encodedOperationMeta.changes);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof OperationMeta)) {
+      return false;
+    }
+    OperationMeta other = (OperationMeta) object;
+    return Objects.equals(this.changes, other.changes);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.changes);
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -58,7 +60,7 @@ public class OperationResult  {
   public void setTr(OperationResultTr value) {
     this.tr = value;
   }
-  public static void encode(XdrDataOutputStream stream, OperationResult encodedOperationResult) throws IOException {
+  public static void encode(XdrWriter stream, OperationResult encodedOperationResult) throws IOException {
   stream.writeInt(encodedOperationResult.getDiscriminant().getValue());
   switch (encodedOperationResult.getDiscriminant()) {
   case opINNER:
@@ -68,10 +70,13 @@ public class OperationResult  {
   break;
   }
   }
-  public static OperationResult decode(XdrDataInputStream stream) throws IOException {
+  public static OperationResult decode(XdrReader stream) throws IOException {
   OperationResult decodedOperationResult = new OperationResult();
   OperationResultCode discriminant = OperationResultCode.decode(stream);
   decodedOperationResult.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    return decodedOperationResult;
+  }
   switch (decodedOperationResult.getDiscriminant()) {
   case opINNER:
   decodedOperationResult.tr = OperationResultTr.decode(stream);
@@ -81,6 +86,93 @@ public class OperationResult  {
   }
     return decodedOperationResult;
   }
+  public static OperationResult decodeInto(XdrReader stream, OperationResult existing) throws IOException {
+    OperationResult decodedOperationResult = existing != null ? existing : new OperationResult();
+    OperationResultCode discriminant = OperationResultCode.decode(stream);
+    decodedOperationResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      decodedOperationResult.tr = null;
+      return decodedOperationResult;
+    }
+    switch (discriminant) {
+      case opINNER:
+        decodedOperationResult.tr = OperationResultTr.decodeInto(stream, decodedOperationResult.tr);
+        break;
+      default:
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != OperationResultCode.opINNER) {
+      decodedOperationResult.tr = null;
+    }
+    return decodedOperationResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    OperationResultCode discriminant = OperationResultCode.decode(stream);
+    if (discriminant == null) {
+      return;
+    }
+    switch (discriminant) {
+      case opINNER:
+        OperationResultTr.skip(stream);
+        break;
+      default:
+        break;
+    }
+  }
+  public static int encodedSize(OperationResult encodedOperationResult) {
+    int size = 4;
+    switch (encodedOperationResult.getDiscriminant()) {
+      case opINNER:
+        size += OperationResultTr.encodedSize(encodedOperationResult.tr);
+        break;
+      default:
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof OperationResult)) {
+      return false;
+    }
+    OperationResult other = (OperationResult) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case opINNER:
+        return Objects.equals(this.tr, other.tr);
+      default:
+        return true;
+    }
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case opINNER:
+          result = 31 * result + Objects.hashCode(this.tr);
+          break;
+      }
+    }
+    return result;
+  }
 
   public static class OperationResultTr {
     public OperationResultTr () {}
@@ -168,7 +260,7 @@ public class OperationResult  {
     public void setManageDataResult(ManageDataResult value) {
       this.manageDataResult = value;
     }
-    public static void encode(XdrDataOutputStream stream, OperationResultTr encodedOperationResultTr) throws IOException {
+    public static void encode(XdrWriter stream, OperationResultTr encodedOperationResultTr) throws IOException {
     stream.writeInt(encodedOperationResultTr.getDiscriminant().getValue());
     switch (encodedOperationResultTr.getDiscriminant()) {
     case CREATE_ACCOUNT:
@@ -206,10 +298,13 @@ public class OperationResult  {
     break;
     }
     }
-    public static OperationResultTr decode(XdrDataInputStream stream) throws IOException {
+    public static OperationResultTr decode(XdrReader stream) throws IOException {
     OperationResultTr decodedOperationResultTr = new OperationResultTr();
     OperationType discriminant = OperationType.decode(stream);
     decodedOperationResultTr.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of OperationResultTr");
+    }
     switch (decodedOperationResultTr.getDiscriminant()) {
     case CREATE_ACCOUNT:
     decodedOperationResultTr.createAccountResult = CreateAccountResult.decode(stream);
@@ -247,6 +342,247 @@ public class OperationResult  {
     }
       return decodedOperationResultTr;
     }
+    public static OperationResultTr decodeInto(XdrReader stream, OperationResultTr existing) throws IOException {
+      OperationResultTr decodedOperationResultTr = existing != null ? existing : new OperationResultTr();
+      OperationType discriminant = OperationType.decode(stream);
+      decodedOperationResultTr.setDiscriminant(discriminant);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of OperationResultTr");
+      }
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          decodedOperationResultTr.createAccountResult = CreateAccountResult.decodeInto(stream, decodedOperationResultTr.createAccountResult);
+          break;
+        case PAYMENT:
+          decodedOperationResultTr.paymentResult = PaymentResult.decodeInto(stream, decodedOperationResultTr.paymentResult);
+          break;
+        case PATH_PAYMENT:
+          decodedOperationResultTr.pathPaymentResult = PathPaymentResult.decodeInto(stream, decodedOperationResultTr.pathPaymentResult);
+          break;
+        case MANAGE_OFFER:
+          decodedOperationResultTr.manageOfferResult = ManageOfferResult.decodeInto(stream, decodedOperationResultTr.manageOfferResult);
+          break;
+        case CREATE_PASSIVE_OFFER:
+          decodedOperationResultTr.createPassiveOfferResult = ManageOfferResult.decodeInto(stream, decodedOperationResultTr.createPassiveOfferResult);
+          break;
+        case SET_OPTIONS:
+          decodedOperationResultTr.setOptionsResult = SetOptionsResult.decodeInto(stream, decodedOperationResultTr.setOptionsResult);
+          break;
+        case CHANGE_TRUST:
+          decodedOperationResultTr.changeTrustResult = ChangeTrustResult.decodeInto(stream, decodedOperationResultTr.changeTrustResult);
+          break;
+        case ALLOW_TRUST:
+          decodedOperationResultTr.allowTrustResult = AllowTrustResult.decodeInto(stream, decodedOperationResultTr.allowTrustResult);
+          break;
+        case ACCOUNT_MERGE:
+          decodedOperationResultTr.accountMergeResult = AccountMergeResult.decodeInto(stream, decodedOperationResultTr.accountMergeResult);
+          break;
+        case INFLATION:
+          decodedOperationResultTr.inflationResult = InflationResult.decodeInto(stream, decodedOperationResultTr.inflationResult);
+          break;
+        case MANAGE_DATA:
+          decodedOperationResultTr.manageDataResult = ManageDataResult.decodeInto(stream, decodedOperationResultTr.manageDataResult);
+          break;
+      }
+      // leave only the selected arm set, as decode does
+      if (discriminant != OperationType.CREATE_ACCOUNT) {
+        decodedOperationResultTr.createAccountResult = null;
+      }
+      if (discriminant != OperationType.PAYMENT) {
+        decodedOperationResultTr.paymentResult = null;
+      }
+      if (discriminant != OperationType.PATH_PAYMENT) {
+        decodedOperationResultTr.pathPaymentResult = null;
+      }
+      if (discriminant != OperationType.MANAGE_OFFER) {
+        decodedOperationResultTr.manageOfferResult = null;
+      }
+      if (discriminant != OperationType.CREATE_PASSIVE_OFFER) {
+        decodedOperationResultTr.createPassiveOfferResult = null;
+      }
+      if (discriminant != OperationType.SET_OPTIONS) {
+        decodedOperationResultTr.setOptionsResult = null;
+      }
+      if (discriminant != OperationType.CHANGE_TRUST) {
+        decodedOperationResultTr.changeTrustResult = null;
+      }
+      if (discriminant != OperationType.ALLOW_TRUST) {
+        decodedOperationResultTr.allowTrustResult = null;
+      }
+      if (discriminant != OperationType.ACCOUNT_MERGE) {
+        decodedOperationResultTr.accountMergeResult = null;
+      }
+      if (discriminant != OperationType.INFLATION) {
+        decodedOperationResultTr.inflationResult = null;
+      }
+      if (discriminant != OperationType.MANAGE_DATA) {
+        decodedOperationResultTr.manageDataResult = null;
+      }
+      return decodedOperationResultTr;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      OperationType discriminant = OperationType.decode(stream);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of OperationResultTr");
+      }
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          CreateAccountResult.skip(stream);
+          break;
+        case PAYMENT:
+          PaymentResult.skip(stream);
+          break;
+        case PATH_PAYMENT:
+          PathPaymentResult.skip(stream);
+          break;
+        case MANAGE_OFFER:
+          ManageOfferResult.skip(stream);
+          break;
+        case CREATE_PASSIVE_OFFER:
+          ManageOfferResult.skip(stream);
+          break;
+        case SET_OPTIONS:
+          SetOptionsResult.skip(stream);
+          break;
+        case CHANGE_TRUST:
+          ChangeTrustResult.skip(stream);
+          break;
+        case ALLOW_TRUST:
+          AllowTrustResult.skip(stream);
+          break;
+        case ACCOUNT_MERGE:
+          AccountMergeResult.skip(stream);
+          break;
+        case INFLATION:
+          InflationResult.skip(stream);
+          break;
+        case MANAGE_DATA:
+          ManageDataResult.skip(stream);
+          break;
+      }
+    }
+    public static int encodedSize(OperationResultTr encodedOperationResultTr) {
+      int size = 4;
+      switch (encodedOperationResultTr.getDiscriminant()) {
+        case CREATE_ACCOUNT:
+          size += CreateAccountResult.encodedSize(encodedOperationResultTr.createAccountResult);
+          break;
+        case PAYMENT:
+          size += PaymentResult.encodedSize(encodedOperationResultTr.paymentResult);
+          break;
+        case PATH_PAYMENT:
+          size += PathPaymentResult.encodedSize(encodedOperationResultTr.pathPaymentResult);
+          break;
+        case MANAGE_OFFER:
+          size += ManageOfferResult.encodedSize(encodedOperationResultTr.manageOfferResult);
+          break;
+        case CREATE_PASSIVE_OFFER:
+          size += ManageOfferResult.encodedSize(encodedOperationResultTr.createPassiveOfferResult);
+          break;
+        case SET_OPTIONS:
+          size += SetOptionsResult.encodedSize(encodedOperationResultTr.setOptionsResult);
+          break;
+        case CHANGE_TRUST:
+          size += ChangeTrustResult.encodedSize(encodedOperationResultTr.changeTrustResult);
+          break;
+        case ALLOW_TRUST:
+          size += AllowTrustResult.encodedSize(encodedOperationResultTr.allowTrustResult);
+          break;
+        case ACCOUNT_MERGE:
+          size += AccountMergeResult.encodedSize(encodedOperationResultTr.accountMergeResult);
+          break;
+        case INFLATION:
+          size += InflationResult.encodedSize(encodedOperationResultTr.inflationResult);
+          break;
+        case MANAGE_DATA:
+          size += ManageDataResult.encodedSize(encodedOperationResultTr.manageDataResult);
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof OperationResultTr)) {
+        return false;
+      }
+      OperationResultTr other = (OperationResultTr) object;
+      if (this.getDiscriminant() != other.getDiscriminant()) {
+        return false;
+      }
+      if (this.getDiscriminant() == null) {
+        return true;
+      }
+      switch (this.getDiscriminant()) {
+        case CREATE_ACCOUNT:
+          return Objects.equals(this.createAccountResult, other.createAccountResult);
+        case PAYMENT:
+          return Objects.equals(this.paymentResult, other.paymentResult);
+        case PATH_PAYMENT:
+          return Objects.equals(this.pathPaymentResult, other.pathPaymentResult);
+        case MANAGE_OFFER:
+          return Objects.equals(this.manageOfferResult, other.manageOfferResult);
+        case CREATE_PASSIVE_OFFER:
+          return Objects.equals(this.createPassiveOfferResult, other.createPassiveOfferResult);
+        case SET_OPTIONS:
+          return Objects.equals(this.setOptionsResult, other.setOptionsResult);
+        case CHANGE_TRUST:
+          return Objects.equals(this.changeTrustResult, other.changeTrustResult);
+        case ALLOW_TRUST:
+          return Objects.equals(this.allowTrustResult, other.allowTrustResult);
+        case ACCOUNT_MERGE:
+          return Objects.equals(this.accountMergeResult, other.accountMergeResult);
+        case INFLATION:
+          return Objects.equals(this.inflationResult, other.inflationResult);
+        case MANAGE_DATA:
+          return Objects.equals(this.manageDataResult, other.manageDataResult);
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+      if (this.getDiscriminant() != null) {
+        switch (this.getDiscriminant()) {
+          case CREATE_ACCOUNT:
+            result = 31 * result + Objects.hashCode(this.createAccountResult);
+            break;
+          case PAYMENT:
+            result = 31 * result + Objects.hashCode(this.paymentResult);
+            break;
+          case PATH_PAYMENT:
+            result = 31 * result + Objects.hashCode(this.pathPaymentResult);
+            break;
+          case MANAGE_OFFER:
+            result = 31 * result + Objects.hashCode(this.manageOfferResult);
+            break;
+          case CREATE_PASSIVE_OFFER:
+            result = 31 * result + Objects.hashCode(this.createPassiveOfferResult);
+            break;
+          case SET_OPTIONS:
+            result = 31 * result + Objects.hashCode(this.setOptionsResult);
+            break;
+          case CHANGE_TRUST:
+            result = 31 * result + Objects.hashCode(this.changeTrustResult);
+            break;
+          case ALLOW_TRUST:
+            result = 31 * result + Objects.hashCode(this.allowTrustResult);
+            break;
+          case ACCOUNT_MERGE:
+            result = 31 * result + Objects.hashCode(this.accountMergeResult);
+            break;
+          case INFLATION:
+            result = 31 * result + Objects.hashCode(this.inflationResult);
+            break;
+          case MANAGE_DATA:
+            result = 31 * result + Objects.hashCode(this.manageDataResult);
+            break;
+        }
+      }
+      return result;
+    }
   }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -23,6 +24,13 @@ public enum OperationResultCode  {
   opNO_ACCOUNT(-2),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -2;
+  private static final OperationResultCode[] BY_VALUE = {
+    opNO_ACCOUNT,
+    opBAD_AUTH,
+    opINNER,
+  };
 
   OperationResultCode(int value) {
       mValue = value;
@@ -32,18 +40,25 @@ public enum OperationResultCode  {
       return mValue;
   }
 
-  static OperationResultCode decode(XdrDataInputStream stream) throws IOException {
+  static OperationResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return opINNER;
-      case -1: return opBAD_AUTH;
-      case -2: return opNO_ACCOUNT;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, OperationResultCode value) throws IOException {
+  static void encode(XdrWriter stream, OperationResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(OperationResultCode value) {
+    return 4;
+  }
 }
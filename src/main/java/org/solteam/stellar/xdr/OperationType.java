@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -38,6 +39,21 @@ public enum OperationType  {
   MANAGE_DATA(10),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final OperationType[] BY_VALUE = {
+    CREATE_ACCOUNT,
+    PAYMENT,
+    PATH_PAYMENT,
+    MANAGE_OFFER,
+    CREATE_PASSIVE_OFFER,
+    SET_OPTIONS,
+    CHANGE_TRUST,
+    ALLOW_TRUST,
+    ACCOUNT_MERGE,
+    INFLATION,
+    MANAGE_DATA,
+  };
 
   OperationType(int value) {
       mValue = value;
@@ -47,26 +63,25 @@ public enum OperationType  {
       return mValue;
   }
 
-  static OperationType decode(XdrDataInputStream stream) throws IOException {
+  static OperationType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return CREATE_ACCOUNT;
-      case 1: return PAYMENT;
-      case 2: return PATH_PAYMENT;
-      case 3: return MANAGE_OFFER;
-      case 4: return CREATE_PASSIVE_OFFER;
-      case 5: return SET_OPTIONS;
-      case 6: return CHANGE_TRUST;
-      case 7: return ALLOW_TRUST;
-      case 8: return ACCOUNT_MERGE;
-      case 9: return INFLATION;
-      case 10: return MANAGE_DATA;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, OperationType value) throws IOException {
+  static void encode(XdrWriter stream, OperationType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(OperationType value) {
+    return 4;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -30,6 +33,7 @@ public class PathPaymentOp  {
     return this.sendAsset;
   }
   public void setSendAsset(Asset value) {
+    checkMutable();
     this.sendAsset = value;
   }
   private Int64 sendMax;
@@ -37,6 +41,7 @@ public class PathPaymentOp  {
     return this.sendMax;
   }
   public void setSendMax(Int64 value) {
+    checkMutable();
     this.sendMax = value;
   }
   private AccountID destination;
@@ -44,6 +49,7 @@ public class PathPaymentOp  {
     return this.destination;
   }
   public void setDestination(AccountID value) {
+    checkMutable();
     this.destination = value;
   }
   private Asset destAsset;
@@ -51,6 +57,7 @@ public class PathPaymentOp  {
     return this.destAsset;
   }
   public void setDestAsset(Asset value) {
+    checkMutable();
     this.destAsset = value;
   }
   private Int64 destAmount;
@@ -58,28 +65,30 @@ public class PathPaymentOp  {
     return this.destAmount;
   }
   public void setDestAmount(Int64 value) {
+    checkMutable();
     this.destAmount = value;
   }
   private Asset[] path;
   public Asset[] getPath() {
-    return this.path;
+    return frozen && this.path != null ? this.path.clone() : this.path;
   }
   public void setPath(Asset[] value) {
+    checkMutable();
     this.path = value;
   }
-  public static void encode(XdrDataOutputStream stream, PathPaymentOp encodedPathPaymentOp) throws IOException{
+  public static void encode(XdrWriter stream, PathPaymentOp encodedPathPaymentOp) throws IOException{
     Asset.encode(stream, encodedPathPaymentOp.sendAsset);
     Int64.encode(stream, encodedPathPaymentOp.sendMax);
     AccountID.encode(stream, encodedPathPaymentOp.destination);
     Asset.encode(stream, encodedPathPaymentOp.destAsset);
     Int64.encode(stream, encodedPathPaymentOp.destAmount);
-    int pathsize = encodedPathPaymentOp.getPath().length;
+    int pathsize = encodedPathPaymentOp.path.length;
     stream.writeInt(pathsize);
     for (int i = 0; i < pathsize; i++) {
       Asset.encode(stream, encodedPathPaymentOp.path[i]);
     }
   }
-  public static PathPaymentOp decode(XdrDataInputStream stream) throws IOException {
+  public static PathPaymentOp decode(XdrReader stream) throws IOException {
     PathPaymentOp decodedPathPaymentOp = new PathPaymentOp();
     decodedPathPaymentOp.sendAsset = Asset.decode(stream);
     decodedPathPaymentOp.sendMax = Int64.decode(stream);
@@ -87,10 +96,122 @@ public class PathPaymentOp  {
     decodedPathPaymentOp.destAsset = Asset.decode(stream);
     decodedPathPaymentOp.destAmount = Int64.decode(stream);
     int pathsize = stream.readInt();
+    stream.checkArrayLength(pathsize, 5);
     decodedPathPaymentOp.path = new Asset[pathsize];
     for (int i = 0; i < pathsize; i++) {
       decodedPathPaymentOp.path[i] = Asset.decode(stream);
     }
     return decodedPathPaymentOp;
   }
+  public static PathPaymentOp decodeInto(XdrReader stream, PathPaymentOp existing) throws IOException {
+    PathPaymentOp decodedPathPaymentOp = existing != null && !existing.frozen ? existing : new PathPaymentOp();
+    decodedPathPaymentOp.sendAsset = Asset.decodeInto(stream, decodedPathPaymentOp.sendAsset);
+    decodedPathPaymentOp.sendMax = Int64.decodeInto(stream, decodedPathPaymentOp.sendMax);
+    decodedPathPaymentOp.destination = AccountID.decodeInto(stream, decodedPathPaymentOp.destination);
+    decodedPathPaymentOp.destAsset = Asset.decodeInto(stream, decodedPathPaymentOp.destAsset);
+    decodedPathPaymentOp.destAmount = Int64.decodeInto(stream, decodedPathPaymentOp.destAmount);
+    int pathsize = stream.readInt();
+    stream.checkArrayLength(pathsize, 5);
+    if (decodedPathPaymentOp.path == null) {
+      decodedPathPaymentOp.path = new Asset[pathsize];
+    } else if (decodedPathPaymentOp.path.length != pathsize) {
+      decodedPathPaymentOp.path = Arrays.copyOf(decodedPathPaymentOp.path, pathsize);
+    }
+    for (int i = 0; i < pathsize; i++) {
+      decodedPathPaymentOp.path[i] = Asset.decodeInto(stream, decodedPathPaymentOp.path[i]);
+    }
+    return decodedPathPaymentOp;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Asset.skip(stream);
+    Int64.skip(stream);
+    AccountID.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    int pathsize = stream.readInt();
+    for (int i = 0; i < pathsize; i++) {
+      Asset.skip(stream);
+    }
+  }
+  public static int encodedSize(PathPaymentOp encodedPathPaymentOp) {
+    int size = 0;
+    size += Asset.encodedSize(encodedPathPaymentOp.sendAsset);
+    size += Int64.encodedSize(encodedPathPaymentOp.sendMax);
+    size += AccountID.encodedSize(encodedPathPaymentOp.destination);
+    size += Asset.encodedSize(encodedPathPaymentOp.destAsset);
+    size += Int64.encodedSize(encodedPathPaymentOp.destAmount);
+    size += 4;
+    for (int i = 0; i < encodedPathPaymentOp.path.length; i++) {
+      size += Asset.encodedSize(encodedPathPaymentOp.path[i]);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.sendAsset != null) {
+      this.sendAsset.freeze();
+    }
+    if (this.sendMax != null) {
+      this.sendMax.freeze();
+    }
+    if (this.destination != null) {
+      this.destination.freeze();
+    }
+    if (this.destAsset != null) {
+      this.destAsset.freeze();
+    }
+    if (this.destAmount != null) {
+      this.destAmount.freeze();
+    }
+    if (this.path != null) {
+      for (Asset element : this.path) {
+        element.freeze();
+      }
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("PathPaymentOp is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof PathPaymentOp)) {
+      return false;
+    }
+    PathPaymentOp other = (PathPaymentOp) object;
+    return Objects.equals(this.sendAsset, other.sendAsset)
+        && Objects.equals(this.sendMax, other.sendMax)
+        && Objects.equals(this.destination, other.destination)
+        && Objects.equals(this.destAsset, other.destAsset)
+        && Objects.equals(this.destAmount, other.destAmount)
+        && Arrays.equals(this.path, other.path);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.sendAsset);
+    result = 31 * result + Objects.hashCode(this.sendMax);
+    result = 31 * result + Objects.hashCode(this.destination);
+    result = 31 * result + Objects.hashCode(this.destAsset);
+    result = 31 * result + Objects.hashCode(this.destAmount);
+    result = 31 * result + Arrays.hashCode(this.path);
+    return result;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -46,7 +49,7 @@ public class PathPaymentResult  {
   public void setNoIssuer(Asset value) {
     this.noIssuer = value;
   }
-  public static void encode(XdrDataOutputStream stream, PathPaymentResult encodedPathPaymentResult) throws IOException {
+  public static void encode(XdrWriter stream, PathPaymentResult encodedPathPaymentResult) throws IOException {
   stream.writeInt(encodedPathPaymentResult.getDiscriminant().getValue());
   switch (encodedPathPaymentResult.getDiscriminant()) {
   case PATH_PAYMENT_SUCCESS:
@@ -59,10 +62,13 @@ public class PathPaymentResult  {
   break;
   }
   }
-  public static PathPaymentResult decode(XdrDataInputStream stream) throws IOException {
+  public static PathPaymentResult decode(XdrReader stream) throws IOException {
   PathPaymentResult decodedPathPaymentResult = new PathPaymentResult();
   PathPaymentResultCode discriminant = PathPaymentResultCode.decode(stream);
   decodedPathPaymentResult.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    return decodedPathPaymentResult;
+  }
   switch (decodedPathPaymentResult.getDiscriminant()) {
   case PATH_PAYMENT_SUCCESS:
   decodedPathPaymentResult.success = PathPaymentResultSuccess.decode(stream);
@@ -75,6 +81,111 @@ public class PathPaymentResult  {
   }
     return decodedPathPaymentResult;
   }
+  public static PathPaymentResult decodeInto(XdrReader stream, PathPaymentResult existing) throws IOException {
+    PathPaymentResult decodedPathPaymentResult = existing != null ? existing : new PathPaymentResult();
+    PathPaymentResultCode discriminant = PathPaymentResultCode.decode(stream);
+    decodedPathPaymentResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      decodedPathPaymentResult.success = null;
+      decodedPathPaymentResult.noIssuer = null;
+      return decodedPathPaymentResult;
+    }
+    switch (discriminant) {
+      case PATH_PAYMENT_SUCCESS:
+        decodedPathPaymentResult.success = PathPaymentResultSuccess.decodeInto(stream, decodedPathPaymentResult.success);
+        break;
+      case PATH_PAYMENT_NO_ISSUER:
+        decodedPathPaymentResult.noIssuer = Asset.decodeInto(stream, decodedPathPaymentResult.noIssuer);
+        break;
+      default:
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != PathPaymentResultCode.PATH_PAYMENT_SUCCESS) {
+      decodedPathPaymentResult.success = null;
+    }
+    if (discriminant != PathPaymentResultCode.PATH_PAYMENT_NO_ISSUER) {
+      decodedPathPaymentResult.noIssuer = null;
+    }
+    return decodedPathPaymentResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    PathPaymentResultCode discriminant = PathPaymentResultCode.decode(stream);
+    if (discriminant == null) {
+      return;
+    }
+    switch (discriminant) {
+      case PATH_PAYMENT_SUCCESS:
+        PathPaymentResultSuccess.skip(stream);
+        break;
+      case PATH_PAYMENT_NO_ISSUER:
+        Asset.skip(stream);
+        break;
+      default:
+        break;
+    }
+  }
+  public static int encodedSize(PathPaymentResult encodedPathPaymentResult) {
+    int size = 4;
+    switch (encodedPathPaymentResult.getDiscriminant()) {
+      case PATH_PAYMENT_SUCCESS:
+        size += PathPaymentResultSuccess.encodedSize(encodedPathPaymentResult.success);
+        break;
+      case PATH_PAYMENT_NO_ISSUER:
+        size += Asset.encodedSize(encodedPathPaymentResult.noIssuer);
+        break;
+      default:
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof PathPaymentResult)) {
+      return false;
+    }
+    PathPaymentResult other = (PathPaymentResult) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case PATH_PAYMENT_SUCCESS:
+        return Objects.equals(this.success, other.success);
+      case PATH_PAYMENT_NO_ISSUER:
+        return Objects.equals(this.noIssuer, other.noIssuer);
+      default:
+        return true;
+    }
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case PATH_PAYMENT_SUCCESS:
+          result = 31 * result + Objects.hashCode(this.success);
+          break;
+        case PATH_PAYMENT_NO_ISSUER:
+          result = 31 * result + Objects.hashCode(this.noIssuer);
+          break;
+      }
+    }
+    return result;
+  }
 
   public static class PathPaymentResultSuccess {
     public PathPaymentResultSuccess () {}
@@ -92,7 +203,7 @@ public class PathPaymentResult  {
     public void setLast(SimplePaymentResult value) {
       this.last = value;
     }
-    public static void encode(XdrDataOutputStream stream, PathPaymentResultSuccess encodedPathPaymentResultSuccess) throws IOException{
+    public static void encode(XdrWriter stream, PathPaymentResultSuccess encodedPathPaymentResultSuccess) throws IOException{
       int offerssize = encodedPathPaymentResultSuccess.getOffers().length;
       stream.writeInt(offerssize);
       for (int i = 0; i < offerssize; i++) {
@@ -100,9 +211,10 @@ public class PathPaymentResult  {
       }
       SimplePaymentResult.encode(stream, encodedPathPaymentResultSuccess.last);
     }
-    public static PathPaymentResultSuccess decode(XdrDataInputStream stream) throws IOException {
+    public static PathPaymentResultSuccess decode(XdrReader stream) throws IOException {
       PathPaymentResultSuccess decodedPathPaymentResultSuccess = new PathPaymentResultSuccess();
       int offerssize = stream.readInt();
+      stream.checkArrayLength(offerssize, Integer.MAX_VALUE);
       decodedPathPaymentResultSuccess.offers = new ClaimOfferAtom[offerssize];
       for (int i = 0; i < offerssize; i++) {
         decodedPathPaymentResultSuccess.offers[i] = ClaimOfferAtom.decode(stream);
@@ -110,6 +222,56 @@ public class PathPaymentResult  {
       decodedPathPaymentResultSuccess.last = SimplePaymentResult.decode(stream);
       return decodedPathPaymentResultSuccess;
     }
+    public static PathPaymentResultSuccess decodeInto(XdrReader stream, PathPaymentResultSuccess existing) throws IOException {
+      PathPaymentResultSuccess decodedPathPaymentResultSuccess = existing != null ? existing : new PathPaymentResultSuccess();
+      int offerssize = stream.readInt();
+      stream.checkArrayLength(offerssize, Integer.MAX_VALUE);
+      if (decodedPathPaymentResultSuccess.offers == null) {
+        decodedPathPaymentResultSuccess.offers = new ClaimOfferAtom[offerssize];
+      } else if (decodedPathPaymentResultSuccess.offers.length != offerssize) {
+        decodedPathPaymentResultSuccess.offers = Arrays.copyOf(decodedPathPaymentResultSuccess.offers, offerssize);
+      }
+      for (int i = 0; i < offerssize; i++) {
+        decodedPathPaymentResultSuccess.offers[i] = ClaimOfferAtom.decodeInto(stream, decodedPathPaymentResultSuccess.offers[i]);
+      }
+      decodedPathPaymentResultSuccess.last = SimplePaymentResult.decodeInto(stream, decodedPathPaymentResultSuccess.last);
+      return decodedPathPaymentResultSuccess;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int offerssize = stream.readInt();
+      for (int i = 0; i < offerssize; i++) {
+        ClaimOfferAtom.skip(stream);
+      }
+      SimplePaymentResult.skip(stream);
+    }
+    public static int encodedSize(PathPaymentResultSuccess encodedPathPaymentResultSuccess) {
+      int size = 0;
+      size += 4;
+      for (int i = 0; i < encodedPathPaymentResultSuccess.offers.length; i++) {
+        size += ClaimOfferAtom.encodedSize(encodedPathPaymentResultSuccess.offers[i]);
+      }
+      size += SimplePaymentResult.encodedSize(encodedPathPaymentResultSuccess.last);
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof PathPaymentResultSuccess)) {
+        return false;
+      }
+      PathPaymentResultSuccess other = (PathPaymentResultSuccess) object;
+      return Arrays.equals(this.offers, other.offers)
+          && Objects.equals(this.last, other.last);
+    }
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Arrays.hashCode(this.offers);
+      result = 31 * result + Objects.hashCode(this.last);
+      return result;
+    }
   }
 }
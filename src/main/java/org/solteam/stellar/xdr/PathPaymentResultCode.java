@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -45,6 +46,23 @@ public enum PathPaymentResultCode  {
   PATH_PAYMENT_OVER_SENDMAX(-12),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -12;
+  private static final PathPaymentResultCode[] BY_VALUE = {
+    PATH_PAYMENT_OVER_SENDMAX,
+    PATH_PAYMENT_OFFER_CROSS_SELF,
+    PATH_PAYMENT_TOO_FEW_OFFERS,
+    PATH_PAYMENT_NO_ISSUER,
+    PATH_PAYMENT_LINE_FULL,
+    PATH_PAYMENT_NOT_AUTHORIZED,
+    PATH_PAYMENT_NO_TRUST,
+    PATH_PAYMENT_NO_DESTINATION,
+    PATH_PAYMENT_SRC_NOT_AUTHORIZED,
+    PATH_PAYMENT_SRC_NO_TRUST,
+    PATH_PAYMENT_UNDERFUNDED,
+    PATH_PAYMENT_MALFORMED,
+    PATH_PAYMENT_SUCCESS,
+  };
 
   PathPaymentResultCode(int value) {
       mValue = value;
@@ -54,28 +72,25 @@ public enum PathPaymentResultCode  {
       return mValue;
   }
 
-  static PathPaymentResultCode decode(XdrDataInputStream stream) throws IOException {
+  static PathPaymentResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return PATH_PAYMENT_SUCCESS;
-      case -1: return PATH_PAYMENT_MALFORMED;
-      case -2: return PATH_PAYMENT_UNDERFUNDED;
-      case -3: return PATH_PAYMENT_SRC_NO_TRUST;
-      case -4: return PATH_PAYMENT_SRC_NOT_AUTHORIZED;
-      case -5: return PATH_PAYMENT_NO_DESTINATION;
-      case -6: return PATH_PAYMENT_NO_TRUST;
-      case -7: return PATH_PAYMENT_NOT_AUTHORIZED;
-      case -8: return PATH_PAYMENT_LINE_FULL;
-      case -9: return PATH_PAYMENT_NO_ISSUER;
-      case -10: return PATH_PAYMENT_TOO_FEW_OFFERS;
-      case -11: return PATH_PAYMENT_OFFER_CROSS_SELF;
-      case -12: return PATH_PAYMENT_OVER_SENDMAX;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, PathPaymentResultCode value) throws IOException {
+  static void encode(XdrWriter stream, PathPaymentResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(PathPaymentResultCode value) {
+    return 4;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -23,6 +25,7 @@ public class PaymentOp  {
     return this.destination;
   }
   public void setDestination(AccountID value) {
+    checkMutable();
     this.destination = value;
   }
   private Asset asset;
@@ -30,6 +33,7 @@ public class PaymentOp  {
     return this.asset;
   }
   public void setAsset(Asset value) {
+    checkMutable();
     this.asset = value;
   }
   private Int64 amount;
@@ -37,18 +41,89 @@ public class PaymentOp  {
     return this.amount;
   }
   public void setAmount(Int64 value) {
+    checkMutable();
     this.amount = value;
   }
-  public static void encode(XdrDataOutputStream stream, PaymentOp encodedPaymentOp) throws IOException{
+  public static void encode(XdrWriter stream, PaymentOp encodedPaymentOp) throws IOException{
     AccountID.encode(stream, encodedPaymentOp.destination);
     Asset.encode(stream, encodedPaymentOp.asset);
     Int64.encode(stream, encodedPaymentOp.amount);
   }
-  public static PaymentOp decode(XdrDataInputStream stream) throws IOException {
+  public static PaymentOp decode(XdrReader stream) throws IOException {
     PaymentOp decodedPaymentOp = new PaymentOp();
     decodedPaymentOp.destination = AccountID.decode(stream);
     decodedPaymentOp.asset = Asset.decode(stream);
     decodedPaymentOp.amount = Int64.decode(stream);
     return decodedPaymentOp;
   }
+  public static PaymentOp decodeInto(XdrReader stream, PaymentOp existing) throws IOException {
+    PaymentOp decodedPaymentOp = existing != null && !existing.frozen ? existing : new PaymentOp();
+    decodedPaymentOp.destination = AccountID.decodeInto(stream, decodedPaymentOp.destination);
+    decodedPaymentOp.asset = Asset.decodeInto(stream, decodedPaymentOp.asset);
+    decodedPaymentOp.amount = Int64.decodeInto(stream, decodedPaymentOp.amount);
+    return decodedPaymentOp;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    AccountID.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+  }
+  public static int encodedSize(PaymentOp encodedPaymentOp) {
+    int size = 0;
+    size += AccountID.encodedSize(encodedPaymentOp.destination);
+    size += Asset.encodedSize(encodedPaymentOp.asset);
+    size += Int64.encodedSize(encodedPaymentOp.amount);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.destination != null) {
+      this.destination.freeze();
+    }
+    if (this.asset != null) {
+      this.asset.freeze();
+    }
+    if (this.amount != null) {
+      this.amount.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("PaymentOp is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof PaymentOp)) {
+      return false;
+    }
+    PaymentOp other = (PaymentOp) object;
+    return Objects.equals(this.destination, other.destination)
+        && Objects.equals(this.asset, other.asset)
+        && Objects.equals(this.amount, other.amount);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.destination);
+    result = 31 * result + Objects.hashCode(this.asset);
+    result = 31 * result + Objects.hashCode(this.amount);
+    return result;
+  }
 }
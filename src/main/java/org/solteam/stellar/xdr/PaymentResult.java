@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -26,7 +28,7 @@ public class PaymentResult  {
   public void setDiscriminant(PaymentResultCode value) {
     this.code = value;
   }
-  public static void encode(XdrDataOutputStream stream, PaymentResult encodedPaymentResult) throws IOException {
+  public static void encode(XdrWriter stream, PaymentResult encodedPaymentResult) throws IOException {
   stream.writeInt(encodedPaymentResult.getDiscriminant().getValue());
   switch (encodedPaymentResult.getDiscriminant()) {
   case PAYMENT_SUCCESS:
@@ -35,10 +37,13 @@ public class PaymentResult  {
   break;
   }
   }
-  public static PaymentResult decode(XdrDataInputStream stream) throws IOException {
+  public static PaymentResult decode(XdrReader stream) throws IOException {
   PaymentResult decodedPaymentResult = new PaymentResult();
   PaymentResultCode discriminant = PaymentResultCode.decode(stream);
   decodedPaymentResult.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    return decodedPaymentResult;
+  }
   switch (decodedPaymentResult.getDiscriminant()) {
   case PAYMENT_SUCCESS:
   break;
@@ -47,4 +52,76 @@ public class PaymentResult  {
   }
     return decodedPaymentResult;
   }
+  public static PaymentResult decodeInto(XdrReader stream, PaymentResult existing) throws IOException {
+    PaymentResult decodedPaymentResult = existing != null ? existing : new PaymentResult();
+    PaymentResultCode discriminant = PaymentResultCode.decode(stream);
+    decodedPaymentResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      return decodedPaymentResult;
+    }
+    switch (discriminant) {
+      case PAYMENT_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return decodedPaymentResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    PaymentResultCode discriminant = PaymentResultCode.decode(stream);
+    if (discriminant == null) {
+      return;
+    }
+    switch (discriminant) {
+      case PAYMENT_SUCCESS:
+        break;
+      default:
+        break;
+    }
+  }
+  public static int encodedSize(PaymentResult encodedPaymentResult) {
+    int size = 4;
+    switch (encodedPaymentResult.getDiscriminant()) {
+      case PAYMENT_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof PaymentResult)) {
+      return false;
+    }
+    PaymentResult other = (PaymentResult) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case PAYMENT_SUCCESS:
+        return true;
+      default:
+        return true;
+    }
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    return result;
+  }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -39,6 +40,20 @@ public enum PaymentResultCode  {
   PAYMENT_NO_ISSUER(-9),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -9;
+  private static final PaymentResultCode[] BY_VALUE = {
+    PAYMENT_NO_ISSUER,
+    PAYMENT_LINE_FULL,
+    PAYMENT_NOT_AUTHORIZED,
+    PAYMENT_NO_TRUST,
+    PAYMENT_NO_DESTINATION,
+    PAYMENT_SRC_NOT_AUTHORIZED,
+    PAYMENT_SRC_NO_TRUST,
+    PAYMENT_UNDERFUNDED,
+    PAYMENT_MALFORMED,
+    PAYMENT_SUCCESS,
+  };
 
   PaymentResultCode(int value) {
       mValue = value;
@@ -48,25 +63,25 @@ public enum PaymentResultCode  {
       return mValue;
   }
 
-  static PaymentResultCode decode(XdrDataInputStream stream) throws IOException {
+  static PaymentResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return PAYMENT_SUCCESS;
-      case -1: return PAYMENT_MALFORMED;
-      case -2: return PAYMENT_UNDERFUNDED;
-      case -3: return PAYMENT_SRC_NO_TRUST;
-      case -4: return PAYMENT_SRC_NOT_AUTHORIZED;
-      case -5: return PAYMENT_NO_DESTINATION;
-      case -6: return PAYMENT_NO_TRUST;
-      case -7: return PAYMENT_NOT_AUTHORIZED;
-      case -8: return PAYMENT_LINE_FULL;
-      case -9: return PAYMENT_NO_ISSUER;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, PaymentResultCode value) throws IOException {
+  static void encode(XdrWriter stream, PaymentResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(PaymentResultCode value) {
+    return 4;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -46,18 +49,66 @@ public class PeerAddress  {
   public void setNumFailures(Uint32 value) {
     this.numFailures = value;
   }
-  public static void encode(XdrDataOutputStream stream, PeerAddress encodedPeerAddress) throws IOException{
+  public static void encode(XdrWriter stream, PeerAddress encodedPeerAddress) throws IOException{
     PeerAddressIp.encode(stream, encodedPeerAddress.ip);
     Uint32.encode(stream, encodedPeerAddress.port);
     Uint32.encode(stream, encodedPeerAddress.numFailures);
   }
-  public static PeerAddress decode(XdrDataInputStream stream) throws IOException {
+  public static PeerAddress decode(XdrReader stream) throws IOException {
     PeerAddress decodedPeerAddress = new PeerAddress();
     decodedPeerAddress.ip = PeerAddressIp.decode(stream);
     decodedPeerAddress.port = Uint32.decode(stream);
     decodedPeerAddress.numFailures = Uint32.decode(stream);
     return decodedPeerAddress;
   }
+  public static PeerAddress decodeInto(XdrReader stream, PeerAddress existing) throws IOException {
+    PeerAddress decodedPeerAddress = existing != null ? existing : new PeerAddress();
+    decodedPeerAddress.ip = PeerAddressIp.decodeInto(stream, decodedPeerAddress.ip);
+    decodedPeerAddress.port = Uint32.decodeInto(stream, decodedPeerAddress.port);
+    decodedPeerAddress.numFailures = Uint32.decodeInto(stream, decodedPeerAddress.numFailures);
+    return decodedPeerAddress;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    PeerAddressIp.skip(stream);
+    Uint32.skip(stream);
+    Uint32.skip(stream);
+  }
+  public static int encodedSize(PeerAddress encodedPeerAddress) {
+    int size = 0;
+    size += PeerAddressIp.encodedSize(encodedPeerAddress.ip);
+    size += Uint32.encodedSize(encodedPeerAddress.port);
+    size += Uint32.encodedSize(encodedPeerAddress.numFailures);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof PeerAddress)) {
+      return false;
+    }
+    PeerAddress other = (PeerAddress) object;
+    return Objects.equals(this.ip, other.ip)
+        && Objects.equals(this.port, other.port)
+        && Objects.equals(this.numFailures, other.numFailures);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.ip);
+    result = 31 * result + Objects.hashCode(this.port);
+    result = 31 * result + Objects.hashCode(this.numFailures);
+    return result;
+  }
 
   public static class PeerAddressIp {
     public PeerAddressIp () {}
@@ -66,6 +117,7 @@ public class PeerAddress  {
       return this.type;
     }
     public void setDiscriminant(IPAddrType value) {
+      this.cachedHashCode = 0;
       this.type = value;
     }
     private byte[] ipv4;
@@ -73,6 +125,7 @@ public class PeerAddress  {
       return this.ipv4;
     }
     public void setIpv4(byte[] value) {
+      this.cachedHashCode = 0;
       this.ipv4 = value;
     }
     private byte[] ipv6;
@@ -80,9 +133,10 @@ public class PeerAddress  {
       return this.ipv6;
     }
     public void setIpv6(byte[] value) {
+      this.cachedHashCode = 0;
       this.ipv6 = value;
     }
-    public static void encode(XdrDataOutputStream stream, PeerAddressIp encodedPeerAddressIp) throws IOException {
+    public static void encode(XdrWriter stream, PeerAddressIp encodedPeerAddressIp) throws IOException {
     stream.writeInt(encodedPeerAddressIp.getDiscriminant().getValue());
     switch (encodedPeerAddressIp.getDiscriminant()) {
     case IPv4:
@@ -95,24 +149,128 @@ public class PeerAddress  {
     break;
     }
     }
-    public static PeerAddressIp decode(XdrDataInputStream stream) throws IOException {
+    public static PeerAddressIp decode(XdrReader stream) throws IOException {
     PeerAddressIp decodedPeerAddressIp = new PeerAddressIp();
     IPAddrType discriminant = IPAddrType.decode(stream);
     decodedPeerAddressIp.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of PeerAddressIp");
+    }
     switch (decodedPeerAddressIp.getDiscriminant()) {
     case IPv4:
-    int ipv4size = 4;
-    decodedPeerAddressIp.ipv4 = new byte[ipv4size];
-    stream.read(decodedPeerAddressIp.ipv4, 0, ipv4size);
+    decodedPeerAddressIp.ipv4 = stream.readFixedOpaque(4);
     break;
     case IPv6:
-    int ipv6size = 16;
-    decodedPeerAddressIp.ipv6 = new byte[ipv6size];
-    stream.read(decodedPeerAddressIp.ipv6, 0, ipv6size);
+    decodedPeerAddressIp.ipv6 = stream.readFixedOpaque(16);
     break;
     }
       return decodedPeerAddressIp;
     }
+    public static PeerAddressIp decodeInto(XdrReader stream, PeerAddressIp existing) throws IOException {
+      PeerAddressIp decodedPeerAddressIp = existing != null ? existing : new PeerAddressIp();
+      decodedPeerAddressIp.cachedHashCode = 0;
+      IPAddrType discriminant = IPAddrType.decode(stream);
+      decodedPeerAddressIp.setDiscriminant(discriminant);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of PeerAddressIp");
+      }
+      switch (discriminant) {
+        case IPv4:
+          int ipv4size = 4;
+          if (decodedPeerAddressIp.ipv4 == null || decodedPeerAddressIp.ipv4.length != ipv4size) {
+            decodedPeerAddressIp.ipv4 = new byte[ipv4size];
+          }
+          stream.readFully(decodedPeerAddressIp.ipv4, 0, ipv4size);
+          break;
+        case IPv6:
+          int ipv6size = 16;
+          if (decodedPeerAddressIp.ipv6 == null || decodedPeerAddressIp.ipv6.length != ipv6size) {
+            decodedPeerAddressIp.ipv6 = new byte[ipv6size];
+          }
+          stream.readFully(decodedPeerAddressIp.ipv6, 0, ipv6size);
+          break;
+      }
+      // leave only the selected arm set, as decode does
+      if (discriminant != IPAddrType.IPv4) {
+        decodedPeerAddressIp.ipv4 = null;
+      }
+      if (discriminant != IPAddrType.IPv6) {
+        decodedPeerAddressIp.ipv6 = null;
+      }
+      return decodedPeerAddressIp;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      IPAddrType discriminant = IPAddrType.decode(stream);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of PeerAddressIp");
+      }
+      switch (discriminant) {
+        case IPv4:
+          stream.skip(4);
+          break;
+        case IPv6:
+          stream.skip(16);
+          break;
+      }
+    }
+    public static int encodedSize(PeerAddressIp encodedPeerAddressIp) {
+      int size = 4;
+      switch (encodedPeerAddressIp.getDiscriminant()) {
+        case IPv4:
+          size += XdrSize.opaque(encodedPeerAddressIp.ipv4.length);
+          break;
+        case IPv6:
+          size += XdrSize.opaque(encodedPeerAddressIp.ipv6.length);
+          break;
+      }
+      return size;
+    }
 
+    // computed by hashCode(); reset by the setters and decodeInto,
+    // but not when an array is changed in place
+    private int cachedHashCode;
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof PeerAddressIp)) {
+        return false;
+      }
+      PeerAddressIp other = (PeerAddressIp) object;
+      if (this.getDiscriminant() != other.getDiscriminant()) {
+        return false;
+      }
+      if (this.getDiscriminant() == null) {
+        return true;
+      }
+      switch (this.getDiscriminant()) {
+        case IPv4:
+          return Arrays.equals(this.ipv4, other.ipv4);
+        case IPv6:
+          return Arrays.equals(this.ipv6, other.ipv6);
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.cachedHashCode;
+      if (result != 0) {
+        return result;
+      }
+      result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+      if (this.getDiscriminant() != null) {
+        switch (this.getDiscriminant()) {
+          case IPv4:
+            result = 31 * result + Arrays.hashCode(this.ipv4);
+            break;
+          case IPv6:
+            result = 31 * result + Arrays.hashCode(this.ipv6);
+            break;
+        }
+      }
+      this.cachedHashCode = result;
+      return result;
+    }
   }
 }
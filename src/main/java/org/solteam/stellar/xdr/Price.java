@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +24,7 @@ public class Price  {
     return this.n;
   }
   public void setN(Int32 value) {
+    checkMutable();
     this.n = value;
   }
   private Int32 d;
@@ -29,16 +32,78 @@ public class Price  {
     return this.d;
   }
   public void setD(Int32 value) {
+    checkMutable();
     this.d = value;
   }
-  public static void encode(XdrDataOutputStream stream, Price encodedPrice) throws IOException{
+  public static void encode(XdrWriter stream, Price encodedPrice) throws IOException{
     Int32.encode(stream, encodedPrice.n);
     Int32.encode(stream, encodedPrice.d);
   }
-  public static Price decode(XdrDataInputStream stream) throws IOException {
+  public static Price decode(XdrReader stream) throws IOException {
     Price decodedPrice = new Price();
     decodedPrice.n = Int32.decode(stream);
     decodedPrice.d = Int32.decode(stream);
     return decodedPrice;
   }
+  public static Price decodeInto(XdrReader stream, Price existing) throws IOException {
+    Price decodedPrice = existing != null && !existing.frozen ? existing : new Price();
+    decodedPrice.n = Int32.decodeInto(stream, decodedPrice.n);
+    decodedPrice.d = Int32.decodeInto(stream, decodedPrice.d);
+    return decodedPrice;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(8);
+  }
+  public static int encodedSize(Price encodedPrice) {
+    int size = 0;
+    size += Int32.encodedSize(encodedPrice.n);
+    size += Int32.encodedSize(encodedPrice.d);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.n != null) {
+      this.n.freeze();
+    }
+    if (this.d != null) {
+      this.d.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Price is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Price)) {
+      return false;
+    }
+    Price other = (Price) object;
+    return Objects.equals(this.n, other.n)
+        && Objects.equals(this.d, other.d);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.n);
+    result = 31 * result + Objects.hashCode(this.d);
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +24,7 @@ public class PublicKey  {
     return this.type;
   }
   public void setDiscriminant(PublicKeyType value) {
+    checkMutable();
     this.type = value;
   }
   private Uint256 ed25519;
@@ -29,9 +32,10 @@ public class PublicKey  {
     return this.ed25519;
   }
   public void setEd25519(Uint256 value) {
+    checkMutable();
     this.ed25519 = value;
   }
-  public static void encode(XdrDataOutputStream stream, PublicKey encodedPublicKey) throws IOException {
+  public static void encode(XdrWriter stream, PublicKey encodedPublicKey) throws IOException {
   stream.writeInt(encodedPublicKey.getDiscriminant().getValue());
   switch (encodedPublicKey.getDiscriminant()) {
   case PUBLIC_KEY_TYPE_ED25519:
@@ -39,10 +43,13 @@ public class PublicKey  {
   break;
   }
   }
-  public static PublicKey decode(XdrDataInputStream stream) throws IOException {
+  public static PublicKey decode(XdrReader stream) throws IOException {
   PublicKey decodedPublicKey = new PublicKey();
   PublicKeyType discriminant = PublicKeyType.decode(stream);
   decodedPublicKey.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    throw new IOException("Unknown discriminant of PublicKey");
+  }
   switch (decodedPublicKey.getDiscriminant()) {
   case PUBLIC_KEY_TYPE_ED25519:
   decodedPublicKey.ed25519 = Uint256.decode(stream);
@@ -50,4 +57,110 @@ public class PublicKey  {
   }
     return decodedPublicKey;
   }
+  public static PublicKey decodeInto(XdrReader stream, PublicKey existing) throws IOException {
+    PublicKey decodedPublicKey = existing != null && !existing.frozen ? existing : new PublicKey();
+    PublicKeyType discriminant = PublicKeyType.decode(stream);
+    decodedPublicKey.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of PublicKey");
+    }
+    switch (discriminant) {
+      case PUBLIC_KEY_TYPE_ED25519:
+        decodedPublicKey.ed25519 = Uint256.decodeInto(stream, decodedPublicKey.ed25519);
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != PublicKeyType.PUBLIC_KEY_TYPE_ED25519) {
+      decodedPublicKey.ed25519 = null;
+    }
+    return decodedPublicKey;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    PublicKeyType discriminant = PublicKeyType.decode(stream);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of PublicKey");
+    }
+    switch (discriminant) {
+      case PUBLIC_KEY_TYPE_ED25519:
+        Uint256.skip(stream);
+        break;
+    }
+  }
+  public static int encodedSize(PublicKey encodedPublicKey) {
+    int size = 4;
+    switch (encodedPublicKey.getDiscriminant()) {
+      case PUBLIC_KEY_TYPE_ED25519:
+        size += Uint256.encodedSize(encodedPublicKey.ed25519);
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  static int compare(PublicKey a, PublicKey b) {
+    int result = Integer.compareUnsigned(a.getDiscriminant().getValue(), b.getDiscriminant().getValue());
+    if (result != 0) {
+      return result;
+    }
+    switch (a.getDiscriminant()) {
+      case PUBLIC_KEY_TYPE_ED25519:
+        return Uint256.compare(a.ed25519, b.ed25519);
+    }
+    return 0;
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.ed25519 != null) {
+      this.ed25519.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("PublicKey is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof PublicKey)) {
+      return false;
+    }
+    PublicKey other = (PublicKey) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case PUBLIC_KEY_TYPE_ED25519:
+        return Objects.equals(this.ed25519, other.ed25519);
+    }
+    return true;
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case PUBLIC_KEY_TYPE_ED25519:
+          result = 31 * result + Objects.hashCode(this.ed25519);
+          break;
+      }
+    }
+    return result;
+  }
 }
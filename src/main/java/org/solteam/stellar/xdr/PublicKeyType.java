@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -18,6 +19,11 @@ public enum PublicKeyType  {
   PUBLIC_KEY_TYPE_ED25519(0),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final PublicKeyType[] BY_VALUE = {
+    PUBLIC_KEY_TYPE_ED25519,
+  };
 
   PublicKeyType(int value) {
       mValue = value;
@@ -27,16 +33,25 @@ public enum PublicKeyType  {
       return mValue;
   }
 
-  static PublicKeyType decode(XdrDataInputStream stream) throws IOException {
+  static PublicKeyType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return PUBLIC_KEY_TYPE_ED25519;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, PublicKeyType value) throws IOException {
+  static void encode(XdrWriter stream, PublicKeyType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(PublicKeyType value) {
+    return 4;
+  }
 }
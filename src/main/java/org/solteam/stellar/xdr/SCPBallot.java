@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,14 +33,57 @@ public class SCPBallot  {
   public void setValue(Value value) {
     this.value = value;
   }
-  public static void encode(XdrDataOutputStream stream, SCPBallot encodedSCPBallot) throws IOException{
+  public static void encode(XdrWriter stream, SCPBallot encodedSCPBallot) throws IOException{
     Uint32.encode(stream, encodedSCPBallot.counter);
     Value.encode(stream, encodedSCPBallot.value);
   }
-  public static SCPBallot decode(XdrDataInputStream stream) throws IOException {
+  public static SCPBallot decode(XdrReader stream) throws IOException {
     SCPBallot decodedSCPBallot = new SCPBallot();
     decodedSCPBallot.counter = Uint32.decode(stream);
     decodedSCPBallot.value = Value.decode(stream);
     return decodedSCPBallot;
   }
+  public static SCPBallot decodeInto(XdrReader stream, SCPBallot existing) throws IOException {
+    SCPBallot decodedSCPBallot = existing != null ? existing : new SCPBallot();
+    decodedSCPBallot.counter = Uint32.decodeInto(stream, decodedSCPBallot.counter);
+    decodedSCPBallot.value = Value.decodeInto(stream, decodedSCPBallot.value);
+    return decodedSCPBallot;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Uint32.skip(stream);
+    Value.skip(stream);
+  }
+  public static int encodedSize(SCPBallot encodedSCPBallot) {
+    int size = 0;
+    size += Uint32.encodedSize(encodedSCPBallot.counter);
+    size += Value.encodedSize(encodedSCPBallot.value);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SCPBallot)) {
+      return false;
+    }
+    SCPBallot other = (SCPBallot) object;
+    return Objects.equals(this.counter, other.counter)
+        && Objects.equals(this.value, other.value);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.counter);
+    result = 31 * result + Objects.hashCode(this.value);
+    return result;
+  }
 }
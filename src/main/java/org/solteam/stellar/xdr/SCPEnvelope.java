@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,14 +33,57 @@ public class SCPEnvelope  {
   public void setSignature(Signature value) {
     this.signature = value;
   }
-  public static void encode(XdrDataOutputStream stream, SCPEnvelope encodedSCPEnvelope) throws IOException{
+  public static void encode(XdrWriter stream, SCPEnvelope encodedSCPEnvelope) throws IOException{
     SCPStatement.encode(stream, encodedSCPEnvelope.statement);
     Signature.encode(stream, encodedSCPEnvelope.signature);
   }
-  public static SCPEnvelope decode(XdrDataInputStream stream) throws IOException {
+  public static SCPEnvelope decode(XdrReader stream) throws IOException {
     SCPEnvelope decodedSCPEnvelope = new SCPEnvelope();
     decodedSCPEnvelope.statement = SCPStatement.decode(stream);
     decodedSCPEnvelope.signature = Signature.decode(stream);
     return decodedSCPEnvelope;
   }
+  public static SCPEnvelope decodeInto(XdrReader stream, SCPEnvelope existing) throws IOException {
+    SCPEnvelope decodedSCPEnvelope = existing != null ? existing : new SCPEnvelope();
+    decodedSCPEnvelope.statement = SCPStatement.decodeInto(stream, decodedSCPEnvelope.statement);
+    decodedSCPEnvelope.signature = Signature.decodeInto(stream, decodedSCPEnvelope.signature);
+    return decodedSCPEnvelope;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    SCPStatement.skip(stream);
+    Signature.skip(stream);
+  }
+  public static int encodedSize(SCPEnvelope encodedSCPEnvelope) {
+    int size = 0;
+    size += SCPStatement.encodedSize(encodedSCPEnvelope.statement);
+    size += Signature.encodedSize(encodedSCPEnvelope.signature);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SCPEnvelope)) {
+      return false;
+    }
+    SCPEnvelope other = (SCPEnvelope) object;
+    return Objects.equals(this.statement, other.statement)
+        && Objects.equals(this.signature, other.signature);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.statement);
+    result = 31 * result + Objects.hashCode(this.signature);
+    return result;
+  }
 }
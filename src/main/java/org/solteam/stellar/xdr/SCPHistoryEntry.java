@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -17,13 +19,19 @@ import java.io.IOException;
 //  ===========================================================================
 public class SCPHistoryEntry  {
   public SCPHistoryEntry () {}
-  Integer v;
+  int v;
   public Integer getDiscriminant() {
     return this.v;
   }
   public void setDiscriminant(Integer value) {
     this.v = value;
   }
+  public void setDiscriminant(int value) {
+    this.v = value;
+  }
+  public int getDiscriminantValue() {
+    return this.v;
+  }
   private SCPHistoryEntryV0 v0;
   public SCPHistoryEntryV0 getV0() {
     return this.v0;
@@ -31,23 +39,91 @@ public class SCPHistoryEntry  {
   public void setV0(SCPHistoryEntryV0 value) {
     this.v0 = value;
   }
-  public static void encode(XdrDataOutputStream stream, SCPHistoryEntry encodedSCPHistoryEntry) throws IOException {
-  stream.writeInt(encodedSCPHistoryEntry.getDiscriminant().intValue());
-  switch (encodedSCPHistoryEntry.getDiscriminant()) {
+  public static void encode(XdrWriter stream, SCPHistoryEntry encodedSCPHistoryEntry) throws IOException {
+  stream.writeInt(encodedSCPHistoryEntry.v);
+  switch (encodedSCPHistoryEntry.v) {
   case 0:
   SCPHistoryEntryV0.encode(stream, encodedSCPHistoryEntry.v0);
   break;
   }
   }
-  public static SCPHistoryEntry decode(XdrDataInputStream stream) throws IOException {
+  public static SCPHistoryEntry decode(XdrReader stream) throws IOException {
   SCPHistoryEntry decodedSCPHistoryEntry = new SCPHistoryEntry();
-  Integer discriminant = stream.readInt();
+  int discriminant = stream.readInt();
   decodedSCPHistoryEntry.setDiscriminant(discriminant);
-  switch (decodedSCPHistoryEntry.getDiscriminant()) {
+  switch (decodedSCPHistoryEntry.v) {
   case 0:
   decodedSCPHistoryEntry.v0 = SCPHistoryEntryV0.decode(stream);
   break;
   }
     return decodedSCPHistoryEntry;
   }
+  public static SCPHistoryEntry decodeInto(XdrReader stream, SCPHistoryEntry existing) throws IOException {
+    SCPHistoryEntry decodedSCPHistoryEntry = existing != null ? existing : new SCPHistoryEntry();
+    int discriminant = stream.readInt();
+    decodedSCPHistoryEntry.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        decodedSCPHistoryEntry.v0 = SCPHistoryEntryV0.decodeInto(stream, decodedSCPHistoryEntry.v0);
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != 0) {
+      decodedSCPHistoryEntry.v0 = null;
+    }
+    return decodedSCPHistoryEntry;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        SCPHistoryEntryV0.skip(stream);
+        break;
+    }
+  }
+  public static int encodedSize(SCPHistoryEntry encodedSCPHistoryEntry) {
+    int size = 4;
+    switch (encodedSCPHistoryEntry.v) {
+      case 0:
+        size += SCPHistoryEntryV0.encodedSize(encodedSCPHistoryEntry.v0);
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SCPHistoryEntry)) {
+      return false;
+    }
+    SCPHistoryEntry other = (SCPHistoryEntry) object;
+    if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+      return false;
+    }
+    switch (this.getDiscriminantValue()) {
+      case 0:
+        return Objects.equals(this.v0, other.v0);
+    }
+    return true;
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminantValue();
+    switch (this.getDiscriminantValue()) {
+      case 0:
+        result = 31 * result + Objects.hashCode(this.v0);
+        break;
+    }
+    return result;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,7 +34,7 @@ public class SCPHistoryEntryV0  {
   public void setLedgerMessages(LedgerSCPMessages value) {
     this.ledgerMessages = value;
   }
-  public static void encode(XdrDataOutputStream stream, SCPHistoryEntryV0 encodedSCPHistoryEntryV0) throws IOException{
+  public static void encode(XdrWriter stream, SCPHistoryEntryV0 encodedSCPHistoryEntryV0) throws IOException{
     int quorumSetssize = encodedSCPHistoryEntryV0.getQuorumSets().length;
     stream.writeInt(quorumSetssize);
     for (int i = 0; i < quorumSetssize; i++) {
@@ -39,9 +42,10 @@ public class SCPHistoryEntryV0  {
     }
     LedgerSCPMessages.encode(stream, encodedSCPHistoryEntryV0.ledgerMessages);
   }
-  public static SCPHistoryEntryV0 decode(XdrDataInputStream stream) throws IOException {
+  public static SCPHistoryEntryV0 decode(XdrReader stream) throws IOException {
     SCPHistoryEntryV0 decodedSCPHistoryEntryV0 = new SCPHistoryEntryV0();
     int quorumSetssize = stream.readInt();
+    stream.checkArrayLength(quorumSetssize, Integer.MAX_VALUE);
     decodedSCPHistoryEntryV0.quorumSets = new SCPQuorumSet[quorumSetssize];
     for (int i = 0; i < quorumSetssize; i++) {
       decodedSCPHistoryEntryV0.quorumSets[i] = SCPQuorumSet.decode(stream);
@@ -49,4 +53,62 @@ public class SCPHistoryEntryV0  {
     decodedSCPHistoryEntryV0.ledgerMessages = LedgerSCPMessages.decode(stream);
     return decodedSCPHistoryEntryV0;
   }
+  public static SCPHistoryEntryV0 decodeInto(XdrReader stream, SCPHistoryEntryV0 existing) throws IOException {
+    SCPHistoryEntryV0 decodedSCPHistoryEntryV0 = existing != null ? existing : new SCPHistoryEntryV0();
+    int quorumSetssize = stream.readInt();
+    stream.checkArrayLength(quorumSetssize, Integer.MAX_VALUE);
+    if (decodedSCPHistoryEntryV0.quorumSets == null) {
+      decodedSCPHistoryEntryV0.quorumSets = new SCPQuorumSet[quorumSetssize];
+    } else if (decodedSCPHistoryEntryV0.quorumSets.length != quorumSetssize) {
+      decodedSCPHistoryEntryV0.quorumSets = Arrays.copyOf(decodedSCPHistoryEntryV0.quorumSets, quorumSetssize);
+    }
+    for (int i = 0; i < quorumSetssize; i++) {
+      decodedSCPHistoryEntryV0.quorumSets[i] = SCPQuorumSet.decodeInto(stream, decodedSCPHistoryEntryV0.quorumSets[i]);
+    }
+    decodedSCPHistoryEntryV0.ledgerMessages = LedgerSCPMessages.decodeInto(stream, decodedSCPHistoryEntryV0.ledgerMessages);
+    return decodedSCPHistoryEntryV0;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    int quorumSetssize = stream.readInt();
+    for (int i = 0; i < quorumSetssize; i++) {
+      SCPQuorumSet.skip(stream);
+    }
+    LedgerSCPMessages.skip(stream);
+  }
+  public static int encodedSize(SCPHistoryEntryV0 encodedSCPHistoryEntryV0) {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < encodedSCPHistoryEntryV0.quorumSets.length; i++) {
+      size += SCPQuorumSet.encodedSize(encodedSCPHistoryEntryV0.quorumSets[i]);
+    }
+    size += LedgerSCPMessages.encodedSize(encodedSCPHistoryEntryV0.ledgerMessages);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SCPHistoryEntryV0)) {
+      return false;
+    }
+    SCPHistoryEntryV0 other = (SCPHistoryEntryV0) object;
+    return Arrays.equals(this.quorumSets, other.quorumSets)
+        && Objects.equals(this.ledgerMessages, other.ledgerMessages);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Arrays.hashCode(this.quorumSets);
+    result = 31 * result + Objects.hashCode(this.ledgerMessages);
+    return result;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -39,7 +42,7 @@ public class SCPNomination  {
   public void setAccepted(Value[] value) {
     this.accepted = value;
   }
-  public static void encode(XdrDataOutputStream stream, SCPNomination encodedSCPNomination) throws IOException{
+  public static void encode(XdrWriter stream, SCPNomination encodedSCPNomination) throws IOException{
     Hash.encode(stream, encodedSCPNomination.quorumSetHash);
     int votessize = encodedSCPNomination.getVotes().length;
     stream.writeInt(votessize);
@@ -52,19 +55,99 @@ public class SCPNomination  {
       Value.encode(stream, encodedSCPNomination.accepted[i]);
     }
   }
-  public static SCPNomination decode(XdrDataInputStream stream) throws IOException {
+  public static SCPNomination decode(XdrReader stream) throws IOException {
     SCPNomination decodedSCPNomination = new SCPNomination();
     decodedSCPNomination.quorumSetHash = Hash.decode(stream);
     int votessize = stream.readInt();
+    stream.checkArrayLength(votessize, Integer.MAX_VALUE);
     decodedSCPNomination.votes = new Value[votessize];
     for (int i = 0; i < votessize; i++) {
       decodedSCPNomination.votes[i] = Value.decode(stream);
     }
     int acceptedsize = stream.readInt();
+    stream.checkArrayLength(acceptedsize, Integer.MAX_VALUE);
     decodedSCPNomination.accepted = new Value[acceptedsize];
     for (int i = 0; i < acceptedsize; i++) {
       decodedSCPNomination.accepted[i] = Value.decode(stream);
     }
     return decodedSCPNomination;
   }
+  public static SCPNomination decodeInto(XdrReader stream, SCPNomination existing) throws IOException {
+    SCPNomination decodedSCPNomination = existing != null ? existing : new SCPNomination();
+    decodedSCPNomination.quorumSetHash = Hash.decodeInto(stream, decodedSCPNomination.quorumSetHash);
+    int votessize = stream.readInt();
+    stream.checkArrayLength(votessize, Integer.MAX_VALUE);
+    if (decodedSCPNomination.votes == null) {
+      decodedSCPNomination.votes = new Value[votessize];
+    } else if (decodedSCPNomination.votes.length != votessize) {
+      decodedSCPNomination.votes = Arrays.copyOf(decodedSCPNomination.votes, votessize);
+    }
+    for (int i = 0; i < votessize; i++) {
+      decodedSCPNomination.votes[i] = Value.decodeInto(stream, decodedSCPNomination.votes[i]);
+    }
+    int acceptedsize = stream.readInt();
+    stream.checkArrayLength(acceptedsize, Integer.MAX_VALUE);
+    if (decodedSCPNomination.accepted == null) {
+      decodedSCPNomination.accepted = new Value[acceptedsize];
+    } else if (decodedSCPNomination.accepted.length != acceptedsize) {
+      decodedSCPNomination.accepted = Arrays.copyOf(decodedSCPNomination.accepted, acceptedsize);
+    }
+    for (int i = 0; i < acceptedsize; i++) {
+      decodedSCPNomination.accepted[i] = Value.decodeInto(stream, decodedSCPNomination.accepted[i]);
+    }
+    return decodedSCPNomination;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Hash.skip(stream);
+    int votessize = stream.readInt();
+    for (int i = 0; i < votessize; i++) {
+      Value.skip(stream);
+    }
+    int acceptedsize = stream.readInt();
+    for (int i = 0; i < acceptedsize; i++) {
+      Value.skip(stream);
+    }
+  }
+  public static int encodedSize(SCPNomination encodedSCPNomination) {
+    int size = 0;
+    size += Hash.encodedSize(encodedSCPNomination.quorumSetHash);
+    size += 4;
+    for (int i = 0; i < encodedSCPNomination.votes.length; i++) {
+      size += Value.encodedSize(encodedSCPNomination.votes[i]);
+    }
+    size += 4;
+    for (int i = 0; i < encodedSCPNomination.accepted.length; i++) {
+      size += Value.encodedSize(encodedSCPNomination.accepted[i]);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SCPNomination)) {
+      return false;
+    }
+    SCPNomination other = (SCPNomination) object;
+    return Objects.equals(this.quorumSetHash, other.quorumSetHash)
+        && Arrays.equals(this.votes, other.votes)
+        && Arrays.equals(this.accepted, other.accepted);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.quorumSetHash);
+    result = 31 * result + Arrays.hashCode(this.votes);
+    result = 31 * result + Arrays.hashCode(this.accepted);
+    return result;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -39,7 +42,7 @@ public class SCPQuorumSet  {
   public void setInnerSets(SCPQuorumSet[] value) {
     this.innerSets = value;
   }
-  public static void encode(XdrDataOutputStream stream, SCPQuorumSet encodedSCPQuorumSet) throws IOException{
+  public static void encode(XdrWriter stream, SCPQuorumSet encodedSCPQuorumSet) throws IOException{
     Uint32.encode(stream, encodedSCPQuorumSet.threshold);
     int validatorssize = encodedSCPQuorumSet.getValidators().length;
     stream.writeInt(validatorssize);
@@ -52,19 +55,104 @@ public class SCPQuorumSet  {
       SCPQuorumSet.encode(stream, encodedSCPQuorumSet.innerSets[i]);
     }
   }
-  public static SCPQuorumSet decode(XdrDataInputStream stream) throws IOException {
+  public static SCPQuorumSet decode(XdrReader stream) throws IOException {
     SCPQuorumSet decodedSCPQuorumSet = new SCPQuorumSet();
     decodedSCPQuorumSet.threshold = Uint32.decode(stream);
     int validatorssize = stream.readInt();
+    stream.checkArrayLength(validatorssize, Integer.MAX_VALUE);
     decodedSCPQuorumSet.validators = new PublicKey[validatorssize];
     for (int i = 0; i < validatorssize; i++) {
       decodedSCPQuorumSet.validators[i] = PublicKey.decode(stream);
     }
     int innerSetssize = stream.readInt();
+    stream.checkArrayLength(innerSetssize, Integer.MAX_VALUE);
     decodedSCPQuorumSet.innerSets = new SCPQuorumSet[innerSetssize];
     for (int i = 0; i < innerSetssize; i++) {
       decodedSCPQuorumSet.innerSets[i] = SCPQuorumSet.decode(stream);
     }
     return decodedSCPQuorumSet;
   }
+  public static SCPQuorumSet decodeInto(XdrReader stream, SCPQuorumSet existing) throws IOException {
+    SCPQuorumSet decodedSCPQuorumSet = existing != null ? existing : new SCPQuorumSet();
+    decodedSCPQuorumSet.threshold = Uint32.decodeInto(stream, decodedSCPQuorumSet.threshold);
+    int validatorssize = stream.readInt();
+    stream.checkArrayLength(validatorssize, Integer.MAX_VALUE);
+    if (decodedSCPQuorumSet.validators == null) {
+      decodedSCPQuorumSet.validators = new PublicKey[validatorssize];
+    } else if (decodedSCPQuorumSet.validators.length != validatorssize) {
+      decodedSCPQuorumSet.validators = Arrays.copyOf(decodedSCPQuorumSet.validators, validatorssize);
+    }
+    for (int i = 0; i < validatorssize; i++) {
+      decodedSCPQuorumSet.validators[i] = PublicKey.decodeInto(stream, decodedSCPQuorumSet.validators[i]);
+    }
+    int innerSetssize = stream.readInt();
+    stream.checkArrayLength(innerSetssize, Integer.MAX_VALUE);
+    if (decodedSCPQuorumSet.innerSets == null) {
+      decodedSCPQuorumSet.innerSets = new SCPQuorumSet[innerSetssize];
+    } else if (decodedSCPQuorumSet.innerSets.length != innerSetssize) {
+      decodedSCPQuorumSet.innerSets = Arrays.copyOf(decodedSCPQuorumSet.innerSets, innerSetssize);
+    }
+    for (int i = 0; i < innerSetssize; i++) {
+      decodedSCPQuorumSet.innerSets[i] = SCPQuorumSet.decodeInto(stream, decodedSCPQuorumSet.innerSets[i]);
+    }
+    return decodedSCPQuorumSet;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Uint32.skip(stream);
+    int validatorssize = stream.readInt();
+    for (int i = 0; i < validatorssize; i++) {
+      PublicKey.skip(stream);
+    }
+    int innerSetssize = stream.readInt();
+    for (int i = 0; i < innerSetssize; i++) {
+      SCPQuorumSet.skip(stream);
+    }
+  }
+  public static int encodedSize(SCPQuorumSet encodedSCPQuorumSet) {
+    int size = 0;
+    size += Uint32.encodedSize(encodedSCPQuorumSet.threshold);
+    size += 4;
+    for (int i = 0; i < encodedSCPQuorumSet.validators.length; i++) {
+      size += PublicKey.encodedSize(encodedSCPQuorumSet.validators[i]);
+    }
+    size += 4;
+    for (int i = 0; i < encodedSCPQuorumSet.innerSets.length; i++) {
+      size += SCPQuorumSet.encodedSize(encodedSCPQuorumSet.innerSets[i]);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  public byte[] sha256() throws IOException {
+    XdrDigestWriter writer = XdrDigestWriter.sha256();
+    encode(writer, this);
+    return writer.digest();
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SCPQuorumSet)) {
+      return false;
+    }
+    SCPQuorumSet other = (SCPQuorumSet) object;
+    return Objects.equals(this.threshold, other.threshold)
+        && Arrays.equals(this.validators, other.validators)
+        && Arrays.equals(this.innerSets, other.innerSets);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.threshold);
+    result = 31 * result + Arrays.hashCode(this.validators);
+    result = 31 * result + Arrays.hashCode(this.innerSets);
+    return result;
+  }
 }
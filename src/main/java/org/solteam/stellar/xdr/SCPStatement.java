@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -71,18 +73,66 @@ public class SCPStatement  {
   public void setPledges(SCPStatementPledges value) {
     this.pledges = value;
   }
-  public static void encode(XdrDataOutputStream stream, SCPStatement encodedSCPStatement) throws IOException{
+  public static void encode(XdrWriter stream, SCPStatement encodedSCPStatement) throws IOException{
     NodeID.encode(stream, encodedSCPStatement.nodeID);
     Uint64.encode(stream, encodedSCPStatement.slotIndex);
     SCPStatementPledges.encode(stream, encodedSCPStatement.pledges);
   }
-  public static SCPStatement decode(XdrDataInputStream stream) throws IOException {
+  public static SCPStatement decode(XdrReader stream) throws IOException {
     SCPStatement decodedSCPStatement = new SCPStatement();
     decodedSCPStatement.nodeID = NodeID.decode(stream);
     decodedSCPStatement.slotIndex = Uint64.decode(stream);
     decodedSCPStatement.pledges = SCPStatementPledges.decode(stream);
     return decodedSCPStatement;
   }
+  public static SCPStatement decodeInto(XdrReader stream, SCPStatement existing) throws IOException {
+    SCPStatement decodedSCPStatement = existing != null ? existing : new SCPStatement();
+    decodedSCPStatement.nodeID = NodeID.decodeInto(stream, decodedSCPStatement.nodeID);
+    decodedSCPStatement.slotIndex = Uint64.decodeInto(stream, decodedSCPStatement.slotIndex);
+    decodedSCPStatement.pledges = SCPStatementPledges.decodeInto(stream, decodedSCPStatement.pledges);
+    return decodedSCPStatement;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    NodeID.skip(stream);
+    Uint64.skip(stream);
+    SCPStatementPledges.skip(stream);
+  }
+  public static int encodedSize(SCPStatement encodedSCPStatement) {
+    int size = 0;
+    size += NodeID.encodedSize(encodedSCPStatement.nodeID);
+    size += Uint64.encodedSize(encodedSCPStatement.slotIndex);
+    size += SCPStatementPledges.encodedSize(encodedSCPStatement.pledges);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SCPStatement)) {
+      return false;
+    }
+    SCPStatement other = (SCPStatement) object;
+    return Objects.equals(this.nodeID, other.nodeID)
+        && Objects.equals(this.slotIndex, other.slotIndex)
+        && Objects.equals(this.pledges, other.pledges);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.nodeID);
+    result = 31 * result + Objects.hashCode(this.slotIndex);
+    result = 31 * result + Objects.hashCode(this.pledges);
+    return result;
+  }
 
   public static class SCPStatementPledges {
     public SCPStatementPledges () {}
@@ -121,7 +171,7 @@ public class SCPStatement  {
     public void setNominate(SCPNomination value) {
       this.nominate = value;
     }
-    public static void encode(XdrDataOutputStream stream, SCPStatementPledges encodedSCPStatementPledges) throws IOException {
+    public static void encode(XdrWriter stream, SCPStatementPledges encodedSCPStatementPledges) throws IOException {
     stream.writeInt(encodedSCPStatementPledges.getDiscriminant().getValue());
     switch (encodedSCPStatementPledges.getDiscriminant()) {
     case SCP_ST_PREPARE:
@@ -138,10 +188,13 @@ public class SCPStatement  {
     break;
     }
     }
-    public static SCPStatementPledges decode(XdrDataInputStream stream) throws IOException {
+    public static SCPStatementPledges decode(XdrReader stream) throws IOException {
     SCPStatementPledges decodedSCPStatementPledges = new SCPStatementPledges();
     SCPStatementType discriminant = SCPStatementType.decode(stream);
     decodedSCPStatementPledges.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of SCPStatementPledges");
+    }
     switch (decodedSCPStatementPledges.getDiscriminant()) {
     case SCP_ST_PREPARE:
     decodedSCPStatementPledges.prepare = SCPStatementPrepare.decode(stream);
@@ -158,6 +211,128 @@ public class SCPStatement  {
     }
       return decodedSCPStatementPledges;
     }
+    public static SCPStatementPledges decodeInto(XdrReader stream, SCPStatementPledges existing) throws IOException {
+      SCPStatementPledges decodedSCPStatementPledges = existing != null ? existing : new SCPStatementPledges();
+      SCPStatementType discriminant = SCPStatementType.decode(stream);
+      decodedSCPStatementPledges.setDiscriminant(discriminant);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of SCPStatementPledges");
+      }
+      switch (discriminant) {
+        case SCP_ST_PREPARE:
+          decodedSCPStatementPledges.prepare = SCPStatementPrepare.decodeInto(stream, decodedSCPStatementPledges.prepare);
+          break;
+        case SCP_ST_CONFIRM:
+          decodedSCPStatementPledges.confirm = SCPStatementConfirm.decodeInto(stream, decodedSCPStatementPledges.confirm);
+          break;
+        case SCP_ST_EXTERNALIZE:
+          decodedSCPStatementPledges.externalize = SCPStatementExternalize.decodeInto(stream, decodedSCPStatementPledges.externalize);
+          break;
+        case SCP_ST_NOMINATE:
+          decodedSCPStatementPledges.nominate = SCPNomination.decodeInto(stream, decodedSCPStatementPledges.nominate);
+          break;
+      }
+      // leave only the selected arm set, as decode does
+      if (discriminant != SCPStatementType.SCP_ST_PREPARE) {
+        decodedSCPStatementPledges.prepare = null;
+      }
+      if (discriminant != SCPStatementType.SCP_ST_CONFIRM) {
+        decodedSCPStatementPledges.confirm = null;
+      }
+      if (discriminant != SCPStatementType.SCP_ST_EXTERNALIZE) {
+        decodedSCPStatementPledges.externalize = null;
+      }
+      if (discriminant != SCPStatementType.SCP_ST_NOMINATE) {
+        decodedSCPStatementPledges.nominate = null;
+      }
+      return decodedSCPStatementPledges;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      SCPStatementType discriminant = SCPStatementType.decode(stream);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of SCPStatementPledges");
+      }
+      switch (discriminant) {
+        case SCP_ST_PREPARE:
+          SCPStatementPrepare.skip(stream);
+          break;
+        case SCP_ST_CONFIRM:
+          SCPStatementConfirm.skip(stream);
+          break;
+        case SCP_ST_EXTERNALIZE:
+          SCPStatementExternalize.skip(stream);
+          break;
+        case SCP_ST_NOMINATE:
+          SCPNomination.skip(stream);
+          break;
+      }
+    }
+    public static int encodedSize(SCPStatementPledges encodedSCPStatementPledges) {
+      int size = 4;
+      switch (encodedSCPStatementPledges.getDiscriminant()) {
+        case SCP_ST_PREPARE:
+          size += SCPStatementPrepare.encodedSize(encodedSCPStatementPledges.prepare);
+          break;
+        case SCP_ST_CONFIRM:
+          size += SCPStatementConfirm.encodedSize(encodedSCPStatementPledges.confirm);
+          break;
+        case SCP_ST_EXTERNALIZE:
+          size += SCPStatementExternalize.encodedSize(encodedSCPStatementPledges.externalize);
+          break;
+        case SCP_ST_NOMINATE:
+          size += SCPNomination.encodedSize(encodedSCPStatementPledges.nominate);
+          break;
+      }
+      return size;
+    }
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof SCPStatementPledges)) {
+        return false;
+      }
+      SCPStatementPledges other = (SCPStatementPledges) object;
+      if (this.getDiscriminant() != other.getDiscriminant()) {
+        return false;
+      }
+      if (this.getDiscriminant() == null) {
+        return true;
+      }
+      switch (this.getDiscriminant()) {
+        case SCP_ST_PREPARE:
+          return Objects.equals(this.prepare, other.prepare);
+        case SCP_ST_CONFIRM:
+          return Objects.equals(this.confirm, other.confirm);
+        case SCP_ST_EXTERNALIZE:
+          return Objects.equals(this.externalize, other.externalize);
+        case SCP_ST_NOMINATE:
+          return Objects.equals(this.nominate, other.nominate);
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+      if (this.getDiscriminant() != null) {
+        switch (this.getDiscriminant()) {
+          case SCP_ST_PREPARE:
+            result = 31 * result + Objects.hashCode(this.prepare);
+            break;
+          case SCP_ST_CONFIRM:
+            result = 31 * result + Objects.hashCode(this.confirm);
+            break;
+          case SCP_ST_EXTERNALIZE:
+            result = 31 * result + Objects.hashCode(this.externalize);
+            break;
+          case SCP_ST_NOMINATE:
+            result = 31 * result + Objects.hashCode(this.nominate);
+            break;
+        }
+      }
+      return result;
+    }
 
     public static class SCPStatementPrepare {
       public SCPStatementPrepare () {}
@@ -203,7 +378,7 @@ public class SCPStatement  {
       public void setNH(Uint32 value) {
         this.nH = value;
       }
-      public static void encode(XdrDataOutputStream stream, SCPStatementPrepare encodedSCPStatementPrepare) throws IOException{
+      public static void encode(XdrWriter stream, SCPStatementPrepare encodedSCPStatementPrepare) throws IOException{
         Hash.encode(stream, encodedSCPStatementPrepare.quorumSetHash);
         SCPBallot.encode(stream, encodedSCPStatementPrepare.ballot);
         if (encodedSCPStatementPrepare.prepared != null) {
@@ -221,7 +396,7 @@ public class SCPStatement  {
         Uint32.encode(stream, encodedSCPStatementPrepare.nC);
         Uint32.encode(stream, encodedSCPStatementPrepare.nH);
       }
-      public static SCPStatementPrepare decode(XdrDataInputStream stream) throws IOException {
+      public static SCPStatementPrepare decode(XdrReader stream) throws IOException {
         SCPStatementPrepare decodedSCPStatementPrepare = new SCPStatementPrepare();
         decodedSCPStatementPrepare.quorumSetHash = Hash.decode(stream);
         decodedSCPStatementPrepare.ballot = SCPBallot.decode(stream);
@@ -237,7 +412,84 @@ public class SCPStatement  {
         decodedSCPStatementPrepare.nH = Uint32.decode(stream);
         return decodedSCPStatementPrepare;
       }
+      public static SCPStatementPrepare decodeInto(XdrReader stream, SCPStatementPrepare existing) throws IOException {
+        SCPStatementPrepare decodedSCPStatementPrepare = existing != null ? existing : new SCPStatementPrepare();
+        decodedSCPStatementPrepare.quorumSetHash = Hash.decodeInto(stream, decodedSCPStatementPrepare.quorumSetHash);
+        decodedSCPStatementPrepare.ballot = SCPBallot.decodeInto(stream, decodedSCPStatementPrepare.ballot);
+        int preparedPresent = stream.readInt();
+        if (preparedPresent != 0) {
+          decodedSCPStatementPrepare.prepared = SCPBallot.decodeInto(stream, decodedSCPStatementPrepare.prepared);
+        } else {
+          decodedSCPStatementPrepare.prepared = null;
+        }
+        int preparedPrimePresent = stream.readInt();
+        if (preparedPrimePresent != 0) {
+          decodedSCPStatementPrepare.preparedPrime = SCPBallot.decodeInto(stream, decodedSCPStatementPrepare.preparedPrime);
+        } else {
+          decodedSCPStatementPrepare.preparedPrime = null;
+        }
+        decodedSCPStatementPrepare.nC = Uint32.decodeInto(stream, decodedSCPStatementPrepare.nC);
+        decodedSCPStatementPrepare.nH = Uint32.decodeInto(stream, decodedSCPStatementPrepare.nH);
+        return decodedSCPStatementPrepare;
+      }
+      public static void skip(XdrReader stream) throws IOException {
+        Hash.skip(stream);
+        SCPBallot.skip(stream);
+        int preparedPresent = stream.readInt();
+        if (preparedPresent != 0) {
+          SCPBallot.skip(stream);
+        }
+        int preparedPrimePresent = stream.readInt();
+        if (preparedPrimePresent != 0) {
+          SCPBallot.skip(stream);
+        }
+        Uint32.skip(stream);
+        Uint32.skip(stream);
+      }
+      public static int encodedSize(SCPStatementPrepare encodedSCPStatementPrepare) {
+        int size = 0;
+        size += Hash.encodedSize(encodedSCPStatementPrepare.quorumSetHash);
+        size += SCPBallot.encodedSize(encodedSCPStatementPrepare.ballot);
+        size += 4;
+        if (encodedSCPStatementPrepare.prepared != null) {
+          size += SCPBallot.encodedSize(encodedSCPStatementPrepare.prepared);
+        }
+        size += 4;
+        if (encodedSCPStatementPrepare.preparedPrime != null) {
+          size += SCPBallot.encodedSize(encodedSCPStatementPrepare.preparedPrime);
+        }
+        size += Uint32.encodedSize(encodedSCPStatementPrepare.nC);
+        size += Uint32.encodedSize(encodedSCPStatementPrepare.nH);
+        return size;
+      }
 
+      @Override
+      public boolean equals(Object object) {
+        if (object == this) {
+          return true;
+        }
+        if (!(object instanceof SCPStatementPrepare)) {
+          return false;
+        }
+        SCPStatementPrepare other = (SCPStatementPrepare) object;
+        return Objects.equals(this.quorumSetHash, other.quorumSetHash)
+            && Objects.equals(this.ballot, other.ballot)
+            && Objects.equals(this.prepared, other.prepared)
+            && Objects.equals(this.preparedPrime, other.preparedPrime)
+            && Objects.equals(this.nC, other.nC)
+            && Objects.equals(this.nH, other.nH);
+      }
+      @Override
+      public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(this.quorumSetHash);
+        result = 31 * result + Objects.hashCode(this.ballot);
+        result = 31 * result + Objects.hashCode(this.prepared);
+        result = 31 * result + Objects.hashCode(this.preparedPrime);
+        result = 31 * result + Objects.hashCode(this.nC);
+        result = 31 * result + Objects.hashCode(this.nH);
+        return result;
+      }
     }
     public static class SCPStatementConfirm {
       public SCPStatementConfirm () {}
@@ -276,14 +528,14 @@ public class SCPStatement  {
       public void setQuorumSetHash(Hash value) {
         this.quorumSetHash = value;
       }
-      public static void encode(XdrDataOutputStream stream, SCPStatementConfirm encodedSCPStatementConfirm) throws IOException{
+      public static void encode(XdrWriter stream, SCPStatementConfirm encodedSCPStatementConfirm) throws IOException{
         SCPBallot.encode(stream, encodedSCPStatementConfirm.ballot);
         Uint32.encode(stream, encodedSCPStatementConfirm.nPrepared);
         Uint32.encode(stream, encodedSCPStatementConfirm.nCommit);
         Uint32.encode(stream, encodedSCPStatementConfirm.nH);
         Hash.encode(stream, encodedSCPStatementConfirm.quorumSetHash);
       }
-      public static SCPStatementConfirm decode(XdrDataInputStream stream) throws IOException {
+      public static SCPStatementConfirm decode(XdrReader stream) throws IOException {
         SCPStatementConfirm decodedSCPStatementConfirm = new SCPStatementConfirm();
         decodedSCPStatementConfirm.ballot = SCPBallot.decode(stream);
         decodedSCPStatementConfirm.nPrepared = Uint32.decode(stream);
@@ -292,7 +544,57 @@ public class SCPStatement  {
         decodedSCPStatementConfirm.quorumSetHash = Hash.decode(stream);
         return decodedSCPStatementConfirm;
       }
+      public static SCPStatementConfirm decodeInto(XdrReader stream, SCPStatementConfirm existing) throws IOException {
+        SCPStatementConfirm decodedSCPStatementConfirm = existing != null ? existing : new SCPStatementConfirm();
+        decodedSCPStatementConfirm.ballot = SCPBallot.decodeInto(stream, decodedSCPStatementConfirm.ballot);
+        decodedSCPStatementConfirm.nPrepared = Uint32.decodeInto(stream, decodedSCPStatementConfirm.nPrepared);
+        decodedSCPStatementConfirm.nCommit = Uint32.decodeInto(stream, decodedSCPStatementConfirm.nCommit);
+        decodedSCPStatementConfirm.nH = Uint32.decodeInto(stream, decodedSCPStatementConfirm.nH);
+        decodedSCPStatementConfirm.quorumSetHash = Hash.decodeInto(stream, decodedSCPStatementConfirm.quorumSetHash);
+        return decodedSCPStatementConfirm;
+      }
+      public static void skip(XdrReader stream) throws IOException {
+        SCPBallot.skip(stream);
+        Uint32.skip(stream);
+        Uint32.skip(stream);
+        Uint32.skip(stream);
+        Hash.skip(stream);
+      }
+      public static int encodedSize(SCPStatementConfirm encodedSCPStatementConfirm) {
+        int size = 0;
+        size += SCPBallot.encodedSize(encodedSCPStatementConfirm.ballot);
+        size += Uint32.encodedSize(encodedSCPStatementConfirm.nPrepared);
+        size += Uint32.encodedSize(encodedSCPStatementConfirm.nCommit);
+        size += Uint32.encodedSize(encodedSCPStatementConfirm.nH);
+        size += Hash.encodedSize(encodedSCPStatementConfirm.quorumSetHash);
+        return size;
+      }
 
+      @Override
+      public boolean equals(Object object) {
+        if (object == this) {
+          return true;
+        }
+        if (!(object instanceof SCPStatementConfirm)) {
+          return false;
+        }
+        SCPStatementConfirm other = (SCPStatementConfirm) object;
+        return Objects.equals(this.ballot, other.ballot)
+            && Objects.equals(this.nPrepared, other.nPrepared)
+            && Objects.equals(this.nCommit, other.nCommit)
+            && Objects.equals(this.nH, other.nH)
+            && Objects.equals(this.quorumSetHash, other.quorumSetHash);
+      }
+      @Override
+      public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(this.ballot);
+        result = 31 * result + Objects.hashCode(this.nPrepared);
+        result = 31 * result + Objects.hashCode(this.nCommit);
+        result = 31 * result + Objects.hashCode(this.nH);
+        result = 31 * result + Objects.hashCode(this.quorumSetHash);
+        return result;
+      }
     }
     public static class SCPStatementExternalize {
       public SCPStatementExternalize () {}
@@ -317,19 +619,59 @@ public class SCPStatement  {
       public void setCommitQuorumSetHash(Hash value) {
         this.commitQuorumSetHash = value;
       }
-      public static void encode(XdrDataOutputStream stream, SCPStatementExternalize encodedSCPStatementExternalize) throws IOException{
+      public static void encode(XdrWriter stream, SCPStatementExternalize encodedSCPStatementExternalize) throws IOException{
         SCPBallot.encode(stream, encodedSCPStatementExternalize.commit);
         Uint32.encode(stream, encodedSCPStatementExternalize.nH);
         Hash.encode(stream, encodedSCPStatementExternalize.commitQuorumSetHash);
       }
-      public static SCPStatementExternalize decode(XdrDataInputStream stream) throws IOException {
+      public static SCPStatementExternalize decode(XdrReader stream) throws IOException {
         SCPStatementExternalize decodedSCPStatementExternalize = new SCPStatementExternalize();
         decodedSCPStatementExternalize.commit = SCPBallot.decode(stream);
         decodedSCPStatementExternalize.nH = Uint32.decode(stream);
         decodedSCPStatementExternalize.commitQuorumSetHash = Hash.decode(stream);
         return decodedSCPStatementExternalize;
       }
+      public static SCPStatementExternalize decodeInto(XdrReader stream, SCPStatementExternalize existing) throws IOException {
+        SCPStatementExternalize decodedSCPStatementExternalize = existing != null ? existing : new SCPStatementExternalize();
+        decodedSCPStatementExternalize.commit = SCPBallot.decodeInto(stream, decodedSCPStatementExternalize.commit);
+        decodedSCPStatementExternalize.nH = Uint32.decodeInto(stream, decodedSCPStatementExternalize.nH);
+        decodedSCPStatementExternalize.commitQuorumSetHash = Hash.decodeInto(stream, decodedSCPStatementExternalize.commitQuorumSetHash);
+        return decodedSCPStatementExternalize;
+      }
+      public static void skip(XdrReader stream) throws IOException {
+        SCPBallot.skip(stream);
+        Uint32.skip(stream);
+        Hash.skip(stream);
+      }
+      public static int encodedSize(SCPStatementExternalize encodedSCPStatementExternalize) {
+        int size = 0;
+        size += SCPBallot.encodedSize(encodedSCPStatementExternalize.commit);
+        size += Uint32.encodedSize(encodedSCPStatementExternalize.nH);
+        size += Hash.encodedSize(encodedSCPStatementExternalize.commitQuorumSetHash);
+        return size;
+      }
 
+      @Override
+      public boolean equals(Object object) {
+        if (object == this) {
+          return true;
+        }
+        if (!(object instanceof SCPStatementExternalize)) {
+          return false;
+        }
+        SCPStatementExternalize other = (SCPStatementExternalize) object;
+        return Objects.equals(this.commit, other.commit)
+            && Objects.equals(this.nH, other.nH)
+            && Objects.equals(this.commitQuorumSetHash, other.commitQuorumSetHash);
+      }
+      @Override
+      public int hashCode() {
+        int result = 1;
+        result = 31 * result + Objects.hashCode(this.commit);
+        result = 31 * result + Objects.hashCode(this.nH);
+        result = 31 * result + Objects.hashCode(this.commitQuorumSetHash);
+        return result;
+      }
     }
   }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -24,6 +25,14 @@ public enum SCPStatementType  {
   SCP_ST_NOMINATE(3),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final SCPStatementType[] BY_VALUE = {
+    SCP_ST_PREPARE,
+    SCP_ST_CONFIRM,
+    SCP_ST_EXTERNALIZE,
+    SCP_ST_NOMINATE,
+  };
 
   SCPStatementType(int value) {
       mValue = value;
@@ -33,19 +42,25 @@ public enum SCPStatementType  {
       return mValue;
   }
 
-  static SCPStatementType decode(XdrDataInputStream stream) throws IOException {
+  static SCPStatementType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return SCP_ST_PREPARE;
-      case 1: return SCP_ST_CONFIRM;
-      case 2: return SCP_ST_EXTERNALIZE;
-      case 3: return SCP_ST_NOMINATE;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, SCPStatementType value) throws IOException {
+  static void encode(XdrWriter stream, SCPStatementType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(SCPStatementType value) {
+    return 4;
+  }
 }
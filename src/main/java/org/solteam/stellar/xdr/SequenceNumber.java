@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -17,14 +19,72 @@ public class SequenceNumber  {
     return this.SequenceNumber;
   }
   public void setSequenceNumber(Uint64 value) {
+    checkMutable();
     this.SequenceNumber = value;
   }
-  public static void encode(XdrDataOutputStream stream, SequenceNumber  encodedSequenceNumber) throws IOException {
+  public long longValue() {
+    return this.SequenceNumber.longValue();
+  }
+  public static void encode(XdrWriter stream, SequenceNumber  encodedSequenceNumber) throws IOException {
   Uint64.encode(stream, encodedSequenceNumber.SequenceNumber);
   }
-  public static SequenceNumber decode(XdrDataInputStream stream) throws IOException {
+  public static SequenceNumber decode(XdrReader stream) throws IOException {
     SequenceNumber decodedSequenceNumber = new SequenceNumber();
   decodedSequenceNumber.SequenceNumber = Uint64.decode(stream);
     return decodedSequenceNumber;
   }
+  public static SequenceNumber decodeInto(XdrReader stream, SequenceNumber existing) throws IOException {
+    SequenceNumber decodedSequenceNumber = existing != null && !existing.frozen ? existing : new SequenceNumber();
+    decodedSequenceNumber.SequenceNumber = Uint64.decodeInto(stream, decodedSequenceNumber.SequenceNumber);
+    return decodedSequenceNumber;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Uint64.skip(stream);
+  }
+  public static int encodedSize(SequenceNumber encodedSequenceNumber) {
+    int size = 0;
+    size += Uint64.encodedSize(encodedSequenceNumber.SequenceNumber);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.SequenceNumber != null) {
+      this.SequenceNumber.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("SequenceNumber is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SequenceNumber)) {
+      return false;
+    }
+    SequenceNumber other = (SequenceNumber) object;
+    return Objects.equals(this.SequenceNumber, other.SequenceNumber);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.SequenceNumber);
+    return result;
+  }
 }
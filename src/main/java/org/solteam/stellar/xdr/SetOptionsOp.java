@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -36,6 +38,7 @@ public class SetOptionsOp  {
     return this.inflationDest;
   }
   public void setInflationDest(AccountID value) {
+    checkMutable();
     this.inflationDest = value;
   }
   private Uint32 clearFlags;
@@ -43,6 +46,7 @@ public class SetOptionsOp  {
     return this.clearFlags;
   }
   public void setClearFlags(Uint32 value) {
+    checkMutable();
     this.clearFlags = value;
   }
   private Uint32 setFlags;
@@ -50,6 +54,7 @@ public class SetOptionsOp  {
     return this.setFlags;
   }
   public void setSetFlags(Uint32 value) {
+    checkMutable();
     this.setFlags = value;
   }
   private Uint32 masterWeight;
@@ -57,6 +62,7 @@ public class SetOptionsOp  {
     return this.masterWeight;
   }
   public void setMasterWeight(Uint32 value) {
+    checkMutable();
     this.masterWeight = value;
   }
   private Uint32 lowThreshold;
@@ -64,6 +70,7 @@ public class SetOptionsOp  {
     return this.lowThreshold;
   }
   public void setLowThreshold(Uint32 value) {
+    checkMutable();
     this.lowThreshold = value;
   }
   private Uint32 medThreshold;
@@ -71,6 +78,7 @@ public class SetOptionsOp  {
     return this.medThreshold;
   }
   public void setMedThreshold(Uint32 value) {
+    checkMutable();
     this.medThreshold = value;
   }
   private Uint32 highThreshold;
@@ -78,6 +86,7 @@ public class SetOptionsOp  {
     return this.highThreshold;
   }
   public void setHighThreshold(Uint32 value) {
+    checkMutable();
     this.highThreshold = value;
   }
   private String32 homeDomain;
@@ -85,6 +94,7 @@ public class SetOptionsOp  {
     return this.homeDomain;
   }
   public void setHomeDomain(String32 value) {
+    checkMutable();
     this.homeDomain = value;
   }
   private Signer signer;
@@ -92,9 +102,10 @@ public class SetOptionsOp  {
     return this.signer;
   }
   public void setSigner(Signer value) {
+    checkMutable();
     this.signer = value;
   }
-  public static void encode(XdrDataOutputStream stream, SetOptionsOp encodedSetOptionsOp) throws IOException{
+  public static void encode(XdrWriter stream, SetOptionsOp encodedSetOptionsOp) throws IOException{
     if (encodedSetOptionsOp.inflationDest != null) {
     stream.writeInt(1);
     AccountID.encode(stream, encodedSetOptionsOp.inflationDest);
@@ -150,7 +161,7 @@ public class SetOptionsOp  {
     stream.writeInt(0);
     }
   }
-  public static SetOptionsOp decode(XdrDataInputStream stream) throws IOException {
+  public static SetOptionsOp decode(XdrReader stream) throws IOException {
     SetOptionsOp decodedSetOptionsOp = new SetOptionsOp();
     int inflationDestPresent = stream.readInt();
     if (inflationDestPresent != 0) {
@@ -190,4 +201,221 @@ public class SetOptionsOp  {
     }
     return decodedSetOptionsOp;
   }
+  public static SetOptionsOp decodeInto(XdrReader stream, SetOptionsOp existing) throws IOException {
+    SetOptionsOp decodedSetOptionsOp = existing != null && !existing.frozen ? existing : new SetOptionsOp();
+    int inflationDestPresent = stream.readInt();
+    if (inflationDestPresent != 0) {
+      decodedSetOptionsOp.inflationDest = AccountID.decodeInto(stream, decodedSetOptionsOp.inflationDest);
+    } else {
+      decodedSetOptionsOp.inflationDest = null;
+    }
+    int clearFlagsPresent = stream.readInt();
+    if (clearFlagsPresent != 0) {
+      decodedSetOptionsOp.clearFlags = Uint32.decodeInto(stream, decodedSetOptionsOp.clearFlags);
+    } else {
+      decodedSetOptionsOp.clearFlags = null;
+    }
+    int setFlagsPresent = stream.readInt();
+    if (setFlagsPresent != 0) {
+      decodedSetOptionsOp.setFlags = Uint32.decodeInto(stream, decodedSetOptionsOp.setFlags);
+    } else {
+      decodedSetOptionsOp.setFlags = null;
+    }
+    int masterWeightPresent = stream.readInt();
+    if (masterWeightPresent != 0) {
+      decodedSetOptionsOp.masterWeight = Uint32.decodeInto(stream, decodedSetOptionsOp.masterWeight);
+    } else {
+      decodedSetOptionsOp.masterWeight = null;
+    }
+    int lowThresholdPresent = stream.readInt();
+    if (lowThresholdPresent != 0) {
+      decodedSetOptionsOp.lowThreshold = Uint32.decodeInto(stream, decodedSetOptionsOp.lowThreshold);
+    } else {
+      decodedSetOptionsOp.lowThreshold = null;
+    }
+    int medThresholdPresent = stream.readInt();
+    if (medThresholdPresent != 0) {
+      decodedSetOptionsOp.medThreshold = Uint32.decodeInto(stream, decodedSetOptionsOp.medThreshold);
+    } else {
+      decodedSetOptionsOp.medThreshold = null;
+    }
+    int highThresholdPresent = stream.readInt();
+    if (highThresholdPresent != 0) {
+      decodedSetOptionsOp.highThreshold = Uint32.decodeInto(stream, decodedSetOptionsOp.highThreshold);
+    } else {
+      decodedSetOptionsOp.highThreshold = null;
+    }
+    int homeDomainPresent = stream.readInt();
+    if (homeDomainPresent != 0) {
+      decodedSetOptionsOp.homeDomain = String32.decodeInto(stream, decodedSetOptionsOp.homeDomain);
+    } else {
+      decodedSetOptionsOp.homeDomain = null;
+    }
+    int signerPresent = stream.readInt();
+    if (signerPresent != 0) {
+      decodedSetOptionsOp.signer = Signer.decodeInto(stream, decodedSetOptionsOp.signer);
+    } else {
+      decodedSetOptionsOp.signer = null;
+    }
+    return decodedSetOptionsOp;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    int inflationDestPresent = stream.readInt();
+    if (inflationDestPresent != 0) {
+      AccountID.skip(stream);
+    }
+    int clearFlagsPresent = stream.readInt();
+    if (clearFlagsPresent != 0) {
+      Uint32.skip(stream);
+    }
+    int setFlagsPresent = stream.readInt();
+    if (setFlagsPresent != 0) {
+      Uint32.skip(stream);
+    }
+    int masterWeightPresent = stream.readInt();
+    if (masterWeightPresent != 0) {
+      Uint32.skip(stream);
+    }
+    int lowThresholdPresent = stream.readInt();
+    if (lowThresholdPresent != 0) {
+      Uint32.skip(stream);
+    }
+    int medThresholdPresent = stream.readInt();
+    if (medThresholdPresent != 0) {
+      Uint32.skip(stream);
+    }
+    int highThresholdPresent = stream.readInt();
+    if (highThresholdPresent != 0) {
+      Uint32.skip(stream);
+    }
+    int homeDomainPresent = stream.readInt();
+    if (homeDomainPresent != 0) {
+      String32.skip(stream);
+    }
+    int signerPresent = stream.readInt();
+    if (signerPresent != 0) {
+      Signer.skip(stream);
+    }
+  }
+  public static int encodedSize(SetOptionsOp encodedSetOptionsOp) {
+    int size = 0;
+    size += 4;
+    if (encodedSetOptionsOp.inflationDest != null) {
+      size += AccountID.encodedSize(encodedSetOptionsOp.inflationDest);
+    }
+    size += 4;
+    if (encodedSetOptionsOp.clearFlags != null) {
+      size += Uint32.encodedSize(encodedSetOptionsOp.clearFlags);
+    }
+    size += 4;
+    if (encodedSetOptionsOp.setFlags != null) {
+      size += Uint32.encodedSize(encodedSetOptionsOp.setFlags);
+    }
+    size += 4;
+    if (encodedSetOptionsOp.masterWeight != null) {
+      size += Uint32.encodedSize(encodedSetOptionsOp.masterWeight);
+    }
+    size += 4;
+    if (encodedSetOptionsOp.lowThreshold != null) {
+      size += Uint32.encodedSize(encodedSetOptionsOp.lowThreshold);
+    }
+    size += 4;
+    if (encodedSetOptionsOp.medThreshold != null) {
+      size += Uint32.encodedSize(encodedSetOptionsOp.medThreshold);
+    }
+    size += 4;
+    if (encodedSetOptionsOp.highThreshold != null) {
+      size += Uint32.encodedSize(encodedSetOptionsOp.highThreshold);
+    }
+    size += 4;
+    if (encodedSetOptionsOp.homeDomain != null) {
+      size += String32.encodedSize(encodedSetOptionsOp.homeDomain);
+    }
+    size += 4;
+    if (encodedSetOptionsOp.signer != null) {
+      size += Signer.encodedSize(encodedSetOptionsOp.signer);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.inflationDest != null) {
+      this.inflationDest.freeze();
+    }
+    if (this.clearFlags != null) {
+      this.clearFlags.freeze();
+    }
+    if (this.setFlags != null) {
+      this.setFlags.freeze();
+    }
+    if (this.masterWeight != null) {
+      this.masterWeight.freeze();
+    }
+    if (this.lowThreshold != null) {
+      this.lowThreshold.freeze();
+    }
+    if (this.medThreshold != null) {
+      this.medThreshold.freeze();
+    }
+    if (this.highThreshold != null) {
+      this.highThreshold.freeze();
+    }
+    if (this.homeDomain != null) {
+      this.homeDomain.freeze();
+    }
+    if (this.signer != null) {
+      this.signer.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("SetOptionsOp is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SetOptionsOp)) {
+      return false;
+    }
+    SetOptionsOp other = (SetOptionsOp) object;
+    return Objects.equals(this.inflationDest, other.inflationDest)
+        && Objects.equals(this.clearFlags, other.clearFlags)
+        && Objects.equals(this.setFlags, other.setFlags)
+        && Objects.equals(this.masterWeight, other.masterWeight)
+        && Objects.equals(this.lowThreshold, other.lowThreshold)
+        && Objects.equals(this.medThreshold, other.medThreshold)
+        && Objects.equals(this.highThreshold, other.highThreshold)
+        && Objects.equals(this.homeDomain, other.homeDomain)
+        && Objects.equals(this.signer, other.signer);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.inflationDest);
+    result = 31 * result + Objects.hashCode(this.clearFlags);
+    result = 31 * result + Objects.hashCode(this.setFlags);
+    result = 31 * result + Objects.hashCode(this.masterWeight);
+    result = 31 * result + Objects.hashCode(this.lowThreshold);
+    result = 31 * result + Objects.hashCode(this.medThreshold);
+    result = 31 * result + Objects.hashCode(this.highThreshold);
+    result = 31 * result + Objects.hashCode(this.homeDomain);
+    result = 31 * result + Objects.hashCode(this.signer);
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -26,7 +28,7 @@ public class SetOptionsResult  {
   public void setDiscriminant(SetOptionsResultCode value) {
     this.code = value;
   }
-  public static void encode(XdrDataOutputStream stream, SetOptionsResult encodedSetOptionsResult) throws IOException {
+  public static void encode(XdrWriter stream, SetOptionsResult encodedSetOptionsResult) throws IOException {
   stream.writeInt(encodedSetOptionsResult.getDiscriminant().getValue());
   switch (encodedSetOptionsResult.getDiscriminant()) {
   case SET_OPTIONS_SUCCESS:
@@ -35,10 +37,13 @@ public class SetOptionsResult  {
   break;
   }
   }
-  public static SetOptionsResult decode(XdrDataInputStream stream) throws IOException {
+  public static SetOptionsResult decode(XdrReader stream) throws IOException {
   SetOptionsResult decodedSetOptionsResult = new SetOptionsResult();
   SetOptionsResultCode discriminant = SetOptionsResultCode.decode(stream);
   decodedSetOptionsResult.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    return decodedSetOptionsResult;
+  }
   switch (decodedSetOptionsResult.getDiscriminant()) {
   case SET_OPTIONS_SUCCESS:
   break;
@@ -47,4 +52,76 @@ public class SetOptionsResult  {
   }
     return decodedSetOptionsResult;
   }
+  public static SetOptionsResult decodeInto(XdrReader stream, SetOptionsResult existing) throws IOException {
+    SetOptionsResult decodedSetOptionsResult = existing != null ? existing : new SetOptionsResult();
+    SetOptionsResultCode discriminant = SetOptionsResultCode.decode(stream);
+    decodedSetOptionsResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      return decodedSetOptionsResult;
+    }
+    switch (discriminant) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return decodedSetOptionsResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    SetOptionsResultCode discriminant = SetOptionsResultCode.decode(stream);
+    if (discriminant == null) {
+      return;
+    }
+    switch (discriminant) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      default:
+        break;
+    }
+  }
+  public static int encodedSize(SetOptionsResult encodedSetOptionsResult) {
+    int size = 4;
+    switch (encodedSetOptionsResult.getDiscriminant()) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      default:
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SetOptionsResult)) {
+      return false;
+    }
+    SetOptionsResult other = (SetOptionsResult) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case SET_OPTIONS_SUCCESS:
+        return true;
+      default:
+        return true;
+    }
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    return result;
+  }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -38,6 +39,20 @@ public enum SetOptionsResultCode  {
   SET_OPTIONS_INVALID_HOME_DOMAIN(-9),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -9;
+  private static final SetOptionsResultCode[] BY_VALUE = {
+    SET_OPTIONS_INVALID_HOME_DOMAIN,
+    SET_OPTIONS_BAD_SIGNER,
+    SET_OPTIONS_THRESHOLD_OUT_OF_RANGE,
+    SET_OPTIONS_UNKNOWN_FLAG,
+    SET_OPTIONS_CANT_CHANGE,
+    SET_OPTIONS_INVALID_INFLATION,
+    SET_OPTIONS_BAD_FLAGS,
+    SET_OPTIONS_TOO_MANY_SIGNERS,
+    SET_OPTIONS_LOW_RESERVE,
+    SET_OPTIONS_SUCCESS,
+  };
 
   SetOptionsResultCode(int value) {
       mValue = value;
@@ -47,25 +62,25 @@ public enum SetOptionsResultCode  {
       return mValue;
   }
 
-  static SetOptionsResultCode decode(XdrDataInputStream stream) throws IOException {
+  static SetOptionsResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return SET_OPTIONS_SUCCESS;
-      case -1: return SET_OPTIONS_LOW_RESERVE;
-      case -2: return SET_OPTIONS_TOO_MANY_SIGNERS;
-      case -3: return SET_OPTIONS_BAD_FLAGS;
-      case -4: return SET_OPTIONS_INVALID_INFLATION;
-      case -5: return SET_OPTIONS_CANT_CHANGE;
-      case -6: return SET_OPTIONS_UNKNOWN_FLAG;
-      case -7: return SET_OPTIONS_THRESHOLD_OUT_OF_RANGE;
-      case -8: return SET_OPTIONS_BAD_SIGNER;
-      case -9: return SET_OPTIONS_INVALID_HOME_DOMAIN;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, SetOptionsResultCode value) throws IOException {
+  static void encode(XdrWriter stream, SetOptionsResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(SetOptionsResultCode value) {
+    return 4;
+  }
 }
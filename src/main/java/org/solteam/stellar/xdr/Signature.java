@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -14,21 +17,86 @@ import java.io.IOException;
 public class Signature  {
   private byte[] Signature;
   public byte[] getSignature() {
-    return this.Signature;
+    return frozen && this.Signature != null ? this.Signature.clone() : this.Signature;
   }
   public void setSignature(byte[] value) {
+    checkMutable();
+    this.cachedHashCode = 0;
     this.Signature = value;
   }
-  public static void encode(XdrDataOutputStream stream, Signature  encodedSignature) throws IOException {
+  public static void encode(XdrWriter stream, Signature  encodedSignature) throws IOException {
   int Signaturesize = encodedSignature.Signature.length;
   stream.writeInt(Signaturesize);
-  stream.write(encodedSignature.getSignature(), 0, Signaturesize);
+  stream.write(encodedSignature.Signature, 0, Signaturesize);
   }
-  public static Signature decode(XdrDataInputStream stream) throws IOException {
+  public static Signature decode(XdrReader stream) throws IOException {
     Signature decodedSignature = new Signature();
-  int Signaturesize = stream.readInt();
-  decodedSignature.Signature = new byte[Signaturesize];
-  stream.read(decodedSignature.Signature, 0, Signaturesize);
+  decodedSignature.Signature = stream.readVarOpaque(64);
     return decodedSignature;
   }
+  public static Signature decodeInto(XdrReader stream, Signature existing) throws IOException {
+    Signature decodedSignature = existing != null && !existing.frozen ? existing : new Signature();
+    decodedSignature.cachedHashCode = 0;
+    int Signaturesize = stream.readInt();
+    stream.checkOpaqueLength(Signaturesize, 64);
+    if (decodedSignature.Signature == null || decodedSignature.Signature.length != Signaturesize) {
+      decodedSignature.Signature = new byte[Signaturesize];
+    }
+    stream.readFully(decodedSignature.Signature, 0, Signaturesize);
+    return decodedSignature;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(stream.readInt());
+  }
+  public static int encodedSize(Signature encodedSignature) {
+    int size = 0;
+    size += 4 + XdrSize.opaque(encodedSignature.Signature.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Signature is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Signature)) {
+      return false;
+    }
+    Signature other = (Signature) object;
+    return Arrays.equals(this.Signature, other.Signature);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.Signature);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
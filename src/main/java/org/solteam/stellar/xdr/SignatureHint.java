@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -14,20 +17,84 @@ import java.io.IOException;
 public class SignatureHint  {
   private byte[] SignatureHint;
   public byte[] getSignatureHint() {
-    return this.SignatureHint;
+    return frozen && this.SignatureHint != null ? this.SignatureHint.clone() : this.SignatureHint;
   }
   public void setSignatureHint(byte[] value) {
+    checkMutable();
+    this.cachedHashCode = 0;
     this.SignatureHint = value;
   }
-  public static void encode(XdrDataOutputStream stream, SignatureHint  encodedSignatureHint) throws IOException {
+  public static void encode(XdrWriter stream, SignatureHint  encodedSignatureHint) throws IOException {
   int SignatureHintsize = encodedSignatureHint.SignatureHint.length;
-  stream.write(encodedSignatureHint.getSignatureHint(), 0, SignatureHintsize);
+  stream.write(encodedSignatureHint.SignatureHint, 0, SignatureHintsize);
   }
-  public static SignatureHint decode(XdrDataInputStream stream) throws IOException {
+  public static SignatureHint decode(XdrReader stream) throws IOException {
     SignatureHint decodedSignatureHint = new SignatureHint();
-  int SignatureHintsize = 4;
-  decodedSignatureHint.SignatureHint = new byte[SignatureHintsize];
-  stream.read(decodedSignatureHint.SignatureHint, 0, SignatureHintsize);
+  decodedSignatureHint.SignatureHint = stream.readFixedOpaque(4);
     return decodedSignatureHint;
   }
+  public static SignatureHint decodeInto(XdrReader stream, SignatureHint existing) throws IOException {
+    SignatureHint decodedSignatureHint = existing != null && !existing.frozen ? existing : new SignatureHint();
+    decodedSignatureHint.cachedHashCode = 0;
+    int SignatureHintsize = 4;
+    if (decodedSignatureHint.SignatureHint == null || decodedSignatureHint.SignatureHint.length != SignatureHintsize) {
+      decodedSignatureHint.SignatureHint = new byte[SignatureHintsize];
+    }
+    stream.readFully(decodedSignatureHint.SignatureHint, 0, SignatureHintsize);
+    return decodedSignatureHint;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
+  }
+  public static int encodedSize(SignatureHint encodedSignatureHint) {
+    int size = 0;
+    size += XdrSize.opaque(encodedSignatureHint.SignatureHint.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("SignatureHint is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SignatureHint)) {
+      return false;
+    }
+    SignatureHint other = (SignatureHint) object;
+    return Arrays.equals(this.SignatureHint, other.SignatureHint);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.SignatureHint);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
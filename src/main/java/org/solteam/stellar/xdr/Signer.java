@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +24,7 @@ public class Signer  {
     return this.key;
   }
   public void setKey(SignerKey value) {
+    checkMutable();
     this.key = value;
   }
   private Uint32 weight;
@@ -29,16 +32,79 @@ public class Signer  {
     return this.weight;
   }
   public void setWeight(Uint32 value) {
+    checkMutable();
     this.weight = value;
   }
-  public static void encode(XdrDataOutputStream stream, Signer encodedSigner) throws IOException{
+  public static void encode(XdrWriter stream, Signer encodedSigner) throws IOException{
     SignerKey.encode(stream, encodedSigner.key);
     Uint32.encode(stream, encodedSigner.weight);
   }
-  public static Signer decode(XdrDataInputStream stream) throws IOException {
+  public static Signer decode(XdrReader stream) throws IOException {
     Signer decodedSigner = new Signer();
     decodedSigner.key = SignerKey.decode(stream);
     decodedSigner.weight = Uint32.decode(stream);
     return decodedSigner;
   }
+  public static Signer decodeInto(XdrReader stream, Signer existing) throws IOException {
+    Signer decodedSigner = existing != null && !existing.frozen ? existing : new Signer();
+    decodedSigner.key = SignerKey.decodeInto(stream, decodedSigner.key);
+    decodedSigner.weight = Uint32.decodeInto(stream, decodedSigner.weight);
+    return decodedSigner;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    SignerKey.skip(stream);
+    Uint32.skip(stream);
+  }
+  public static int encodedSize(Signer encodedSigner) {
+    int size = 0;
+    size += SignerKey.encodedSize(encodedSigner.key);
+    size += Uint32.encodedSize(encodedSigner.weight);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.key != null) {
+      this.key.freeze();
+    }
+    if (this.weight != null) {
+      this.weight.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Signer is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Signer)) {
+      return false;
+    }
+    Signer other = (Signer) object;
+    return Objects.equals(this.key, other.key)
+        && Objects.equals(this.weight, other.weight);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.key);
+    result = 31 * result + Objects.hashCode(this.weight);
+    return result;
+  }
 }
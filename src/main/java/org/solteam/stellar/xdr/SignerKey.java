@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -28,6 +30,7 @@ public class SignerKey  {
     return this.type;
   }
   public void setDiscriminant(SignerKeyType value) {
+    checkMutable();
     this.type = value;
   }
   private Uint256 ed25519;
@@ -35,6 +38,7 @@ public class SignerKey  {
     return this.ed25519;
   }
   public void setEd25519(Uint256 value) {
+    checkMutable();
     this.ed25519 = value;
   }
   private Uint256 preAuthTx;
@@ -42,6 +46,7 @@ public class SignerKey  {
     return this.preAuthTx;
   }
   public void setPreAuthTx(Uint256 value) {
+    checkMutable();
     this.preAuthTx = value;
   }
   private Uint256 hashX;
@@ -49,9 +54,10 @@ public class SignerKey  {
     return this.hashX;
   }
   public void setHashX(Uint256 value) {
+    checkMutable();
     this.hashX = value;
   }
-  public static void encode(XdrDataOutputStream stream, SignerKey encodedSignerKey) throws IOException {
+  public static void encode(XdrWriter stream, SignerKey encodedSignerKey) throws IOException {
   stream.writeInt(encodedSignerKey.getDiscriminant().getValue());
   switch (encodedSignerKey.getDiscriminant()) {
   case SIGNER_KEY_TYPE_ED25519:
@@ -65,10 +71,13 @@ public class SignerKey  {
   break;
   }
   }
-  public static SignerKey decode(XdrDataInputStream stream) throws IOException {
+  public static SignerKey decode(XdrReader stream) throws IOException {
   SignerKey decodedSignerKey = new SignerKey();
   SignerKeyType discriminant = SignerKeyType.decode(stream);
   decodedSignerKey.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    throw new IOException("Unknown discriminant of SignerKey");
+  }
   switch (decodedSignerKey.getDiscriminant()) {
   case SIGNER_KEY_TYPE_ED25519:
   decodedSignerKey.ed25519 = Uint256.decode(stream);
@@ -82,4 +91,139 @@ public class SignerKey  {
   }
     return decodedSignerKey;
   }
+  public static SignerKey decodeInto(XdrReader stream, SignerKey existing) throws IOException {
+    SignerKey decodedSignerKey = existing != null && !existing.frozen ? existing : new SignerKey();
+    SignerKeyType discriminant = SignerKeyType.decode(stream);
+    decodedSignerKey.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of SignerKey");
+    }
+    switch (discriminant) {
+      case SIGNER_KEY_TYPE_ED25519:
+        decodedSignerKey.ed25519 = Uint256.decodeInto(stream, decodedSignerKey.ed25519);
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        decodedSignerKey.preAuthTx = Uint256.decodeInto(stream, decodedSignerKey.preAuthTx);
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        decodedSignerKey.hashX = Uint256.decodeInto(stream, decodedSignerKey.hashX);
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != SignerKeyType.SIGNER_KEY_TYPE_ED25519) {
+      decodedSignerKey.ed25519 = null;
+    }
+    if (discriminant != SignerKeyType.SIGNER_KEY_TYPE_PRE_AUTH_TX) {
+      decodedSignerKey.preAuthTx = null;
+    }
+    if (discriminant != SignerKeyType.SIGNER_KEY_TYPE_HASH_X) {
+      decodedSignerKey.hashX = null;
+    }
+    return decodedSignerKey;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    SignerKeyType discriminant = SignerKeyType.decode(stream);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of SignerKey");
+    }
+    switch (discriminant) {
+      case SIGNER_KEY_TYPE_ED25519:
+        Uint256.skip(stream);
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        Uint256.skip(stream);
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        Uint256.skip(stream);
+        break;
+    }
+  }
+  public static int encodedSize(SignerKey encodedSignerKey) {
+    int size = 4;
+    switch (encodedSignerKey.getDiscriminant()) {
+      case SIGNER_KEY_TYPE_ED25519:
+        size += Uint256.encodedSize(encodedSignerKey.ed25519);
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        size += Uint256.encodedSize(encodedSignerKey.preAuthTx);
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        size += Uint256.encodedSize(encodedSignerKey.hashX);
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.ed25519 != null) {
+      this.ed25519.freeze();
+    }
+    if (this.preAuthTx != null) {
+      this.preAuthTx.freeze();
+    }
+    if (this.hashX != null) {
+      this.hashX.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("SignerKey is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SignerKey)) {
+      return false;
+    }
+    SignerKey other = (SignerKey) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case SIGNER_KEY_TYPE_ED25519:
+        return Objects.equals(this.ed25519, other.ed25519);
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        return Objects.equals(this.preAuthTx, other.preAuthTx);
+      case SIGNER_KEY_TYPE_HASH_X:
+        return Objects.equals(this.hashX, other.hashX);
+    }
+    return true;
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case SIGNER_KEY_TYPE_ED25519:
+          result = 31 * result + Objects.hashCode(this.ed25519);
+          break;
+        case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+          result = 31 * result + Objects.hashCode(this.preAuthTx);
+          break;
+        case SIGNER_KEY_TYPE_HASH_X:
+          result = 31 * result + Objects.hashCode(this.hashX);
+          break;
+      }
+    }
+    return result;
+  }
 }
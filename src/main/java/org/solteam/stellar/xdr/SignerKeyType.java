@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +23,13 @@ public enum SignerKeyType  {
   SIGNER_KEY_TYPE_HASH_X(2),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final SignerKeyType[] BY_VALUE = {
+    SIGNER_KEY_TYPE_ED25519,
+    SIGNER_KEY_TYPE_PRE_AUTH_TX,
+    SIGNER_KEY_TYPE_HASH_X,
+  };
 
   SignerKeyType(int value) {
       mValue = value;
@@ -31,18 +39,25 @@ public enum SignerKeyType  {
       return mValue;
   }
 
-  static SignerKeyType decode(XdrDataInputStream stream) throws IOException {
+  static SignerKeyType decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return SIGNER_KEY_TYPE_ED25519;
-      case 1: return SIGNER_KEY_TYPE_PRE_AUTH_TX;
-      case 2: return SIGNER_KEY_TYPE_HASH_X;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, SignerKeyType value) throws IOException {
+  static void encode(XdrWriter stream, SignerKeyType value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(SignerKeyType value) {
+    return 4;
+  }
 }
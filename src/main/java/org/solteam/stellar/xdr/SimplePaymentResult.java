@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -39,16 +41,64 @@ public class SimplePaymentResult  {
   public void setAmount(Int64 value) {
     this.amount = value;
   }
-  public static void encode(XdrDataOutputStream stream, SimplePaymentResult encodedSimplePaymentResult) throws IOException{
+  public static void encode(XdrWriter stream, SimplePaymentResult encodedSimplePaymentResult) throws IOException{
     AccountID.encode(stream, encodedSimplePaymentResult.destination);
     Asset.encode(stream, encodedSimplePaymentResult.asset);
     Int64.encode(stream, encodedSimplePaymentResult.amount);
   }
-  public static SimplePaymentResult decode(XdrDataInputStream stream) throws IOException {
+  public static SimplePaymentResult decode(XdrReader stream) throws IOException {
     SimplePaymentResult decodedSimplePaymentResult = new SimplePaymentResult();
     decodedSimplePaymentResult.destination = AccountID.decode(stream);
     decodedSimplePaymentResult.asset = Asset.decode(stream);
     decodedSimplePaymentResult.amount = Int64.decode(stream);
     return decodedSimplePaymentResult;
   }
+  public static SimplePaymentResult decodeInto(XdrReader stream, SimplePaymentResult existing) throws IOException {
+    SimplePaymentResult decodedSimplePaymentResult = existing != null ? existing : new SimplePaymentResult();
+    decodedSimplePaymentResult.destination = AccountID.decodeInto(stream, decodedSimplePaymentResult.destination);
+    decodedSimplePaymentResult.asset = Asset.decodeInto(stream, decodedSimplePaymentResult.asset);
+    decodedSimplePaymentResult.amount = Int64.decodeInto(stream, decodedSimplePaymentResult.amount);
+    return decodedSimplePaymentResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    AccountID.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+  }
+  public static int encodedSize(SimplePaymentResult encodedSimplePaymentResult) {
+    int size = 0;
+    size += AccountID.encodedSize(encodedSimplePaymentResult.destination);
+    size += Asset.encodedSize(encodedSimplePaymentResult.asset);
+    size += Int64.encodedSize(encodedSimplePaymentResult.amount);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof SimplePaymentResult)) {
+      return false;
+    }
+    SimplePaymentResult other = (SimplePaymentResult) object;
+    return Objects.equals(this.destination, other.destination)
+        && Objects.equals(this.asset, other.asset)
+        && Objects.equals(this.amount, other.amount);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.destination);
+    result = 31 * result + Objects.hashCode(this.asset);
+    result = 31 * result + Objects.hashCode(this.amount);
+    return result;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -136,7 +139,7 @@ public class StellarMessage  {
   public void setGetSCPLedgerSeq(Uint32 value) {
     this.getSCPLedgerSeq = value;
   }
-  public static void encode(XdrDataOutputStream stream, StellarMessage encodedStellarMessage) throws IOException {
+  public static void encode(XdrWriter stream, StellarMessage encodedStellarMessage) throws IOException {
   stream.writeInt(encodedStellarMessage.getDiscriminant().getValue());
   switch (encodedStellarMessage.getDiscriminant()) {
   case ERROR_MSG:
@@ -183,10 +186,13 @@ public class StellarMessage  {
   break;
   }
   }
-  public static StellarMessage decode(XdrDataInputStream stream) throws IOException {
+  public static StellarMessage decode(XdrReader stream) throws IOException {
   StellarMessage decodedStellarMessage = new StellarMessage();
   MessageType discriminant = MessageType.decode(stream);
   decodedStellarMessage.setDiscriminant(discriminant);
+  if (discriminant == null) {
+    throw new IOException("Unknown discriminant of StellarMessage");
+  }
   switch (decodedStellarMessage.getDiscriminant()) {
   case ERROR_MSG:
   decodedStellarMessage.error = Error.decode(stream);
@@ -204,6 +210,7 @@ public class StellarMessage  {
   break;
   case PEERS:
   int peerssize = stream.readInt();
+  stream.checkArrayLength(peerssize, Integer.MAX_VALUE);
   decodedStellarMessage.peers = new PeerAddress[peerssize];
   for (int i = 0; i < peerssize; i++) {
     decodedStellarMessage.peers[i] = PeerAddress.decode(stream);
@@ -233,4 +240,293 @@ public class StellarMessage  {
   }
     return decodedStellarMessage;
   }
+  public static StellarMessage decodeInto(XdrReader stream, StellarMessage existing) throws IOException {
+    StellarMessage decodedStellarMessage = existing != null ? existing : new StellarMessage();
+    MessageType discriminant = MessageType.decode(stream);
+    decodedStellarMessage.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of StellarMessage");
+    }
+    switch (discriminant) {
+      case ERROR_MSG:
+        decodedStellarMessage.error = Error.decodeInto(stream, decodedStellarMessage.error);
+        break;
+      case HELLO:
+        decodedStellarMessage.hello = Hello.decodeInto(stream, decodedStellarMessage.hello);
+        break;
+      case AUTH:
+        decodedStellarMessage.auth = Auth.decodeInto(stream, decodedStellarMessage.auth);
+        break;
+      case DONT_HAVE:
+        decodedStellarMessage.dontHave = DontHave.decodeInto(stream, decodedStellarMessage.dontHave);
+        break;
+      case GET_PEERS:
+        break;
+      case PEERS:
+        int peerssize = stream.readInt();
+        stream.checkArrayLength(peerssize, Integer.MAX_VALUE);
+        if (decodedStellarMessage.peers == null) {
+          decodedStellarMessage.peers = new PeerAddress[peerssize];
+        } else if (decodedStellarMessage.peers.length != peerssize) {
+          decodedStellarMessage.peers = Arrays.copyOf(decodedStellarMessage.peers, peerssize);
+        }
+        for (int i = 0; i < peerssize; i++) {
+          decodedStellarMessage.peers[i] = PeerAddress.decodeInto(stream, decodedStellarMessage.peers[i]);
+        }
+        break;
+      case GET_TX_SET:
+        decodedStellarMessage.txSetHash = Uint256.decodeInto(stream, decodedStellarMessage.txSetHash);
+        break;
+      case TX_SET:
+        decodedStellarMessage.txSet = TransactionSet.decodeInto(stream, decodedStellarMessage.txSet);
+        break;
+      case TRANSACTION:
+        decodedStellarMessage.transaction = TransactionEnvelope.decodeInto(stream, decodedStellarMessage.transaction);
+        break;
+      case GET_SCP_QUORUMSET:
+        decodedStellarMessage.qSetHash = Uint256.decodeInto(stream, decodedStellarMessage.qSetHash);
+        break;
+      case SCP_QUORUMSET:
+        decodedStellarMessage.qSet = SCPQuorumSet.decodeInto(stream, decodedStellarMessage.qSet);
+        break;
+      case SCP_MESSAGE:
+        decodedStellarMessage.envelope = SCPEnvelope.decodeInto(stream, decodedStellarMessage.envelope);
+        break;
+      case GET_SCP_STATE:
+        decodedStellarMessage.getSCPLedgerSeq = Uint32.decodeInto(stream, decodedStellarMessage.getSCPLedgerSeq);
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != MessageType.ERROR_MSG) {
+      decodedStellarMessage.error = null;
+    }
+    if (discriminant != MessageType.HELLO) {
+      decodedStellarMessage.hello = null;
+    }
+    if (discriminant != MessageType.AUTH) {
+      decodedStellarMessage.auth = null;
+    }
+    if (discriminant != MessageType.DONT_HAVE) {
+      decodedStellarMessage.dontHave = null;
+    }
+    if (discriminant != MessageType.PEERS) {
+      decodedStellarMessage.peers = null;
+    }
+    if (discriminant != MessageType.GET_TX_SET) {
+      decodedStellarMessage.txSetHash = null;
+    }
+    if (discriminant != MessageType.TX_SET) {
+      decodedStellarMessage.txSet = null;
+    }
+    if (discriminant != MessageType.TRANSACTION) {
+      decodedStellarMessage.transaction = null;
+    }
+    if (discriminant != MessageType.GET_SCP_QUORUMSET) {
+      decodedStellarMessage.qSetHash = null;
+    }
+    if (discriminant != MessageType.SCP_QUORUMSET) {
+      decodedStellarMessage.qSet = null;
+    }
+    if (discriminant != MessageType.SCP_MESSAGE) {
+      decodedStellarMessage.envelope = null;
+    }
+    if (discriminant != MessageType.GET_SCP_STATE) {
+      decodedStellarMessage.getSCPLedgerSeq = null;
+    }
+    return decodedStellarMessage;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    MessageType discriminant = MessageType.decode(stream);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of StellarMessage");
+    }
+    switch (discriminant) {
+      case ERROR_MSG:
+        Error.skip(stream);
+        break;
+      case HELLO:
+        Hello.skip(stream);
+        break;
+      case AUTH:
+        Auth.skip(stream);
+        break;
+      case DONT_HAVE:
+        DontHave.skip(stream);
+        break;
+      case GET_PEERS:
+        break;
+      case PEERS:
+        int peerssize = stream.readInt();
+        for (int i = 0; i < peerssize; i++) {
+          PeerAddress.skip(stream);
+        }
+        break;
+      case GET_TX_SET:
+        Uint256.skip(stream);
+        break;
+      case TX_SET:
+        TransactionSet.skip(stream);
+        break;
+      case TRANSACTION:
+        TransactionEnvelope.skip(stream);
+        break;
+      case GET_SCP_QUORUMSET:
+        Uint256.skip(stream);
+        break;
+      case SCP_QUORUMSET:
+        SCPQuorumSet.skip(stream);
+        break;
+      case SCP_MESSAGE:
+        SCPEnvelope.skip(stream);
+        break;
+      case GET_SCP_STATE:
+        Uint32.skip(stream);
+        break;
+    }
+  }
+  public static int encodedSize(StellarMessage encodedStellarMessage) {
+    int size = 4;
+    switch (encodedStellarMessage.getDiscriminant()) {
+      case ERROR_MSG:
+        size += Error.encodedSize(encodedStellarMessage.error);
+        break;
+      case HELLO:
+        size += Hello.encodedSize(encodedStellarMessage.hello);
+        break;
+      case AUTH:
+        size += Auth.encodedSize(encodedStellarMessage.auth);
+        break;
+      case DONT_HAVE:
+        size += DontHave.encodedSize(encodedStellarMessage.dontHave);
+        break;
+      case GET_PEERS:
+        break;
+      case PEERS:
+        size += 4;
+        for (int i = 0; i < encodedStellarMessage.peers.length; i++) {
+          size += PeerAddress.encodedSize(encodedStellarMessage.peers[i]);
+        }
+        break;
+      case GET_TX_SET:
+        size += Uint256.encodedSize(encodedStellarMessage.txSetHash);
+        break;
+      case TX_SET:
+        size += TransactionSet.encodedSize(encodedStellarMessage.txSet);
+        break;
+      case TRANSACTION:
+        size += TransactionEnvelope.encodedSize(encodedStellarMessage.transaction);
+        break;
+      case GET_SCP_QUORUMSET:
+        size += Uint256.encodedSize(encodedStellarMessage.qSetHash);
+        break;
+      case SCP_QUORUMSET:
+        size += SCPQuorumSet.encodedSize(encodedStellarMessage.qSet);
+        break;
+      case SCP_MESSAGE:
+        size += SCPEnvelope.encodedSize(encodedStellarMessage.envelope);
+        break;
+      case GET_SCP_STATE:
+        size += Uint32.encodedSize(encodedStellarMessage.getSCPLedgerSeq);
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof StellarMessage)) {
+      return false;
+    }
+    StellarMessage other = (StellarMessage) object;
+    if (this.getDiscriminant() != other.getDiscriminant()) {
+      return false;
+    }
+    if (this.getDiscriminant() == null) {
+      return true;
+    }
+    switch (this.getDiscriminant()) {
+      case ERROR_MSG:
+        return Objects.equals(this.error, other.error);
+      case HELLO:
+        return Objects.equals(this.hello, other.hello);
+      case AUTH:
+        return Objects.equals(this.auth, other.auth);
+      case DONT_HAVE:
+        return Objects.equals(this.dontHave, other.dontHave);
+      case GET_PEERS:
+        return true;
+      case PEERS:
+        return Arrays.equals(this.peers, other.peers);
+      case GET_TX_SET:
+        return Objects.equals(this.txSetHash, other.txSetHash);
+      case TX_SET:
+        return Objects.equals(this.txSet, other.txSet);
+      case TRANSACTION:
+        return Objects.equals(this.transaction, other.transaction);
+      case GET_SCP_QUORUMSET:
+        return Objects.equals(this.qSetHash, other.qSetHash);
+      case SCP_QUORUMSET:
+        return Objects.equals(this.qSet, other.qSet);
+      case SCP_MESSAGE:
+        return Objects.equals(this.envelope, other.envelope);
+      case GET_SCP_STATE:
+        return Objects.equals(this.getSCPLedgerSeq, other.getSCPLedgerSeq);
+    }
+    return true;
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+    if (this.getDiscriminant() != null) {
+      switch (this.getDiscriminant()) {
+        case ERROR_MSG:
+          result = 31 * result + Objects.hashCode(this.error);
+          break;
+        case HELLO:
+          result = 31 * result + Objects.hashCode(this.hello);
+          break;
+        case AUTH:
+          result = 31 * result + Objects.hashCode(this.auth);
+          break;
+        case DONT_HAVE:
+          result = 31 * result + Objects.hashCode(this.dontHave);
+          break;
+        case PEERS:
+          result = 31 * result + Arrays.hashCode(this.peers);
+          break;
+        case GET_TX_SET:
+          result = 31 * result + Objects.hashCode(this.txSetHash);
+          break;
+        case TX_SET:
+          result = 31 * result + Objects.hashCode(this.txSet);
+          break;
+        case TRANSACTION:
+          result = 31 * result + Objects.hashCode(this.transaction);
+          break;
+        case GET_SCP_QUORUMSET:
+          result = 31 * result + Objects.hashCode(this.qSetHash);
+          break;
+        case SCP_QUORUMSET:
+          result = 31 * result + Objects.hashCode(this.qSet);
+          break;
+        case SCP_MESSAGE:
+          result = 31 * result + Objects.hashCode(this.envelope);
+          break;
+        case GET_SCP_STATE:
+          result = 31 * result + Objects.hashCode(this.getSCPLedgerSeq);
+          break;
+      }
+    }
+    return result;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -60,7 +63,7 @@ public class StellarValue  {
   public void setExt(StellarValueExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, StellarValue encodedStellarValue) throws IOException{
+  public static void encode(XdrWriter stream, StellarValue encodedStellarValue) throws IOException{
     Hash.encode(stream, encodedStellarValue.txSetHash);
     Uint64.encode(stream, encodedStellarValue.closeTime);
     int upgradessize = encodedStellarValue.getUpgrades().length;
@@ -70,11 +73,12 @@ public class StellarValue  {
     }
     StellarValueExt.encode(stream, encodedStellarValue.ext);
   }
-  public static StellarValue decode(XdrDataInputStream stream) throws IOException {
+  public static StellarValue decode(XdrReader stream) throws IOException {
     StellarValue decodedStellarValue = new StellarValue();
     decodedStellarValue.txSetHash = Hash.decode(stream);
     decodedStellarValue.closeTime = Uint64.decode(stream);
     int upgradessize = stream.readInt();
+    stream.checkArrayLength(upgradessize, 6);
     decodedStellarValue.upgrades = new UpgradeType[upgradessize];
     for (int i = 0; i < upgradessize; i++) {
       decodedStellarValue.upgrades[i] = UpgradeType.decode(stream);
@@ -82,33 +86,155 @@ public class StellarValue  {
     decodedStellarValue.ext = StellarValueExt.decode(stream);
     return decodedStellarValue;
   }
+  public static StellarValue decodeInto(XdrReader stream, StellarValue existing) throws IOException {
+    StellarValue decodedStellarValue = existing != null ? existing : new StellarValue();
+    decodedStellarValue.txSetHash = Hash.decodeInto(stream, decodedStellarValue.txSetHash);
+    decodedStellarValue.closeTime = Uint64.decodeInto(stream, decodedStellarValue.closeTime);
+    int upgradessize = stream.readInt();
+    stream.checkArrayLength(upgradessize, 6);
+    if (decodedStellarValue.upgrades == null) {
+      decodedStellarValue.upgrades = new UpgradeType[upgradessize];
+    } else if (decodedStellarValue.upgrades.length != upgradessize) {
+      decodedStellarValue.upgrades = Arrays.copyOf(decodedStellarValue.upgrades, upgradessize);
+    }
+    for (int i = 0; i < upgradessize; i++) {
+      decodedStellarValue.upgrades[i] = UpgradeType.decodeInto(stream, decodedStellarValue.upgrades[i]);
+    }
+    decodedStellarValue.ext = StellarValueExt.decodeInto(stream, decodedStellarValue.ext);
+    return decodedStellarValue;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Hash.skip(stream);
+    Uint64.skip(stream);
+    int upgradessize = stream.readInt();
+    for (int i = 0; i < upgradessize; i++) {
+      UpgradeType.skip(stream);
+    }
+    StellarValueExt.skip(stream);
+  }
+  public static int encodedSize(StellarValue encodedStellarValue) {
+    int size = 0;
+    size += Hash.encodedSize(encodedStellarValue.txSetHash);
+    size += Uint64.encodedSize(encodedStellarValue.closeTime);
+    size += 4;
+    for (int i = 0; i < encodedStellarValue.upgrades.length; i++) {
+      size += UpgradeType.encodedSize(encodedStellarValue.upgrades[i]);
+    }
+    size += StellarValueExt.encodedSize(encodedStellarValue.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof StellarValue)) {
+      return false;
+    }
+    StellarValue other = (StellarValue) object;
+    return Objects.equals(this.txSetHash, other.txSetHash)
+        && Objects.equals(this.closeTime, other.closeTime)
+        && Arrays.equals(this.upgrades, other.upgrades)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.txSetHash);
+    result = 31 * result + Objects.hashCode(this.closeTime);
+    result = 31 * result + Arrays.hashCode(this.upgrades);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class StellarValueExt {
     public StellarValueExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, StellarValueExt encodedStellarValueExt) throws IOException {
-    stream.writeInt(encodedStellarValueExt.getDiscriminant().intValue());
-    switch (encodedStellarValueExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, StellarValueExt encodedStellarValueExt) throws IOException {
+    stream.writeInt(encodedStellarValueExt.v);
+    switch (encodedStellarValueExt.v) {
     case 0:
     break;
     }
     }
-    public static StellarValueExt decode(XdrDataInputStream stream) throws IOException {
+    public static StellarValueExt decode(XdrReader stream) throws IOException {
     StellarValueExt decodedStellarValueExt = new StellarValueExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedStellarValueExt.setDiscriminant(discriminant);
-    switch (decodedStellarValueExt.getDiscriminant()) {
+    switch (decodedStellarValueExt.v) {
     case 0:
     break;
     }
       return decodedStellarValueExt;
     }
+    public static StellarValueExt decodeInto(XdrReader stream, StellarValueExt existing) throws IOException {
+      StellarValueExt decodedStellarValueExt = existing != null ? existing : new StellarValueExt();
+      int discriminant = stream.readInt();
+      decodedStellarValueExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedStellarValueExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(StellarValueExt encodedStellarValueExt) {
+      int size = 4;
+      switch (encodedStellarValueExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof StellarValueExt)) {
+        return false;
+      }
+      StellarValueExt other = (StellarValueExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
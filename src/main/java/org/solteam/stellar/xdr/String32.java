@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -17,14 +19,66 @@ public class String32  {
     return this.string32;
   }
   public void setString32(String value) {
+    checkMutable();
     this.string32 = value;
   }
-  public static void encode(XdrDataOutputStream stream, String32  encodedString32) throws IOException {
+  public static void encode(XdrWriter stream, String32  encodedString32) throws IOException {
   stream.writeString(encodedString32.string32);
   }
-  public static String32 decode(XdrDataInputStream stream) throws IOException {
+  public static String32 decode(XdrReader stream) throws IOException {
     String32 decodedString32 = new String32();
-  decodedString32.string32 = stream.readString();
+  decodedString32.string32 = stream.readString(32);
     return decodedString32;
   }
+  public static String32 decodeInto(XdrReader stream, String32 existing) throws IOException {
+    String32 decodedString32 = existing != null && !existing.frozen ? existing : new String32();
+    decodedString32.string32 = stream.readString(32);
+    return decodedString32;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(stream.readInt());
+  }
+  public static int encodedSize(String32 encodedString32) {
+    int size = 0;
+    size += XdrSize.string(encodedString32.string32);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("String32 is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof String32)) {
+      return false;
+    }
+    String32 other = (String32) object;
+    return Objects.equals(this.string32, other.string32);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.string32);
+    return result;
+  }
 }
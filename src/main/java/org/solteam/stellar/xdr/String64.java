@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -17,14 +19,69 @@ public class String64  {
     return this.string64;
   }
   public void setString64(String value) {
+    checkMutable();
     this.string64 = value;
   }
-  public static void encode(XdrDataOutputStream stream, String64  encodedString64) throws IOException {
+  public static void encode(XdrWriter stream, String64  encodedString64) throws IOException {
   stream.writeString(encodedString64.string64);
   }
-  public static String64 decode(XdrDataInputStream stream) throws IOException {
+  public static String64 decode(XdrReader stream) throws IOException {
     String64 decodedString64 = new String64();
-  decodedString64.string64 = stream.readString();
+  decodedString64.string64 = stream.readString(64);
     return decodedString64;
   }
+  public static String64 decodeInto(XdrReader stream, String64 existing) throws IOException {
+    String64 decodedString64 = existing != null && !existing.frozen ? existing : new String64();
+    decodedString64.string64 = stream.readString(64);
+    return decodedString64;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(stream.readInt());
+  }
+  public static int encodedSize(String64 encodedString64) {
+    int size = 0;
+    size += XdrSize.string(encodedString64.string64);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  static int compare(String64 a, String64 b) {
+    return XdrOrder.compareString(a.string64, b.string64);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("String64 is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof String64)) {
+      return false;
+    }
+    String64 other = (String64) object;
+    return Objects.equals(this.string64, other.string64);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.string64);
+    return result;
+  }
 }
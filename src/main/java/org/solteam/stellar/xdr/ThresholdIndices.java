@@ -24,6 +24,14 @@ public enum ThresholdIndices  {
   THRESHOLD_HIGH(3),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 0;
+  private static final ThresholdIndices[] BY_VALUE = {
+    THRESHOLD_MASTER_WEIGHT,
+    THRESHOLD_LOW,
+    THRESHOLD_MED,
+    THRESHOLD_HIGH,
+  };
 
   ThresholdIndices(int value) {
       mValue = value;
@@ -33,19 +41,25 @@ public enum ThresholdIndices  {
       return mValue;
   }
 
-  static ThresholdIndices decode(XdrDataInputStream stream) throws IOException {
+  static ThresholdIndices decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return THRESHOLD_MASTER_WEIGHT;
-      case 1: return THRESHOLD_LOW;
-      case 2: return THRESHOLD_MED;
-      case 3: return THRESHOLD_HIGH;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, ThresholdIndices value) throws IOException {
+  static void encode(XdrWriter stream, ThresholdIndices value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(ThresholdIndices value) {
+    return 4;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -17,17 +20,67 @@ public class Thresholds  {
     return this.Thresholds;
   }
   public void setThresholds(byte[] value) {
+    this.cachedHashCode = 0;
     this.Thresholds = value;
   }
-  public static void encode(XdrDataOutputStream stream, Thresholds  encodedThresholds) throws IOException {
+  public static void encode(XdrWriter stream, Thresholds  encodedThresholds) throws IOException {
   int Thresholdssize = encodedThresholds.Thresholds.length;
   stream.write(encodedThresholds.getThresholds(), 0, Thresholdssize);
   }
-  public static Thresholds decode(XdrDataInputStream stream) throws IOException {
+  public static Thresholds decode(XdrReader stream) throws IOException {
     Thresholds decodedThresholds = new Thresholds();
-  int Thresholdssize = 4;
-  decodedThresholds.Thresholds = new byte[Thresholdssize];
-  stream.read(decodedThresholds.Thresholds, 0, Thresholdssize);
+  decodedThresholds.Thresholds = stream.readFixedOpaque(4);
     return decodedThresholds;
   }
+  public static Thresholds decodeInto(XdrReader stream, Thresholds existing) throws IOException {
+    Thresholds decodedThresholds = existing != null ? existing : new Thresholds();
+    decodedThresholds.cachedHashCode = 0;
+    int Thresholdssize = 4;
+    if (decodedThresholds.Thresholds == null || decodedThresholds.Thresholds.length != Thresholdssize) {
+      decodedThresholds.Thresholds = new byte[Thresholdssize];
+    }
+    stream.readFully(decodedThresholds.Thresholds, 0, Thresholdssize);
+    return decodedThresholds;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
+  }
+  public static int encodedSize(Thresholds encodedThresholds) {
+    int size = 0;
+    size += XdrSize.opaque(encodedThresholds.Thresholds.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Thresholds)) {
+      return false;
+    }
+    Thresholds other = (Thresholds) object;
+    return Arrays.equals(this.Thresholds, other.Thresholds);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.Thresholds);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
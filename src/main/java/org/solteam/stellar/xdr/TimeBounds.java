@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -22,6 +24,7 @@ public class TimeBounds  {
     return this.minTime;
   }
   public void setMinTime(Uint64 value) {
+    checkMutable();
     this.minTime = value;
   }
   private Uint64 maxTime;
@@ -29,16 +32,78 @@ public class TimeBounds  {
     return this.maxTime;
   }
   public void setMaxTime(Uint64 value) {
+    checkMutable();
     this.maxTime = value;
   }
-  public static void encode(XdrDataOutputStream stream, TimeBounds encodedTimeBounds) throws IOException{
+  public static void encode(XdrWriter stream, TimeBounds encodedTimeBounds) throws IOException{
     Uint64.encode(stream, encodedTimeBounds.minTime);
     Uint64.encode(stream, encodedTimeBounds.maxTime);
   }
-  public static TimeBounds decode(XdrDataInputStream stream) throws IOException {
+  public static TimeBounds decode(XdrReader stream) throws IOException {
     TimeBounds decodedTimeBounds = new TimeBounds();
     decodedTimeBounds.minTime = Uint64.decode(stream);
     decodedTimeBounds.maxTime = Uint64.decode(stream);
     return decodedTimeBounds;
   }
+  public static TimeBounds decodeInto(XdrReader stream, TimeBounds existing) throws IOException {
+    TimeBounds decodedTimeBounds = existing != null && !existing.frozen ? existing : new TimeBounds();
+    decodedTimeBounds.minTime = Uint64.decodeInto(stream, decodedTimeBounds.minTime);
+    decodedTimeBounds.maxTime = Uint64.decodeInto(stream, decodedTimeBounds.maxTime);
+    return decodedTimeBounds;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(16);
+  }
+  public static int encodedSize(TimeBounds encodedTimeBounds) {
+    int size = 0;
+    size += Uint64.encodedSize(encodedTimeBounds.minTime);
+    size += Uint64.encodedSize(encodedTimeBounds.maxTime);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+    if (this.minTime != null) {
+      this.minTime.freeze();
+    }
+    if (this.maxTime != null) {
+      this.maxTime.freeze();
+    }
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("TimeBounds is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TimeBounds)) {
+      return false;
+    }
+    TimeBounds other = (TimeBounds) object;
+    return Objects.equals(this.minTime, other.minTime)
+        && Objects.equals(this.maxTime, other.maxTime);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.minTime);
+    result = 31 * result + Objects.hashCode(this.maxTime);
+    return result;
+  }
 }
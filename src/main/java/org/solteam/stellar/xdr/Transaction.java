@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -43,6 +46,7 @@ public class Transaction  {
     return this.sourceAccount;
   }
   public void setSourceAccount(AccountID value) {
+    checkMutable();
     this.sourceAccount = value;
   }
   private Uint32 fee;
@@ -50,6 +54,7 @@ public class Transaction  {
     return this.fee;
   }
   public void setFee(Uint32 value) {
+    checkMutable();
     this.fee = value;
   }
   private SequenceNumber seqNum;
@@ -57,6 +62,7 @@ public class Transaction  {
     return this.seqNum;
   }
   public void setSeqNum(SequenceNumber value) {
+    checkMutable();
     this.seqNum = value;
   }
   private TimeBounds timeBounds;
@@ -64,6 +70,7 @@ public class Transaction  {
     return this.timeBounds;
   }
   public void setTimeBounds(TimeBounds value) {
+    checkMutable();
     this.timeBounds = value;
   }
   private Memo memo;
@@ -71,13 +78,15 @@ public class Transaction  {
     return this.memo;
   }
   public void setMemo(Memo value) {
+    checkMutable();
     this.memo = value;
   }
   private Operation[] operations;
   public Operation[] getOperations() {
-    return this.operations;
+    return frozen && this.operations != null ? this.operations.clone() : this.operations;
   }
   public void setOperations(Operation[] value) {
+    checkMutable();
     this.operations = value;
   }
   private TransactionExt ext;
@@ -85,9 +94,14 @@ public class Transaction  {
     return this.ext;
   }
   public void setExt(TransactionExt value) {
+    checkMutable();
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, Transaction encodedTransaction) throws IOException{
+  public static void encode(XdrWriter stream, Transaction encodedTransaction) throws IOException{
+    if (encodedTransaction.encoded != null) {
+      stream.write(encodedTransaction.encoded, 0, encodedTransaction.encoded.length);
+      return;
+    }
     AccountID.encode(stream, encodedTransaction.sourceAccount);
     Uint32.encode(stream, encodedTransaction.fee);
     SequenceNumber.encode(stream, encodedTransaction.seqNum);
@@ -98,14 +112,14 @@ public class Transaction  {
     stream.writeInt(0);
     }
     Memo.encode(stream, encodedTransaction.memo);
-    int operationssize = encodedTransaction.getOperations().length;
+    int operationssize = encodedTransaction.operations.length;
     stream.writeInt(operationssize);
     for (int i = 0; i < operationssize; i++) {
       Operation.encode(stream, encodedTransaction.operations[i]);
     }
     TransactionExt.encode(stream, encodedTransaction.ext);
   }
-  public static Transaction decode(XdrDataInputStream stream) throws IOException {
+  public static Transaction decode(XdrReader stream) throws IOException {
     Transaction decodedTransaction = new Transaction();
     decodedTransaction.sourceAccount = AccountID.decode(stream);
     decodedTransaction.fee = Uint32.decode(stream);
@@ -116,6 +130,7 @@ public class Transaction  {
     }
     decodedTransaction.memo = Memo.decode(stream);
     int operationssize = stream.readInt();
+    stream.checkArrayLength(operationssize, 100);
     decodedTransaction.operations = new Operation[operationssize];
     for (int i = 0; i < operationssize; i++) {
       decodedTransaction.operations[i] = Operation.decode(stream);
@@ -123,33 +138,299 @@ public class Transaction  {
     decodedTransaction.ext = TransactionExt.decode(stream);
     return decodedTransaction;
   }
+  public static Transaction decodeInto(XdrReader stream, Transaction existing) throws IOException {
+    Transaction decodedTransaction = existing != null && !existing.frozen ? existing : new Transaction();
+    decodedTransaction.sourceAccount = AccountID.decodeInto(stream, decodedTransaction.sourceAccount);
+    decodedTransaction.fee = Uint32.decodeInto(stream, decodedTransaction.fee);
+    decodedTransaction.seqNum = SequenceNumber.decodeInto(stream, decodedTransaction.seqNum);
+    int timeBoundsPresent = stream.readInt();
+    if (timeBoundsPresent != 0) {
+      decodedTransaction.timeBounds = TimeBounds.decodeInto(stream, decodedTransaction.timeBounds);
+    } else {
+      decodedTransaction.timeBounds = null;
+    }
+    decodedTransaction.memo = Memo.decodeInto(stream, decodedTransaction.memo);
+    int operationssize = stream.readInt();
+    stream.checkArrayLength(operationssize, 100);
+    if (decodedTransaction.operations == null) {
+      decodedTransaction.operations = new Operation[operationssize];
+    } else if (decodedTransaction.operations.length != operationssize) {
+      decodedTransaction.operations = Arrays.copyOf(decodedTransaction.operations, operationssize);
+    }
+    for (int i = 0; i < operationssize; i++) {
+      decodedTransaction.operations[i] = Operation.decodeInto(stream, decodedTransaction.operations[i]);
+    }
+    decodedTransaction.ext = TransactionExt.decodeInto(stream, decodedTransaction.ext);
+    return decodedTransaction;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    AccountID.skip(stream);
+    Uint32.skip(stream);
+    SequenceNumber.skip(stream);
+    int timeBoundsPresent = stream.readInt();
+    if (timeBoundsPresent != 0) {
+      TimeBounds.skip(stream);
+    }
+    Memo.skip(stream);
+    int operationssize = stream.readInt();
+    for (int i = 0; i < operationssize; i++) {
+      Operation.skip(stream);
+    }
+    TransactionExt.skip(stream);
+  }
+  public static int encodedSize(Transaction encodedTransaction) {
+    if (encodedTransaction.encoded != null) {
+      return encodedTransaction.encoded.length;
+    }
+    int size = 0;
+    size += AccountID.encodedSize(encodedTransaction.sourceAccount);
+    size += Uint32.encodedSize(encodedTransaction.fee);
+    size += SequenceNumber.encodedSize(encodedTransaction.seqNum);
+    size += 4;
+    if (encodedTransaction.timeBounds != null) {
+      size += TimeBounds.encodedSize(encodedTransaction.timeBounds);
+    }
+    size += Memo.encodedSize(encodedTransaction.memo);
+    size += 4;
+    for (int i = 0; i < encodedTransaction.operations.length; i++) {
+      size += Operation.encodedSize(encodedTransaction.operations[i]);
+    }
+    size += TransactionExt.encodedSize(encodedTransaction.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    if (encoded != null) {
+      return encoded.clone();
+    }
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  public byte[] sha256() throws IOException {
+    XdrDigestWriter writer = XdrDigestWriter.sha256();
+    encode(writer, this);
+    return writer.digest();
+  }
+  /**
+   * Returns the hash that is signed: the SHA-256 of the TransactionSignaturePayload
+   * for this transaction on the given network, computed without building the payload.
+   *
+   * @param networkId the SHA-256 of the network passphrase
+   */
+  public byte[] hash(Hash networkId) throws IOException {
+    byte[] cached = networkHash;
+    byte[] id = networkId.getHash();
+    if (cached != null && isNetwork(cached, id)) {
+      return Arrays.copyOfRange(cached, 32, 64);
+    }
+    XdrDigestWriter writer = XdrDigestWriter.sha256();
+    Hash.encode(writer, networkId);
+    EnvelopeType.encode(writer, EnvelopeType.ENVELOPE_TYPE_TX);
+    encode(writer, this);
+    byte[] hash = writer.digest();
+    if (frozen && id.length == 32) {
+      cached = Arrays.copyOf(id, 64);
+      System.arraycopy(hash, 0, cached, 32, 32);
+      networkHash = cached;
+    }
+    return hash;
+  }
+
+  // set by freeze(); networkHash is the network ID followed by the hash for that network
+  private boolean frozen;
+  private byte[] encoded;
+  private volatile byte[] networkHash;
+  /**
+   * Encodes this transaction once and makes it read-only, together with every value
+   * it holds, so that the cached encoding always matches it: their setters throw
+   * {@link IllegalStateException} from then on, their array getters return copies,
+   * and {@link #decodeInto} decodes into a new instance instead of reusing one.
+   * {@link #encode}, {@link #toXdrBytes()} and {@link #hash(Hash)} reuse the
+   * cached encoding, and the hash for the last network asked for.
+   *
+   * @return this transaction
+   */
+  public Transaction freeze() throws IOException {
+    if (!frozen) {
+      encoded = toXdrBytes();
+      frozen = true;
+      if (this.sourceAccount != null) {
+        this.sourceAccount.freeze();
+      }
+      if (this.fee != null) {
+        this.fee.freeze();
+      }
+      if (this.seqNum != null) {
+        this.seqNum.freeze();
+      }
+      if (this.timeBounds != null) {
+        this.timeBounds.freeze();
+      }
+      if (this.memo != null) {
+        this.memo.freeze();
+      }
+      if (this.operations != null) {
+        for (Operation element : this.operations) {
+          element.freeze();
+        }
+      }
+      if (this.ext != null) {
+        this.ext.freeze();
+      }
+    }
+    return this;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  // the cached encoding of a frozen transaction, not to be modified
+  byte[] frozenEncoding() {
+    return encoded;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Transaction is frozen");
+    }
+  }
+  private static boolean isNetwork(byte[] networkHash, byte[] networkId) {
+    if (networkId.length != 32) {
+      return false;
+    }
+    for (int i = 0; i < 32; i++) {
+      if (networkHash[i] != networkId[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Transaction)) {
+      return false;
+    }
+    Transaction other = (Transaction) object;
+    return Objects.equals(this.sourceAccount, other.sourceAccount)
+        && Objects.equals(this.fee, other.fee)
+        && Objects.equals(this.seqNum, other.seqNum)
+        && Objects.equals(this.timeBounds, other.timeBounds)
+        && Objects.equals(this.memo, other.memo)
+        && Arrays.equals(this.operations, other.operations)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.sourceAccount);
+    result = 31 * result + Objects.hashCode(this.fee);
+    result = 31 * result + Objects.hashCode(this.seqNum);
+    result = 31 * result + Objects.hashCode(this.timeBounds);
+    result = 31 * result + Objects.hashCode(this.memo);
+    result = 31 * result + Arrays.hashCode(this.operations);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class TransactionExt {
     public TransactionExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
+      checkMutable();
+      this.v = value;
+    }
+    public void setDiscriminant(int value) {
+      checkMutable();
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, TransactionExt encodedTransactionExt) throws IOException {
-    stream.writeInt(encodedTransactionExt.getDiscriminant().intValue());
-    switch (encodedTransactionExt.getDiscriminant()) {
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, TransactionExt encodedTransactionExt) throws IOException {
+    stream.writeInt(encodedTransactionExt.v);
+    switch (encodedTransactionExt.v) {
     case 0:
     break;
     }
     }
-    public static TransactionExt decode(XdrDataInputStream stream) throws IOException {
+    public static TransactionExt decode(XdrReader stream) throws IOException {
     TransactionExt decodedTransactionExt = new TransactionExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedTransactionExt.setDiscriminant(discriminant);
-    switch (decodedTransactionExt.getDiscriminant()) {
+    switch (decodedTransactionExt.v) {
     case 0:
     break;
     }
       return decodedTransactionExt;
     }
+    public static TransactionExt decodeInto(XdrReader stream, TransactionExt existing) throws IOException {
+      TransactionExt decodedTransactionExt = existing != null && !existing.frozen ? existing : new TransactionExt();
+      int discriminant = stream.readInt();
+      decodedTransactionExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedTransactionExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(TransactionExt encodedTransactionExt) {
+      int size = 4;
+      switch (encodedTransactionExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+    private boolean frozen;
+    void freeze() {
+      frozen = true;
+    }
+    public boolean isFrozen() {
+      return frozen;
+    }
+    private void checkMutable() {
+      if (frozen) {
+        throw new IllegalStateException("TransactionExt is frozen");
+      }
+    }
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof TransactionExt)) {
+        return false;
+      }
+      TransactionExt other = (TransactionExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -25,31 +28,142 @@ public class TransactionEnvelope  {
     return this.tx;
   }
   public void setTx(Transaction value) {
+    checkMutable();
     this.tx = value;
   }
   private DecoratedSignature[] signatures;
   public DecoratedSignature[] getSignatures() {
-    return this.signatures;
+    return frozen && this.signatures != null ? this.signatures.clone() : this.signatures;
   }
   public void setSignatures(DecoratedSignature[] value) {
+    checkMutable();
     this.signatures = value;
   }
-  public static void encode(XdrDataOutputStream stream, TransactionEnvelope encodedTransactionEnvelope) throws IOException{
+  public static void encode(XdrWriter stream, TransactionEnvelope encodedTransactionEnvelope) throws IOException{
+    if (encodedTransactionEnvelope.encoded != null) {
+      stream.write(encodedTransactionEnvelope.encoded, 0, encodedTransactionEnvelope.encoded.length);
+      return;
+    }
     Transaction.encode(stream, encodedTransactionEnvelope.tx);
-    int signaturessize = encodedTransactionEnvelope.getSignatures().length;
+    int signaturessize = encodedTransactionEnvelope.signatures.length;
     stream.writeInt(signaturessize);
     for (int i = 0; i < signaturessize; i++) {
       DecoratedSignature.encode(stream, encodedTransactionEnvelope.signatures[i]);
     }
   }
-  public static TransactionEnvelope decode(XdrDataInputStream stream) throws IOException {
+  public static TransactionEnvelope decode(XdrReader stream) throws IOException {
     TransactionEnvelope decodedTransactionEnvelope = new TransactionEnvelope();
     decodedTransactionEnvelope.tx = Transaction.decode(stream);
     int signaturessize = stream.readInt();
+    stream.checkArrayLength(signaturessize, 20);
     decodedTransactionEnvelope.signatures = new DecoratedSignature[signaturessize];
     for (int i = 0; i < signaturessize; i++) {
       decodedTransactionEnvelope.signatures[i] = DecoratedSignature.decode(stream);
     }
     return decodedTransactionEnvelope;
   }
+  public static TransactionEnvelope decodeInto(XdrReader stream, TransactionEnvelope existing) throws IOException {
+    TransactionEnvelope decodedTransactionEnvelope = existing != null && !existing.frozen ? existing : new TransactionEnvelope();
+    decodedTransactionEnvelope.tx = Transaction.decodeInto(stream, decodedTransactionEnvelope.tx);
+    int signaturessize = stream.readInt();
+    stream.checkArrayLength(signaturessize, 20);
+    if (decodedTransactionEnvelope.signatures == null) {
+      decodedTransactionEnvelope.signatures = new DecoratedSignature[signaturessize];
+    } else if (decodedTransactionEnvelope.signatures.length != signaturessize) {
+      decodedTransactionEnvelope.signatures = Arrays.copyOf(decodedTransactionEnvelope.signatures, signaturessize);
+    }
+    for (int i = 0; i < signaturessize; i++) {
+      decodedTransactionEnvelope.signatures[i] = DecoratedSignature.decodeInto(stream, decodedTransactionEnvelope.signatures[i]);
+    }
+    return decodedTransactionEnvelope;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Transaction.skip(stream);
+    int signaturessize = stream.readInt();
+    for (int i = 0; i < signaturessize; i++) {
+      DecoratedSignature.skip(stream);
+    }
+  }
+  public static int encodedSize(TransactionEnvelope encodedTransactionEnvelope) {
+    if (encodedTransactionEnvelope.encoded != null) {
+      return encodedTransactionEnvelope.encoded.length;
+    }
+    int size = 0;
+    size += Transaction.encodedSize(encodedTransactionEnvelope.tx);
+    size += 4;
+    for (int i = 0; i < encodedTransactionEnvelope.signatures.length; i++) {
+      size += DecoratedSignature.encodedSize(encodedTransactionEnvelope.signatures[i]);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    if (encoded != null) {
+      return encoded.clone();
+    }
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  public String toXdrBase64() throws IOException {
+    XdrBase64Writer writer = new XdrBase64Writer(encodedSize(this));
+    encode(writer, this);
+    return writer.toString();
+  }
+  public static TransactionEnvelope fromXdrBase64(String xdr) throws IOException {
+    return XdrBase64InputStream.decode(xdr, TransactionEnvelope::decode);
+  }
+
+  // set by freeze()
+  private boolean frozen;
+  private byte[] encoded;
+  /**
+   * Freezes the transaction and encodes this envelope once, after which this envelope
+   * and its signatures are read-only as described for {@link Transaction#freeze()},
+   * and {@link #encode} and {@link #toXdrBytes()} reuse the cached encoding.
+   *
+   * @return this envelope
+   */
+  public TransactionEnvelope freeze() throws IOException {
+    if (!frozen) {
+      tx.freeze();
+      encoded = toXdrBytes();
+      frozen = true;
+      if (this.signatures != null) {
+        for (DecoratedSignature element : this.signatures) {
+          element.freeze();
+        }
+      }
+    }
+    return this;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("TransactionEnvelope is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TransactionEnvelope)) {
+      return false;
+    }
+    TransactionEnvelope other = (TransactionEnvelope) object;
+    return Objects.equals(this.tx, other.tx)
+        && Arrays.equals(this.signatures, other.signatures);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.tx);
+    result = 31 * result + Arrays.hashCode(this.signatures);
+    return result;
+  }
 }
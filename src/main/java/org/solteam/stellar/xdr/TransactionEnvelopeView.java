@@ -0,0 +1,272 @@
+package org.solteam.stellar.xdr;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Read-only view of an XDR encoded {@link TransactionEnvelope} that decodes only the
+ * fields that are asked for.
+ * <p>
+ * The fixed-size head of the transaction (source account, fee and sequence number) is
+ * read at constant offsets. The offsets of the memo, the operations and the signatures
+ * are found on first use by skipping over the bytes in front of them and are cached
+ * until the view is pointed at another record with {@code wrap}, so one instance can be
+ * reused for a whole stream of envelopes:
+ * <pre>
+ * TransactionEnvelopeView view = new TransactionEnvelopeView();
+ * for (...) {
+ *     view.wrap(bytes, offset);
+ *     long seqNum = view.getSequenceNumber();
+ *     for (int i = 0; i &lt; view.getOperationCount(); i++) {
+ *         OperationType type = view.getOperationType(i);
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * The bytes are not validated up front; malformed input is reported by the accessor
+ * that reaches it.
+ */
+public class TransactionEnvelopeView {
+
+    // PublicKey: discriminant + 32 byte key
+    private static final int SOURCE_ACCOUNT_KEY = 4;
+    private static final int FEE = 36;
+    private static final int SEQ_NUM = 40;
+    private static final int TIME_BOUNDS = 48;
+
+    private static final int KEY_LENGTH = 32;
+    // Operation operations<100>
+    private static final int MAX_OPERATIONS = 100;
+
+    private final XdrByteBufferReader mReader = new XdrByteBufferReader(new byte[0]);
+    private int mOffset;
+    private int mMemoOffset;
+    private int mOperationCount;
+    private int[] mOperationOffsets = new int[8];
+    private int mSignaturesOffset;
+
+    /**
+     * Points this view at an envelope in an array.
+     *
+     * @param bytes  the array holding the encoded envelope
+     * @param offset the index of the first byte of the envelope
+     * @return this view
+     */
+    public TransactionEnvelopeView wrap(byte[] bytes, int offset) {
+        return wrap(ByteBuffer.wrap(bytes), offset);
+    }
+
+    /**
+     * Points this view at an envelope in a buffer.
+     *
+     * @param buffer the buffer holding the encoded envelope between its position and limit
+     * @param offset the absolute index of the first byte of the envelope
+     * @return this view
+     */
+    public TransactionEnvelopeView wrap(ByteBuffer buffer, int offset) {
+        mReader.reset(buffer);
+        mReader.setPosition(offset);
+        mOffset = offset;
+        mMemoOffset = -1;
+        mOperationCount = -1;
+        mSignaturesOffset = -1;
+        return this;
+    }
+
+    /**
+     * Returns the index of the first byte of the envelope.
+     */
+    public int getOffset() {
+        return mOffset;
+    }
+
+    public AccountID getSourceAccount() throws IOException {
+        seek(0);
+        return AccountID.decode(mReader);
+    }
+
+    /**
+     * Copies the 32 byte ed25519 key of the source account without allocating.
+     *
+     * @param dest       the array to copy to
+     * @param destOffset the index in {@code dest} of the first key byte
+     */
+    public void copySourceAccountKey(byte[] dest, int destOffset) throws IOException {
+        seek(SOURCE_ACCOUNT_KEY);
+        mReader.readFully(dest, destOffset, KEY_LENGTH);
+    }
+
+    public int getFee() throws IOException {
+        seek(FEE);
+        return mReader.readInt();
+    }
+
+    public long getSequenceNumber() throws IOException {
+        seek(SEQ_NUM);
+        return mReader.readLong();
+    }
+
+    public boolean hasTimeBounds() throws IOException {
+        seek(TIME_BOUNDS);
+        return mReader.readInt() != 0;
+    }
+
+    /**
+     * Returns the time bounds of the transaction, or {@code null} if it has none.
+     */
+    public TimeBounds getTimeBounds() throws IOException {
+        if (!hasTimeBounds()) {
+            return null;
+        }
+        return TimeBounds.decode(mReader);
+    }
+
+    public MemoType getMemoType() throws IOException {
+        mReader.setPosition(memoOffset());
+        return MemoType.decode(mReader);
+    }
+
+    public Memo getMemo() throws IOException {
+        mReader.setPosition(memoOffset());
+        return Memo.decode(mReader);
+    }
+
+    public int getOperationCount() throws IOException {
+        indexOperations();
+        return mOperationCount;
+    }
+
+    public OperationType getOperationType(int index) throws IOException {
+        if (hasOperationSourceAccount(index)) {
+            AccountID.skip(mReader);
+        }
+        return OperationType.decode(mReader);
+    }
+
+    /**
+     * Returns the source account of an operation, or {@code null} if the operation
+     * uses the source account of the transaction.
+     *
+     * @param index the index of the operation
+     */
+    public AccountID getOperationSourceAccount(int index) throws IOException {
+        if (!hasOperationSourceAccount(index)) {
+            return null;
+        }
+        return AccountID.decode(mReader);
+    }
+
+    public Operation getOperation(int index) throws IOException {
+        mReader.setPosition(operationOffset(index));
+        return Operation.decode(mReader);
+    }
+
+    public int getSignatureCount() throws IOException {
+        mReader.setPosition(signaturesOffset());
+        return mReader.readInt();
+    }
+
+    public DecoratedSignature getSignature(int index) throws IOException {
+        int count = getSignatureCount();
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("signature " + index + " of " + count);
+        }
+        for (int i = 0; i < index; i++) {
+            DecoratedSignature.skip(mReader);
+        }
+        return DecoratedSignature.decode(mReader);
+    }
+
+    /**
+     * Decodes the whole transaction.
+     */
+    public Transaction getTransaction() throws IOException {
+        seek(0);
+        return Transaction.decode(mReader);
+    }
+
+    /**
+     * Decodes the whole envelope.
+     */
+    public TransactionEnvelope getTransactionEnvelope() throws IOException {
+        seek(0);
+        return TransactionEnvelope.decode(mReader);
+    }
+
+    /**
+     * Returns the number of bytes taken by the encoded envelope.
+     */
+    public int getLength() throws IOException {
+        mReader.setPosition(signaturesOffset());
+        int signaturesSize = mReader.readInt();
+        for (int i = 0; i < signaturesSize; i++) {
+            DecoratedSignature.skip(mReader);
+        }
+        return mReader.getPosition() - mOffset;
+    }
+
+    /**
+     * Moves the reader to a fixed offset from the start of the envelope.
+     */
+    private void seek(int offset) throws IOException {
+        mReader.setPosition(mOffset);
+        if (mReader.remaining() < offset) {
+            throw new EOFException();
+        }
+        mReader.setPosition(mOffset + offset);
+    }
+
+    private int memoOffset() throws IOException {
+        if (mMemoOffset < 0) {
+            if (hasTimeBounds()) {
+                TimeBounds.skip(mReader);
+            }
+            mMemoOffset = mReader.getPosition();
+        }
+        return mMemoOffset;
+    }
+
+    private void indexOperations() throws IOException {
+        if (mOperationCount >= 0) {
+            return;
+        }
+        mReader.setPosition(memoOffset());
+        Memo.skip(mReader);
+        int operationsSize = mReader.readInt();
+        mReader.checkArrayLength(operationsSize, MAX_OPERATIONS);
+        for (int i = 0; i < operationsSize; i++) {
+            if (i == mOperationOffsets.length) {
+                mOperationOffsets = Arrays.copyOf(mOperationOffsets, i * 2);
+            }
+            mOperationOffsets[i] = mReader.getPosition();
+            Operation.skip(mReader);
+        }
+        Transaction.TransactionExt.skip(mReader);
+        mSignaturesOffset = mReader.getPosition();
+        mOperationCount = operationsSize;
+    }
+
+    private int operationOffset(int index) throws IOException {
+        indexOperations();
+        if (index < 0 || index >= mOperationCount) {
+            throw new IndexOutOfBoundsException("operation " + index + " of " + mOperationCount);
+        }
+        return mOperationOffsets[index];
+    }
+
+    /**
+     * Reads the optional flag of the operation source account, leaving the reader on
+     * the account if there is one and on the operation body otherwise.
+     */
+    private boolean hasOperationSourceAccount(int index) throws IOException {
+        mReader.setPosition(operationOffset(index));
+        return mReader.readInt() != 0;
+    }
+
+    private int signaturesOffset() throws IOException {
+        indexOperations();
+        return mSignaturesOffset;
+    }
+}
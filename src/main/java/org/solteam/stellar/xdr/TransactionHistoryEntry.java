@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -46,45 +48,147 @@ public class TransactionHistoryEntry  {
   public void setExt(TransactionHistoryEntryExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, TransactionHistoryEntry encodedTransactionHistoryEntry) throws IOException{
+  public static void encode(XdrWriter stream, TransactionHistoryEntry encodedTransactionHistoryEntry) throws IOException{
     Uint32.encode(stream, encodedTransactionHistoryEntry.ledgerSeq);
     TransactionSet.encode(stream, encodedTransactionHistoryEntry.txSet);
     TransactionHistoryEntryExt.encode(stream, encodedTransactionHistoryEntry.ext);
   }
-  public static TransactionHistoryEntry decode(XdrDataInputStream stream) throws IOException {
+  public static TransactionHistoryEntry decode(XdrReader stream) throws IOException {
     TransactionHistoryEntry decodedTransactionHistoryEntry = new TransactionHistoryEntry();
     decodedTransactionHistoryEntry.ledgerSeq = Uint32.decode(stream);
     decodedTransactionHistoryEntry.txSet = TransactionSet.decode(stream);
     decodedTransactionHistoryEntry.ext = TransactionHistoryEntryExt.decode(stream);
     return decodedTransactionHistoryEntry;
   }
+  public static TransactionHistoryEntry decodeInto(XdrReader stream, TransactionHistoryEntry existing) throws IOException {
+    TransactionHistoryEntry decodedTransactionHistoryEntry = existing != null ? existing : new TransactionHistoryEntry();
+    decodedTransactionHistoryEntry.ledgerSeq = Uint32.decodeInto(stream, decodedTransactionHistoryEntry.ledgerSeq);
+    decodedTransactionHistoryEntry.txSet = TransactionSet.decodeInto(stream, decodedTransactionHistoryEntry.txSet);
+    decodedTransactionHistoryEntry.ext = TransactionHistoryEntryExt.decodeInto(stream, decodedTransactionHistoryEntry.ext);
+    return decodedTransactionHistoryEntry;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Uint32.skip(stream);
+    TransactionSet.skip(stream);
+    TransactionHistoryEntryExt.skip(stream);
+  }
+  public static int encodedSize(TransactionHistoryEntry encodedTransactionHistoryEntry) {
+    int size = 0;
+    size += Uint32.encodedSize(encodedTransactionHistoryEntry.ledgerSeq);
+    size += TransactionSet.encodedSize(encodedTransactionHistoryEntry.txSet);
+    size += TransactionHistoryEntryExt.encodedSize(encodedTransactionHistoryEntry.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TransactionHistoryEntry)) {
+      return false;
+    }
+    TransactionHistoryEntry other = (TransactionHistoryEntry) object;
+    return Objects.equals(this.ledgerSeq, other.ledgerSeq)
+        && Objects.equals(this.txSet, other.txSet)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.ledgerSeq);
+    result = 31 * result + Objects.hashCode(this.txSet);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class TransactionHistoryEntryExt {
     public TransactionHistoryEntryExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, TransactionHistoryEntryExt encodedTransactionHistoryEntryExt) throws IOException {
-    stream.writeInt(encodedTransactionHistoryEntryExt.getDiscriminant().intValue());
-    switch (encodedTransactionHistoryEntryExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, TransactionHistoryEntryExt encodedTransactionHistoryEntryExt) throws IOException {
+    stream.writeInt(encodedTransactionHistoryEntryExt.v);
+    switch (encodedTransactionHistoryEntryExt.v) {
     case 0:
     break;
     }
     }
-    public static TransactionHistoryEntryExt decode(XdrDataInputStream stream) throws IOException {
+    public static TransactionHistoryEntryExt decode(XdrReader stream) throws IOException {
     TransactionHistoryEntryExt decodedTransactionHistoryEntryExt = new TransactionHistoryEntryExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedTransactionHistoryEntryExt.setDiscriminant(discriminant);
-    switch (decodedTransactionHistoryEntryExt.getDiscriminant()) {
+    switch (decodedTransactionHistoryEntryExt.v) {
     case 0:
     break;
     }
       return decodedTransactionHistoryEntryExt;
     }
+    public static TransactionHistoryEntryExt decodeInto(XdrReader stream, TransactionHistoryEntryExt existing) throws IOException {
+      TransactionHistoryEntryExt decodedTransactionHistoryEntryExt = existing != null ? existing : new TransactionHistoryEntryExt();
+      int discriminant = stream.readInt();
+      decodedTransactionHistoryEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedTransactionHistoryEntryExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(TransactionHistoryEntryExt encodedTransactionHistoryEntryExt) {
+      int size = 4;
+      switch (encodedTransactionHistoryEntryExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof TransactionHistoryEntryExt)) {
+        return false;
+      }
+      TransactionHistoryEntryExt other = (TransactionHistoryEntryExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -46,45 +48,147 @@ public class TransactionHistoryResultEntry  {
   public void setExt(TransactionHistoryResultEntryExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, TransactionHistoryResultEntry encodedTransactionHistoryResultEntry) throws IOException{
+  public static void encode(XdrWriter stream, TransactionHistoryResultEntry encodedTransactionHistoryResultEntry) throws IOException{
     Uint32.encode(stream, encodedTransactionHistoryResultEntry.ledgerSeq);
     TransactionResultSet.encode(stream, encodedTransactionHistoryResultEntry.txResultSet);
     TransactionHistoryResultEntryExt.encode(stream, encodedTransactionHistoryResultEntry.ext);
   }
-  public static TransactionHistoryResultEntry decode(XdrDataInputStream stream) throws IOException {
+  public static TransactionHistoryResultEntry decode(XdrReader stream) throws IOException {
     TransactionHistoryResultEntry decodedTransactionHistoryResultEntry = new TransactionHistoryResultEntry();
     decodedTransactionHistoryResultEntry.ledgerSeq = Uint32.decode(stream);
     decodedTransactionHistoryResultEntry.txResultSet = TransactionResultSet.decode(stream);
     decodedTransactionHistoryResultEntry.ext = TransactionHistoryResultEntryExt.decode(stream);
     return decodedTransactionHistoryResultEntry;
   }
+  public static TransactionHistoryResultEntry decodeInto(XdrReader stream, TransactionHistoryResultEntry existing) throws IOException {
+    TransactionHistoryResultEntry decodedTransactionHistoryResultEntry = existing != null ? existing : new TransactionHistoryResultEntry();
+    decodedTransactionHistoryResultEntry.ledgerSeq = Uint32.decodeInto(stream, decodedTransactionHistoryResultEntry.ledgerSeq);
+    decodedTransactionHistoryResultEntry.txResultSet = TransactionResultSet.decodeInto(stream, decodedTransactionHistoryResultEntry.txResultSet);
+    decodedTransactionHistoryResultEntry.ext = TransactionHistoryResultEntryExt.decodeInto(stream, decodedTransactionHistoryResultEntry.ext);
+    return decodedTransactionHistoryResultEntry;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Uint32.skip(stream);
+    TransactionResultSet.skip(stream);
+    TransactionHistoryResultEntryExt.skip(stream);
+  }
+  public static int encodedSize(TransactionHistoryResultEntry encodedTransactionHistoryResultEntry) {
+    int size = 0;
+    size += Uint32.encodedSize(encodedTransactionHistoryResultEntry.ledgerSeq);
+    size += TransactionResultSet.encodedSize(encodedTransactionHistoryResultEntry.txResultSet);
+    size += TransactionHistoryResultEntryExt.encodedSize(encodedTransactionHistoryResultEntry.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TransactionHistoryResultEntry)) {
+      return false;
+    }
+    TransactionHistoryResultEntry other = (TransactionHistoryResultEntry) object;
+    return Objects.equals(this.ledgerSeq, other.ledgerSeq)
+        && Objects.equals(this.txResultSet, other.txResultSet)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.ledgerSeq);
+    result = 31 * result + Objects.hashCode(this.txResultSet);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class TransactionHistoryResultEntryExt {
     public TransactionHistoryResultEntryExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, TransactionHistoryResultEntryExt encodedTransactionHistoryResultEntryExt) throws IOException {
-    stream.writeInt(encodedTransactionHistoryResultEntryExt.getDiscriminant().intValue());
-    switch (encodedTransactionHistoryResultEntryExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, TransactionHistoryResultEntryExt encodedTransactionHistoryResultEntryExt) throws IOException {
+    stream.writeInt(encodedTransactionHistoryResultEntryExt.v);
+    switch (encodedTransactionHistoryResultEntryExt.v) {
     case 0:
     break;
     }
     }
-    public static TransactionHistoryResultEntryExt decode(XdrDataInputStream stream) throws IOException {
+    public static TransactionHistoryResultEntryExt decode(XdrReader stream) throws IOException {
     TransactionHistoryResultEntryExt decodedTransactionHistoryResultEntryExt = new TransactionHistoryResultEntryExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedTransactionHistoryResultEntryExt.setDiscriminant(discriminant);
-    switch (decodedTransactionHistoryResultEntryExt.getDiscriminant()) {
+    switch (decodedTransactionHistoryResultEntryExt.v) {
     case 0:
     break;
     }
       return decodedTransactionHistoryResultEntryExt;
     }
+    public static TransactionHistoryResultEntryExt decodeInto(XdrReader stream, TransactionHistoryResultEntryExt existing) throws IOException {
+      TransactionHistoryResultEntryExt decodedTransactionHistoryResultEntryExt = existing != null ? existing : new TransactionHistoryResultEntryExt();
+      int discriminant = stream.readInt();
+      decodedTransactionHistoryResultEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedTransactionHistoryResultEntryExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(TransactionHistoryResultEntryExt encodedTransactionHistoryResultEntryExt) {
+      int size = 4;
+      switch (encodedTransactionHistoryResultEntryExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof TransactionHistoryResultEntryExt)) {
+        return false;
+      }
+      TransactionHistoryResultEntryExt other = (TransactionHistoryResultEntryExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
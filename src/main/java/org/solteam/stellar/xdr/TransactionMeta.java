@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -17,13 +20,19 @@ import java.io.IOException;
 //  ===========================================================================
 public class TransactionMeta  {
   public TransactionMeta () {}
-  Integer v;
+  int v;
   public Integer getDiscriminant() {
     return this.v;
   }
   public void setDiscriminant(Integer value) {
     this.v = value;
   }
+  public void setDiscriminant(int value) {
+    this.v = value;
+  }
+  public int getDiscriminantValue() {
+    return this.v;
+  }
   private OperationMeta[] operations;
   public OperationMeta[] getOperations() {
     return this.operations;
@@ -31,9 +40,9 @@ public class TransactionMeta  {
   public void setOperations(OperationMeta[] value) {
     this.operations = value;
   }
-  public static void encode(XdrDataOutputStream stream, TransactionMeta encodedTransactionMeta) throws IOException {
-  stream.writeInt(encodedTransactionMeta.getDiscriminant().intValue());
-  switch (encodedTransactionMeta.getDiscriminant()) {
+  public static void encode(XdrWriter stream, TransactionMeta encodedTransactionMeta) throws IOException {
+  stream.writeInt(encodedTransactionMeta.v);
+  switch (encodedTransactionMeta.v) {
   case 0:
   int operationssize = encodedTransactionMeta.getOperations().length;
   stream.writeInt(operationssize);
@@ -43,13 +52,14 @@ public class TransactionMeta  {
   break;
   }
   }
-  public static TransactionMeta decode(XdrDataInputStream stream) throws IOException {
+  public static TransactionMeta decode(XdrReader stream) throws IOException {
   TransactionMeta decodedTransactionMeta = new TransactionMeta();
-  Integer discriminant = stream.readInt();
+  int discriminant = stream.readInt();
   decodedTransactionMeta.setDiscriminant(discriminant);
-  switch (decodedTransactionMeta.getDiscriminant()) {
+  switch (decodedTransactionMeta.v) {
   case 0:
   int operationssize = stream.readInt();
+  stream.checkArrayLength(operationssize, Integer.MAX_VALUE);
   decodedTransactionMeta.operations = new OperationMeta[operationssize];
   for (int i = 0; i < operationssize; i++) {
     decodedTransactionMeta.operations[i] = OperationMeta.decode(stream);
@@ -58,4 +68,105 @@ public class TransactionMeta  {
   }
     return decodedTransactionMeta;
   }
+  public static TransactionMeta decodeInto(XdrReader stream, TransactionMeta existing) throws IOException {
+    TransactionMeta decodedTransactionMeta = existing != null ? existing : new TransactionMeta();
+    int discriminant = stream.readInt();
+    decodedTransactionMeta.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        int operationssize = stream.readInt();
+        stream.checkArrayLength(operationssize, Integer.MAX_VALUE);
+        if (decodedTransactionMeta.operations == null) {
+          decodedTransactionMeta.operations = new OperationMeta[operationssize];
+        } else if (decodedTransactionMeta.operations.length != operationssize) {
+          decodedTransactionMeta.operations = Arrays.copyOf(decodedTransactionMeta.operations, operationssize);
+        }
+        for (int i = 0; i < operationssize; i++) {
+          decodedTransactionMeta.operations[i] = OperationMeta.decodeInto(stream, decodedTransactionMeta.operations[i]);
+        }
+        break;
+    }
+    // leave only the selected arm set, as decode does
+    if (discriminant != 0) {
+      decodedTransactionMeta.operations = null;
+    }
+    return decodedTransactionMeta;
+  }
+  /**
+   * Reads the version and returns an iterator that decodes operations one at a time.
+   */
+  public static XdrArrayIterator<OperationMeta> decodeOperations(XdrReader stream) throws IOException {
+    int discriminant = stream.readInt();
+    if (discriminant != 0) {
+      throw new IOException("TransactionMeta version " + discriminant + " has no operations");
+    }
+    return new XdrArrayIterator<>(stream, OperationMeta::decode, Integer.MAX_VALUE);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        int operationssize = stream.readInt();
+        for (int i = 0; i < operationssize; i++) {
+          OperationMeta.skip(stream);
+        }
+        break;
+    }
+  }
+  public static int encodedSize(TransactionMeta encodedTransactionMeta) {
+    int size = 4;
+    switch (encodedTransactionMeta.v) {
+      case 0:
+        size += 4;
+        for (int i = 0; i < encodedTransactionMeta.operations.length; i++) {
+          size += OperationMeta.encodedSize(encodedTransactionMeta.operations[i]);
+        }
+        break;
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  public String toXdrBase64() throws IOException {
+    XdrBase64Writer writer = new XdrBase64Writer(encodedSize(this));
+    encode(writer, this);
+    return writer.toString();
+  }
+  public static TransactionMeta fromXdrBase64(String xdr) throws IOException {
+    return XdrBase64InputStream.decode(xdr, TransactionMeta::decode);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TransactionMeta)) {
+      return false;
+    }
+    TransactionMeta other = (TransactionMeta) object;
+    if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+      return false;
+    }
+    switch (this.getDiscriminantValue()) {
+      case 0:
+        return Arrays.equals(this.operations, other.operations);
+    }
+    return true;
+  }
+  @Override
+  public int hashCode() {
+    int result = this.getDiscriminantValue();
+    switch (this.getDiscriminantValue()) {
+      case 0:
+        result = 31 * result + Arrays.hashCode(this.operations);
+        break;
+    }
+    return result;
+  }
 }
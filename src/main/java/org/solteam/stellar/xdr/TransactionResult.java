@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -55,18 +58,74 @@ public class TransactionResult  {
   public void setExt(TransactionResultExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, TransactionResult encodedTransactionResult) throws IOException{
+  public static void encode(XdrWriter stream, TransactionResult encodedTransactionResult) throws IOException{
     Int64.encode(stream, encodedTransactionResult.feeCharged);
     TransactionResultResult.encode(stream, encodedTransactionResult.result);
     TransactionResultExt.encode(stream, encodedTransactionResult.ext);
   }
-  public static TransactionResult decode(XdrDataInputStream stream) throws IOException {
+  public static TransactionResult decode(XdrReader stream) throws IOException {
     TransactionResult decodedTransactionResult = new TransactionResult();
     decodedTransactionResult.feeCharged = Int64.decode(stream);
     decodedTransactionResult.result = TransactionResultResult.decode(stream);
     decodedTransactionResult.ext = TransactionResultExt.decode(stream);
     return decodedTransactionResult;
   }
+  public static TransactionResult decodeInto(XdrReader stream, TransactionResult existing) throws IOException {
+    TransactionResult decodedTransactionResult = existing != null ? existing : new TransactionResult();
+    decodedTransactionResult.feeCharged = Int64.decodeInto(stream, decodedTransactionResult.feeCharged);
+    decodedTransactionResult.result = TransactionResultResult.decodeInto(stream, decodedTransactionResult.result);
+    decodedTransactionResult.ext = TransactionResultExt.decodeInto(stream, decodedTransactionResult.ext);
+    return decodedTransactionResult;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Int64.skip(stream);
+    TransactionResultResult.skip(stream);
+    TransactionResultExt.skip(stream);
+  }
+  public static int encodedSize(TransactionResult encodedTransactionResult) {
+    int size = 0;
+    size += Int64.encodedSize(encodedTransactionResult.feeCharged);
+    size += TransactionResultResult.encodedSize(encodedTransactionResult.result);
+    size += TransactionResultExt.encodedSize(encodedTransactionResult.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  public String toXdrBase64() throws IOException {
+    XdrBase64Writer writer = new XdrBase64Writer(encodedSize(this));
+    encode(writer, this);
+    return writer.toString();
+  }
+  public static TransactionResult fromXdrBase64(String xdr) throws IOException {
+    return XdrBase64InputStream.decode(xdr, TransactionResult::decode);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TransactionResult)) {
+      return false;
+    }
+    TransactionResult other = (TransactionResult) object;
+    return Objects.equals(this.feeCharged, other.feeCharged)
+        && Objects.equals(this.result, other.result)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.feeCharged);
+    result = 31 * result + Objects.hashCode(this.result);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class TransactionResultResult {
     public TransactionResultResult () {}
@@ -84,7 +143,7 @@ public class TransactionResult  {
     public void setResults(OperationResult[] value) {
       this.results = value;
     }
-    public static void encode(XdrDataOutputStream stream, TransactionResultResult encodedTransactionResultResult) throws IOException {
+    public static void encode(XdrWriter stream, TransactionResultResult encodedTransactionResultResult) throws IOException {
     stream.writeInt(encodedTransactionResultResult.getDiscriminant().getValue());
     switch (encodedTransactionResultResult.getDiscriminant()) {
     case txSUCCESS:
@@ -99,14 +158,18 @@ public class TransactionResult  {
     break;
     }
     }
-    public static TransactionResultResult decode(XdrDataInputStream stream) throws IOException {
+    public static TransactionResultResult decode(XdrReader stream) throws IOException {
     TransactionResultResult decodedTransactionResultResult = new TransactionResultResult();
     TransactionResultCode discriminant = TransactionResultCode.decode(stream);
     decodedTransactionResultResult.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of TransactionResultResult");
+    }
     switch (decodedTransactionResultResult.getDiscriminant()) {
     case txSUCCESS:
     case txFAILED:
     int resultssize = stream.readInt();
+    stream.checkArrayLength(resultssize, Integer.MAX_VALUE);
     decodedTransactionResultResult.results = new OperationResult[resultssize];
     for (int i = 0; i < resultssize; i++) {
       decodedTransactionResultResult.results[i] = OperationResult.decode(stream);
@@ -117,34 +180,187 @@ public class TransactionResult  {
     }
       return decodedTransactionResultResult;
     }
+    public static TransactionResultResult decodeInto(XdrReader stream, TransactionResultResult existing) throws IOException {
+      TransactionResultResult decodedTransactionResultResult = existing != null ? existing : new TransactionResultResult();
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream);
+      decodedTransactionResultResult.setDiscriminant(discriminant);
+      if (discriminant == null) {
+        decodedTransactionResultResult.results = null;
+        return decodedTransactionResultResult;
+      }
+      switch (discriminant) {
+        case txSUCCESS:
+        case txFAILED:
+          int resultssize = stream.readInt();
+          stream.checkArrayLength(resultssize, Integer.MAX_VALUE);
+          if (decodedTransactionResultResult.results == null) {
+            decodedTransactionResultResult.results = new OperationResult[resultssize];
+          } else if (decodedTransactionResultResult.results.length != resultssize) {
+            decodedTransactionResultResult.results = Arrays.copyOf(decodedTransactionResultResult.results, resultssize);
+          }
+          for (int i = 0; i < resultssize; i++) {
+            decodedTransactionResultResult.results[i] = OperationResult.decodeInto(stream, decodedTransactionResultResult.results[i]);
+          }
+          break;
+        default:
+          break;
+      }
+      // leave only the selected arm set, as decode does
+      if (discriminant != TransactionResultCode.txSUCCESS && discriminant != TransactionResultCode.txFAILED) {
+        decodedTransactionResultResult.results = null;
+      }
+      return decodedTransactionResultResult;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream);
+      if (discriminant == null) {
+        return;
+      }
+      switch (discriminant) {
+        case txSUCCESS:
+        case txFAILED:
+          int resultssize = stream.readInt();
+          for (int i = 0; i < resultssize; i++) {
+            OperationResult.skip(stream);
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    public static int encodedSize(TransactionResultResult encodedTransactionResultResult) {
+      int size = 4;
+      switch (encodedTransactionResultResult.getDiscriminant()) {
+        case txSUCCESS:
+        case txFAILED:
+          size += 4;
+          for (int i = 0; i < encodedTransactionResultResult.results.length; i++) {
+            size += OperationResult.encodedSize(encodedTransactionResultResult.results[i]);
+          }
+          break;
+        default:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof TransactionResultResult)) {
+        return false;
+      }
+      TransactionResultResult other = (TransactionResultResult) object;
+      if (this.getDiscriminant() != other.getDiscriminant()) {
+        return false;
+      }
+      if (this.getDiscriminant() == null) {
+        return true;
+      }
+      switch (this.getDiscriminant()) {
+        case txSUCCESS:
+        case txFAILED:
+          return Arrays.equals(this.results, other.results);
+        default:
+          return true;
+      }
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+      if (this.getDiscriminant() != null) {
+        switch (this.getDiscriminant()) {
+          case txSUCCESS:
+          case txFAILED:
+            result = 31 * result + Arrays.hashCode(this.results);
+            break;
+        }
+      }
+      return result;
+    }
   }
   public static class TransactionResultExt {
     public TransactionResultExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, TransactionResultExt encodedTransactionResultExt) throws IOException {
-    stream.writeInt(encodedTransactionResultExt.getDiscriminant().intValue());
-    switch (encodedTransactionResultExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, TransactionResultExt encodedTransactionResultExt) throws IOException {
+    stream.writeInt(encodedTransactionResultExt.v);
+    switch (encodedTransactionResultExt.v) {
     case 0:
     break;
     }
     }
-    public static TransactionResultExt decode(XdrDataInputStream stream) throws IOException {
+    public static TransactionResultExt decode(XdrReader stream) throws IOException {
     TransactionResultExt decodedTransactionResultExt = new TransactionResultExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedTransactionResultExt.setDiscriminant(discriminant);
-    switch (decodedTransactionResultExt.getDiscriminant()) {
+    switch (decodedTransactionResultExt.v) {
     case 0:
     break;
     }
       return decodedTransactionResultExt;
     }
+    public static TransactionResultExt decodeInto(XdrReader stream, TransactionResultExt existing) throws IOException {
+      TransactionResultExt decodedTransactionResultExt = existing != null ? existing : new TransactionResultExt();
+      int discriminant = stream.readInt();
+      decodedTransactionResultExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedTransactionResultExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(TransactionResultExt encodedTransactionResultExt) {
+      int size = 4;
+      switch (encodedTransactionResultExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof TransactionResultExt)) {
+        return false;
+      }
+      TransactionResultExt other = (TransactionResultExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -43,6 +44,22 @@ public enum TransactionResultCode  {
   txINTERNAL_ERROR(-11),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = -11;
+  private static final TransactionResultCode[] BY_VALUE = {
+    txINTERNAL_ERROR,
+    txBAD_AUTH_EXTRA,
+    txINSUFFICIENT_FEE,
+    txNO_ACCOUNT,
+    txINSUFFICIENT_BALANCE,
+    txBAD_AUTH,
+    txBAD_SEQ,
+    txMISSING_OPERATION,
+    txTOO_LATE,
+    txTOO_EARLY,
+    txFAILED,
+    txSUCCESS,
+  };
 
   TransactionResultCode(int value) {
       mValue = value;
@@ -52,27 +69,25 @@ public enum TransactionResultCode  {
       return mValue;
   }
 
-  static TransactionResultCode decode(XdrDataInputStream stream) throws IOException {
+  static TransactionResultCode decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 0: return txSUCCESS;
-      case -1: return txFAILED;
-      case -2: return txTOO_EARLY;
-      case -3: return txTOO_LATE;
-      case -4: return txMISSING_OPERATION;
-      case -5: return txBAD_SEQ;
-      case -6: return txBAD_AUTH;
-      case -7: return txINSUFFICIENT_BALANCE;
-      case -8: return txNO_ACCOUNT;
-      case -9: return txINSUFFICIENT_FEE;
-      case -10: return txBAD_AUTH_EXTRA;
-      case -11: return txINTERNAL_ERROR;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, TransactionResultCode value) throws IOException {
+  static void encode(XdrWriter stream, TransactionResultCode value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(TransactionResultCode value) {
+    return 4;
+  }
 }
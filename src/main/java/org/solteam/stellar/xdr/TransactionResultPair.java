@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,14 +33,57 @@ public class TransactionResultPair  {
   public void setResult(TransactionResult value) {
     this.result = value;
   }
-  public static void encode(XdrDataOutputStream stream, TransactionResultPair encodedTransactionResultPair) throws IOException{
+  public static void encode(XdrWriter stream, TransactionResultPair encodedTransactionResultPair) throws IOException{
     Hash.encode(stream, encodedTransactionResultPair.transactionHash);
     TransactionResult.encode(stream, encodedTransactionResultPair.result);
   }
-  public static TransactionResultPair decode(XdrDataInputStream stream) throws IOException {
+  public static TransactionResultPair decode(XdrReader stream) throws IOException {
     TransactionResultPair decodedTransactionResultPair = new TransactionResultPair();
     decodedTransactionResultPair.transactionHash = Hash.decode(stream);
     decodedTransactionResultPair.result = TransactionResult.decode(stream);
     return decodedTransactionResultPair;
   }
+  public static TransactionResultPair decodeInto(XdrReader stream, TransactionResultPair existing) throws IOException {
+    TransactionResultPair decodedTransactionResultPair = existing != null ? existing : new TransactionResultPair();
+    decodedTransactionResultPair.transactionHash = Hash.decodeInto(stream, decodedTransactionResultPair.transactionHash);
+    decodedTransactionResultPair.result = TransactionResult.decodeInto(stream, decodedTransactionResultPair.result);
+    return decodedTransactionResultPair;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Hash.skip(stream);
+    TransactionResult.skip(stream);
+  }
+  public static int encodedSize(TransactionResultPair encodedTransactionResultPair) {
+    int size = 0;
+    size += Hash.encodedSize(encodedTransactionResultPair.transactionHash);
+    size += TransactionResult.encodedSize(encodedTransactionResultPair.result);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TransactionResultPair)) {
+      return false;
+    }
+    TransactionResultPair other = (TransactionResultPair) object;
+    return Objects.equals(this.transactionHash, other.transactionHash)
+        && Objects.equals(this.result, other.result);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.transactionHash);
+    result = 31 * result + Objects.hashCode(this.result);
+    return result;
+  }
 }
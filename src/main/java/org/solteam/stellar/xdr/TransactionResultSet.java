@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -23,20 +26,85 @@ public class TransactionResultSet  {
   public void setResults(TransactionResultPair[] value) {
     this.results = value;
   }
-  public static void encode(XdrDataOutputStream stream, TransactionResultSet encodedTransactionResultSet) throws IOException{
+  public static void encode(XdrWriter stream, TransactionResultSet encodedTransactionResultSet) throws IOException{
     int resultssize = encodedTransactionResultSet.getResults().length;
     stream.writeInt(resultssize);
     for (int i = 0; i < resultssize; i++) {
       TransactionResultPair.encode(stream, encodedTransactionResultSet.results[i]);
     }
   }
-  public static TransactionResultSet decode(XdrDataInputStream stream) throws IOException {
+  public static TransactionResultSet decode(XdrReader stream) throws IOException {
     TransactionResultSet decodedTransactionResultSet = new TransactionResultSet();
     int resultssize = stream.readInt();
+    stream.checkArrayLength(resultssize, Integer.MAX_VALUE);
     decodedTransactionResultSet.results = new TransactionResultPair[resultssize];
     for (int i = 0; i < resultssize; i++) {
       decodedTransactionResultSet.results[i] = TransactionResultPair.decode(stream);
     }
     return decodedTransactionResultSet;
   }
+  public static TransactionResultSet decodeInto(XdrReader stream, TransactionResultSet existing) throws IOException {
+    TransactionResultSet decodedTransactionResultSet = existing != null ? existing : new TransactionResultSet();
+    int resultssize = stream.readInt();
+    stream.checkArrayLength(resultssize, Integer.MAX_VALUE);
+    if (decodedTransactionResultSet.results == null) {
+      decodedTransactionResultSet.results = new TransactionResultPair[resultssize];
+    } else if (decodedTransactionResultSet.results.length != resultssize) {
+      decodedTransactionResultSet.results = Arrays.copyOf(decodedTransactionResultSet.results, resultssize);
+    }
+    for (int i = 0; i < resultssize; i++) {
+      decodedTransactionResultSet.results[i] = TransactionResultPair.decodeInto(stream, decodedTransactionResultSet.results[i]);
+    }
+    return decodedTransactionResultSet;
+  }
+  /**
+   * Returns an iterator that decodes results one pair at a time.
+   */
+  public static XdrArrayIterator<TransactionResultPair> decodeResults(XdrReader stream) throws IOException {
+    return new XdrArrayIterator<>(stream, TransactionResultPair::decode, Integer.MAX_VALUE);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    int resultssize = stream.readInt();
+    for (int i = 0; i < resultssize; i++) {
+      TransactionResultPair.skip(stream);
+    }
+  }
+  public static int encodedSize(TransactionResultSet encodedTransactionResultSet) {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < encodedTransactionResultSet.results.length; i++) {
+      size += TransactionResultPair.encodedSize(encodedTransactionResultSet.results[i]);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  public byte[] sha256() throws IOException {
+    XdrDigestWriter writer = XdrDigestWriter.sha256();
+    encode(writer, this);
+    return writer.digest();
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TransactionResultSet)) {
+      return false;
+    }
+    TransactionResultSet other = (TransactionResultSet) object;
+    return Arrays.equals(this.results, other.results);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Arrays.hashCode(this.results);
+    return result;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -31,7 +34,7 @@ public class TransactionSet  {
   public void setTxs(TransactionEnvelope[] value) {
     this.txs = value;
   }
-  public static void encode(XdrDataOutputStream stream, TransactionSet encodedTransactionSet) throws IOException{
+  public static void encode(XdrWriter stream, TransactionSet encodedTransactionSet) throws IOException{
     Hash.encode(stream, encodedTransactionSet.previousLedgerHash);
     int txssize = encodedTransactionSet.getTxs().length;
     stream.writeInt(txssize);
@@ -39,14 +42,85 @@ public class TransactionSet  {
       TransactionEnvelope.encode(stream, encodedTransactionSet.txs[i]);
     }
   }
-  public static TransactionSet decode(XdrDataInputStream stream) throws IOException {
+  public static TransactionSet decode(XdrReader stream) throws IOException {
     TransactionSet decodedTransactionSet = new TransactionSet();
     decodedTransactionSet.previousLedgerHash = Hash.decode(stream);
     int txssize = stream.readInt();
+    stream.checkArrayLength(txssize, Integer.MAX_VALUE);
     decodedTransactionSet.txs = new TransactionEnvelope[txssize];
     for (int i = 0; i < txssize; i++) {
       decodedTransactionSet.txs[i] = TransactionEnvelope.decode(stream);
     }
     return decodedTransactionSet;
   }
+  public static TransactionSet decodeInto(XdrReader stream, TransactionSet existing) throws IOException {
+    TransactionSet decodedTransactionSet = existing != null ? existing : new TransactionSet();
+    decodedTransactionSet.previousLedgerHash = Hash.decodeInto(stream, decodedTransactionSet.previousLedgerHash);
+    int txssize = stream.readInt();
+    stream.checkArrayLength(txssize, Integer.MAX_VALUE);
+    if (decodedTransactionSet.txs == null) {
+      decodedTransactionSet.txs = new TransactionEnvelope[txssize];
+    } else if (decodedTransactionSet.txs.length != txssize) {
+      decodedTransactionSet.txs = Arrays.copyOf(decodedTransactionSet.txs, txssize);
+    }
+    for (int i = 0; i < txssize; i++) {
+      decodedTransactionSet.txs[i] = TransactionEnvelope.decodeInto(stream, decodedTransactionSet.txs[i]);
+    }
+    return decodedTransactionSet;
+  }
+  /**
+   * Decodes previousLedgerHash into {@code head}, or skips it if {@code head} is null,
+   * and returns an iterator that decodes txs one envelope at a time.
+   */
+  public static XdrArrayIterator<TransactionEnvelope> decodeTxs(XdrReader stream, TransactionSet head) throws IOException {
+    if (head != null) {
+      head.previousLedgerHash = Hash.decode(stream);
+    } else {
+      Hash.skip(stream);
+    }
+    return new XdrArrayIterator<>(stream, TransactionEnvelope::decode, Integer.MAX_VALUE);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Hash.skip(stream);
+    int txssize = stream.readInt();
+    for (int i = 0; i < txssize; i++) {
+      TransactionEnvelope.skip(stream);
+    }
+  }
+  public static int encodedSize(TransactionSet encodedTransactionSet) {
+    int size = 0;
+    size += Hash.encodedSize(encodedTransactionSet.previousLedgerHash);
+    size += 4;
+    for (int i = 0; i < encodedTransactionSet.txs.length; i++) {
+      size += TransactionEnvelope.encodedSize(encodedTransactionSet.txs[i]);
+    }
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TransactionSet)) {
+      return false;
+    }
+    TransactionSet other = (TransactionSet) object;
+    return Objects.equals(this.previousLedgerHash, other.previousLedgerHash)
+        && Arrays.equals(this.txs, other.txs);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.previousLedgerHash);
+    result = 31 * result + Arrays.hashCode(this.txs);
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -35,16 +37,59 @@ public class TransactionSignaturePayload  {
   public void setTaggedTransaction(TransactionSignaturePayloadTaggedTransaction value) {
     this.taggedTransaction = value;
   }
-  public static void encode(XdrDataOutputStream stream, TransactionSignaturePayload encodedTransactionSignaturePayload) throws IOException{
+  public static void encode(XdrWriter stream, TransactionSignaturePayload encodedTransactionSignaturePayload) throws IOException{
     Hash.encode(stream, encodedTransactionSignaturePayload.networkId);
     TransactionSignaturePayloadTaggedTransaction.encode(stream, encodedTransactionSignaturePayload.taggedTransaction);
   }
-  public static TransactionSignaturePayload decode(XdrDataInputStream stream) throws IOException {
+  public static TransactionSignaturePayload decode(XdrReader stream) throws IOException {
     TransactionSignaturePayload decodedTransactionSignaturePayload = new TransactionSignaturePayload();
     decodedTransactionSignaturePayload.networkId = Hash.decode(stream);
     decodedTransactionSignaturePayload.taggedTransaction = TransactionSignaturePayloadTaggedTransaction.decode(stream);
     return decodedTransactionSignaturePayload;
   }
+  public static TransactionSignaturePayload decodeInto(XdrReader stream, TransactionSignaturePayload existing) throws IOException {
+    TransactionSignaturePayload decodedTransactionSignaturePayload = existing != null ? existing : new TransactionSignaturePayload();
+    decodedTransactionSignaturePayload.networkId = Hash.decodeInto(stream, decodedTransactionSignaturePayload.networkId);
+    decodedTransactionSignaturePayload.taggedTransaction = TransactionSignaturePayloadTaggedTransaction.decodeInto(stream, decodedTransactionSignaturePayload.taggedTransaction);
+    return decodedTransactionSignaturePayload;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    Hash.skip(stream);
+    TransactionSignaturePayloadTaggedTransaction.skip(stream);
+  }
+  public static int encodedSize(TransactionSignaturePayload encodedTransactionSignaturePayload) {
+    int size = 0;
+    size += Hash.encodedSize(encodedTransactionSignaturePayload.networkId);
+    size += TransactionSignaturePayloadTaggedTransaction.encodedSize(encodedTransactionSignaturePayload.taggedTransaction);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TransactionSignaturePayload)) {
+      return false;
+    }
+    TransactionSignaturePayload other = (TransactionSignaturePayload) object;
+    return Objects.equals(this.networkId, other.networkId)
+        && Objects.equals(this.taggedTransaction, other.taggedTransaction);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.networkId);
+    result = 31 * result + Objects.hashCode(this.taggedTransaction);
+    return result;
+  }
 
   public static class TransactionSignaturePayloadTaggedTransaction {
     public TransactionSignaturePayloadTaggedTransaction () {}
@@ -62,7 +107,7 @@ public class TransactionSignaturePayload  {
     public void setTx(Transaction value) {
       this.tx = value;
     }
-    public static void encode(XdrDataOutputStream stream, TransactionSignaturePayloadTaggedTransaction encodedTransactionSignaturePayloadTaggedTransaction) throws IOException {
+    public static void encode(XdrWriter stream, TransactionSignaturePayloadTaggedTransaction encodedTransactionSignaturePayloadTaggedTransaction) throws IOException {
     stream.writeInt(encodedTransactionSignaturePayloadTaggedTransaction.getDiscriminant().getValue());
     switch (encodedTransactionSignaturePayloadTaggedTransaction.getDiscriminant()) {
     case ENVELOPE_TYPE_TX:
@@ -70,10 +115,13 @@ public class TransactionSignaturePayload  {
     break;
     }
     }
-    public static TransactionSignaturePayloadTaggedTransaction decode(XdrDataInputStream stream) throws IOException {
+    public static TransactionSignaturePayloadTaggedTransaction decode(XdrReader stream) throws IOException {
     TransactionSignaturePayloadTaggedTransaction decodedTransactionSignaturePayloadTaggedTransaction = new TransactionSignaturePayloadTaggedTransaction();
     EnvelopeType discriminant = EnvelopeType.decode(stream);
     decodedTransactionSignaturePayloadTaggedTransaction.setDiscriminant(discriminant);
+    if (discriminant == null) {
+      throw new IOException("Unknown discriminant of TransactionSignaturePayloadTaggedTransaction");
+    }
     switch (decodedTransactionSignaturePayloadTaggedTransaction.getDiscriminant()) {
     case ENVELOPE_TYPE_TX:
     decodedTransactionSignaturePayloadTaggedTransaction.tx = Transaction.decode(stream);
@@ -81,6 +129,77 @@ public class TransactionSignaturePayload  {
     }
       return decodedTransactionSignaturePayloadTaggedTransaction;
     }
+    public static TransactionSignaturePayloadTaggedTransaction decodeInto(XdrReader stream, TransactionSignaturePayloadTaggedTransaction existing) throws IOException {
+      TransactionSignaturePayloadTaggedTransaction decodedTransactionSignaturePayloadTaggedTransaction = existing != null ? existing : new TransactionSignaturePayloadTaggedTransaction();
+      EnvelopeType discriminant = EnvelopeType.decode(stream);
+      decodedTransactionSignaturePayloadTaggedTransaction.setDiscriminant(discriminant);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of TransactionSignaturePayloadTaggedTransaction");
+      }
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          decodedTransactionSignaturePayloadTaggedTransaction.tx = Transaction.decodeInto(stream, decodedTransactionSignaturePayloadTaggedTransaction.tx);
+          break;
+      }
+      // leave only the selected arm set, as decode does
+      if (discriminant != EnvelopeType.ENVELOPE_TYPE_TX) {
+        decodedTransactionSignaturePayloadTaggedTransaction.tx = null;
+      }
+      return decodedTransactionSignaturePayloadTaggedTransaction;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      EnvelopeType discriminant = EnvelopeType.decode(stream);
+      if (discriminant == null) {
+        throw new IOException("Unknown discriminant of TransactionSignaturePayloadTaggedTransaction");
+      }
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          Transaction.skip(stream);
+          break;
+      }
+    }
+    public static int encodedSize(TransactionSignaturePayloadTaggedTransaction encodedTransactionSignaturePayloadTaggedTransaction) {
+      int size = 4;
+      switch (encodedTransactionSignaturePayloadTaggedTransaction.getDiscriminant()) {
+        case ENVELOPE_TYPE_TX:
+          size += Transaction.encodedSize(encodedTransactionSignaturePayloadTaggedTransaction.tx);
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof TransactionSignaturePayloadTaggedTransaction)) {
+        return false;
+      }
+      TransactionSignaturePayloadTaggedTransaction other = (TransactionSignaturePayloadTaggedTransaction) object;
+      if (this.getDiscriminant() != other.getDiscriminant()) {
+        return false;
+      }
+      if (this.getDiscriminant() == null) {
+        return true;
+      }
+      switch (this.getDiscriminant()) {
+        case ENVELOPE_TYPE_TX:
+          return Objects.equals(this.tx, other.tx);
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminant() != null ? this.getDiscriminant().getValue() : 0;
+      if (this.getDiscriminant() != null) {
+        switch (this.getDiscriminant()) {
+          case ENVELOPE_TYPE_TX:
+            result = 31 * result + Objects.hashCode(this.tx);
+            break;
+        }
+      }
+      return result;
+    }
   }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -72,7 +74,7 @@ public class TrustLineEntry  {
   public void setExt(TrustLineEntryExt value) {
     this.ext = value;
   }
-  public static void encode(XdrDataOutputStream stream, TrustLineEntry encodedTrustLineEntry) throws IOException{
+  public static void encode(XdrWriter stream, TrustLineEntry encodedTrustLineEntry) throws IOException{
     AccountID.encode(stream, encodedTrustLineEntry.accountID);
     Asset.encode(stream, encodedTrustLineEntry.asset);
     Int64.encode(stream, encodedTrustLineEntry.balance);
@@ -80,7 +82,7 @@ public class TrustLineEntry  {
     Uint32.encode(stream, encodedTrustLineEntry.flags);
     TrustLineEntryExt.encode(stream, encodedTrustLineEntry.ext);
   }
-  public static TrustLineEntry decode(XdrDataInputStream stream) throws IOException {
+  public static TrustLineEntry decode(XdrReader stream) throws IOException {
     TrustLineEntry decodedTrustLineEntry = new TrustLineEntry();
     decodedTrustLineEntry.accountID = AccountID.decode(stream);
     decodedTrustLineEntry.asset = Asset.decode(stream);
@@ -90,33 +92,150 @@ public class TrustLineEntry  {
     decodedTrustLineEntry.ext = TrustLineEntryExt.decode(stream);
     return decodedTrustLineEntry;
   }
+  public static TrustLineEntry decodeInto(XdrReader stream, TrustLineEntry existing) throws IOException {
+    TrustLineEntry decodedTrustLineEntry = existing != null ? existing : new TrustLineEntry();
+    decodedTrustLineEntry.accountID = AccountID.decodeInto(stream, decodedTrustLineEntry.accountID);
+    decodedTrustLineEntry.asset = Asset.decodeInto(stream, decodedTrustLineEntry.asset);
+    decodedTrustLineEntry.balance = Int64.decodeInto(stream, decodedTrustLineEntry.balance);
+    decodedTrustLineEntry.limit = Int64.decodeInto(stream, decodedTrustLineEntry.limit);
+    decodedTrustLineEntry.flags = Uint32.decodeInto(stream, decodedTrustLineEntry.flags);
+    decodedTrustLineEntry.ext = TrustLineEntryExt.decodeInto(stream, decodedTrustLineEntry.ext);
+    return decodedTrustLineEntry;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    AccountID.skip(stream);
+    Asset.skip(stream);
+    Int64.skip(stream);
+    Int64.skip(stream);
+    Uint32.skip(stream);
+    TrustLineEntryExt.skip(stream);
+  }
+  public static int encodedSize(TrustLineEntry encodedTrustLineEntry) {
+    int size = 0;
+    size += AccountID.encodedSize(encodedTrustLineEntry.accountID);
+    size += Asset.encodedSize(encodedTrustLineEntry.asset);
+    size += Int64.encodedSize(encodedTrustLineEntry.balance);
+    size += Int64.encodedSize(encodedTrustLineEntry.limit);
+    size += Uint32.encodedSize(encodedTrustLineEntry.flags);
+    size += TrustLineEntryExt.encodedSize(encodedTrustLineEntry.ext);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof TrustLineEntry)) {
+      return false;
+    }
+    TrustLineEntry other = (TrustLineEntry) object;
+    return Objects.equals(this.accountID, other.accountID)
+        && Objects.equals(this.asset, other.asset)
+        && Objects.equals(this.balance, other.balance)
+        && Objects.equals(this.limit, other.limit)
+        && Objects.equals(this.flags, other.flags)
+        && Objects.equals(this.ext, other.ext);
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(this.accountID);
+    result = 31 * result + Objects.hashCode(this.asset);
+    result = 31 * result + Objects.hashCode(this.balance);
+    result = 31 * result + Objects.hashCode(this.limit);
+    result = 31 * result + Objects.hashCode(this.flags);
+    result = 31 * result + Objects.hashCode(this.ext);
+    return result;
+  }
 
   public static class TrustLineEntryExt {
     public TrustLineEntryExt () {}
-    Integer v;
+    int v;
     public Integer getDiscriminant() {
       return this.v;
     }
     public void setDiscriminant(Integer value) {
       this.v = value;
     }
-    public static void encode(XdrDataOutputStream stream, TrustLineEntryExt encodedTrustLineEntryExt) throws IOException {
-    stream.writeInt(encodedTrustLineEntryExt.getDiscriminant().intValue());
-    switch (encodedTrustLineEntryExt.getDiscriminant()) {
+    public void setDiscriminant(int value) {
+      this.v = value;
+    }
+    public int getDiscriminantValue() {
+      return this.v;
+    }
+    public static void encode(XdrWriter stream, TrustLineEntryExt encodedTrustLineEntryExt) throws IOException {
+    stream.writeInt(encodedTrustLineEntryExt.v);
+    switch (encodedTrustLineEntryExt.v) {
     case 0:
     break;
     }
     }
-    public static TrustLineEntryExt decode(XdrDataInputStream stream) throws IOException {
+    public static TrustLineEntryExt decode(XdrReader stream) throws IOException {
     TrustLineEntryExt decodedTrustLineEntryExt = new TrustLineEntryExt();
-    Integer discriminant = stream.readInt();
+    int discriminant = stream.readInt();
     decodedTrustLineEntryExt.setDiscriminant(discriminant);
-    switch (decodedTrustLineEntryExt.getDiscriminant()) {
+    switch (decodedTrustLineEntryExt.v) {
     case 0:
     break;
     }
       return decodedTrustLineEntryExt;
     }
+    public static TrustLineEntryExt decodeInto(XdrReader stream, TrustLineEntryExt existing) throws IOException {
+      TrustLineEntryExt decodedTrustLineEntryExt = existing != null ? existing : new TrustLineEntryExt();
+      int discriminant = stream.readInt();
+      decodedTrustLineEntryExt.setDiscriminant(discriminant);
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return decodedTrustLineEntryExt;
+    }
+    public static void skip(XdrReader stream) throws IOException {
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+    }
+    public static int encodedSize(TrustLineEntryExt encodedTrustLineEntryExt) {
+      int size = 4;
+      switch (encodedTrustLineEntryExt.v) {
+        case 0:
+          break;
+      }
+      return size;
+    }
 
+    @Override
+    public boolean equals(Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (!(object instanceof TrustLineEntryExt)) {
+        return false;
+      }
+      TrustLineEntryExt other = (TrustLineEntryExt) object;
+      if (this.getDiscriminantValue() != other.getDiscriminantValue()) {
+        return false;
+      }
+      switch (this.getDiscriminantValue()) {
+        case 0:
+          return true;
+      }
+      return true;
+    }
+    @Override
+    public int hashCode() {
+      int result = this.getDiscriminantValue();
+      return result;
+    }
   }
 }
@@ -5,6 +5,7 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -19,6 +20,11 @@ public enum TrustLineFlags  {
   AUTHORIZED_FLAG(1),
   ;
   private int mValue;
+  // indexed by value - MIN_VALUE, null where no constant has the value
+  private static final int MIN_VALUE = 1;
+  private static final TrustLineFlags[] BY_VALUE = {
+    AUTHORIZED_FLAG,
+  };
 
   TrustLineFlags(int value) {
       mValue = value;
@@ -28,16 +34,25 @@ public enum TrustLineFlags  {
       return mValue;
   }
 
-  static TrustLineFlags decode(XdrDataInputStream stream) throws IOException {
+  static TrustLineFlags decode(XdrReader stream) throws IOException {
     int value = stream.readInt();
-    switch (value) {
-      case 1: return AUTHORIZED_FLAG;
-      default:
-        throw new RuntimeException("Unknown enum value: " + value);
+    int index = value - MIN_VALUE;
+    if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+      return BY_VALUE[index];
     }
+    if (stream.getUnknownEnumPolicy() == XdrUnknownEnumPolicy.RETURN_NULL) {
+      return null;
+    }
+    throw new IOException("Unknown enum value: " + value);
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
   }
 
-  static void encode(XdrDataOutputStream stream, TrustLineFlags value) throws IOException {
+  static void encode(XdrWriter stream, TrustLineFlags value) throws IOException {
     stream.writeInt(value.getValue());
   }
+  public static int encodedSize(TrustLineFlags value) {
+    return 4;
+  }
 }
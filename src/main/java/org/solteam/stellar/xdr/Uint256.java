@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -14,20 +17,87 @@ import java.io.IOException;
 public class Uint256  {
   private byte[] uint256;
   public byte[] getUint256() {
-    return this.uint256;
+    return frozen && this.uint256 != null ? this.uint256.clone() : this.uint256;
   }
   public void setUint256(byte[] value) {
+    checkMutable();
+    this.cachedHashCode = 0;
     this.uint256 = value;
   }
-  public static void encode(XdrDataOutputStream stream, Uint256  encodedUint256) throws IOException {
+  public static void encode(XdrWriter stream, Uint256  encodedUint256) throws IOException {
   int uint256size = encodedUint256.uint256.length;
-  stream.write(encodedUint256.getUint256(), 0, uint256size);
+  stream.write(encodedUint256.uint256, 0, uint256size);
   }
-  public static Uint256 decode(XdrDataInputStream stream) throws IOException {
+  public static Uint256 decode(XdrReader stream) throws IOException {
     Uint256 decodedUint256 = new Uint256();
-  int uint256size = 32;
-  decodedUint256.uint256 = new byte[uint256size];
-  stream.read(decodedUint256.uint256, 0, uint256size);
+  decodedUint256.uint256 = stream.readFixedOpaque(32);
     return decodedUint256;
   }
+  public static Uint256 decodeInto(XdrReader stream, Uint256 existing) throws IOException {
+    Uint256 decodedUint256 = existing != null && !existing.frozen ? existing : new Uint256();
+    decodedUint256.cachedHashCode = 0;
+    int uint256size = 32;
+    if (decodedUint256.uint256 == null || decodedUint256.uint256.length != uint256size) {
+      decodedUint256.uint256 = new byte[uint256size];
+    }
+    stream.readFully(decodedUint256.uint256, 0, uint256size);
+    return decodedUint256;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(32);
+  }
+  public static int encodedSize(Uint256 encodedUint256) {
+    int size = 0;
+    size += XdrSize.opaque(encodedUint256.uint256.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  static int compare(Uint256 a, Uint256 b) {
+    return XdrOrder.compareOpaque(a.uint256, b.uint256);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Uint256 is frozen");
+    }
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Uint256)) {
+      return false;
+    }
+    Uint256 other = (Uint256) object;
+    return Arrays.equals(this.uint256, other.uint256);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.uint256);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -12,19 +14,78 @@ import java.io.IOException;
 
 //  ===========================================================================
 public class Uint32  {
-  private Integer uint32;
+  private int uint32;
   public Integer getUint32() {
     return this.uint32;
   }
   public void setUint32(Integer value) {
+    checkMutable();
     this.uint32 = value;
   }
-  public static void encode(XdrDataOutputStream stream, Uint32  encodedUint32) throws IOException {
+  public void setUint32(int value) {
+    checkMutable();
+    this.uint32 = value;
+  }
+  public int intValue() {
+    return this.uint32;
+  }
+  public static void encode(XdrWriter stream, Uint32  encodedUint32) throws IOException {
   stream.writeInt(encodedUint32.uint32);
   }
-  public static Uint32 decode(XdrDataInputStream stream) throws IOException {
+  public static Uint32 decode(XdrReader stream) throws IOException {
     Uint32 decodedUint32 = new Uint32();
   decodedUint32.uint32 = stream.readInt();
     return decodedUint32;
   }
+  public static Uint32 decodeInto(XdrReader stream, Uint32 existing) throws IOException {
+    Uint32 decodedUint32 = existing != null && !existing.frozen ? existing : new Uint32();
+    decodedUint32.uint32 = stream.readInt();
+    return decodedUint32;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(4);
+  }
+  public static int encodedSize(Uint32 encodedUint32) {
+    int size = 0;
+    size += 4;
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Uint32 is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Uint32)) {
+      return false;
+    }
+    Uint32 other = (Uint32) object;
+    return this.uint32 == other.uint32;
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + this.uint32;
+    return result;
+  }
 }
@@ -5,6 +5,8 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -12,19 +14,81 @@ import java.io.IOException;
 
 //  ===========================================================================
 public class Uint64  {
-  private Long uint64;
+  private long uint64;
   public Long getUint64() {
     return this.uint64;
   }
   public void setUint64(Long value) {
+    checkMutable();
     this.uint64 = value;
   }
-  public static void encode(XdrDataOutputStream stream, Uint64  encodedUint64) throws IOException {
+  public void setUint64(long value) {
+    checkMutable();
+    this.uint64 = value;
+  }
+  public long longValue() {
+    return this.uint64;
+  }
+  public static void encode(XdrWriter stream, Uint64  encodedUint64) throws IOException {
   stream.writeLong(encodedUint64.uint64);
   }
-  public static Uint64 decode(XdrDataInputStream stream) throws IOException {
+  public static Uint64 decode(XdrReader stream) throws IOException {
     Uint64 decodedUint64 = new Uint64();
   decodedUint64.uint64 = stream.readLong();
     return decodedUint64;
   }
+  public static Uint64 decodeInto(XdrReader stream, Uint64 existing) throws IOException {
+    Uint64 decodedUint64 = existing != null && !existing.frozen ? existing : new Uint64();
+    decodedUint64.uint64 = stream.readLong();
+    return decodedUint64;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(8);
+  }
+  public static int encodedSize(Uint64 encodedUint64) {
+    int size = 0;
+    size += 8;
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  static int compare(Uint64 a, Uint64 b) {
+    return Long.compareUnsigned(a.uint64, b.uint64);
+  }
+  // set by freeze() when the value is shared, by an XdrInternPool or a frozen transaction
+  private boolean frozen;
+  void freeze() {
+    frozen = true;
+  }
+  public boolean isFrozen() {
+    return frozen;
+  }
+  private void checkMutable() {
+    if (frozen) {
+      throw new IllegalStateException("Uint64 is frozen");
+    }
+  }
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Uint64)) {
+      return false;
+    }
+    Uint64 other = (Uint64) object;
+    return this.uint64 == other.uint64;
+  }
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Long.hashCode(this.uint64);
+    return result;
+  }
 }
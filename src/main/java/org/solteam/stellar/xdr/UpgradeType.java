@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -17,18 +20,69 @@ public class UpgradeType  {
     return this.UpgradeType;
   }
   public void setUpgradeType(byte[] value) {
+    this.cachedHashCode = 0;
     this.UpgradeType = value;
   }
-  public static void encode(XdrDataOutputStream stream, UpgradeType  encodedUpgradeType) throws IOException {
+  public static void encode(XdrWriter stream, UpgradeType  encodedUpgradeType) throws IOException {
   int UpgradeTypesize = encodedUpgradeType.UpgradeType.length;
   stream.writeInt(UpgradeTypesize);
   stream.write(encodedUpgradeType.getUpgradeType(), 0, UpgradeTypesize);
   }
-  public static UpgradeType decode(XdrDataInputStream stream) throws IOException {
+  public static UpgradeType decode(XdrReader stream) throws IOException {
     UpgradeType decodedUpgradeType = new UpgradeType();
-  int UpgradeTypesize = stream.readInt();
-  decodedUpgradeType.UpgradeType = new byte[UpgradeTypesize];
-  stream.read(decodedUpgradeType.UpgradeType, 0, UpgradeTypesize);
+  decodedUpgradeType.UpgradeType = stream.readVarOpaque(128);
     return decodedUpgradeType;
   }
+  public static UpgradeType decodeInto(XdrReader stream, UpgradeType existing) throws IOException {
+    UpgradeType decodedUpgradeType = existing != null ? existing : new UpgradeType();
+    decodedUpgradeType.cachedHashCode = 0;
+    int UpgradeTypesize = stream.readInt();
+    stream.checkOpaqueLength(UpgradeTypesize, 128);
+    if (decodedUpgradeType.UpgradeType == null || decodedUpgradeType.UpgradeType.length != UpgradeTypesize) {
+      decodedUpgradeType.UpgradeType = new byte[UpgradeTypesize];
+    }
+    stream.readFully(decodedUpgradeType.UpgradeType, 0, UpgradeTypesize);
+    return decodedUpgradeType;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(stream.readInt());
+  }
+  public static int encodedSize(UpgradeType encodedUpgradeType) {
+    int size = 0;
+    size += 4 + XdrSize.opaque(encodedUpgradeType.UpgradeType.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof UpgradeType)) {
+      return false;
+    }
+    UpgradeType other = (UpgradeType) object;
+    return Arrays.equals(this.UpgradeType, other.UpgradeType);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.UpgradeType);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
@@ -5,6 +5,9 @@ package org.solteam.stellar.xdr;
 
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 // === xdr source ============================================================
 
@@ -17,18 +20,69 @@ public class Value  {
     return this.Value;
   }
   public void setValue(byte[] value) {
+    this.cachedHashCode = 0;
     this.Value = value;
   }
-  public static void encode(XdrDataOutputStream stream, Value  encodedValue) throws IOException {
+  public static void encode(XdrWriter stream, Value  encodedValue) throws IOException {
   int Valuesize = encodedValue.Value.length;
   stream.writeInt(Valuesize);
   stream.write(encodedValue.getValue(), 0, Valuesize);
   }
-  public static Value decode(XdrDataInputStream stream) throws IOException {
+  public static Value decode(XdrReader stream) throws IOException {
     Value decodedValue = new Value();
-  int Valuesize = stream.readInt();
-  decodedValue.Value = new byte[Valuesize];
-  stream.read(decodedValue.Value, 0, Valuesize);
+  decodedValue.Value = stream.readVarOpaque(Integer.MAX_VALUE);
     return decodedValue;
   }
+  public static Value decodeInto(XdrReader stream, Value existing) throws IOException {
+    Value decodedValue = existing != null ? existing : new Value();
+    decodedValue.cachedHashCode = 0;
+    int Valuesize = stream.readInt();
+    stream.checkOpaqueLength(Valuesize, Integer.MAX_VALUE);
+    if (decodedValue.Value == null || decodedValue.Value.length != Valuesize) {
+      decodedValue.Value = new byte[Valuesize];
+    }
+    stream.readFully(decodedValue.Value, 0, Valuesize);
+    return decodedValue;
+  }
+  public static void skip(XdrReader stream) throws IOException {
+    stream.skip(stream.readInt());
+  }
+  public static int encodedSize(Value encodedValue) {
+    int size = 0;
+    size += 4 + XdrSize.opaque(encodedValue.Value.length);
+    return size;
+  }
+  public byte[] toXdrBytes() throws IOException {
+    XdrByteArrayWriter writer = new XdrByteArrayWriter(encodedSize(this));
+    encode(writer, this);
+    return writer.getBuffer();
+  }
+  public void encodeTo(ByteBuffer buffer) throws IOException {
+    encode(new XdrByteBufferWriter(buffer), this);
+  }
+  // computed by hashCode(); reset by the setters and decodeInto,
+  // but not when an array is changed in place
+  private int cachedHashCode;
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof Value)) {
+      return false;
+    }
+    Value other = (Value) object;
+    return Arrays.equals(this.Value, other.Value);
+  }
+  @Override
+  public int hashCode() {
+    int result = this.cachedHashCode;
+    if (result != 0) {
+      return result;
+    }
+    result = 1;
+    result = 31 * result + Arrays.hashCode(this.Value);
+    this.cachedHashCode = result;
+    return result;
+  }
 }
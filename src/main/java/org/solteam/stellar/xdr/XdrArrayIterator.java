@@ -0,0 +1,105 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes the elements of a variable-length XDR array one at a time, straight from
+ * the reader, instead of building the whole array first. The length prefix is read
+ * and checked when the iterator is created; each element is decoded by {@link #next()}.
+ * <p>
+ * The iterator reads from the reader as it goes, so nothing else may be read from the
+ * reader until the iterator is exhausted; a caller that stops early calls
+ * {@link #skipRemaining()} to move the reader past the array. I/O and decoding errors
+ * are rethrown as {@link UncheckedIOException}.
+ *
+ * @param <T> the element type
+ */
+public class XdrArrayIterator<T> implements Iterator<T> {
+
+    private final XdrReader mReader;
+    private final XdrDecoder<T> mDecoder;
+    private final int mSize;
+    private int mIndex;
+
+    /**
+     * Reads the length prefix of an array and creates an iterator over its elements.
+     *
+     * @param reader    the reader positioned on the length prefix
+     * @param decoder   decodes a single element, e.g. {@code TransactionEnvelope::decode}
+     * @param maxLength the bound declared in the schema, {@link Integer#MAX_VALUE} for {@code <>}
+     */
+    public XdrArrayIterator(XdrReader reader, XdrDecoder<T> decoder, int maxLength) throws IOException {
+        int size = reader.readInt();
+        reader.checkArrayLength(size, maxLength);
+        mReader = reader;
+        mDecoder = decoder;
+        mSize = size;
+    }
+
+    /**
+     * Returns the number of elements in the array.
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns the index of the element the next call to {@link #next()} will decode.
+     */
+    public int getIndex() {
+        return mIndex;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return mIndex < mSize;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            T element = mDecoder.decode(mReader);
+            mIndex++;
+            return element;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decodes and drops the elements not decoded yet, leaving the reader on the field
+     * after the array.
+     */
+    public void skipRemaining() throws IOException {
+        while (mIndex < mSize) {
+            mDecoder.decode(mReader);
+            mIndex++;
+        }
+    }
+
+    /**
+     * Returns an ordered spliterator over the elements not decoded yet. It does not
+     * report {@link Spliterator#SIZED} so that stream operations such as
+     * {@code count()} still decode every element and leave the reader after the array.
+     */
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over the elements not decoded yet.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
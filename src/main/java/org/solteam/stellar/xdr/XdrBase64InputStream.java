@@ -0,0 +1,163 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Decodes standard base64 text as it is read, so that XDR held as base64 can be
+ * decoded through an {@link XdrDataInputStream} without first being turned into
+ * a byte array.
+ * <p>
+ * The text may leave out the trailing {@code '='} padding; anything else that is
+ * not in the base64 alphabet, including whitespace, fails the read.
+ * <p>
+ * A text that holds exactly one value can be decoded with
+ * {@link #decode(CharSequence, XdrDecoder)}, which also rejects anything after it.
+ */
+public class XdrBase64InputStream extends InputStream {
+
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final CharSequence mText;
+    private final int mEnd;
+    private int mPosition;
+    // the decoded bytes of the current group that have not been read yet
+    private final byte[] mGroup = new byte[3];
+    private int mGroupPosition;
+    private int mGroupLength;
+
+    /**
+     * Creates a stream that decodes the given text.
+     *
+     * @param text the base64 text
+     */
+    public XdrBase64InputStream(CharSequence text) {
+        mText = text;
+        mEnd = text.length();
+    }
+
+    /**
+     * Decodes a base64 text that holds exactly one XDR value, e.g.
+     * {@code XdrBase64InputStream.decode(text, TransactionResult::decode)}. The value is
+     * decoded as the text is read, without an intermediate byte array, and length
+     * prefixes are checked against the bytes the rest of the text can hold.
+     *
+     * @param text    the base64 text
+     * @param decoder decodes the value
+     * @return the decoded value
+     * @throws IOException if the text is not valid base64 or holds anything after the value
+     */
+    public static <T> T decode(CharSequence text, XdrDecoder<T> decoder) throws IOException {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == '=') {
+            end--;
+        }
+        XdrBase64InputStream in = new XdrBase64InputStream(text);
+        XdrDataInputStream reader = new XdrDataInputStream(in);
+        // caps length prefixes at what the text can still hold, as a buffer reader would
+        reader.setBudget(new XdrDecodeBudget(end * 3L / 4, Long.MAX_VALUE));
+        T value = decoder.decode(reader);
+        if (in.read() >= 0) {
+            throw new IOException("data after the end of the value");
+        }
+        return value;
+    }
+
+    private int value(char c) throws IOException {
+        int v = c < 128 ? DECODE[c] : -1;
+        if (v < 0) {
+            throw new IOException("invalid base64 character at " + mPosition);
+        }
+        return v;
+    }
+
+    /**
+     * Decodes the next group of up to four characters into {@link #mGroup}.
+     *
+     * @return the number of bytes decoded, 0 at the end of the text
+     */
+    private int fill() throws IOException {
+        int chars = Math.min(4, mEnd - mPosition);
+        int bits = 0;
+        int n = 0;
+        while (n < chars && mText.charAt(mPosition + n) != '=') {
+            bits = bits << 6 | value(mText.charAt(mPosition + n));
+            n++;
+        }
+        for (int i = n; i < chars; i++) {
+            if (mText.charAt(mPosition + i) != '=') {
+                throw new IOException("invalid base64 padding at " + (mPosition + i));
+            }
+        }
+        if ((n <= 1 && chars > 0) || (n < 4 && mPosition + chars != mEnd)) {
+            throw new IOException("truncated base64 group at " + mPosition);
+        }
+        mPosition += chars;
+        if (n == 0) {
+            return 0;
+        }
+        bits <<= 6 * (4 - n);
+        mGroup[0] = (byte) (bits >>> 16);
+        mGroup[1] = (byte) (bits >>> 8);
+        mGroup[2] = (byte) bits;
+        return n - 1;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (mGroupPosition == mGroupLength) {
+            mGroupPosition = 0;
+            mGroupLength = fill();
+            if (mGroupLength == 0) {
+                return -1;
+            }
+        }
+        return mGroup[mGroupPosition++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = 0;
+        while (n < len && mGroupPosition < mGroupLength) {
+            b[off + n++] = mGroup[mGroupPosition++];
+        }
+        // whole groups go straight into b; the last one may be padded and is left to read()
+        CharSequence text = mText;
+        int p = mPosition;
+        while (len - n >= 3 && mEnd - p > 4) {
+            mPosition = p;
+            int bits = value(text.charAt(p)) << 18
+                    | value(text.charAt(p + 1)) << 12
+                    | value(text.charAt(p + 2)) << 6
+                    | value(text.charAt(p + 3));
+            b[off + n] = (byte) (bits >>> 16);
+            b[off + n + 1] = (byte) (bits >>> 8);
+            b[off + n + 2] = (byte) bits;
+            n += 3;
+            p += 4;
+        }
+        mPosition = p;
+        while (n < len) {
+            int c = read();
+            if (c < 0) {
+                return n == 0 ? -1 : n;
+            }
+            b[off + n++] = (byte) c;
+        }
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return mGroupLength - mGroupPosition + (mEnd - mPosition) / 4 * 3;
+    }
+}
@@ -0,0 +1,119 @@
+package org.solteam.stellar.xdr;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes XDR as standard, padded base64 text, encoding each byte as it is written
+ * instead of building the binary encoding first.
+ * <p>
+ * Create the writer with the encoded size of the value, as returned by the
+ * generated {@code encodedSize} methods, so that the characters are written into
+ * an array of exactly the right length. {@link #toString()} ends the encoding.
+ */
+public class XdrBase64Writer implements XdrWriter {
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    private char[] mChars;
+    private int mCount;
+    // up to two bytes that do not make a full group yet
+    private int mBits;
+    private int mPending;
+
+    /**
+     * Creates a writer for a value whose binary encoding is {@code length} bytes long.
+     * More may be written, at the cost of growing the character array.
+     *
+     * @param length the encoded size of the value
+     */
+    public XdrBase64Writer(int length) {
+        mChars = new char[(length + 2) / 3 * 4];
+    }
+
+    /**
+     * Pads the last group and returns the base64 text. Nothing may be written afterwards.
+     */
+    @Override
+    public String toString() {
+        if (mPending > 0) {
+            int bits = mBits << (8 * (3 - mPending));
+            ensureCapacity(4);
+            mChars[mCount] = ALPHABET[bits >>> 18];
+            mChars[mCount + 1] = ALPHABET[(bits >>> 12) & 0x3f];
+            mChars[mCount + 2] = mPending == 2 ? ALPHABET[(bits >>> 6) & 0x3f] : '=';
+            mChars[mCount + 3] = '=';
+            mCount += 4;
+            mBits = 0;
+            mPending = 0;
+        }
+        return new String(mChars, 0, mCount);
+    }
+
+    private void ensureCapacity(int len) {
+        if (mCount + len > mChars.length) {
+            mChars = Arrays.copyOf(mChars, Math.max(mCount + len, mChars.length << 1));
+        }
+    }
+
+    private void put(int b) {
+        int bits = mBits << 8 | (b & 0xff);
+        if (++mPending < 3) {
+            mBits = bits;
+            return;
+        }
+        ensureCapacity(4);
+        char[] c = mChars;
+        int i = mCount;
+        c[i] = ALPHABET[bits >>> 18];
+        c[i + 1] = ALPHABET[(bits >>> 12) & 0x3f];
+        c[i + 2] = ALPHABET[(bits >>> 6) & 0x3f];
+        c[i + 3] = ALPHABET[bits & 0x3f];
+        mCount = i + 4;
+        mBits = 0;
+        mPending = 0;
+    }
+
+    @Override
+    public void writeInt(int v) {
+        put(v >>> 24);
+        put(v >>> 16);
+        put(v >>> 8);
+        put(v);
+    }
+
+    @Override
+    public void writeLong(long v) {
+        writeInt((int) (v >>> 32));
+        writeInt((int) v);
+    }
+
+    @Override
+    public void writeString(String s) {
+        if (!XdrStrings.isAscii(s)) {
+            byte[] chars = s.getBytes(StandardCharsets.UTF_8);
+            writeInt(chars.length);
+            write(chars, 0, chars.length);
+            return;
+        }
+        int length = s.length();
+        writeInt(length);
+        for (int j = 0; j < length; j++) {
+            put(s.charAt(j));
+        }
+        for (int pad = -length & 3; pad > 0; pad--) {
+            put(0);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        for (int j = off; j < off + len; j++) {
+            put(b[j]);
+        }
+        for (int pad = -len & 3; pad > 0; pad--) {
+            put(0);
+        }
+    }
+}
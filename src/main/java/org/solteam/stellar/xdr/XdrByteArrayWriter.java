@@ -0,0 +1,158 @@
+package org.solteam.stellar.xdr;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes XDR into a growable {@code byte[]} that can be reused between encodes.
+ * <p>
+ * {@link #threadLocal()} leases a per-thread instance so that hot paths such as
+ * signing and submission allocate nothing but the final array returned by
+ * {@link #toByteArray()}. A leased writer must not be held on to after the
+ * encode that uses it returns.
+ */
+public class XdrByteArrayWriter implements XdrWriter {
+
+    private static final int DEFAULT_CAPACITY = 256;
+    // Buffers that grew past this size are not kept by the thread local pool.
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+    private static final ThreadLocal<XdrByteArrayWriter> sLocal = new ThreadLocal<XdrByteArrayWriter>() {
+        @Override
+        protected XdrByteArrayWriter initialValue() {
+            return new XdrByteArrayWriter();
+        }
+    };
+
+    private byte[] mBuffer;
+    private int mCount;
+
+    public XdrByteArrayWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a writer with the given initial capacity.
+     *
+     * @param capacity the initial size of the backing array
+     */
+    public XdrByteArrayWriter(int capacity) {
+        mBuffer = new byte[capacity];
+    }
+
+    /**
+     * Returns the calling thread's writer, emptied and ready for use.
+     */
+    public static XdrByteArrayWriter threadLocal() {
+        XdrByteArrayWriter writer = sLocal.get();
+        if (writer.mBuffer.length > MAX_RETAINED_CAPACITY) {
+            writer.mBuffer = new byte[DEFAULT_CAPACITY];
+        }
+        writer.reset();
+        return writer;
+    }
+
+    /**
+     * Discards everything written so far while keeping the backing array.
+     */
+    public void reset() {
+        mCount = 0;
+    }
+
+    /**
+     * Returns the number of bytes written.
+     */
+    public int size() {
+        return mCount;
+    }
+
+    /**
+     * Returns the backing array. Only the first {@link #size()} bytes are valid and
+     * the array is overwritten by the next use of this writer.
+     */
+    public byte[] getBuffer() {
+        return mBuffer;
+    }
+
+    /**
+     * Returns a copy of the bytes written.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(mBuffer, mCount);
+    }
+
+    /**
+     * Copies the bytes written into {@code buffer} at its current position.
+     *
+     * @param buffer the destination buffer
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(mBuffer, 0, mCount);
+    }
+
+    /**
+     * Grows the backing array so that at least {@code len} more bytes fit without reallocating.
+     *
+     * @param len the number of bytes about to be written
+     */
+    public void ensureCapacity(int len) {
+        int required = mCount + len;
+        if (required > mBuffer.length) {
+            mBuffer = Arrays.copyOf(mBuffer, Math.max(required, mBuffer.length << 1));
+        }
+    }
+
+    @Override
+    public void writeInt(int v) {
+        ensureCapacity(4);
+        byte[] b = mBuffer;
+        int i = mCount;
+        b[i] = (byte) (v >>> 24);
+        b[i + 1] = (byte) (v >>> 16);
+        b[i + 2] = (byte) (v >>> 8);
+        b[i + 3] = (byte) v;
+        mCount = i + 4;
+    }
+
+    @Override
+    public void writeLong(long v) {
+        writeInt((int) (v >>> 32));
+        writeInt((int) v);
+    }
+
+    @Override
+    public void writeString(String s) {
+        if (!XdrStrings.isAscii(s)) {
+            byte[] chars = s.getBytes(StandardCharsets.UTF_8);
+            writeInt(chars.length);
+            write(chars, 0, chars.length);
+            return;
+        }
+        // ASCII: one byte per char, no intermediate array
+        int length = s.length();
+        writeInt(length);
+        int pad = -length & 3;
+        ensureCapacity(length + pad);
+        byte[] b = mBuffer;
+        int i = mCount;
+        for (int j = 0; j < length; j++) {
+            b[i++] = (byte) s.charAt(j);
+        }
+        while (pad-- > 0) {
+            b[i++] = 0;
+        }
+        mCount = i;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        int pad = -len & 3;
+        ensureCapacity(len + pad);
+        System.arraycopy(b, off, mBuffer, mCount, len);
+        mCount += len;
+        while (pad-- > 0) {
+            mBuffer[mCount++] = 0;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package org.solteam.stellar.xdr;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Reads XDR directly from a heap or direct {@link ByteBuffer}.
+ * <p>
+ * Ints and longs are read with absolute big-endian gets and opaque data is copied
+ * with a single bulk copy, so there is no per-byte virtual call as with
+ * {@link XdrDataInputStream}. The reader keeps its own position and never changes
+ * the position or limit of the buffer it was given.
+ * <p>
+ * A reader can be reused for many records either by moving it with
+ * {@link #setPosition(int)} or by pointing it at another buffer with {@link #reset(ByteBuffer)}.
+ */
+public class XdrByteBufferReader implements XdrReader {
+
+    private static final int SCRATCH_SIZE = 256;
+
+    private ByteBuffer mBuffer;
+    private byte[] mArray;
+    private int mArrayOffset;
+    private int mPosition;
+    private int mLimit;
+    private XdrStringTable mStringTable;
+    private XdrInternPool mInternPool;
+    private XdrUnknownEnumPolicy mUnknownEnumPolicy = XdrUnknownEnumPolicy.THROW;
+    private XdrDecodeBudget mBudget;
+    private boolean mTrusted;
+    private byte[] mScratch;
+
+    /**
+     * Creates a reader over the remaining bytes of the given buffer.
+     *
+     * @param buffer the buffer to read from
+     */
+    public XdrByteBufferReader(ByteBuffer buffer) {
+        reset(buffer);
+    }
+
+    /**
+     * Creates a reader over the given array.
+     *
+     * @param bytes the XDR encoded bytes
+     */
+    public XdrByteBufferReader(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Points this reader at the remaining bytes of another buffer.
+     *
+     * @param buffer the buffer to read from
+     */
+    public void reset(ByteBuffer buffer) {
+        mBuffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (mBuffer.hasArray()) {
+            mArray = mBuffer.array();
+            mArrayOffset = mBuffer.arrayOffset();
+        } else {
+            mArray = null;
+            mArrayOffset = 0;
+        }
+        mPosition = buffer.position();
+        mLimit = buffer.limit();
+    }
+
+    /**
+     * Makes {@link #readString()} return shared instances from the given table, or
+     * stops doing so when {@code table} is {@code null}.
+     *
+     * @param table the table to look strings up in
+     */
+    public void setStringTable(XdrStringTable table) {
+        mStringTable = table;
+    }
+
+    public XdrStringTable getStringTable() {
+        return mStringTable;
+    }
+
+    /**
+     * Makes decoded {@link Asset} and {@link AccountID} values resolve to shared, frozen
+     * instances from the given pool, or stops doing so when {@code pool} is {@code null}.
+     *
+     * @param pool the pool to look values up in
+     */
+    public void setInternPool(XdrInternPool pool) {
+        mInternPool = pool;
+    }
+
+    @Override
+    public XdrInternPool getInternPool() {
+        return mInternPool;
+    }
+
+    /**
+     * Sets what enum decoders do with values they do not know, see
+     * {@link XdrUnknownEnumPolicy}. The default is {@link XdrUnknownEnumPolicy#THROW}.
+     *
+     * @param policy the policy
+     */
+    public void setUnknownEnumPolicy(XdrUnknownEnumPolicy policy) {
+        mUnknownEnumPolicy = Objects.requireNonNull(policy);
+    }
+
+    @Override
+    public XdrUnknownEnumPolicy getUnknownEnumPolicy() {
+        return mUnknownEnumPolicy;
+    }
+
+    /**
+     * Charges everything read from now on to the given budget, or stops doing so when
+     * {@code budget} is {@code null}.
+     *
+     * @param budget the budget to charge
+     */
+    public void setBudget(XdrDecodeBudget budget) {
+        mBudget = budget;
+    }
+
+    public XdrDecodeBudget getBudget() {
+        return mBudget;
+    }
+
+    /**
+     * Turns off the checks that only matter for untrusted input, such as local history
+     * archives that have already been verified: padding is stepped over without being
+     * checked for zeros. Lengths are still checked against the bounds declared in the
+     * schema, and reads past the end of the buffer and any budget are still checked.
+     * Enum values are still validated too, as decoding them through a lookup table
+     * leaves only a range check to save. Off by default.
+     *
+     * @param trusted whether the input is trusted
+     */
+    public void setTrusted(boolean trusted) {
+        mTrusted = trusted;
+    }
+
+    public boolean isTrusted() {
+        return mTrusted;
+    }
+
+    /**
+     * Returns the absolute index in the underlying buffer of the next byte to be read.
+     */
+    public int getPosition() {
+        return mPosition;
+    }
+
+    /**
+     * Moves this reader to an absolute index in the underlying buffer.
+     *
+     * @param position the index of the next byte to read
+     */
+    public void setPosition(int position) {
+        if (position < 0 || position > mLimit) {
+            throw new IllegalArgumentException("position out of range: " + position);
+        }
+        mPosition = position;
+    }
+
+    /**
+     * Returns the number of bytes left before the limit of the underlying buffer.
+     */
+    public int remaining() {
+        return mLimit - mPosition;
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        require(4);
+        int value = mBuffer.getInt(mPosition);
+        mPosition += 4;
+        return value;
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        require(8);
+        long value = mBuffer.getLong(mPosition);
+        mPosition += 8;
+        return value;
+    }
+
+    @Override
+    public String readString() throws IOException {
+        return readString(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public String readString(int maxLength) throws IOException {
+        int l = readInt();
+        checkOpaqueLength(l, maxLength);
+        require(l);
+        String value;
+        if (mArray != null) {
+            value = decodeString(mArray, mArrayOffset + mPosition, l);
+        } else {
+            byte[] bytes = l <= SCRATCH_SIZE ? scratch() : new byte[l];
+            copy(bytes, 0, l);
+            value = decodeString(bytes, 0, l);
+        }
+        mPosition += l;
+        pad(l);
+        return value;
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        require(len);
+        copy(b, off, len);
+        mPosition += len;
+        pad(len);
+    }
+
+    @Override
+    public byte[] readFixedOpaque(int length) throws IOException {
+        require(length);
+        byte[] b = new byte[length];
+        copy(b, 0, length);
+        mPosition += length;
+        pad(length);
+        return b;
+    }
+
+    @Override
+    public byte[] readVarOpaque(int maxLength) throws IOException {
+        int l = readInt();
+        checkOpaqueLength(l, maxLength);
+        return readFixedOpaque(l);
+    }
+
+    @Override
+    public void skip(int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("negative length: " + length);
+        }
+        int padded = length + (-length & 3);
+        if (padded < 0) {
+            throw new EOFException();
+        }
+        require(padded);
+        mPosition += padded;
+    }
+
+    @Override
+    public void checkArrayLength(int length, int maxLength) throws IOException {
+        XdrDecodeBudget.checkBound(length, maxLength);
+        // every XDR value takes at least 4 bytes
+        if (length > remaining() / 4) {
+            throw new EOFException("array of " + length + " elements runs past the end of the buffer");
+        }
+        if (mBudget != null) {
+            mBudget.chargeArray(length);
+        }
+    }
+
+    @Override
+    public void checkOpaqueLength(int length, int maxLength) throws IOException {
+        XdrDecodeBudget.checkBound(length, maxLength);
+        if (length > remaining()) {
+            throw new EOFException(length + " bytes run past the end of the buffer");
+        }
+        if (mBudget != null) {
+            mBudget.chargeOpaque(length);
+        }
+    }
+
+    private String decodeString(byte[] bytes, int offset, int length) {
+        if (mStringTable != null) {
+            return mStringTable.get(bytes, offset, length);
+        }
+        return XdrStrings.decode(bytes, offset, length);
+    }
+
+    private byte[] scratch() {
+        if (mScratch == null) {
+            mScratch = new byte[SCRATCH_SIZE];
+        }
+        return mScratch;
+    }
+
+    private void copy(byte[] b, int off, int len) {
+        if (mArray != null) {
+            System.arraycopy(mArray, mArrayOffset + mPosition, b, off, len);
+        } else {
+            ((Buffer) mBuffer).position(mPosition);
+            mBuffer.get(b, off, len);
+        }
+    }
+
+    private void pad(int len) throws IOException {
+        int pad = -len & 3;
+        require(pad);
+        if (mTrusted) {
+            mPosition += pad;
+            return;
+        }
+        while (pad-- > 0) {
+            if (mBuffer.get(mPosition++) != 0) {
+                throw new IOException("non-zero padding");
+            }
+        }
+    }
+
+    private void require(int len) throws IOException {
+        if (len < 0) {
+            throw new IOException("negative length: " + len);
+        }
+        if (len > mLimit - mPosition) {
+            throw new EOFException();
+        }
+        if (mBudget != null) {
+            mBudget.chargeBytes(len);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.solteam.stellar.xdr;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes XDR straight into a caller supplied heap or direct {@link ByteBuffer},
+ * starting at its position and advancing it. Values are always written big-endian
+ * whatever the byte order of the buffer. Running out of room throws
+ * {@link java.nio.BufferOverflowException}.
+ */
+public class XdrByteBufferWriter implements XdrWriter {
+
+    private final ByteBuffer mBuffer;
+    private final boolean mSwap;
+
+    /**
+     * Creates a writer that appends to the given buffer.
+     *
+     * @param buffer the destination buffer
+     */
+    public XdrByteBufferWriter(ByteBuffer buffer) {
+        mBuffer = buffer;
+        mSwap = buffer.order() != ByteOrder.BIG_ENDIAN;
+    }
+
+    @Override
+    public void writeInt(int v) {
+        mBuffer.putInt(mSwap ? Integer.reverseBytes(v) : v);
+    }
+
+    @Override
+    public void writeLong(long v) {
+        mBuffer.putLong(mSwap ? Long.reverseBytes(v) : v);
+    }
+
+    @Override
+    public void writeString(String s) {
+        if (!XdrStrings.isAscii(s)) {
+            byte[] chars = s.getBytes(StandardCharsets.UTF_8);
+            writeInt(chars.length);
+            write(chars, 0, chars.length);
+            return;
+        }
+        // ASCII: one byte per char, no intermediate array
+        int length = s.length();
+        writeInt(length);
+        for (int j = 0; j < length; j++) {
+            mBuffer.put((byte) s.charAt(j));
+        }
+        int pad = -length & 3;
+        while (pad-- > 0) {
+            mBuffer.put((byte) 0);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        mBuffer.put(b, off, len);
+        int pad = -len & 3;
+        while (pad-- > 0) {
+            mBuffer.put((byte) 0);
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package org.solteam.stellar.xdr;
 
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.util.Objects;
 
-public class XdrDataInputStream extends DataInputStream {
+public class XdrDataInputStream extends DataInputStream implements XdrReader {
+
+    private static final int SCRATCH_SIZE = 256;
 
     // The underlying input stream
     private final XdrInputStream mIn;
 
+    private XdrStringTable mStringTable;
+    private XdrInternPool mInternPool;
+    private XdrUnknownEnumPolicy mUnknownEnumPolicy = XdrUnknownEnumPolicy.THROW;
+    private byte[] mScratch;
+
     /**
      * Creates a XdrDataInputStream that uses the specified
      * underlying InputStream.
@@ -21,11 +29,145 @@ public class XdrDataInputStream extends DataInputStream {
         mIn = (XdrInputStream) super.in;
     }
 
+    /**
+     * Makes {@link #readString()} return shared instances from the given table, or
+     * stops doing so when {@code table} is {@code null}.
+     *
+     * @param table the table to look strings up in
+     */
+    public void setStringTable(XdrStringTable table) {
+        mStringTable = table;
+    }
+
+    public XdrStringTable getStringTable() {
+        return mStringTable;
+    }
+
+    /**
+     * Makes decoded {@link Asset} and {@link AccountID} values resolve to shared, frozen
+     * instances from the given pool, or stops doing so when {@code pool} is {@code null}.
+     *
+     * @param pool the pool to look values up in
+     */
+    public void setInternPool(XdrInternPool pool) {
+        mInternPool = pool;
+    }
+
+    @Override
+    public XdrInternPool getInternPool() {
+        return mInternPool;
+    }
+
+    /**
+     * Sets what enum decoders do with values they do not know, see
+     * {@link XdrUnknownEnumPolicy}. The default is {@link XdrUnknownEnumPolicy#THROW}.
+     *
+     * @param policy the policy
+     */
+    public void setUnknownEnumPolicy(XdrUnknownEnumPolicy policy) {
+        mUnknownEnumPolicy = Objects.requireNonNull(policy);
+    }
+
+    @Override
+    public XdrUnknownEnumPolicy getUnknownEnumPolicy() {
+        return mUnknownEnumPolicy;
+    }
+
+    /**
+     * Charges everything read from now on to the given budget, or stops doing so when
+     * {@code budget} is {@code null}.
+     *
+     * @param budget the budget to charge
+     */
+    public void setBudget(XdrDecodeBudget budget) {
+        mIn.mBudget = budget;
+    }
+
+    public XdrDecodeBudget getBudget() {
+        return mIn.mBudget;
+    }
+
+    /**
+     * Turns off the checks that only matter for untrusted input, such as local history
+     * archives that have already been verified: padding is skipped without being read
+     * and checked for zeros. Lengths are still checked against the bounds declared in
+     * the schema, and any budget is still charged. Enum values are still validated too,
+     * as decoding them through a lookup table leaves only a range check to save.
+     * Off by default.
+     *
+     * @param trusted whether the input is trusted
+     */
+    public void setTrusted(boolean trusted) {
+        mIn.mTrusted = trusted;
+    }
+
+    public boolean isTrusted() {
+        return mIn.mTrusted;
+    }
+
     public String readString() throws IOException {
+        return readString(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public String readString(int maxLength) throws IOException {
         int l = readInt();
-        byte[] bytes = new byte[l];
-        read(bytes);
-        return new String(bytes, Charset.forName("UTF-8"));
+        checkOpaqueLength(l, maxLength);
+        byte[] bytes;
+        if (l <= SCRATCH_SIZE) {
+            if (mScratch == null) {
+                mScratch = new byte[SCRATCH_SIZE];
+            }
+            bytes = mScratch;
+        } else {
+            bytes = new byte[l];
+        }
+        readFully(bytes, 0, l);
+        if (mStringTable != null) {
+            return mStringTable.get(bytes, 0, l);
+        }
+        return XdrStrings.decode(bytes, 0, l);
+    }
+
+    @Override
+    public byte[] readFixedOpaque(int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("negative length: " + length);
+        }
+        byte[] b = new byte[length];
+        readFully(b, 0, length);
+        return b;
+    }
+
+    @Override
+    public byte[] readVarOpaque(int maxLength) throws IOException {
+        int l = readInt();
+        checkOpaqueLength(l, maxLength);
+        return readFixedOpaque(l);
+    }
+
+    @Override
+    public void skip(int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("negative length: " + length);
+        }
+        mIn.skipPadded(length);
+    }
+
+    @Override
+    public void checkArrayLength(int length, int maxLength) throws IOException {
+        XdrDecodeBudget.checkBound(length, maxLength);
+        if (mIn.mBudget != null) {
+            mIn.mBudget.chargeArray(length);
+        }
+    }
+
+    @Override
+    public void checkOpaqueLength(int length, int maxLength) throws IOException {
+        XdrDecodeBudget.checkBound(length, maxLength);
+        if (mIn.mBudget != null) {
+            mIn.mBudget.chargeOpaque(length);
+        }
     }
 
     public int[] readIntArray() throws IOException {
@@ -82,7 +224,11 @@ public class XdrDataInputStream extends DataInputStream {
         private final InputStream mIn;
 
         // The amount of bytes read so far.
-        private int mCount;
+        private long mCount;
+
+        private XdrDecodeBudget mBudget;
+
+        private boolean mTrusted;
 
         public XdrInputStream(InputStream in) {
             mIn = in;
@@ -91,6 +237,9 @@ public class XdrDataInputStream extends DataInputStream {
 
         @Override
         public int read() throws IOException {
+            if (mBudget != null) {
+                mBudget.chargeBytes(1);
+            }
             int read = mIn.read();
             if (read >= 0) {
                 mCount++;
@@ -105,18 +254,62 @@ public class XdrDataInputStream extends DataInputStream {
 
         @Override
         public int read(byte[] b, int off, int len) throws IOException {
-            int read = mIn.read(b, off, len);
+            if (mBudget != null) {
+                mBudget.chargeBytes(len);
+            }
+            // read everything asked for, so the padding is only consumed after the whole value
+            int read = 0;
+            while (read < len) {
+                int n = mIn.read(b, off + read, len - read);
+                if (n < 0) {
+                    break;
+                }
+                read += n;
+            }
             mCount += read;
+            if (read < len) {
+                return read == 0 && len > 0 ? -1 : read;
+            }
             pad();
             return read;
         }
 
+        public void skipPadded(int len) throws IOException {
+            if (mBudget != null) {
+                mBudget.chargeBytes(len);
+            }
+            skipFully(len);
+            pad();
+        }
+
+        private void skipFully(long len) throws IOException {
+            long remaining = len;
+            while (remaining > 0) {
+                long skipped = mIn.skip(remaining);
+                if (skipped <= 0) {
+                    if (mIn.read() < 0) {
+                        throw new EOFException();
+                    }
+                    skipped = 1;
+                }
+                remaining -= skipped;
+                mCount += skipped;
+            }
+        }
+
         public void pad() throws IOException {
             int pad = 0;
-            int mod = mCount % 4;
+            int mod = (int) (mCount % 4);
             if (mod > 0) {
                 pad = 4-mod;
             }
+            if (mTrusted) {
+                if (mBudget != null) {
+                    mBudget.chargeBytes(pad);
+                }
+                skipFully(pad);
+                return;
+            }
 
             while (pad-- > 0) {
                 int b = read();
@@ -3,9 +3,9 @@ package org.solteam.stellar.xdr;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
-public class XdrDataOutputStream extends DataOutputStream {
+public class XdrDataOutputStream extends DataOutputStream implements XdrWriter {
 
     private final XdrOutputStream mOut;
 
@@ -15,7 +15,7 @@ public class XdrDataOutputStream extends DataOutputStream {
     }
 
     public void writeString(String s) throws IOException {
-        byte[] chars = s.getBytes(Charset.forName("UTF-8"));
+        byte[] chars = s.getBytes(StandardCharsets.UTF_8);
         writeInt(chars.length);
         write(chars);
     }
@@ -58,7 +58,7 @@ public class XdrDataOutputStream extends DataOutputStream {
         private final OutputStream mOut;
 
         // Number of bytes written
-        private int mCount;
+        private long mCount;
 
         public XdrOutputStream(OutputStream out) {
             mOut = out;
@@ -90,7 +90,7 @@ public class XdrDataOutputStream extends DataOutputStream {
 
         public void pad() throws IOException {
             int pad = 0;
-            int mod = mCount % 4;
+            int mod = (int) (mCount % 4);
             if (mod > 0) {
                 pad = 4-mod;
             }
@@ -0,0 +1,114 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+
+/**
+ * Caps the number of bytes a reader may consume and the number of objects the
+ * generated decoders may allocate from it, so that an oversized or corrupt message is
+ * rejected as soon as a length prefix asks for more than is left instead of after
+ * the allocation:
+ * <pre>
+ * XdrDecodeBudget budget = new XdrDecodeBudget(256 * 1024, 10000);
+ * reader.setBudget(budget);
+ * for (...) {
+ *     budget.reset();
+ *     StellarMessage message = StellarMessage.decode(reader);
+ * }
+ * </pre>
+ * Every element of a variable-length array and every string or opaque value counts
+ * as one object. A budget is not thread-safe and should be used by one reader at a time.
+ */
+public final class XdrDecodeBudget {
+
+    private final long mMaxBytes;
+    private final long mMaxObjects;
+    private long mBytes;
+    private long mObjects;
+
+    /**
+     * Creates a budget.
+     *
+     * @param maxBytes   the number of bytes a single decode may read
+     * @param maxObjects the number of array elements, strings and opaque values a single decode may allocate
+     */
+    public XdrDecodeBudget(long maxBytes, long maxObjects) {
+        if (maxBytes < 0 || maxObjects < 0) {
+            throw new IllegalArgumentException("negative budget");
+        }
+        mMaxBytes = maxBytes;
+        mMaxObjects = maxObjects;
+    }
+
+    /**
+     * Starts a new decode with the full budget.
+     */
+    public void reset() {
+        mBytes = 0;
+        mObjects = 0;
+    }
+
+    /**
+     * Returns the number of bytes read since the last {@link #reset()}.
+     */
+    public long getBytes() {
+        return mBytes;
+    }
+
+    /**
+     * Returns the number of objects allocated since the last {@link #reset()}.
+     */
+    public long getObjects() {
+        return mObjects;
+    }
+
+    long remainingBytes() {
+        return mMaxBytes - mBytes;
+    }
+
+    void chargeBytes(long count) throws IOException {
+        if (count < 0) {
+            throw new IOException("negative length: " + count);
+        }
+        if (count > mMaxBytes - mBytes) {
+            throw new IOException("decode budget of " + mMaxBytes + " bytes exceeded");
+        }
+        mBytes += count;
+    }
+
+    void chargeObjects(long count) throws IOException {
+        if (count > mMaxObjects - mObjects) {
+            throw new IOException("decode budget of " + mMaxObjects + " objects exceeded");
+        }
+        mObjects += count;
+    }
+
+    /**
+     * Checks a length prefix against the bound declared in the schema.
+     */
+    static void checkBound(int length, int maxLength) throws IOException {
+        if (length < 0 || length > maxLength) {
+            throw new IOException("length " + length + " out of range [0, " + maxLength + "]");
+        }
+    }
+
+    /**
+     * Checks that an array of {@code length} elements, each at least 4 bytes on the
+     * wire, can still be read and charges its elements as objects.
+     */
+    void chargeArray(int length) throws IOException {
+        if (4L * length > remainingBytes()) {
+            throw new IOException("array of " + length + " elements exceeds the decode budget of " + mMaxBytes + " bytes");
+        }
+        chargeObjects(length);
+    }
+
+    /**
+     * Checks that {@code length} bytes of opaque data can still be read and charges one object.
+     */
+    void chargeOpaque(int length) throws IOException {
+        if (length > remainingBytes()) {
+            throw new IOException("opaque of " + length + " bytes exceeds the decode budget of " + mMaxBytes + " bytes");
+        }
+        chargeObjects(1);
+    }
+}
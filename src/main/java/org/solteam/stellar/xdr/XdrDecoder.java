@@ -0,0 +1,14 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+
+/**
+ * Decodes one value of type {@code T}. The generated static {@code decode} methods
+ * fit this interface, e.g. {@code BucketEntry::decode}.
+ *
+ * @param <T> the decoded type
+ */
+public interface XdrDecoder<T> {
+
+    T decode(XdrReader reader) throws IOException;
+}
@@ -0,0 +1,133 @@
+package org.solteam.stellar.xdr;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Feeds encoded XDR straight into a {@link MessageDigest}, so a value can be hashed
+ * without first being encoded into an array.
+ * <p>
+ * Small values are gathered in a short buffer and handed to the digest in blocks;
+ * large opaque data goes to the digest directly. {@link #sha256()} leases a
+ * per-thread SHA-256 writer in the same way as {@link XdrByteArrayWriter#threadLocal()}.
+ */
+public class XdrDigestWriter implements XdrWriter {
+
+    private static final int BUFFER_SIZE = 256;
+
+    private static final ThreadLocal<XdrDigestWriter> sSha256 = new ThreadLocal<XdrDigestWriter>() {
+        @Override
+        protected XdrDigestWriter initialValue() {
+            return new XdrDigestWriter(newSha256());
+        }
+    };
+
+    private final MessageDigest mDigest;
+    private final byte[] mBuffer = new byte[BUFFER_SIZE];
+    private int mCount;
+
+    /**
+     * Creates a writer that updates the given digest.
+     *
+     * @param digest the digest to feed
+     */
+    public XdrDigestWriter(MessageDigest digest) {
+        mDigest = digest;
+    }
+
+    /**
+     * Returns the calling thread's SHA-256 writer, reset and ready for use.
+     */
+    public static XdrDigestWriter sha256() {
+        XdrDigestWriter writer = sSha256.get();
+        writer.reset();
+        return writer;
+    }
+
+    static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the digest fed by this writer. Call {@link #flush()} before using it directly.
+     */
+    public MessageDigest getDigest() {
+        return mDigest;
+    }
+
+    /**
+     * Hands any buffered bytes to the digest.
+     */
+    public void flush() {
+        if (mCount > 0) {
+            mDigest.update(mBuffer, 0, mCount);
+            mCount = 0;
+        }
+    }
+
+    /**
+     * Completes the hash of everything written and resets the writer.
+     */
+    public byte[] digest() {
+        flush();
+        return mDigest.digest();
+    }
+
+    /**
+     * Discards everything written so far.
+     */
+    public void reset() {
+        mCount = 0;
+        mDigest.reset();
+    }
+
+    @Override
+    public void writeInt(int v) {
+        if (mCount > BUFFER_SIZE - 4) {
+            flush();
+        }
+        byte[] b = mBuffer;
+        int i = mCount;
+        b[i] = (byte) (v >>> 24);
+        b[i + 1] = (byte) (v >>> 16);
+        b[i + 2] = (byte) (v >>> 8);
+        b[i + 3] = (byte) v;
+        mCount = i + 4;
+    }
+
+    @Override
+    public void writeLong(long v) {
+        writeInt((int) (v >>> 32));
+        writeInt((int) v);
+    }
+
+    @Override
+    public void writeString(String s) {
+        byte[] chars = s.getBytes(StandardCharsets.UTF_8);
+        writeInt(chars.length);
+        write(chars, 0, chars.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        int pad = -len & 3;
+        if (len + pad > BUFFER_SIZE - mCount) {
+            flush();
+            if (len >= BUFFER_SIZE) {
+                mDigest.update(b, off, len);
+                len = 0;
+            }
+        }
+        System.arraycopy(b, off, mBuffer, mCount, len);
+        mCount += len;
+        while (pad-- > 0) {
+            mBuffer[mCount++] = 0;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+
+/**
+ * Encodes one value of type {@code T}. The generated static {@code encode} methods
+ * fit this interface, e.g. {@code AccountID::encode}.
+ *
+ * @param <T> the encoded type
+ */
+public interface XdrEncoder<T> {
+
+    void encode(XdrWriter writer, T value) throws IOException;
+}
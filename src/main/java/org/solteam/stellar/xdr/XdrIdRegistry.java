@@ -0,0 +1,292 @@
+package org.solteam.stellar.xdr;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Assigns dense {@code int} IDs, starting at 0, to values such as account IDs and
+ * assets, so that per-value data can be kept in primitive arrays indexed by ID instead
+ * of in maps keyed by objects:
+ * <pre>
+ * XdrIdRegistry&lt;AccountID&gt; accounts = XdrIdRegistry.accounts();
+ * int id = accounts.register(entry.getAccountID());
+ * balances[id] += ...;
+ * </pre>
+ * Values are keyed by their XDR encoding. The encodings are stored back to back in one
+ * array and found through an open-addressing hash table of IDs, so a registered value
+ * costs its encoded size plus a few {@code int}s and no objects. An ID never changes
+ * and {@link #snapshot(Path)} and {@link #restore(Path)} keep IDs across runs.
+ * <p>
+ * The registry is thread-safe. Lookups take no locks; registering a new value does.
+ *
+ * @param <T> the registered type
+ */
+public class XdrIdRegistry<T> {
+
+    private static final int MAGIC = 0x58494452; // "XIDR"
+    private static final int DEFAULT_CAPACITY = 1024;
+    // keeps the table, at most half full, within the largest power-of-two array
+    private static final int MAX_SIZE = 1 << 29;
+    private static final byte[] PADDING = new byte[3];
+
+    private final XdrEncoder<T> mEncoder;
+    private final XdrDecoder<T> mDecoder;
+    // replaced on every registration; arrays are only written past the published size
+    private volatile State mState;
+
+    private static final class State {
+
+        // ID + 1 for each used slot, 0 for free ones; the length is a power of two
+        final int[] mTable;
+        // the encoding of ID i is mKeys[mOffsets[i]] up to mKeys[mOffsets[i + 1]]
+        final byte[] mKeys;
+        final int[] mOffsets;
+        final int mSize;
+
+        State(int[] table, byte[] keys, int[] offsets, int size) {
+            mTable = table;
+            mKeys = keys;
+            mOffsets = offsets;
+            mSize = size;
+        }
+    }
+
+    /**
+     * Creates a registry.
+     *
+     * @param encoder  encodes a value into its key, e.g. {@code Asset::encode}
+     * @param decoder  decodes a key back into a value, e.g. {@code Asset::decode}
+     * @param capacity the number of values expected
+     */
+    public XdrIdRegistry(XdrEncoder<T> encoder, XdrDecoder<T> decoder, int capacity) {
+        if (capacity < 1 || capacity > MAX_SIZE) {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        mEncoder = encoder;
+        mDecoder = decoder;
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        mState = new State(new int[tableSize], new byte[capacity * 16], new int[capacity + 1], 0);
+    }
+
+    /**
+     * Creates a registry for account IDs.
+     */
+    public static XdrIdRegistry<AccountID> accounts() {
+        return new XdrIdRegistry<AccountID>(AccountID::encode, AccountID::decode, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a registry for assets.
+     */
+    public static XdrIdRegistry<Asset> assets() {
+        return new XdrIdRegistry<Asset>(Asset::encode, Asset::decode, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the number of registered values, which is also the next ID to be assigned.
+     */
+    public int size() {
+        return mState.mSize;
+    }
+
+    /**
+     * Returns the ID of {@code value}, or -1 if it has not been registered.
+     */
+    public int getId(T value) throws IOException {
+        XdrByteArrayWriter writer = XdrByteArrayWriter.threadLocal();
+        mEncoder.encode(writer, value);
+        return find(mState, writer.getBuffer(), writer.size(), hash(writer.getBuffer(), 0, writer.size()));
+    }
+
+    /**
+     * Returns the ID of {@code value}, assigning the next free one if it has not been
+     * registered yet.
+     */
+    public int register(T value) throws IOException {
+        XdrByteArrayWriter writer = XdrByteArrayWriter.threadLocal();
+        mEncoder.encode(writer, value);
+        return register(writer.getBuffer(), writer.size());
+    }
+
+    /**
+     * Decodes the value registered under {@code id} into a new instance.
+     */
+    public T get(int id) throws IOException {
+        State state = mState;
+        checkId(state, id);
+        int offset = state.mOffsets[id];
+        return mDecoder.decode(new XdrByteBufferReader(
+                ByteBuffer.wrap(state.mKeys, offset, state.mOffsets[id + 1] - offset)));
+    }
+
+    /**
+     * Returns a copy of the encoding of the value registered under {@code id}.
+     */
+    public byte[] getKey(int id) {
+        State state = mState;
+        checkId(state, id);
+        return Arrays.copyOfRange(state.mKeys, state.mOffsets[id], state.mOffsets[id + 1]);
+    }
+
+    private static void checkId(State state, int id) {
+        if (id < 0 || id >= state.mSize) {
+            throw new IndexOutOfBoundsException("id " + id + " of " + state.mSize);
+        }
+    }
+
+    private static int hash(byte[] key, int offset, int length) {
+        int h = 1;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + key[i];
+        }
+        h *= 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int find(State state, byte[] key, int length, int hash) {
+        int[] table = state.mTable;
+        int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int id = table[slot] - 1;
+            // slots taken after this state was published hold IDs past its size;
+            // a key registered before then would have been found in front of them
+            if (id < 0 || id >= state.mSize) {
+                return -1;
+            }
+            if (matches(state, id, key, length)) {
+                return id;
+            }
+        }
+    }
+
+    private static boolean matches(State state, int id, byte[] key, int length) {
+        int offset = state.mOffsets[id];
+        if (state.mOffsets[id + 1] - offset != length) {
+            return false;
+        }
+        byte[] keys = state.mKeys;
+        for (int i = 0; i < length; i++) {
+            if (keys[offset + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int register(byte[] key, int length) {
+        int hash = hash(key, 0, length);
+        int id = find(mState, key, length, hash);
+        if (id >= 0) {
+            return id;
+        }
+        synchronized (this) {
+            State state = mState;
+            id = find(state, key, length, hash);
+            if (id >= 0) {
+                return id;
+            }
+            id = state.mSize;
+            if (id == MAX_SIZE) {
+                throw new IllegalStateException("registry is full");
+            }
+            int[] table = state.mTable;
+            byte[] keys = state.mKeys;
+            int[] offsets = state.mOffsets;
+            int end = offsets[id];
+            if (end + length > keys.length) {
+                keys = Arrays.copyOf(keys, Math.max(end + length, keys.length << 1));
+            }
+            if (id + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length << 1);
+            }
+            System.arraycopy(key, 0, keys, end, length);
+            offsets[id + 1] = end + length;
+            if ((id + 1) * 2 > table.length) {
+                table = rehash(table, keys, offsets, id);
+            }
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id + 1;
+            mState = new State(table, keys, offsets, id + 1);
+            return id;
+        }
+    }
+
+    private static int[] rehash(int[] table, byte[] keys, int[] offsets, int size) {
+        int[] rehashed = new int[table.length << 1];
+        int mask = rehashed.length - 1;
+        for (int id = 0; id < size; id++) {
+            int offset = offsets[id];
+            int slot = hash(keys, offset, offsets[id + 1] - offset) & mask;
+            while (rehashed[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = id + 1;
+        }
+        return rehashed;
+    }
+
+    /**
+     * Writes every registered key, in ID order, to {@code path}. The file is XDR: a
+     * magic number and the number of keys, followed by each key as variable-length opaque.
+     */
+    public void snapshot(Path path) throws IOException {
+        State state = mState;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(state.mSize);
+            for (int id = 0; id < state.mSize; id++) {
+                int offset = state.mOffsets[id];
+                int length = state.mOffsets[id + 1] - offset;
+                out.writeInt(length);
+                out.write(state.mKeys, offset, length);
+                out.write(PADDING, 0, -length & 3);
+            }
+        }
+    }
+
+    /**
+     * Registers the keys written by {@link #snapshot(Path)}, so that every value gets
+     * back the ID it had. The registry must be empty.
+     */
+    public void restore(Path path) throws IOException {
+        if (size() != 0) {
+            throw new IllegalStateException("registry is not empty");
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a registry snapshot: " + path);
+            }
+            int size = in.readInt();
+            if (size < 0) {
+                throw new IOException("invalid size: " + size);
+            }
+            byte[] key = new byte[64];
+            byte[] padding = new byte[3];
+            for (int i = 0; i < size; i++) {
+                int length = in.readInt();
+                if (length < 0) {
+                    throw new IOException("invalid key length: " + length);
+                }
+                if (length > key.length) {
+                    key = new byte[Math.max(length, key.length << 1)];
+                }
+                in.readFully(key, 0, length);
+                in.readFully(padding, 0, -length & 3);
+                if (register(key, length) != i) {
+                    throw new IOException("duplicate key at " + i);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.solteam.stellar.xdr;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded pool of decoded {@link Asset} and {@link AccountID} values that lets
+ * readers hand out one shared instance for values that repeat across many records,
+ * such as the issuers and assets of offers and trustlines. Values that come from the
+ * pool can be compared by identity first, which the generated {@code equals} does.
+ * <p>
+ * Like {@link XdrStringTable}, the pool is a fixed number of slots indexed by the
+ * value's hash code, and a value whose slot holds something else replaces it, so
+ * memory use never grows past {@code capacity} values. A pool can be shared by
+ * readers on several threads:
+ * <pre>
+ * XdrInternPool pool = new XdrInternPool(8192);
+ * XdrByteBufferReader reader = new XdrByteBufferReader(buffer);
+ * reader.setInternPool(pool);
+ * </pre>
+ * Pooled values are shared by every record they were decoded into, so a value is
+ * frozen, together with the values it holds, when it is stored: its setters throw
+ * {@link IllegalStateException}, its byte array getters return copies, and
+ * {@code decodeInto} decodes into a new instance instead of reusing it.
+ */
+public final class XdrInternPool {
+
+    private final AtomicReferenceArray<Object> mSlots;
+    private final int mMask;
+
+    /**
+     * Creates a pool.
+     *
+     * @param capacity the number of slots, rounded up to a power of two
+     */
+    public XdrInternPool(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        mSlots = new AtomicReferenceArray<Object>(size);
+        mMask = size - 1;
+    }
+
+    /**
+     * Returns the pooled asset equal to {@code asset}, or freezes, stores and returns
+     * {@code asset}.
+     */
+    public Asset intern(Asset asset) {
+        int slot = slot(asset);
+        Object pooled = mSlots.get(slot);
+        if (pooled != null && pooled.equals(asset)) {
+            return (Asset) pooled;
+        }
+        asset.freeze();
+        mSlots.set(slot, asset);
+        return asset;
+    }
+
+    /**
+     * Returns the pooled account ID equal to {@code accountID}, or freezes, stores and
+     * returns {@code accountID}.
+     */
+    public AccountID intern(AccountID accountID) {
+        int slot = slot(accountID);
+        Object pooled = mSlots.get(slot);
+        if (pooled != null && pooled.equals(accountID)) {
+            return (AccountID) pooled;
+        }
+        accountID.freeze();
+        mSlots.set(slot, accountID);
+        return accountID;
+    }
+
+    private int slot(Object value) {
+        int h = value.hashCode();
+        return (h ^ (h >>> 16)) & mMask;
+    }
+
+    /**
+     * Empties the pool.
+     */
+    public void clear() {
+        for (int i = 0; i < mSlots.length(); i++) {
+            mSlots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.solteam.stellar.xdr;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Comparisons used by the generated {@code compare} methods, which order values the
+ * same way as their XDR encodings compare byte by byte.
+ */
+final class XdrOrder {
+
+    private XdrOrder() {
+    }
+
+    /**
+     * Compares opaque data as encoded: by length, which only differs for
+     * variable-length data, and then byte by byte as unsigned values.
+     */
+    static int compareOpaque(byte[] a, byte[] b) {
+        if (a.length != b.length) {
+            return Integer.compareUnsigned(a.length, b.length);
+        }
+        for (int i = 0; i < a.length; i++) {
+            int result = (a[i] & 0xff) - (b[i] & 0xff);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compares strings as encoded: by UTF-8 length and then byte by byte.
+     */
+    static int compareString(String a, String b) {
+        if (XdrStrings.isAscii(a) && XdrStrings.isAscii(b)) {
+            if (a.length() != b.length()) {
+                return Integer.compare(a.length(), b.length());
+            }
+            return a.compareTo(b);
+        }
+        return compareOpaque(a.getBytes(StandardCharsets.UTF_8), b.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,667 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Decodes only the fields of an XDR encoded value that are named by a set of paths
+ * and steps over everything else:
+ * <pre>
+ * XdrProjection projection = XdrProjection.compile(TransactionEnvelope.class,
+ *         "tx.sourceAccount", "tx.seqNum", "tx.operations[*].body.type");
+ * XdrProjection.Values values = projection.newValues();
+ * for (...) {
+ *     projection.decode(reader, values);
+ *     AccountID sourceAccount = (AccountID) values.get(0);
+ *     for (Object type : values.getAll(2)) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * A path names fields from the projected type down, separated by dots. An array field
+ * is followed by {@code [*]} to select every element or {@code [n]} to select one,
+ * unless the path ends at the array itself. The discriminant of a union is named as in
+ * the XDR definition, e.g. {@code type} or {@code code}, and its arms by their field
+ * names. The value of a path is an instance of the generated type of the field it ends
+ * at, an array of them, or an {@code Integer}, {@code Long}, {@code Boolean},
+ * {@code String} or {@code byte[]}. A path that ends at an absent optional field has the
+ * value {@code null}, so that the values of paths through the same array line up. A path
+ * that runs through an absent optional field, an inactive union arm or a missing array
+ * element has no value.
+ * <p>
+ * The paths are resolved against the schema once, when the projection is compiled.
+ * Decoding then reads the selected fields with their generated {@code decode} methods
+ * and steps over the others with their {@code skip} methods, and over runs of
+ * fixed-size fields with a single skip, so a scan costs little more than the bytes it
+ * selects and the length prefixes in front of them. Skipped fields are not validated.
+ * The whole value is always consumed, so a projection can be the decoder of an
+ * {@link XdrRecordFileReader} or an {@link XdrRecordDecoder}.
+ * <p>
+ * A projection is immutable and can be shared by threads; its {@link Values} cannot.
+ */
+public final class XdrProjection implements XdrDecoder<XdrProjection.Values> {
+
+    private static final Pattern SEGMENT = Pattern.compile("(\\w+)(?:\\[(\\*|\\d+)])?");
+
+    // selects every element of an array
+    private static final int ALL = -1;
+
+    private final Class<?> mType;
+    private final List<String> mPaths;
+    private final Step mRoot;
+
+    private XdrProjection(Class<?> type, String[] paths, Step root) {
+        mType = type;
+        mPaths = Collections.unmodifiableList(Arrays.asList(paths.clone()));
+        mRoot = root;
+    }
+
+    /**
+     * Compiles a projection.
+     *
+     * @param type  the generated type of the values to decode, e.g. {@code TransactionEnvelope.class}
+     * @param paths the fields to decode
+     * @throws IllegalArgumentException if a path does not name a field of {@code type}
+     */
+    public static XdrProjection compile(Class<?> type, String... paths) {
+        XdrSchema.Type root = XdrSchema.get(type);
+        if (root == null) {
+            throw new IllegalArgumentException(type.getName() + " is not a generated XDR type");
+        }
+        if (paths.length == 0) {
+            throw new IllegalArgumentException("no paths");
+        }
+        PathNode tree = new PathNode("");
+        for (int i = 0; i < paths.length; i++) {
+            tree.add(paths[i], i);
+        }
+        return new XdrProjection(type, paths, compileType(root, tree));
+    }
+
+    public Class<?> getType() {
+        return mType;
+    }
+
+    /**
+     * Returns the paths in the order their values are indexed by.
+     */
+    public List<String> getPaths() {
+        return mPaths;
+    }
+
+    /**
+     * Creates a holder for the values of this projection that can be reused across
+     * calls to {@link #decode(XdrReader, Values)}.
+     */
+    public Values newValues() {
+        return new Values(mPaths.size());
+    }
+
+    /**
+     * Decodes one value into a new {@link Values}.
+     */
+    @Override
+    public Values decode(XdrReader stream) throws IOException {
+        Values values = newValues();
+        mRoot.read(stream, values);
+        return values;
+    }
+
+    /**
+     * Decodes one value, replacing what {@code values} held before.
+     *
+     * @param stream the reader positioned at the value
+     * @param values a holder created by {@link #newValues()}
+     */
+    public void decode(XdrReader stream, Values values) throws IOException {
+        if (values.size() != mPaths.size()) {
+            throw new IllegalArgumentException("values for " + values.size() + " paths, not " + mPaths.size());
+        }
+        values.clear();
+        mRoot.read(stream, values);
+    }
+
+    /**
+     * The values decoded for each path, indexed like the paths passed to
+     * {@link XdrProjection#compile(Class, String...)}.
+     */
+    public static final class Values {
+
+        private final List<Object>[] mValues;
+
+        @SuppressWarnings("unchecked")
+        Values(int size) {
+            mValues = (List<Object>[]) new List<?>[size];
+            for (int i = 0; i < size; i++) {
+                mValues[i] = new ArrayList<Object>(1);
+            }
+        }
+
+        public int size() {
+            return mValues.length;
+        }
+
+        /**
+         * Returns the first value of a path, or {@code null} if it has none.
+         */
+        public Object get(int path) {
+            List<Object> values = mValues[path];
+            return values.isEmpty() ? null : values.get(0);
+        }
+
+        /**
+         * Returns every value of a path, in encoding order. The list is reused by the
+         * next decode and must not be modified.
+         */
+        public List<Object> getAll(int path) {
+            return mValues[path];
+        }
+
+        void add(int[] paths, Object value) {
+            for (int path : paths) {
+                mValues[path].add(value);
+            }
+        }
+
+        void clear() {
+            for (List<Object> values : mValues) {
+                values.clear();
+            }
+        }
+    }
+
+    /**
+     * The parsed paths, merged into a tree of field names.
+     */
+    private static final class PathNode {
+
+        final String mPath;
+        final Map<String, PathNode> mChildren = new LinkedHashMap<String, PathNode>();
+        // the selected elements of an array field, by ALL or index
+        final Map<Integer, PathNode> mElements = new LinkedHashMap<Integer, PathNode>();
+        final List<Integer> mLeaves = new ArrayList<Integer>();
+
+        PathNode(String path) {
+            mPath = path;
+        }
+
+        void add(String path, int index) {
+            PathNode node = this;
+            for (String segment : path.split("\\.", -1)) {
+                Matcher m = SEGMENT.matcher(segment);
+                if (!m.matches()) {
+                    throw new IllegalArgumentException("invalid path: " + path);
+                }
+                PathNode child = node.mChildren.get(m.group(1));
+                if (child == null) {
+                    child = new PathNode(node.mPath.isEmpty() ? m.group(1) : node.mPath + "." + m.group(1));
+                    node.mChildren.put(m.group(1), child);
+                }
+                node = child;
+                if (m.group(2) != null) {
+                    int selector = m.group(2).equals("*") ? ALL : Integer.parseInt(m.group(2));
+                    PathNode element = node.mElements.get(selector);
+                    if (element == null) {
+                        element = new PathNode(node.mPath + "[" + m.group(2) + "]");
+                        node.mElements.put(selector, element);
+                    }
+                    node = element;
+                }
+            }
+            node.mLeaves.add(index);
+        }
+
+        /**
+         * Returns a node selecting everything {@code a} and {@code b} select.
+         */
+        static PathNode merge(PathNode a, PathNode b) {
+            PathNode merged = new PathNode(b.mPath);
+            merged.mLeaves.addAll(a.mLeaves);
+            merged.mLeaves.addAll(b.mLeaves);
+            merged.mChildren.putAll(a.mChildren);
+            for (Map.Entry<String, PathNode> entry : b.mChildren.entrySet()) {
+                PathNode child = merged.mChildren.get(entry.getKey());
+                merged.mChildren.put(entry.getKey(), child == null ? entry.getValue() : merge(child, entry.getValue()));
+            }
+            merged.mElements.putAll(a.mElements);
+            for (Map.Entry<Integer, PathNode> entry : b.mElements.entrySet()) {
+                PathNode element = merged.mElements.get(entry.getKey());
+                merged.mElements.put(entry.getKey(), element == null ? entry.getValue() : merge(element, entry.getValue()));
+            }
+            return merged;
+        }
+
+        int[] leaves() {
+            int[] leaves = new int[mLeaves.size()];
+            for (int i = 0; i < leaves.length; i++) {
+                leaves[i] = mLeaves.get(i);
+            }
+            return leaves;
+        }
+    }
+
+    private static Step compileType(XdrSchema.Type type, PathNode node) {
+        Map<String, PathNode> children = new LinkedHashMap<String, PathNode>(node.mChildren);
+        Step step;
+        switch (type.kind) {
+            case STRUCT:
+                step = compileStruct(type, children);
+                break;
+            case UNION:
+                step = compileUnion(type, children);
+                break;
+            default:
+                step = null;
+                break;
+        }
+        if (!children.isEmpty()) {
+            PathNode child = children.values().iterator().next();
+            throw new IllegalArgumentException(type.type.getSimpleName() + " has no field " + child.mPath);
+        }
+        return step;
+    }
+
+    private static Step compileStruct(XdrSchema.Type type, Map<String, PathNode> children) {
+        List<Step> steps = new ArrayList<Step>();
+        int skip = 0;
+        for (XdrSchema.Field field : type.fields) {
+            PathNode child = children.remove(field.name);
+            int size = fixedSize(field);
+            if (child == null && size >= 0) {
+                skip += size;
+                continue;
+            }
+            if (skip > 0) {
+                steps.add(new SkipBytes(skip));
+                skip = 0;
+            }
+            steps.add(child == null ? new SkipField(field) : compileField(field, child));
+        }
+        if (skip > 0) {
+            steps.add(new SkipBytes(skip));
+        }
+        return steps.size() == 1 ? steps.get(0) : new StructStep(steps.toArray(new Step[steps.size()]));
+    }
+
+    private static Step compileUnion(XdrSchema.Type type, Map<String, PathNode> children) {
+        PathNode discriminant = children.remove(type.discriminant.name);
+        int[] discriminantPaths = new int[0];
+        if (discriminant != null) {
+            if (!discriminant.mChildren.isEmpty() || !discriminant.mElements.isEmpty()) {
+                throw new IllegalArgumentException("cannot select into discriminant " + discriminant.mPath);
+            }
+            discriminantPaths = discriminant.leaves();
+        }
+        Step[] arms = new Step[type.arms.length];
+        for (int i = 0; i < arms.length; i++) {
+            XdrSchema.Field field = type.arms[i].field;
+            if (field != null) {
+                PathNode child = children.remove(field.name);
+                arms[i] = child == null ? new SkipField(field) : compileField(field, child);
+            }
+        }
+        return new UnionStep(type, discriminantPaths, arms);
+    }
+
+    private static Step compileField(XdrSchema.Field field, PathNode node) {
+        boolean array = field.kind == XdrSchema.FieldKind.FIXED_ARRAY || field.kind == XdrSchema.FieldKind.VAR_ARRAY;
+        if (!node.mElements.isEmpty() && !array) {
+            throw new IllegalArgumentException(node.mPath + " is not an array");
+        }
+        if (!node.mLeaves.isEmpty()) {
+            if (!node.mChildren.isEmpty() || !node.mElements.isEmpty()) {
+                throw new IllegalArgumentException(node.mPath + " is selected both whole and in part");
+            }
+            return new ReadField(field, node.leaves());
+        }
+        if (array && !node.mChildren.isEmpty()) {
+            throw new IllegalArgumentException(node.mPath + " is an array and needs [*] or [n]");
+        }
+        if (field.type == null) {
+            throw new IllegalArgumentException(node.mPath + " has no fields");
+        }
+        XdrSchema.Type type = XdrSchema.get(field.type);
+        if (!array) {
+            return new IntoField(field, compileType(type, node));
+        }
+        // an element selected by index is also selected by [*], if present
+        PathNode all = node.mElements.get(ALL);
+        List<Integer> indices = new ArrayList<Integer>();
+        List<Step> steps = new ArrayList<Step>();
+        for (Map.Entry<Integer, PathNode> entry : node.mElements.entrySet()) {
+            if (entry.getKey() != ALL) {
+                indices.add(entry.getKey());
+                steps.add(compileElement(type, all == null ? entry.getValue() : PathNode.merge(all, entry.getValue())));
+            }
+        }
+        int[] indexArray = new int[indices.size()];
+        for (int i = 0; i < indexArray.length; i++) {
+            indexArray[i] = indices.get(i);
+        }
+        return new IntoArray(field, type, all == null ? null : compileElement(type, all),
+                indexArray, steps.toArray(new Step[steps.size()]));
+    }
+
+    private static Step compileElement(XdrSchema.Type type, PathNode node) {
+        if (node.mLeaves.isEmpty()) {
+            return compileType(type, node);
+        }
+        if (!node.mChildren.isEmpty()) {
+            throw new IllegalArgumentException(node.mPath + " is selected both whole and in part");
+        }
+        return new ReadValue(type, node.leaves());
+    }
+
+    /**
+     * Returns the encoded size of a field if it is the same for every value, otherwise -1.
+     */
+    private static int fixedSize(XdrSchema.Field field) {
+        switch (field.kind) {
+            case TYPE:
+                return XdrSchema.get(field.type).fixedSize;
+            case FIXED_ARRAY: {
+                int size = XdrSchema.get(field.type).fixedSize;
+                return size < 0 ? -1 : size * field.size;
+            }
+            case INT:
+            case BOOL:
+                return 4;
+            case LONG:
+                return 8;
+            case FIXED_OPAQUE:
+                return (field.size + 3) & ~3;
+            default:
+                return -1;
+        }
+    }
+
+    private static void skipValue(XdrSchema.Type type, XdrReader stream) throws IOException {
+        if (type.fixedSize >= 0) {
+            stream.skip(type.fixedSize);
+        } else {
+            type.skipper.skip(stream);
+        }
+    }
+
+    private static int readCount(XdrSchema.Field field, XdrReader stream) throws IOException {
+        if (field.kind == XdrSchema.FieldKind.FIXED_ARRAY) {
+            return field.size;
+        }
+        int count = stream.readInt();
+        stream.checkArrayLength(count, field.size);
+        return count;
+    }
+
+    private static Object readField(XdrSchema.Field field, XdrReader stream) throws IOException {
+        switch (field.kind) {
+            case TYPE:
+                return XdrSchema.get(field.type).decoder.decode(stream);
+            case OPTIONAL:
+                return stream.readInt() != 0 ? XdrSchema.get(field.type).decoder.decode(stream) : null;
+            case FIXED_ARRAY:
+            case VAR_ARRAY: {
+                XdrSchema.Type type = XdrSchema.get(field.type);
+                int count = readCount(field, stream);
+                Object[] array = (Object[]) Array.newInstance(field.type, count);
+                for (int i = 0; i < count; i++) {
+                    array[i] = type.decoder.decode(stream);
+                }
+                return array;
+            }
+            case INT:
+                return stream.readInt();
+            case LONG:
+                return stream.readLong();
+            case BOOL:
+                return stream.readInt() == 1;
+            case STRING:
+                return stream.readString(field.size);
+            case FIXED_OPAQUE:
+                return stream.readFixedOpaque(field.size);
+            case VAR_OPAQUE:
+                return stream.readVarOpaque(field.size);
+            default:
+                throw new AssertionError(field.kind);
+        }
+    }
+
+    private static void skipField(XdrSchema.Field field, XdrReader stream) throws IOException {
+        switch (field.kind) {
+            case TYPE:
+                skipValue(XdrSchema.get(field.type), stream);
+                break;
+            case OPTIONAL:
+                if (stream.readInt() != 0) {
+                    skipValue(XdrSchema.get(field.type), stream);
+                }
+                break;
+            case FIXED_ARRAY:
+            case VAR_ARRAY: {
+                XdrSchema.Type type = XdrSchema.get(field.type);
+                int count = readCount(field, stream);
+                if (type.fixedSize >= 0 && (long) count * type.fixedSize <= Integer.MAX_VALUE) {
+                    stream.skip(count * type.fixedSize);
+                } else {
+                    for (int i = 0; i < count; i++) {
+                        skipValue(type, stream);
+                    }
+                }
+                break;
+            }
+            case INT:
+            case BOOL:
+                stream.skip(4);
+                break;
+            case LONG:
+                stream.skip(8);
+                break;
+            case STRING:
+            case VAR_OPAQUE: {
+                int length = stream.readInt();
+                stream.checkOpaqueLength(length, field.size);
+                stream.skip(length);
+                break;
+            }
+            case FIXED_OPAQUE:
+                stream.skip(field.size);
+                break;
+            default:
+                throw new AssertionError(field.kind);
+        }
+    }
+
+    private abstract static class Step {
+
+        abstract void read(XdrReader stream, Values values) throws IOException;
+    }
+
+    private static final class SkipBytes extends Step {
+
+        private final int mLength;
+
+        SkipBytes(int length) {
+            mLength = length;
+        }
+
+        @Override
+        void read(XdrReader stream, Values values) throws IOException {
+            stream.skip(mLength);
+        }
+    }
+
+    private static final class SkipField extends Step {
+
+        private final XdrSchema.Field mField;
+
+        SkipField(XdrSchema.Field field) {
+            mField = field;
+        }
+
+        @Override
+        void read(XdrReader stream, Values values) throws IOException {
+            skipField(mField, stream);
+        }
+    }
+
+    private static final class ReadField extends Step {
+
+        private final XdrSchema.Field mField;
+        private final int[] mPaths;
+
+        ReadField(XdrSchema.Field field, int[] paths) {
+            mField = field;
+            mPaths = paths;
+        }
+
+        @Override
+        void read(XdrReader stream, Values values) throws IOException {
+            values.add(mPaths, readField(mField, stream));
+        }
+    }
+
+    private static final class ReadValue extends Step {
+
+        private final XdrSchema.Type mType;
+        private final int[] mPaths;
+
+        ReadValue(XdrSchema.Type type, int[] paths) {
+            mType = type;
+            mPaths = paths;
+        }
+
+        @Override
+        void read(XdrReader stream, Values values) throws IOException {
+            values.add(mPaths, mType.decoder.decode(stream));
+        }
+    }
+
+    /**
+     * Runs a step on the value of a field, or of an optional field if it is present.
+     */
+    private static final class IntoField extends Step {
+
+        private final XdrSchema.Field mField;
+        private final Step mChild;
+
+        IntoField(XdrSchema.Field field, Step child) {
+            mField = field;
+            mChild = child;
+        }
+
+        @Override
+        void read(XdrReader stream, Values values) throws IOException {
+            if (mField.kind != XdrSchema.FieldKind.OPTIONAL || stream.readInt() != 0) {
+                mChild.read(stream, values);
+            }
+        }
+    }
+
+    /**
+     * Runs a step on each selected element of an array field and skips the others.
+     */
+    private static final class IntoArray extends Step {
+
+        private final XdrSchema.Field mField;
+        private final XdrSchema.Type mType;
+        // for elements not selected by index, null if they are skipped
+        private final Step mAll;
+        private final int[] mIndices;
+        private final Step[] mSteps;
+
+        IntoArray(XdrSchema.Field field, XdrSchema.Type type, Step all, int[] indices, Step[] steps) {
+            mField = field;
+            mType = type;
+            mAll = all;
+            mIndices = indices;
+            mSteps = steps;
+        }
+
+        @Override
+        void read(XdrReader stream, Values values) throws IOException {
+            int count = readCount(mField, stream);
+            for (int i = 0; i < count; i++) {
+                Step step = mAll;
+                for (int j = 0; j < mIndices.length; j++) {
+                    if (mIndices[j] == i) {
+                        step = mSteps[j];
+                        break;
+                    }
+                }
+                if (step != null) {
+                    step.read(stream, values);
+                } else {
+                    skipValue(mType, stream);
+                }
+            }
+        }
+    }
+
+    private static final class StructStep extends Step {
+
+        private final Step[] mSteps;
+
+        StructStep(Step[] steps) {
+            mSteps = steps;
+        }
+
+        @Override
+        void read(XdrReader stream, Values values) throws IOException {
+            for (Step step : mSteps) {
+                step.read(stream, values);
+            }
+        }
+    }
+
+    private static final class UnionStep extends Step {
+
+        private final XdrSchema.Type mType;
+        private final int[] mDiscriminantPaths;
+        // per arm of mType, null for void arms
+        private final Step[] mArms;
+
+        UnionStep(XdrSchema.Type type, int[] discriminantPaths, Step[] arms) {
+            mType = type;
+            mDiscriminantPaths = discriminantPaths;
+            mArms = arms;
+        }
+
+        @Override
+        void read(XdrReader stream, Values values) throws IOException {
+            Object discriminant = readField(mType.discriminant, stream);
+            values.add(mDiscriminantPaths, discriminant);
+            int arm = findArm(discriminant);
+            if (discriminant == null && arm < 0) {
+                // unknown to this version, see XdrUnknownEnumPolicy
+                throw new IOException("Unknown discriminant of " + mType.type.getSimpleName());
+            }
+            if (arm >= 0 && mArms[arm] != null) {
+                mArms[arm].read(stream, values);
+            }
+        }
+
+        private int findArm(Object discriminant) {
+            XdrSchema.Arm[] arms = mType.arms;
+            int defaultArm = -1;
+            for (int i = 0; i < arms.length; i++) {
+                if (arms[i].labels == null) {
+                    defaultArm = i;
+                    continue;
+                }
+                for (Object label : arms[i].labels) {
+                    if (label.equals(discriminant)) {
+                        return i;
+                    }
+                }
+            }
+            return defaultArm;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+
+/**
+ * Source of XDR primitives read by the generated {@code decode} methods.
+ * Implementations must consume the padding that follows opaque data so the
+ * next value starts on a 4 byte boundary.
+ */
+public interface XdrReader {
+
+    int readInt() throws IOException;
+
+    long readLong() throws IOException;
+
+    String readString() throws IOException;
+
+    /**
+     * Reads a string whose encoding is declared as at most {@code maxLength} bytes
+     * long, as in {@code string text<28>}, failing before anything is allocated if
+     * the length prefix is larger.
+     */
+    String readString(int maxLength) throws IOException;
+
+    /**
+     * Reads exactly {@code len} bytes of opaque data into {@code b} and skips the padding
+     * after them, as {@link #readFixedOpaque(int)} does without allocating.
+     *
+     * @throws java.io.EOFException if the input ends first
+     */
+    void readFully(byte[] b, int off, int len) throws IOException;
+
+    /**
+     * Reads fixed-length opaque data, as in {@code opaque hash[32]}, and skips the
+     * padding after it.
+     *
+     * @param length the length declared in the schema
+     */
+    byte[] readFixedOpaque(int length) throws IOException;
+
+    /**
+     * Reads variable-length opaque data, as in {@code opaque value<64>}: the length
+     * prefix, checked with {@link #checkOpaqueLength(int, int)} before anything is
+     * allocated, the data and the padding after it.
+     *
+     * @param maxLength the declared bound, {@link Integer#MAX_VALUE} for {@code <>}
+     */
+    byte[] readVarOpaque(int maxLength) throws IOException;
+
+    /**
+     * Skips {@code length} bytes and the padding after them without copying them anywhere.
+     */
+    void skip(int length) throws IOException;
+
+    /**
+     * Checks the element count read from the length prefix of a variable-length array
+     * before the array is allocated: against the bound declared in the schema and, if
+     * the reader has an {@link XdrDecodeBudget}, against what is left of it.
+     *
+     * @param length    the element count read from the stream
+     * @param maxLength the declared bound, {@link Integer#MAX_VALUE} for {@code <>}
+     */
+    void checkArrayLength(int length, int maxLength) throws IOException;
+
+    /**
+     * Checks the byte count read from the length prefix of variable-length opaque data
+     * in the same way as {@link #checkArrayLength(int, int)}.
+     *
+     * @param length    the byte count read from the stream
+     * @param maxLength the declared bound, {@link Integer#MAX_VALUE} for {@code <>}
+     */
+    void checkOpaqueLength(int length, int maxLength) throws IOException;
+
+    /**
+     * Returns the pool that decoded {@link Asset} and {@link AccountID} values are
+     * looked up in, or {@code null} if they are not pooled.
+     */
+    XdrInternPool getInternPool();
+
+    /**
+     * Returns what enum decoders do with values they do not know.
+     */
+    XdrUnknownEnumPolicy getUnknownEnumPolicy();
+}
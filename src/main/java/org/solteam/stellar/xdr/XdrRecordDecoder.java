@@ -0,0 +1,199 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decodes RFC 5531 record-marked XDR values from input that arrives in arbitrary
+ * pieces, such as the reads of a non-blocking socket channel, without blocking:
+ * <pre>
+ * XdrRecordDecoder&lt;AuthenticatedMessage&gt; decoder = new XdrRecordDecoder&lt;&gt;(AuthenticatedMessage::decode);
+ * ...
+ * buffer.flip();
+ * for (AuthenticatedMessage message : decoder.feed(buffer)) {
+ *     ...
+ * }
+ * buffer.clear();
+ * </pre>
+ * Records that lie entirely within the fed buffer are decoded in place. Only a record
+ * that is split across calls, or into several fragments, is copied, and only the bytes
+ * of that one record are kept between calls, so a decoder per connection costs little
+ * while the connection is idle.
+ * <p>
+ * A decoder is not thread-safe. After {@link #feed(ByteBuffer)} has thrown, the input
+ * can no longer be framed and the decoder should be discarded together with it.
+ *
+ * @param <T> the record type
+ */
+public class XdrRecordDecoder<T> {
+
+    public static final int DEFAULT_MAX_RECORD_SIZE = 1 << 24;
+
+    private static final int LAST_FRAGMENT = 0x80000000;
+    // larger buffers are dropped once their record has been decoded
+    private static final int RETAINED_SIZE = 64 * 1024;
+
+    private final XdrDecoder<T> mDecoder;
+    private final int mMaxRecordSize;
+    private final XdrByteBufferReader mReader = new XdrByteBufferReader(new byte[0]);
+
+    // the record mark being read, and how many of its 4 bytes have been read
+    private int mMark;
+    private int mMarkBytes;
+    // bytes of the current fragment still to be copied, -1 between fragments
+    private int mFragmentRemaining = -1;
+    private boolean mLastFragment;
+    // the fragments of the pending record copied so far
+    private byte[] mRecord = new byte[0];
+    private int mLength;
+
+    /**
+     * Creates a decoder that accepts records of up to {@link #DEFAULT_MAX_RECORD_SIZE} bytes.
+     *
+     * @param decoder decodes a single record, e.g. {@code AuthenticatedMessage::decode}
+     */
+    public XdrRecordDecoder(XdrDecoder<T> decoder) {
+        this(decoder, DEFAULT_MAX_RECORD_SIZE);
+    }
+
+    /**
+     * Creates a decoder.
+     *
+     * @param decoder       decodes a single record
+     * @param maxRecordSize the largest record accepted, in bytes, over all of its fragments
+     */
+    public XdrRecordDecoder(XdrDecoder<T> decoder, int maxRecordSize) {
+        if (maxRecordSize < 0) {
+            throw new IllegalArgumentException("negative maxRecordSize: " + maxRecordSize);
+        }
+        mDecoder = decoder;
+        mMaxRecordSize = maxRecordSize;
+    }
+
+    /**
+     * Returns the reader records are decoded with, for setting a budget, string table,
+     * intern pool, unknown enum policy or trusted mode. A budget is reset before each
+     * record, so it limits every record on its own.
+     */
+    public XdrByteBufferReader getReader() {
+        return mReader;
+    }
+
+    /**
+     * Returns whether part of a record has been fed but not yet decoded.
+     */
+    public boolean hasPartialRecord() {
+        return mMarkBytes > 0 || mFragmentRemaining >= 0 || mLength > 0;
+    }
+
+    /**
+     * Consumes all remaining bytes of {@code input} and decodes the records they complete.
+     *
+     * @param input the next bytes of the record-marked stream
+     * @return the completed records in order, empty if none were completed
+     */
+    public List<T> feed(ByteBuffer input) throws IOException {
+        List<T> records = null;
+        while (input.hasRemaining()) {
+            if (mFragmentRemaining < 0) {
+                if (mMarkBytes == 0 && mLength == 0 && input.remaining() >= 4) {
+                    int position = input.position();
+                    int mark = getInt(input, position);
+                    int length = mark & ~LAST_FRAGMENT;
+                    if ((mark & LAST_FRAGMENT) != 0 && length <= input.remaining() - 4) {
+                        checkLength(length);
+                        records = add(records, decodeInPlace(input, position + 4, length));
+                        continue;
+                    }
+                }
+                mMark = mMark << 8 | (input.get() & 0xff);
+                if (++mMarkBytes < 4) {
+                    continue;
+                }
+                startFragment();
+            }
+            int count = Math.min(mFragmentRemaining, input.remaining());
+            input.get(mRecord, mLength, count);
+            mLength += count;
+            mFragmentRemaining -= count;
+            if (mFragmentRemaining == 0) {
+                mFragmentRemaining = -1;
+                if (mLastFragment) {
+                    records = add(records, decodeRecord());
+                }
+            }
+        }
+        return records != null ? records : Collections.<T>emptyList();
+    }
+
+    private static <T> List<T> add(List<T> records, T record) {
+        if (records == null) {
+            records = new ArrayList<T>();
+        }
+        records.add(record);
+        return records;
+    }
+
+    private static int getInt(ByteBuffer buffer, int index) {
+        return (buffer.get(index) & 0xff) << 24 | (buffer.get(index + 1) & 0xff) << 16
+                | (buffer.get(index + 2) & 0xff) << 8 | buffer.get(index + 3) & 0xff;
+    }
+
+    private void checkLength(int length) throws IOException {
+        if (length > mMaxRecordSize - mLength) {
+            throw new IOException("record of more than " + mMaxRecordSize + " bytes");
+        }
+    }
+
+    private void startFragment() throws IOException {
+        int length = mMark & ~LAST_FRAGMENT;
+        checkLength(length);
+        mLastFragment = (mMark & LAST_FRAGMENT) != 0;
+        mMark = 0;
+        mMarkBytes = 0;
+        if (mLength + length > mRecord.length) {
+            mRecord = Arrays.copyOf(mRecord, Math.max(mLength + length,
+                    (int) Math.min(mMaxRecordSize, (long) mRecord.length << 1)));
+        }
+        mFragmentRemaining = length;
+    }
+
+    private T decodeInPlace(ByteBuffer input, int start, int length) throws IOException {
+        int limit = input.limit();
+        ((Buffer) input).limit(start + length);
+        ((Buffer) input).position(start);
+        try {
+            mReader.reset(input);
+        } finally {
+            ((Buffer) input).limit(limit);
+        }
+        ((Buffer) input).position(start + length);
+        return decode();
+    }
+
+    private T decodeRecord() throws IOException {
+        mReader.reset(ByteBuffer.wrap(mRecord, 0, mLength));
+        mLength = 0;
+        if (mRecord.length > RETAINED_SIZE) {
+            mRecord = new byte[0];
+        }
+        return decode();
+    }
+
+    private T decode() throws IOException {
+        XdrDecodeBudget budget = mReader.getBudget();
+        if (budget != null) {
+            budget.reset();
+        }
+        T record = mDecoder.decode(mReader);
+        if (mReader.remaining() != 0) {
+            throw new IOException("record has " + mReader.remaining() + " undecoded bytes");
+        }
+        return record;
+    }
+}
@@ -0,0 +1,253 @@
+package org.solteam.stellar.xdr;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Memory-maps an uncompressed file of RFC 5531 record-marked XDR values and iterates
+ * over the decoded records, as found in the history archive {@code ledger-*.xdr},
+ * {@code transactions-*.xdr}, {@code results-*.xdr}, {@code scp-*.xdr} and
+ * {@code bucket-*.xdr} files:
+ * <pre>
+ * try (XdrRecordFileReader&lt;BucketEntry&gt; bucket = new XdrRecordFileReader&lt;&gt;(path, BucketEntry::decode)) {
+ *     for (BucketEntry entry : bucket) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * File offsets are 64 bit. The file is mapped in windows of at most
+ * {@link #DEFAULT_WINDOW_SIZE} bytes that are moved forward as iteration proceeds,
+ * so files larger than 2 GB are supported as long as each record fits in a window.
+ * Records split into several fragments are reassembled on the heap.
+ *
+ * @param <T> the record type
+ */
+public class XdrRecordFileReader<T> implements Iterable<T>, Closeable {
+
+    public static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+    private static final int LAST_FRAGMENT = 0x80000000;
+    // the largest array most VMs can allocate
+    private static final int MAX_FRAGMENTED_SIZE = Integer.MAX_VALUE - 8;
+
+    private final FileChannel mChannel;
+    private final long mSize;
+    private final XdrDecoder<T> mDecoder;
+    private final int mWindowSize;
+    private boolean mTrusted;
+
+    /**
+     * Opens a record-marked file for reading.
+     *
+     * @param path    the file to map
+     * @param decoder decodes a single record, e.g. {@code LedgerHeaderHistoryEntry::decode}
+     */
+    public XdrRecordFileReader(Path path, XdrDecoder<T> decoder) throws IOException {
+        this(path, decoder, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens a record-marked file for reading with a custom mapping window.
+     *
+     * @param path       the file to map
+     * @param decoder    decodes a single record
+     * @param windowSize the maximum number of bytes mapped at once
+     */
+    public XdrRecordFileReader(Path path, XdrDecoder<T> decoder, int windowSize) throws IOException {
+        if (windowSize < 8) {
+            throw new IllegalArgumentException("windowSize too small: " + windowSize);
+        }
+        mChannel = FileChannel.open(path, StandardOpenOption.READ);
+        mSize = mChannel.size();
+        mDecoder = decoder;
+        mWindowSize = windowSize;
+    }
+
+    /**
+     * Decodes records from iterators created after this call with the checks for
+     * untrusted input turned off, see {@link XdrByteBufferReader#setTrusted(boolean)}.
+     * Use this only for files that have already been verified.
+     *
+     * @param trusted whether the file is trusted
+     */
+    public void setTrusted(boolean trusted) {
+        mTrusted = trusted;
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     */
+    public long size() {
+        return mSize;
+    }
+
+    /**
+     * Returns an iterator over the records starting at the beginning of the file.
+     */
+    @Override
+    public RecordIterator iterator() {
+        return new RecordIterator(0);
+    }
+
+    /**
+     * Returns an iterator over the records starting at the given file offset, which
+     * must be the offset of a record mark such as one returned by
+     * {@link RecordIterator#getRecordOffset()}.
+     *
+     * @param offset the file offset of the first record to read
+     */
+    public RecordIterator iterator(long offset) {
+        if (offset < 0 || offset > mSize) {
+            throw new IllegalArgumentException("offset out of range: " + offset);
+        }
+        return new RecordIterator(offset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        mChannel.close();
+    }
+
+    /**
+     * Iterates over the records of the file. I/O and decoding errors are rethrown as
+     * {@link UncheckedIOException}.
+     */
+    public class RecordIterator implements Iterator<T> {
+
+        private long mOffset;
+        private long mRecordOffset = -1;
+        private MappedByteBuffer mWindow;
+        private long mWindowStart;
+        private XdrByteBufferReader mReader;
+
+        RecordIterator(long offset) {
+            mOffset = offset;
+        }
+
+        /**
+         * Returns the file offset of the record mark of the record last returned by {@link #next()}.
+         */
+        public long getRecordOffset() {
+            return mRecordOffset;
+        }
+
+        /**
+         * Returns the file offset of the record mark of the next record.
+         */
+        public long getOffset() {
+            return mOffset;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return mOffset < mSize;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private T readRecord() throws IOException {
+            long recordOffset = mOffset;
+            int mark = readMark(mOffset);
+            int length = mark & ~LAST_FRAGMENT;
+            T record;
+            if ((mark & LAST_FRAGMENT) != 0) {
+                map(mOffset + 4, length);
+                int start = (int) (mOffset + 4 - mWindowStart);
+                mReader.setPosition(start);
+                record = mDecoder.decode(mReader);
+                if (mReader.getPosition() - start != length) {
+                    throw new IOException("record at offset " + recordOffset + " has " + length
+                            + " bytes but decoded " + (mReader.getPosition() - start));
+                }
+                mOffset += 4 + length;
+            } else {
+                record = readFragments(recordOffset);
+            }
+            mRecordOffset = recordOffset;
+            return record;
+        }
+
+        private T readFragments(long recordOffset) throws IOException {
+            byte[] bytes = new byte[0];
+            int count = 0;
+            int mark;
+            do {
+                mark = readMark(mOffset);
+                int length = mark & ~LAST_FRAGMENT;
+                long total = (long) count + length;
+                if (total > MAX_FRAGMENTED_SIZE) {
+                    throw new IOException("record at offset " + recordOffset + " has more than "
+                            + MAX_FRAGMENTED_SIZE + " bytes in its fragments");
+                }
+                map(mOffset + 4, length);
+                if (total > bytes.length) {
+                    // grow geometrically so that many small fragments are copied a bounded number of times
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(Math.max(total, 2L * bytes.length), MAX_FRAGMENTED_SIZE));
+                }
+                ByteBuffer fragment = mWindow.duplicate();
+                ((Buffer) fragment).position((int) (mOffset + 4 - mWindowStart));
+                fragment.get(bytes, count, length);
+                count = (int) total;
+                mOffset += 4 + length;
+            } while ((mark & LAST_FRAGMENT) == 0);
+            XdrByteBufferReader reader = new XdrByteBufferReader(ByteBuffer.wrap(bytes, 0, count));
+            reader.setTrusted(mTrusted);
+            T record = mDecoder.decode(reader);
+            if (reader.remaining() != 0) {
+                throw new IOException("record at offset " + recordOffset + " has " + reader.remaining()
+                        + " undecoded bytes");
+            }
+            return record;
+        }
+
+        private int readMark(long offset) throws IOException {
+            map(offset, 4);
+            return mWindow.getInt((int) (offset - mWindowStart));
+        }
+
+        /**
+         * Makes sure [offset, offset + length) lies within the mapped window.
+         */
+        private void map(long offset, int length) throws IOException {
+            if (offset + length > mSize) {
+                throw new EOFException("record at offset " + offset + " runs past the end of the file");
+            }
+            if (mWindow != null && offset >= mWindowStart && offset + length <= mWindowStart + mWindow.limit()) {
+                return;
+            }
+            if (length > mWindowSize) {
+                throw new IOException("record of " + length + " bytes does not fit in a " + mWindowSize + " byte window");
+            }
+            long size = Math.min(mWindowSize, mSize - offset);
+            mWindow = mChannel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+            mWindowStart = offset;
+            if (mReader == null) {
+                mReader = new XdrByteBufferReader(mWindow);
+                mReader.setTrusted(mTrusted);
+            } else {
+                mReader.reset(mWindow);
+            }
+        }
+    }
+}
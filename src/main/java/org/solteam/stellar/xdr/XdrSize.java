@@ -0,0 +1,56 @@
+package org.solteam.stellar.xdr;
+
+/**
+ * Helpers used by the generated {@code encodedSize} methods.
+ */
+public final class XdrSize {
+
+    private XdrSize() {
+    }
+
+    /**
+     * Returns the encoded size of {@code length} bytes of opaque data, padding included.
+     *
+     * @param length the number of data bytes
+     */
+    public static int opaque(int length) {
+        return (length + 3) & ~3;
+    }
+
+    /**
+     * Returns the encoded size of a string: its length prefix plus its padded UTF-8 bytes.
+     *
+     * @param s the string to measure
+     */
+    public static int string(String s) {
+        return 4 + opaque(utf8Length(s));
+    }
+
+    /**
+     * Returns the number of bytes in the UTF-8 encoding of {@code s} without encoding it.
+     * Unpaired surrogates count as the single replacement byte written by {@link String#getBytes}.
+     *
+     * @param s the string to measure
+     */
+    public static int utf8Length(String s) {
+        int length = s.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // encoded as '?'
+            } else {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+}
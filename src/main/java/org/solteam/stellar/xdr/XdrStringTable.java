@@ -0,0 +1,103 @@
+package org.solteam.stellar.xdr;
+
+/**
+ * A bounded table of decoded strings that lets readers hand out one {@link String}
+ * instance for values that repeat across many records, such as account home domains,
+ * data entry names and memo text.
+ * <p>
+ * The table is a fixed number of slots indexed by a hash of the encoded bytes. A
+ * string whose slot holds a different value replaces it, so memory use never grows
+ * past {@code capacity} entries of at most {@link #MAX_LENGTH} bytes. Longer strings
+ * are decoded without being stored. A table can be shared by readers on several
+ * threads:
+ * <pre>
+ * XdrStringTable strings = new XdrStringTable(4096);
+ * XdrByteBufferReader reader = new XdrByteBufferReader(buffer);
+ * reader.setStringTable(strings);
+ * </pre>
+ */
+public final class XdrStringTable {
+
+    /**
+     * Strings with longer encodings are never stored.
+     */
+    public static final int MAX_LENGTH = 64;
+
+    private final Entry[] mEntries;
+    private final int mMask;
+
+    /**
+     * Creates a table.
+     *
+     * @param capacity the number of slots, rounded up to a power of two
+     */
+    public XdrStringTable(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        mEntries = new Entry[size];
+        mMask = size - 1;
+    }
+
+    /**
+     * Returns the string for the given UTF-8 bytes, reusing the stored instance when
+     * the same bytes were seen before.
+     *
+     * @param bytes  the array holding the encoded string
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     */
+    public String get(byte[] bytes, int offset, int length) {
+        if (length > MAX_LENGTH) {
+            return XdrStrings.decode(bytes, offset, length);
+        }
+        int hash = hash(bytes, offset, length);
+        int slot = hash & mMask;
+        Entry entry = mEntries[slot];
+        if (entry != null && entry.mHash == hash && entry.matches(bytes, offset, length)) {
+            return entry.mValue;
+        }
+        String value = XdrStrings.decode(bytes, offset, length);
+        mEntries[slot] = new Entry(hash, bytes, offset, length, value);
+        return value;
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = 31 * h + bytes[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    // Entries are immutable so that a slot read by another thread is always complete.
+    private static final class Entry {
+
+        final int mHash;
+        final byte[] mBytes;
+        final String mValue;
+
+        Entry(int hash, byte[] bytes, int offset, int length, String value) {
+            mHash = hash;
+            mBytes = new byte[length];
+            System.arraycopy(bytes, offset, mBytes, 0, length);
+            mValue = value;
+        }
+
+        boolean matches(byte[] bytes, int offset, int length) {
+            if (mBytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (mBytes[i] != bytes[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.solteam.stellar.xdr;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * String conversions shared by the readers and writers. Most strings on the wire
+ * (home domains, data names, memo text) are plain ASCII, which is decoded and
+ * encoded without going through a charset coder.
+ */
+final class XdrStrings {
+
+    private XdrStrings() {
+    }
+
+    /**
+     * Decodes UTF-8 bytes, copying them straight into the string when they are all ASCII.
+     */
+    static String decode(byte[] bytes, int offset, int length) {
+        if (isAscii(bytes, offset, length)) {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    static boolean isAscii(byte[] bytes, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isAscii(String s) {
+        for (int i = 0, length = s.length(); i < length; i++) {
+            if (s.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
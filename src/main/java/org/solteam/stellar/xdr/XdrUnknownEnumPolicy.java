@@ -0,0 +1,22 @@
+package org.solteam.stellar.xdr;
+
+/**
+ * What the generated enum decoders do with a value that is not one of the enum's
+ * constants, such as a result code added by a newer protocol version:
+ * <pre>
+ * reader.setUnknownEnumPolicy(XdrUnknownEnumPolicy.RETURN_NULL);
+ * </pre>
+ * With {@link #RETURN_NULL} a union whose discriminant is unknown is decoded with a
+ * {@code null} discriminant if it has a void default arm, as the operation and
+ * transaction results do. Any other union fails the decode with an
+ * {@link java.io.IOException} even then, as the length of its arm is unknown and nothing
+ * after it could be decoded.
+ */
+public enum XdrUnknownEnumPolicy {
+
+    /** Fail the decode with an {@link java.io.IOException}. This is the default. */
+    THROW,
+
+    /** Decode the value as {@code null} without throwing. */
+    RETURN_NULL
+}
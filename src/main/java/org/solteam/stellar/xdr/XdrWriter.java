@@ -0,0 +1,21 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+
+/**
+ * Target of XDR primitives written by the generated {@code encode} methods.
+ * Implementations must pad opaque data with zeros up to the next 4 byte boundary.
+ */
+public interface XdrWriter {
+
+    void writeInt(int v) throws IOException;
+
+    void writeLong(long v) throws IOException;
+
+    void writeString(String s) throws IOException;
+
+    /**
+     * Writes {@code len} bytes of opaque data from {@code b} followed by zero padding.
+     */
+    void write(byte[] b, int off, int len) throws IOException;
+}
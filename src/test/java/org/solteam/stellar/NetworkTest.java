@@ -0,0 +1,141 @@
+package org.solteam.stellar;
+
+import org.junit.Test;
+import org.solteam.stellar.xdr.EnvelopeType;
+import org.solteam.stellar.xdr.Transaction;
+import org.solteam.stellar.xdr.TransactionSignaturePayload;
+import org.solteam.stellar.xdr.TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction;
+import org.solteam.stellar.xdr.XdrByteArrayWriter;
+import org.solteam.stellar.xdr.XdrByteBufferReader;
+import org.solteam.stellar.xdr.XdrDigestWriter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Checks transaction hashes against the SHA-256 of the signature payload computed directly.
+ */
+public class NetworkTest {
+
+    private static final Network[] NETWORKS = {Network.PUBLIC, Network.TESTNET, new Network("Standalone Network")};
+
+    @Test
+    public void networkIdIsTheHashOfThePassphrase() throws NoSuchAlgorithmException {
+        for (Network network : NETWORKS) {
+            byte[] expected = MessageDigest.getInstance("SHA-256")
+                    .digest(network.getPassphrase().getBytes(StandardCharsets.UTF_8));
+            assertArrayEquals(expected, network.getNetworkId().getHash());
+        }
+    }
+
+    @Test
+    public void hashIsSha256OfThePayload() throws Exception {
+        Random random = new Random(13);
+        for (int i = 0; i < 200; i++) {
+            Transaction tx = transaction(random);
+            for (Network network : NETWORKS) {
+                byte[] expected = payloadHash(network, tx.toXdrBytes());
+                assertArrayEquals(expected, network.hash(tx));
+
+                // the same as hashing the payload built from the XDR types
+                TransactionSignaturePayloadTaggedTransaction tagged = new TransactionSignaturePayloadTaggedTransaction();
+                tagged.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_TX);
+                tagged.setTx(tx);
+                TransactionSignaturePayload payload = new TransactionSignaturePayload();
+                payload.setNetworkId(network.getNetworkId());
+                payload.setTaggedTransaction(tagged);
+                assertArrayEquals(expected, MessageDigest.getInstance("SHA-256").digest(payload.toXdrBytes()));
+            }
+            assertFalse(Arrays.equals(Network.PUBLIC.hash(tx), Network.TESTNET.hash(tx)));
+        }
+    }
+
+    @Test
+    public void frozenTransactionsHashTheSame() throws Exception {
+        Random random = new Random(13);
+        for (int i = 0; i < 100; i++) {
+            Transaction tx = transaction(random);
+            byte[] bytes = tx.toXdrBytes();
+            tx.freeze();
+            for (int j = 0; j < 2 * NETWORKS.length; j++) {
+                Network network = NETWORKS[j % NETWORKS.length];
+                assertArrayEquals(payloadHash(network, bytes), network.hash(tx));
+            }
+        }
+    }
+
+    @Test
+    public void consecutiveHashesOnOneThreadAreIndependent() throws Exception {
+        Random random = new Random(13);
+        Transaction previous = transaction(random);
+        for (int i = 0; i < 200; i++) {
+            Transaction tx = transaction(random);
+            // hashing one transaction must leave nothing behind in the per-thread writer
+            Network.TESTNET.hash(previous);
+            assertArrayEquals(payloadHash(Network.TESTNET, tx.toXdrBytes()), Network.TESTNET.hash(tx));
+            // and neither may a caller that leased the writer and dropped it half written
+            XdrDigestWriter.sha256().writeInt(i);
+            assertArrayEquals(payloadHash(Network.PUBLIC, tx.toXdrBytes()), Network.PUBLIC.hash(tx));
+            previous = tx;
+        }
+    }
+
+    // SHA-256 of networkId, ENVELOPE_TYPE_TX and the transaction
+    private static byte[] payloadHash(Network network, byte[] tx) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(MessageDigest.getInstance("SHA-256").digest(network.getPassphrase().getBytes(StandardCharsets.UTF_8)));
+        digest.update(new byte[] {0, 0, 0, 2});
+        digest.update(tx);
+        return digest.digest();
+    }
+
+    /**
+     * Decodes a transaction with a text memo and up to 100 account merge and inflation
+     * operations, so that the encodings vary in length.
+     */
+    private static Transaction transaction(Random random) throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter();
+        writeAccount(writer, random);
+        writer.writeInt(random.nextInt());
+        writer.writeLong(random.nextLong());
+        // no time bounds, MEMO_TEXT
+        writer.writeInt(0);
+        writer.writeInt(1);
+        char[] text = new char[random.nextInt(29)];
+        Arrays.fill(text, 'm');
+        writer.writeString(new String(text));
+        int operations = 1 + random.nextInt(100);
+        writer.writeInt(operations);
+        for (int i = 0; i < operations; i++) {
+            boolean source = random.nextBoolean();
+            writer.writeInt(source ? 1 : 0);
+            if (source) {
+                writeAccount(writer, random);
+            }
+            if (random.nextBoolean()) {
+                // ACCOUNT_MERGE to a destination
+                writer.writeInt(8);
+                writeAccount(writer, random);
+            } else {
+                // INFLATION
+                writer.writeInt(9);
+            }
+        }
+        writer.writeInt(0);
+        return Transaction.decode(new XdrByteBufferReader(writer.toByteArray()));
+    }
+
+    private static void writeAccount(XdrByteArrayWriter writer, Random random) {
+        byte[] key = new byte[32];
+        random.nextBytes(key);
+        writer.writeInt(0);
+        writer.write(key, 0, key.length);
+    }
+}
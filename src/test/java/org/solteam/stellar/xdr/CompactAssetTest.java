@@ -0,0 +1,87 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class CompactAssetTest {
+
+    @Test
+    public void matchesGeneratedAsset() throws IOException {
+        XdrRandom random = new XdrRandom(18);
+        for (int i = 0; i < 1000; i++) {
+            Asset asset = random.next(Asset.class);
+            byte[] bytes = asset.toXdrBytes();
+            CompactAsset compact = CompactAsset.of(asset);
+            assertEquals(asset, compact.toAsset());
+            assertEquals(compact, CompactAsset.decode(new XdrByteBufferReader(bytes)));
+            assertEquals(bytes.length, CompactAsset.encodedSize(compact));
+            XdrByteArrayWriter writer = new XdrByteArrayWriter();
+            CompactAsset.encode(writer, compact);
+            assertArrayEquals(bytes, writer.toByteArray());
+        }
+    }
+
+    @Test
+    public void rejectsCodesOfTheWrongLength() {
+        AccountID issuer = new XdrRandom(18).next(AccountID.class);
+        Asset.AssetAlphaNum4 alphaNum4 = new Asset.AssetAlphaNum4();
+        alphaNum4.setAssetCode(new byte[3]);
+        alphaNum4.setIssuer(issuer);
+        Asset asset4 = new Asset();
+        asset4.setDiscriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM4);
+        asset4.setAlphaNum4(alphaNum4);
+        Asset.AssetAlphaNum12 alphaNum12 = new Asset.AssetAlphaNum12();
+        alphaNum12.setAssetCode(new byte[4]);
+        alphaNum12.setIssuer(issuer);
+        Asset asset12 = new Asset();
+        asset12.setDiscriminant(AssetType.ASSET_TYPE_CREDIT_ALPHANUM12);
+        asset12.setAlphaNum12(alphaNum12);
+        for (Asset asset : new Asset[] {asset4, asset12}) {
+            try {
+                CompactAsset.of(asset);
+                fail("short asset code accepted");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+        alphaNum4.setAssetCode(null);
+        try {
+            CompactAsset.of(asset4);
+            fail("missing asset code accepted");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void rejectsKeysOfTheWrongLength() {
+        for (byte[] key : new byte[][] {null, new byte[31], new byte[33]}) {
+            try {
+                CompactAccountID.fromKey(key);
+                fail("key accepted");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+        Uint256 shortKey = new Uint256();
+        shortKey.setUint256(new byte[16]);
+        PublicKey publicKey = new PublicKey();
+        publicKey.setDiscriminant(PublicKeyType.PUBLIC_KEY_TYPE_ED25519);
+        publicKey.setEd25519(shortKey);
+        AccountID accountID = new AccountID();
+        accountID.setAccountID(publicKey);
+        try {
+            CompactAccountID.of(accountID);
+            fail("short key accepted");
+        } catch (IllegalArgumentException expected) {
+        }
+        accountID.setAccountID(null);
+        try {
+            CompactAccountID.of(accountID);
+            fail("missing key accepted");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class EncodedTransactionEnvelopeTest {
+
+    @Test
+    public void encodingMatchesTransactionEnvelope() throws IOException {
+        XdrRandom random = new XdrRandom(15);
+        for (int i = 0; i < 300; i++) {
+            TransactionEnvelope envelope = random.next(TransactionEnvelope.class);
+            byte[] bytes = envelope.toXdrBytes();
+            EncodedTransactionEnvelope encoded = EncodedTransactionEnvelope.from(envelope);
+            assertArrayEquals(bytes, encoded.toXdrBytes());
+            assertEquals(bytes.length, encoded.encodedSize());
+            XdrByteArrayWriter writer = new XdrByteArrayWriter();
+            encoded.encode(writer);
+            assertArrayEquals(bytes, writer.toByteArray());
+            ShortWriteChannel channel = new ShortWriteChannel(random.random());
+            assertEquals(bytes.length, encoded.writeTo(channel));
+            assertArrayEquals(bytes, channel.mOut.toByteArray());
+            EncodedTransactionEnvelope decoded = EncodedTransactionEnvelope.decode(new XdrByteBufferReader(bytes));
+            assertArrayEquals(bytes, decoded.toXdrBytes());
+            assertEquals(envelope, decoded.toEnvelope());
+        }
+    }
+
+    @Test
+    public void addedSignaturesMatchTransactionEnvelope() throws IOException {
+        XdrRandom random = new XdrRandom(15);
+        TransactionEnvelope envelope = random.next(TransactionEnvelope.class);
+        EncodedTransactionEnvelope encoded = new EncodedTransactionEnvelope(envelope.getTx());
+        DecoratedSignature[] signatures = new DecoratedSignature[EncodedTransactionEnvelope.MAX_SIGNATURES];
+        for (int i = 0; i < signatures.length; i++) {
+            signatures[i] = random.next(DecoratedSignature.class);
+            encoded.addSignature(signatures[i]);
+            DecoratedSignature[] added = new DecoratedSignature[i + 1];
+            System.arraycopy(signatures, 0, added, 0, i + 1);
+            envelope.setSignatures(added);
+            assertArrayEquals(envelope.toXdrBytes(), encoded.toXdrBytes());
+        }
+        try {
+            encoded.addSignature(random.next(DecoratedSignature.class));
+            fail("signature over the bound accepted");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void writeToRejectsNonBlockingChannels() throws IOException {
+        EncodedTransactionEnvelope encoded = EncodedTransactionEnvelope.from(new XdrRandom(15).next(TransactionEnvelope.class));
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            encoded.writeTo(pipe.sink());
+            fail("non-blocking channel accepted");
+        } catch (IllegalBlockingModeException expected) {
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    /**
+     * A blocking channel that writes only a few bytes per call.
+     */
+    private static final class ShortWriteChannel implements GatheringByteChannel {
+
+        final ByteArrayOutputStream mOut = new ByteArrayOutputStream();
+        private final Random mRandom;
+
+        ShortWriteChannel(Random random) {
+            mRandom = random;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            int limit = 1 + mRandom.nextInt(100);
+            long written = 0;
+            for (int i = offset; i < offset + length && written < limit; i++) {
+                while (srcs[i].hasRemaining() && written < limit) {
+                    mOut.write(srcs[i].get());
+                    written++;
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            return (int) write(new ByteBuffer[] {src});
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks every accessor of the view against a full decode of the same bytes.
+ */
+public class LedgerEntryViewTest {
+
+    private interface Accessor {
+        Object get(LedgerEntryView view) throws IOException;
+    }
+
+    private static final Accessor[] ACCESSORS = {
+            LedgerEntryView::getLastModifiedLedgerSeq,
+            LedgerEntryView::getType,
+            LedgerEntryView::getAccountID,
+            view -> {
+                byte[] key = new byte[34];
+                view.copyAccountKey(key, 1);
+                return Arrays.copyOfRange(key, 1, 33);
+            },
+            LedgerEntryView::getData,
+            LedgerEntryView::getLedgerEntry,
+            LedgerEntryView::getLength,
+    };
+
+    @Test
+    public void accessorsMatchDecode() throws IOException {
+        XdrRandom random = new XdrRandom(6);
+        LedgerEntryView view = new LedgerEntryView();
+        for (int i = 0; i < 500; i++) {
+            LedgerEntry entry = random.next(LedgerEntry.class);
+            byte[] bytes = entry.toXdrBytes();
+            // at an offset in a larger array, followed by other bytes
+            int offset = 4 * random.random().nextInt(8);
+            byte[] array = random.bytes(offset + bytes.length + random.random().nextInt(16));
+            System.arraycopy(bytes, 0, array, offset, bytes.length);
+            view.wrap(array, offset);
+            assertEquals(offset, view.getOffset());
+            Object[] expected = expected(entry, bytes.length);
+            for (int j = 0; j < ACCESSORS.length; j++) {
+                assertTrue("accessor " + j, Arrays.deepEquals(new Object[] {expected[j]},
+                        new Object[] {ACCESSORS[j].get(view)}));
+            }
+            LedgerEntry.LedgerEntryData data = entry.getData();
+            switch (data.getDiscriminant()) {
+                case ACCOUNT:
+                    assertEquals(data.getAccount().getBalance().getInt64().longValue(), view.getBalance());
+                    break;
+                case TRUSTLINE:
+                    assertEquals(data.getTrustLine().getBalance().getInt64().longValue(), view.getBalance());
+                    break;
+                default:
+                    try {
+                        view.getBalance();
+                        fail("balance of a " + data.getDiscriminant() + " entry");
+                    } catch (IllegalStateException expectedFailure) {
+                    }
+            }
+        }
+    }
+
+    @Test
+    public void truncatedEntriesFailInTheAccessorThatReachesTheEnd() throws IOException {
+        XdrRandom random = new XdrRandom(6);
+        LedgerEntryView view = new LedgerEntryView();
+        for (int i = 0; i < 500; i++) {
+            LedgerEntry entry = random.next(LedgerEntry.class);
+            byte[] bytes = entry.toXdrBytes();
+            Object[] expected = expected(entry, bytes.length);
+            int length = random.random().nextInt(bytes.length);
+            view.wrap(ByteBuffer.wrap(bytes, 0, length), 0);
+            for (int j = 0; j < ACCESSORS.length; j++) {
+                try {
+                    Object value = ACCESSORS[j].get(view);
+                    // whatever is still returned is right
+                    assertTrue("accessor " + j + " at " + length + " of " + bytes.length,
+                            Arrays.deepEquals(new Object[] {expected[j]}, new Object[] {value}));
+                } catch (IOException truncated) {
+                }
+            }
+            for (Accessor accessor : new Accessor[] {LedgerEntryView::getLedgerEntry, LedgerEntryView::getLength}) {
+                try {
+                    accessor.get(view);
+                    fail("truncated entry accepted");
+                } catch (IOException truncated) {
+                }
+            }
+        }
+    }
+
+    @Test
+    public void rejectsOffsetsOutOfBounds() throws IOException {
+        byte[] bytes = new XdrRandom(6).next(LedgerEntry.class).toXdrBytes();
+        byte[] key = new byte[32];
+        try {
+            new LedgerEntryView().wrap(bytes, bytes.length + 1);
+            fail("offset past the end accepted");
+        } catch (IllegalArgumentException expected) {
+        }
+        LedgerEntryView view = new LedgerEntryView().wrap(bytes, bytes.length - 4);
+        try {
+            view.copyAccountKey(key, 0);
+            fail("key read past the end");
+        } catch (IOException expected) {
+        }
+        assertArrayEquals(new byte[32], key);
+    }
+
+    private static Object[] expected(LedgerEntry entry, int length) {
+        LedgerEntry.LedgerEntryData data = entry.getData();
+        AccountID owner;
+        switch (data.getDiscriminant()) {
+            case ACCOUNT:
+                owner = data.getAccount().getAccountID();
+                break;
+            case TRUSTLINE:
+                owner = data.getTrustLine().getAccountID();
+                break;
+            case OFFER:
+                owner = data.getOffer().getSellerID();
+                break;
+            default:
+                owner = data.getData().getAccountID();
+        }
+        return new Object[] {
+                entry.getLastModifiedLedgerSeq().getUint32(),
+                data.getDiscriminant(),
+                owner,
+                owner.getAccountID().getEd25519().getUint256(),
+                data,
+                entry,
+                length,
+        };
+    }
+}
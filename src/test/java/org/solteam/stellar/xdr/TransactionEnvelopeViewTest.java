@@ -0,0 +1,184 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks every accessor of the view against a full decode of the same bytes.
+ */
+public class TransactionEnvelopeViewTest {
+
+    private interface Accessor {
+        Object get(TransactionEnvelopeView view) throws IOException;
+    }
+
+    @Test
+    public void accessorsMatchDecode() throws IOException {
+        XdrRandom random = new XdrRandom(6);
+        Random r = random.random();
+        TransactionEnvelopeView view = new TransactionEnvelopeView();
+        for (int i = 0; i < 300; i++) {
+            TransactionEnvelope envelope = random.next(TransactionEnvelope.class);
+            byte[] bytes = envelope.toXdrBytes();
+            // at an offset in a larger array, followed by other bytes
+            int offset = 4 * r.nextInt(8);
+            byte[] array = random.bytes(offset + bytes.length + r.nextInt(16));
+            System.arraycopy(bytes, 0, array, offset, bytes.length);
+            List<Object> expected = expected(envelope, bytes.length);
+            List<Accessor> accessors = accessors(envelope);
+            // in order, then shuffled, so that the offsets are found from any accessor
+            for (int pass = 0; pass < 2; pass++) {
+                List<Integer> order = new ArrayList<Integer>();
+                for (int j = 0; j < accessors.size(); j++) {
+                    order.add(j);
+                }
+                if (pass == 1) {
+                    Collections.shuffle(order, r);
+                }
+                view.wrap(array, offset);
+                assertEquals(offset, view.getOffset());
+                for (int j : order) {
+                    assertTrue("accessor " + j, Arrays.deepEquals(new Object[] {expected.get(j)},
+                            new Object[] {accessors.get(j).get(view)}));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void truncatedEnvelopesFailInTheAccessorThatReachesTheEnd() throws IOException {
+        XdrRandom random = new XdrRandom(6);
+        TransactionEnvelopeView view = new TransactionEnvelopeView();
+        for (int i = 0; i < 300; i++) {
+            TransactionEnvelope envelope = random.next(TransactionEnvelope.class);
+            byte[] bytes = envelope.toXdrBytes();
+            List<Object> expected = expected(envelope, bytes.length);
+            List<Accessor> accessors = accessors(envelope);
+            int length = random.random().nextInt(bytes.length);
+            view.wrap(ByteBuffer.wrap(bytes, 0, length), 0);
+            for (int j = 0; j < accessors.size(); j++) {
+                try {
+                    Object value = accessors.get(j).get(view);
+                    // whatever is still returned is right
+                    assertTrue("accessor " + j + " at " + length + " of " + bytes.length,
+                            Arrays.deepEquals(new Object[] {expected.get(j)}, new Object[] {value}));
+                } catch (IOException truncated) {
+                }
+            }
+            expectFailure(view, TransactionEnvelopeView::getTransactionEnvelope);
+            expectFailure(view, TransactionEnvelopeView::getLength);
+        }
+    }
+
+    @Test
+    public void rejectsIndicesOutOfBounds() throws IOException {
+        XdrRandom random = new XdrRandom(6);
+        TransactionEnvelopeView view = new TransactionEnvelopeView();
+        for (int i = 0; i < 50; i++) {
+            TransactionEnvelope envelope = random.next(TransactionEnvelope.class);
+            view.wrap(envelope.toXdrBytes(), 0);
+            int operations = envelope.getTx().getOperations().length;
+            int signatures = envelope.getSignatures().length;
+            for (int index : new int[] {-1, operations}) {
+                try {
+                    view.getOperation(index);
+                    fail("operation " + index + " of " + operations);
+                } catch (IndexOutOfBoundsException expected) {
+                }
+                try {
+                    view.getOperationType(index);
+                    fail("operation " + index + " of " + operations);
+                } catch (IndexOutOfBoundsException expected) {
+                }
+            }
+            for (int index : new int[] {-1, signatures}) {
+                try {
+                    view.getSignature(index);
+                    fail("signature " + index + " of " + signatures);
+                } catch (IndexOutOfBoundsException expected) {
+                }
+            }
+        }
+        try {
+            view.wrap(new byte[8], 9);
+            fail("offset past the end accepted");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private static List<Object> expected(TransactionEnvelope envelope, int length) {
+        Transaction tx = envelope.getTx();
+        List<Object> values = new ArrayList<Object>();
+        values.add(tx.getSourceAccount());
+        values.add(tx.getSourceAccount().getAccountID().getEd25519().getUint256());
+        values.add(tx.getFee().getUint32());
+        values.add(tx.getSeqNum().getSequenceNumber().getUint64());
+        values.add(tx.getTimeBounds() != null);
+        values.add(tx.getTimeBounds());
+        values.add(tx.getMemo().getDiscriminant());
+        values.add(tx.getMemo());
+        values.add(tx.getOperations().length);
+        for (Operation operation : tx.getOperations()) {
+            values.add(operation.getBody().getDiscriminant());
+            values.add(operation.getSourceAccount());
+            values.add(operation);
+        }
+        values.add(envelope.getSignatures().length);
+        values.addAll(Arrays.asList(envelope.getSignatures()));
+        values.add(tx);
+        values.add(envelope);
+        values.add(length);
+        return values;
+    }
+
+    private static List<Accessor> accessors(TransactionEnvelope envelope) {
+        List<Accessor> accessors = new ArrayList<Accessor>();
+        accessors.add(TransactionEnvelopeView::getSourceAccount);
+        accessors.add(view -> {
+            byte[] key = new byte[34];
+            view.copySourceAccountKey(key, 1);
+            return Arrays.copyOfRange(key, 1, 33);
+        });
+        accessors.add(TransactionEnvelopeView::getFee);
+        accessors.add(TransactionEnvelopeView::getSequenceNumber);
+        accessors.add(TransactionEnvelopeView::hasTimeBounds);
+        accessors.add(TransactionEnvelopeView::getTimeBounds);
+        accessors.add(TransactionEnvelopeView::getMemoType);
+        accessors.add(TransactionEnvelopeView::getMemo);
+        accessors.add(TransactionEnvelopeView::getOperationCount);
+        for (int i = 0; i < envelope.getTx().getOperations().length; i++) {
+            int index = i;
+            accessors.add(view -> view.getOperationType(index));
+            accessors.add(view -> view.getOperationSourceAccount(index));
+            accessors.add(view -> view.getOperation(index));
+        }
+        accessors.add(TransactionEnvelopeView::getSignatureCount);
+        for (int i = 0; i < envelope.getSignatures().length; i++) {
+            int index = i;
+            accessors.add(view -> view.getSignature(index));
+        }
+        accessors.add(TransactionEnvelopeView::getTransaction);
+        accessors.add(TransactionEnvelopeView::getTransactionEnvelope);
+        accessors.add(TransactionEnvelopeView::getLength);
+        return accessors;
+    }
+
+    private static void expectFailure(TransactionEnvelopeView view, Accessor accessor) {
+        try {
+            accessor.get(view);
+            fail("truncated envelope accepted");
+        } catch (IOException expected) {
+        }
+    }
+}
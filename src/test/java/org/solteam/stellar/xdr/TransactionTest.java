@@ -0,0 +1,168 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that freezing a transaction or an envelope makes every value they hold
+ * read-only, and that the cached encoding and hashes match fresh ones.
+ */
+public class TransactionTest {
+
+    @Test
+    public void freezingIsDeep() throws Exception {
+        XdrRandom random = new XdrRandom(14);
+        for (int i = 0; i < 200; i++) {
+            TransactionEnvelope envelope = random.next(TransactionEnvelope.class);
+            byte[] bytes = envelope.toXdrBytes();
+            envelope.freeze();
+            assertFrozen(envelope);
+            assertArrayEquals(bytes, envelope.toXdrBytes());
+            assertArrayEquals(bytes, XdrRandom.encode(TransactionEnvelope.decode(new XdrByteBufferReader(bytes))));
+        }
+    }
+
+    @Test
+    public void frozenArraysAreCopied() throws IOException {
+        XdrRandom random = new XdrRandom(14);
+        for (int i = 0; i < 200; i++) {
+            TransactionEnvelope envelope = random.next(TransactionEnvelope.class);
+            byte[] bytes = envelope.freeze().toXdrBytes();
+            Transaction tx = envelope.getTx();
+            if (tx.getOperations().length > 0) {
+                tx.getOperations()[0] = null;
+            }
+            if (envelope.getSignatures().length > 0) {
+                envelope.getSignatures()[0] = null;
+                envelope.getSignatures()[0].getHint().getSignatureHint()[0] ^= 1;
+            }
+            tx.getSourceAccount().getAccountID().getEd25519().getUint256()[0] ^= 1;
+            TransactionEnvelope fresh = TransactionEnvelope.decode(new XdrByteBufferReader(bytes));
+            assertEquals(fresh, envelope);
+            assertArrayEquals(bytes, XdrRandom.encode(fresh));
+        }
+    }
+
+    @Test
+    public void cachedEncodingMatchesEncode() throws IOException {
+        XdrRandom random = new XdrRandom(14);
+        for (int i = 0; i < 200; i++) {
+            Transaction tx = random.next(Transaction.class);
+            byte[] bytes = tx.toXdrBytes();
+            tx.freeze();
+            assertArrayEquals(bytes, tx.frozenEncoding());
+            assertArrayEquals(bytes, tx.toXdrBytes());
+            assertEquals(bytes.length, Transaction.encodedSize(tx));
+            XdrByteArrayWriter writer = new XdrByteArrayWriter();
+            Transaction.encode(writer, tx);
+            assertArrayEquals(bytes, writer.toByteArray());
+        }
+    }
+
+    @Test
+    public void cachedHashIsKeyedByNetwork() throws Exception {
+        XdrRandom random = new XdrRandom(14);
+        Hash[] networks = {network("Test SDF Network ; September 2015"), network("Public Global Stellar Network ; September 2015")};
+        for (int i = 0; i < 100; i++) {
+            Transaction tx = random.next(Transaction.class);
+            byte[] bytes = tx.toXdrBytes();
+            tx.freeze();
+            // alternate the networks, so that each hash replaces the cached one
+            for (int j = 0; j < 4; j++) {
+                Hash network = networks[j % 2];
+                byte[] expected = payloadHash(network, bytes);
+                assertArrayEquals(expected, tx.hash(network));
+                assertArrayEquals(expected, tx.hash(network));
+            }
+            assertFalse(Arrays.equals(tx.hash(networks[0]), tx.hash(networks[1])));
+        }
+    }
+
+    @Test
+    public void decodeIntoLeavesFrozenValuesAlone() throws IOException {
+        XdrRandom random = new XdrRandom(14);
+        for (int i = 0; i < 100; i++) {
+            TransactionEnvelope frozen = random.next(TransactionEnvelope.class).freeze();
+            byte[] frozenBytes = frozen.toXdrBytes();
+            byte[] bytes = random.next(TransactionEnvelope.class).toXdrBytes();
+            TransactionEnvelope decoded = TransactionEnvelope.decodeInto(new XdrByteBufferReader(bytes), frozen);
+            assertNotSame(frozen, decoded);
+            assertArrayEquals(bytes, decoded.toXdrBytes());
+            assertEquals(TransactionEnvelope.decode(new XdrByteBufferReader(frozenBytes)), frozen);
+            // a mutable envelope holding a frozen transaction is reused, the transaction is not
+            TransactionEnvelope mutable = new TransactionEnvelope();
+            mutable.setTx(frozen.getTx());
+            assertTrue(TransactionEnvelope.decodeInto(new XdrByteBufferReader(bytes), mutable) == mutable);
+            assertNotSame(frozen.getTx(), mutable.getTx());
+            assertTrue(frozen.getTx().isFrozen());
+        }
+    }
+
+    /**
+     * Checks that {@code value} and everything it holds is frozen and that each of their
+     * setters throws.
+     */
+    private static void assertFrozen(Object value) throws Exception {
+        if (value == null || value.getClass().isEnum() || XdrSchema.get(value.getClass()) == null) {
+            return;
+        }
+        Class<?> type = value.getClass();
+        assertTrue(type.getName(), (Boolean) type.getMethod("isFrozen").invoke(value));
+        for (Method method : type.getMethods()) {
+            if (method.getName().startsWith("set") && method.getParameterTypes().length == 1) {
+                Class<?> parameter = method.getParameterTypes()[0];
+                try {
+                    method.invoke(value, parameter.isPrimitive() ? (Object) 0 : null);
+                    fail(type.getName() + "." + method.getName() + " changed a frozen value");
+                } catch (InvocationTargetException e) {
+                    assertTrue(type.getName() + "." + method.getName(), e.getCause() instanceof IllegalStateException);
+                }
+            }
+        }
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            Object child = field.get(value);
+            if (child instanceof Object[]) {
+                for (Object element : (Object[]) child) {
+                    assertFrozen(element);
+                }
+            } else {
+                assertFrozen(child);
+            }
+        }
+    }
+
+    private static Hash network(String passphrase) throws NoSuchAlgorithmException {
+        Hash hash = new Hash();
+        hash.setHash(MessageDigest.getInstance("SHA-256").digest(passphrase.getBytes(StandardCharsets.UTF_8)));
+        return hash;
+    }
+
+    // SHA-256 of the TransactionSignaturePayload: network ID, ENVELOPE_TYPE_TX and the transaction
+    private static byte[] payloadHash(Hash network, byte[] tx) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(network.getHash());
+        digest.update(new byte[] {0, 0, 0, (byte) EnvelopeType.ENVELOPE_TYPE_TX.getValue()});
+        digest.update(tx);
+        return digest.digest();
+    }
+}
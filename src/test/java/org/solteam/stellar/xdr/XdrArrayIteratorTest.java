@@ -0,0 +1,162 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the streaming array accessors against a full decode of the same bytes.
+ */
+public class XdrArrayIteratorTest {
+
+    private interface Opener {
+        XdrArrayIterator<?> open(XdrReader reader) throws IOException;
+    }
+
+    private interface Elements<T> {
+        Object[] of(T value);
+    }
+
+    private static final int VALUES = 100;
+
+    @Test
+    public void iteratesLikeDecode() throws IOException {
+        XdrRandom random = new XdrRandom(11);
+        for (int i = 0; i < VALUES; i++) {
+            iteratesLikeDecode(random, TransactionSet.class, reader -> TransactionSet.decodeTxs(reader, null), TransactionSet::getTxs);
+            iteratesLikeDecode(random, TransactionResultSet.class, TransactionResultSet::decodeResults, TransactionResultSet::getResults);
+            iteratesLikeDecode(random, TransactionMeta.class, TransactionMeta::decodeOperations, TransactionMeta::getOperations);
+            iteratesLikeDecode(random, LedgerEntryChanges.class, LedgerEntryChanges::decodeLedgerEntryChanges, LedgerEntryChanges::getLedgerEntryChanges);
+            iteratesLikeDecode(random, LedgerSCPMessages.class, reader -> LedgerSCPMessages.decodeMessages(reader, null), LedgerSCPMessages::getMessages);
+        }
+    }
+
+    @Test
+    public void decodesTheHeadIntoTheGivenValue() throws IOException {
+        XdrRandom random = new XdrRandom(11);
+        for (int i = 0; i < VALUES; i++) {
+            TransactionSet set = random.next(TransactionSet.class);
+            TransactionSet head = new TransactionSet();
+            XdrArrayIterator<TransactionEnvelope> txs = TransactionSet.decodeTxs(new XdrByteBufferReader(set.toXdrBytes()), head);
+            assertEquals(set.getPreviousLedgerHash(), head.getPreviousLedgerHash());
+            assertArrayEquals(set.getTxs(), txs.stream().toArray());
+        }
+    }
+
+    @Test
+    public void stopsEarlyAndReadsTheNextField() throws IOException {
+        XdrRandom random = new XdrRandom(11);
+        for (int i = 0; i < VALUES; i++) {
+            TransactionSet set = random.next(TransactionSet.class);
+            int next = random.random().nextInt();
+            byte[] bytes = followedBy(set.toXdrBytes(), next);
+            for (boolean stream : new boolean[] {false, true}) {
+                XdrReader reader = reader(bytes, stream);
+                XdrArrayIterator<TransactionEnvelope> txs = TransactionSet.decodeTxs(reader, null);
+                int stop = random.random().nextInt(txs.size() + 1);
+                for (int j = 0; j < stop; j++) {
+                    assertEquals(set.getTxs()[j], txs.next());
+                }
+                txs.skipRemaining();
+                assertFalse(txs.hasNext());
+                assertEquals(txs.size(), txs.getIndex());
+                assertEquals(next, reader.readInt());
+            }
+        }
+    }
+
+    @Test
+    public void checksTheDeclaredBound() throws IOException {
+        byte[] three = {0, 0, 0, 3, 0, 0, 0, 1, 0, 0, 0, 2, 0, 0, 0, 3};
+        for (boolean stream : new boolean[] {false, true}) {
+            assertEquals(3, new XdrArrayIterator<>(reader(three, stream), Uint32::decode, 3).size());
+            try {
+                new XdrArrayIterator<>(reader(three, stream), Uint32::decode, 2);
+                fail("array longer than its bound accepted");
+            } catch (IOException expected) {
+            }
+            try {
+                new XdrArrayIterator<>(reader(new byte[] {-1, -1, -1, -1}, stream), Uint32::decode, Integer.MAX_VALUE);
+                fail("negative length accepted");
+            } catch (IOException expected) {
+            }
+        }
+        // a buffer knows up front that the elements cannot fit
+        try {
+            new XdrArrayIterator<>(new XdrByteBufferReader(new byte[] {0, 0, 0, 4, 0, 0, 0, 1}), Uint32::decode, 4);
+            fail("array running past the end of the buffer accepted");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void truncatedInputFails() throws IOException {
+        XdrRandom random = new XdrRandom(11);
+        for (int i = 0; i < VALUES; i++) {
+            TransactionSet set = random.next(TransactionSet.class);
+            byte[] bytes = set.toXdrBytes();
+            byte[] truncated = Arrays.copyOf(bytes, random.random().nextInt(bytes.length));
+            for (boolean stream : new boolean[] {false, true}) {
+                try {
+                    XdrArrayIterator<TransactionEnvelope> txs = TransactionSet.decodeTxs(reader(truncated, stream), null);
+                    int decoded = 0;
+                    while (txs.hasNext()) {
+                        assertEquals(set.getTxs()[decoded++], txs.next());
+                    }
+                    fail("decoded " + decoded + " envelopes from " + truncated.length + " of " + bytes.length + " bytes");
+                } catch (IOException expected) {
+                } catch (UncheckedIOException expected) {
+                }
+            }
+        }
+    }
+
+    private static <T> void iteratesLikeDecode(XdrRandom random, Class<T> type, Opener opener, Elements<T> elements)
+            throws IOException {
+        T value = random.next(type);
+        Object[] expected = elements.of(value);
+        int next = random.random().nextInt();
+        byte[] bytes = followedBy(XdrRandom.encode(value), next);
+        for (boolean stream : new boolean[] {false, true}) {
+            XdrReader reader = reader(bytes, stream);
+            XdrArrayIterator<?> iterator = opener.open(reader);
+            assertEquals(expected.length, iterator.size());
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(i, iterator.getIndex());
+                assertTrue(iterator.hasNext());
+                assertEquals(type.getSimpleName(), expected[i], iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+            try {
+                iterator.next();
+                fail("element past the end of a " + type.getSimpleName());
+            } catch (NoSuchElementException end) {
+            }
+            assertEquals(next, reader.readInt());
+
+            // and through a stream, which must also leave the reader after the array
+            reader = reader(bytes, stream);
+            assertEquals(expected.length, opener.open(reader).stream().count());
+            assertEquals(next, reader.readInt());
+        }
+    }
+
+    private static byte[] followedBy(byte[] bytes, int next) {
+        return ByteBuffer.allocate(bytes.length + 4).put(bytes).putInt(next).array();
+    }
+
+    private static XdrReader reader(byte[] bytes, boolean stream) {
+        return stream ? new XdrDataInputStream(new ByteArrayInputStream(bytes)) : new XdrByteBufferReader(bytes);
+    }
+}
@@ -0,0 +1,142 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the base64 reader and writer against {@link java.util.Base64}.
+ */
+public class XdrBase64Test {
+
+    @Test
+    public void writerMatchesJavaUtil() throws IOException {
+        Random random = new Random(16);
+        for (int i = 0; i < 1000; i++) {
+            XdrByteArrayWriter binary = new XdrByteArrayWriter();
+            // sizes both exact and too small, which makes the writer grow
+            XdrBase64Writer text = new XdrBase64Writer(random.nextInt(64));
+            for (XdrWriter writer : new XdrWriter[] {binary, text}) {
+                Random values = new Random(i);
+                int count = values.nextInt(8);
+                for (int j = 0; j < count; j++) {
+                    switch (values.nextInt(3)) {
+                        case 0:
+                            writer.writeInt(values.nextInt());
+                            break;
+                        case 1:
+                            writer.writeLong(values.nextLong());
+                            break;
+                        default:
+                            byte[] bytes = new byte[values.nextInt(20)];
+                            values.nextBytes(bytes);
+                            writer.write(bytes, 0, bytes.length);
+                    }
+                }
+            }
+            assertEquals(Base64.getEncoder().encodeToString(binary.toByteArray()), text.toString());
+        }
+    }
+
+    @Test
+    public void streamMatchesJavaUtil() throws IOException {
+        Random random = new Random(16);
+        for (int i = 0; i < 2000; i++) {
+            byte[] bytes = new byte[random.nextInt(100)];
+            random.nextBytes(bytes);
+            String text = Base64.getEncoder().encodeToString(bytes);
+            if (random.nextBoolean()) {
+                text = text.replace("=", "");
+            }
+            InputStream in = new XdrBase64InputStream(text);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[16];
+            int n;
+            while ((n = in.read(buffer, 0, 1 + random.nextInt(buffer.length))) > 0) {
+                out.write(buffer, 0, n);
+            }
+            assertArrayEquals(text, bytes, out.toByteArray());
+        }
+    }
+
+    @Test
+    public void rejectsInvalidText() {
+        for (String text : new String[] {"A", "AB=C", "ABC=ABCD", "AB*D", "AB C", "AAAA=", "AAAAA"}) {
+            try {
+                InputStream in = new XdrBase64InputStream(text);
+                while (in.read() >= 0) {
+                    // decode to the end
+                }
+                fail("accepted " + text);
+            } catch (IOException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void generatedHelpersMatchJavaUtil() throws IOException {
+        XdrRandom random = new XdrRandom(16);
+        for (int i = 0; i < 300; i++) {
+            TransactionEnvelope envelope = random.next(TransactionEnvelope.class);
+            TransactionResult result = random.next(TransactionResult.class);
+            TransactionMeta meta = random.next(TransactionMeta.class);
+            String envelopeText = Base64.getEncoder().encodeToString(envelope.toXdrBytes());
+            String resultText = Base64.getEncoder().encodeToString(result.toXdrBytes());
+            String metaText = Base64.getEncoder().encodeToString(meta.toXdrBytes());
+            assertEquals(envelopeText, envelope.toXdrBase64());
+            assertEquals(resultText, result.toXdrBase64());
+            assertEquals(metaText, meta.toXdrBase64());
+            assertEquals(envelope, TransactionEnvelope.fromXdrBase64(envelopeText));
+            assertEquals(result, TransactionResult.fromXdrBase64(resultText));
+            assertEquals(meta, TransactionMeta.fromXdrBase64(metaText));
+        }
+    }
+
+    @Test
+    public void fromXdrBase64RejectsTrailingData() throws IOException {
+        XdrRandom random = new XdrRandom(16);
+        for (int i = 0; i < 100; i++) {
+            byte[] bytes = random.next(TransactionResult.class).toXdrBytes();
+            String text = Base64.getEncoder().encodeToString(bytes);
+            byte[] longer = new byte[bytes.length + 1 + random.random().nextInt(8)];
+            System.arraycopy(bytes, 0, longer, 0, bytes.length);
+            String[] invalid = {Base64.getEncoder().encodeToString(longer), text + "AAAA", text + "=", text + "A", text + " "};
+            for (String trailing : invalid) {
+                try {
+                    TransactionResult.fromXdrBase64(trailing);
+                    fail("accepted " + trailing);
+                } catch (IOException expected) {
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fromXdrBase64RejectsLengthsPastTheEnd() throws IOException {
+        // a set of 2^31 - 1 envelopes in 40 bytes, and the same set cut short
+        XdrByteArrayWriter writer = new XdrByteArrayWriter();
+        writer.write(new byte[32], 0, 32);
+        writer.writeInt(Integer.MAX_VALUE);
+        writer.writeInt(0);
+        byte[] bytes = writer.toByteArray();
+        for (String text : new String[] {Base64.getEncoder().encodeToString(bytes),
+                Base64.getEncoder().encodeToString(Arrays.copyOf(bytes, 36))}) {
+            try {
+                XdrBase64InputStream.decode(text, TransactionSet::decode);
+                fail("accepted " + text);
+            } catch (IOException expected) {
+            }
+        }
+        assertEquals(TransactionSet.decode(new XdrByteBufferReader(new byte[36])),
+                XdrBase64InputStream.decode(Base64.getEncoder().encodeToString(new byte[36]), TransactionSet::decode));
+    }
+}
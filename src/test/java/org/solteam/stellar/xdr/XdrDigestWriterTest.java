@@ -0,0 +1,81 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Checks that hashing while encoding gives the same SHA-256 as a {@code MessageDigest}
+ * over the encoded bytes.
+ */
+public class XdrDigestWriterTest {
+
+    @Test
+    public void sha256MatchesDigestOfEncoding() throws IOException {
+        XdrRandom random = new XdrRandom(12);
+        for (int i = 0; i < 200; i++) {
+            Transaction tx = random.next(Transaction.class);
+            assertArrayEquals(sha256(tx.toXdrBytes()), tx.sha256());
+            LedgerHeader header = random.next(LedgerHeader.class);
+            assertArrayEquals(sha256(header.toXdrBytes()), header.sha256());
+            TransactionResultSet results = random.next(TransactionResultSet.class);
+            assertArrayEquals(sha256(results.toXdrBytes()), results.sha256());
+            SCPQuorumSet quorumSet = random.next(SCPQuorumSet.class);
+            assertArrayEquals(sha256(quorumSet.toXdrBytes()), quorumSet.sha256());
+        }
+    }
+
+    @Test
+    public void everyTypeHashesLikeItsEncoding() throws IOException {
+        XdrRandom random = new XdrRandom(12);
+        XdrDigestWriter writer = new XdrDigestWriter(XdrDigestWriter.newSha256());
+        for (Class<?> type : XdrRandom.types()) {
+            for (int i = 0; i < 20; i++) {
+                Object value = random.next(type);
+                XdrRandom.call(type, "encode", new Class<?>[] {XdrWriter.class, type}, writer, value);
+                assertArrayEquals(type.getSimpleName(), sha256(XdrRandom.encode(value)), writer.digest());
+            }
+        }
+    }
+
+    @Test
+    public void opaqueDataOfAnyLengthIsPadded() throws IOException {
+        XdrRandom random = new XdrRandom(12);
+        Random r = random.random();
+        XdrDigestWriter writer = new XdrDigestWriter(XdrDigestWriter.newSha256());
+        for (int i = 0; i < 200; i++) {
+            // around and across the size of the writer's buffer
+            XdrByteArrayWriter expected = new XdrByteArrayWriter();
+            for (int j = 0; j < 8; j++) {
+                byte[] bytes = random.bytes(r.nextInt(600));
+                int off = r.nextInt(bytes.length + 1);
+                int len = r.nextInt(bytes.length - off + 1);
+                int v = r.nextInt();
+                expected.writeInt(v);
+                expected.write(bytes, off, len);
+                writer.writeInt(v);
+                writer.write(bytes, off, len);
+            }
+            assertArrayEquals(sha256(expected.toByteArray()), writer.digest());
+        }
+    }
+
+    @Test
+    public void leasedWriterIsReset() throws IOException {
+        Transaction tx = new XdrRandom(12).next(Transaction.class);
+        byte[] expected = sha256(tx.toXdrBytes());
+        // a caller that leased the writer and dropped it without finishing the digest
+        XdrDigestWriter abandoned = XdrDigestWriter.sha256();
+        abandoned.writeLong(1);
+        abandoned.flush();
+        abandoned.writeInt(2);
+        assertArrayEquals(expected, tx.sha256());
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        return XdrDigestWriter.newSha256().digest(bytes);
+    }
+}
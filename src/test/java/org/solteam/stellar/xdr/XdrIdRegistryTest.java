@@ -0,0 +1,160 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that IDs are dense, stable for equal values and kept across a snapshot.
+ */
+public class XdrIdRegistryTest {
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    @Test
+    public void idsAreDenseAndStable() throws IOException {
+        XdrRandom random = new XdrRandom(20);
+        checkIds(random, new XdrIdRegistry<AccountID>(AccountID::encode, AccountID::decode, 1), values(random, AccountID.class));
+        checkIds(random, new XdrIdRegistry<Asset>(Asset::encode, Asset::decode, 1), values(random, Asset.class));
+        checkIds(random, XdrIdRegistry.accounts(), values(random, AccountID.class));
+        checkIds(random, XdrIdRegistry.assets(), values(random, Asset.class));
+    }
+
+    @Test
+    public void rejectsUnknownIds() throws IOException {
+        XdrIdRegistry<Asset> assets = XdrIdRegistry.assets();
+        Asset asset = new XdrRandom(20).next(Asset.class);
+        assertEquals(-1, assets.getId(asset));
+        assertEquals(0, assets.register(asset));
+        for (int id : new int[] {-1, 1}) {
+            try {
+                assets.get(id);
+                fail("id " + id + " of 1");
+            } catch (IndexOutOfBoundsException expected) {
+            }
+            try {
+                assets.getKey(id);
+                fail("id " + id + " of 1");
+            } catch (IndexOutOfBoundsException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void snapshotAndRestoreKeepIds() throws IOException {
+        XdrRandom random = new XdrRandom(20);
+        List<Asset> values = values(random, Asset.class);
+        XdrIdRegistry<Asset> assets = XdrIdRegistry.assets();
+        for (Asset value : values) {
+            assets.register(value);
+        }
+        Path path = mFolder.newFile().toPath();
+        assets.snapshot(path);
+
+        XdrIdRegistry<Asset> restored = new XdrIdRegistry<Asset>(Asset::encode, Asset::decode, 1);
+        restored.restore(path);
+        assertEquals(assets.size(), restored.size());
+        for (int id = 0; id < assets.size(); id++) {
+            assertArrayEquals(assets.getKey(id), restored.getKey(id));
+            assertEquals(assets.get(id), restored.get(id));
+            assertEquals(id, restored.getId(assets.get(id)));
+        }
+        // and new values continue from there
+        Asset value = random.next(Asset.class);
+        if (assets.getId(value) < 0) {
+            assertEquals(assets.register(value), restored.register(value));
+        }
+
+        try {
+            restored.restore(path);
+            fail("restored into a registry that is not empty");
+        } catch (IllegalStateException expected) {
+        }
+        Path other = mFolder.newFile().toPath();
+        Files.write(other, new byte[] {0, 0, 0, 1, 0, 0, 0, 0});
+        try {
+            XdrIdRegistry.assets().restore(other);
+            fail("restored a file that is not a snapshot");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void concurrentRegistrationsAgree() throws Exception {
+        XdrRandom random = new XdrRandom(20);
+        List<AccountID> values = values(random, AccountID.class);
+        XdrIdRegistry<AccountID> accounts = new XdrIdRegistry<AccountID>(AccountID::encode, AccountID::decode, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<int[]>> futures = new ArrayList<Future<int[]>>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    int[] ids = new int[values.size()];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = accounts.register(values.get(i));
+                    }
+                    return ids;
+                }));
+            }
+            int[] ids = futures.get(0).get();
+            for (Future<int[]> future : futures) {
+                assertArrayEquals(ids, future.get());
+            }
+            for (int i = 0; i < ids.length; i++) {
+                assertEquals(values.get(i), accounts.get(ids[i]));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Registers values, each several times and as distinct but equal instances, and
+     * checks the IDs against the order in which values were first seen.
+     */
+    private static <T> void checkIds(XdrRandom random, XdrIdRegistry<T> registry, List<T> values) throws IOException {
+        Random r = random.random();
+        List<T> seen = new ArrayList<T>();
+        for (int i = 0; i < 4 * values.size(); i++) {
+            T value = values.get(r.nextInt(values.size()));
+            int expected = seen.indexOf(value);
+            if (expected < 0) {
+                expected = seen.size();
+                seen.add(value);
+            }
+            @SuppressWarnings("unchecked")
+            T copy = (T) XdrRandom.call(value.getClass(), "decode", new Class<?>[] {XdrReader.class},
+                    new XdrByteBufferReader(XdrRandom.encode(value)));
+            assertEquals(expected, registry.register(r.nextBoolean() ? value : copy));
+            assertEquals(expected, registry.getId(copy));
+            assertEquals(seen.size(), registry.size());
+        }
+        for (int id = 0; id < seen.size(); id++) {
+            assertEquals(seen.get(id), registry.get(id));
+            assertArrayEquals(XdrRandom.encode(seen.get(id)), registry.getKey(id));
+        }
+    }
+
+    private static <T> List<T> values(XdrRandom random, Class<T> type) {
+        List<T> values = new ArrayList<T>();
+        for (int i = 0; i < 2000; i++) {
+            values.add(random.next(type));
+        }
+        return values;
+    }
+}
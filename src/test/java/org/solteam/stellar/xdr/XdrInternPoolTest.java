@@ -0,0 +1,88 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class XdrInternPoolTest {
+
+    @Test
+    public void pooledAccountIDsAreSharedAndFrozen() throws IOException {
+        XdrRandom random = new XdrRandom(19);
+        XdrInternPool pool = new XdrInternPool(8192);
+        for (int i = 0; i < 50; i++) {
+            byte[] bytes = random.next(AccountID.class).toXdrBytes();
+            AccountID first = decode(bytes, pool, AccountID::decode);
+            AccountID second = decode(bytes, pool, AccountID::decode);
+            assertSame(first, second);
+            assertTrue(first.isFrozen());
+            assertTrue(first.getAccountID().isFrozen());
+            assertTrue(first.getAccountID().getEd25519().isFrozen());
+            try {
+                first.getAccountID().setDiscriminant(PublicKeyType.PUBLIC_KEY_TYPE_ED25519);
+                fail("pooled account ID modified");
+            } catch (IllegalStateException expected) {
+            }
+            // a returned key is a copy
+            first.getAccountID().getEd25519().getUint256()[0] ^= 1;
+            assertArrayEquals(bytes, first.toXdrBytes());
+            // decoding into a pooled value leaves it alone
+            assertEquals(first, AccountID.decodeInto(new XdrByteBufferReader(bytes), first));
+            AccountID other = random.next(AccountID.class);
+            assertFalse(AccountID.decodeInto(new XdrByteBufferReader(other.toXdrBytes()), first) == first);
+            assertArrayEquals(bytes, first.toXdrBytes());
+        }
+    }
+
+    @Test
+    public void pooledAssetsAreSharedAndFrozen() throws IOException {
+        XdrRandom random = new XdrRandom(19);
+        XdrInternPool pool = new XdrInternPool(8192);
+        for (int i = 0; i < 50; i++) {
+            byte[] bytes = random.next(Asset.class).toXdrBytes();
+            Asset first = decode(bytes, pool, Asset::decode);
+            assertSame(first, decode(bytes, pool, Asset::decode));
+            assertTrue(first.isFrozen());
+            try {
+                first.setDiscriminant(AssetType.ASSET_TYPE_NATIVE);
+                fail("pooled asset modified");
+            } catch (IllegalStateException expected) {
+            }
+            if (first.getAlphaNum4() != null) {
+                assertTrue(first.getAlphaNum4().isFrozen());
+                assertTrue(first.getAlphaNum4().getIssuer().isFrozen());
+                first.getAlphaNum4().getAssetCode()[0] ^= 1;
+                try {
+                    first.getAlphaNum4().setAssetCode(new byte[4]);
+                    fail("pooled asset code modified");
+                } catch (IllegalStateException expected) {
+                }
+            }
+            if (first.getAlphaNum12() != null) {
+                assertTrue(first.getAlphaNum12().isFrozen());
+                first.getAlphaNum12().getAssetCode()[0] ^= 1;
+            }
+            assertArrayEquals(bytes, first.toXdrBytes());
+        }
+    }
+
+    @Test
+    public void unpooledValuesStayMutable() throws IOException {
+        AccountID accountID = AccountID.decode(new XdrByteBufferReader(new XdrRandom(19).next(AccountID.class).toXdrBytes()));
+        assertFalse(accountID.isFrozen());
+        accountID.setAccountID(accountID.getAccountID());
+    }
+
+    private static <T> T decode(byte[] bytes, XdrInternPool pool, XdrDecoder<T> decoder) throws IOException {
+        XdrByteBufferReader reader = new XdrByteBufferReader(bytes);
+        reader.setInternPool(pool);
+        return decoder.decode(reader);
+    }
+}
@@ -0,0 +1,199 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks projections of random paths against the same paths followed through a full decode.
+ */
+public class XdrProjectionTest {
+
+    private static final int PROJECTIONS_PER_TYPE = 20;
+    private static final int VALUES_PER_PROJECTION = 10;
+
+    @Test
+    public void projectionMatchesDecode() throws Exception {
+        XdrRandom random = new XdrRandom(25);
+        Random r = random.random();
+        for (Class<?> type : XdrRandom.types()) {
+            for (int i = 0; i < PROJECTIONS_PER_TYPE; i++) {
+                String[] paths = new String[1 + r.nextInt(4)];
+                for (int j = 0; j < paths.length; j++) {
+                    paths[j] = randomPath(XdrSchema.get(type), r);
+                }
+                XdrProjection projection;
+                try {
+                    projection = XdrProjection.compile(type, paths);
+                } catch (IllegalArgumentException e) {
+                    // a path selecting a field whole and another selecting part of it
+                    continue;
+                }
+                XdrProjection.Values values = projection.newValues();
+                for (int j = 0; j < VALUES_PER_PROJECTION; j++) {
+                    byte[] bytes = XdrRandom.encode(random.next(type));
+                    Object decoded = XdrRandom.call(type, "decode", new Class<?>[] {XdrReader.class}, new XdrByteBufferReader(bytes));
+                    XdrByteBufferReader reader = new XdrByteBufferReader(bytes);
+                    // reused, as a scan would
+                    projection.decode(reader, values);
+                    assertEquals(type.getName(), 0, reader.remaining());
+                    for (int k = 0; k < paths.length; k++) {
+                        List<Object> expected = new ArrayList<Object>();
+                        follow(decoded, paths[k].split("\\."), 0, expected);
+                        String message = type.getName() + " " + paths[k];
+                        assertTrue(message, Arrays.deepEquals(expected.toArray(), values.getAll(k).toArray()));
+                        assertTrue(message, Arrays.deepEquals(new Object[] {expected.isEmpty() ? null : expected.get(0)},
+                                new Object[] {values.get(k)}));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void projectionMatchesDecodeOfEnvelopes() throws IOException {
+        XdrRandom random = new XdrRandom(25);
+        XdrProjection projection = XdrProjection.compile(TransactionEnvelope.class,
+                "tx.sourceAccount", "tx.seqNum", "tx.operations[*].body.type", "tx.operations[0].sourceAccount",
+                "signatures", "tx.memo.text");
+        for (int i = 0; i < 200; i++) {
+            TransactionEnvelope envelope = random.next(TransactionEnvelope.class);
+            XdrProjection.Values values = projection.decode(new XdrByteBufferReader(envelope.toXdrBytes()));
+            Transaction tx = envelope.getTx();
+            assertEquals(tx.getSourceAccount(), values.get(0));
+            assertEquals(tx.getSeqNum(), values.get(1));
+            List<Object> types = new ArrayList<Object>();
+            for (Operation operation : tx.getOperations()) {
+                types.add(operation.getBody().getDiscriminant());
+            }
+            assertEquals(types, values.getAll(2));
+            assertEquals(tx.getOperations().length == 0 ? Collections.emptyList()
+                    : Collections.singletonList(tx.getOperations()[0].getSourceAccount()), values.getAll(3));
+            assertTrue(Arrays.equals(envelope.getSignatures(), (Object[]) values.get(4)));
+            assertEquals(tx.getMemo().getDiscriminant() == MemoType.MEMO_TEXT
+                    ? Collections.singletonList(tx.getMemo().getText()) : Collections.emptyList(), values.getAll(5));
+        }
+    }
+
+    @Test
+    public void rejectsUnknownPaths() {
+        String[][] invalid = {
+                {"tx.noSuchField"}, {"tx.operations.body"}, {"tx.seqNum[0]"}, {"tx", "tx.seqNum"}, {"tx..fee"}, {}
+        };
+        for (String[] paths : invalid) {
+            try {
+                XdrProjection.compile(TransactionEnvelope.class, paths);
+                fail("compiled " + Arrays.toString(paths));
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+    }
+
+    /**
+     * Returns a path from {@code type} down to a random field, through arrays by index or
+     * with {@code [*]}.
+     */
+    private static String randomPath(XdrSchema.Type type, Random r) {
+        StringBuilder path = new StringBuilder();
+        while (true) {
+            List<XdrSchema.Field> fields = new ArrayList<XdrSchema.Field>(Arrays.asList(type.fields));
+            if (type.kind == XdrSchema.Kind.UNION) {
+                fields.add(type.discriminant);
+                for (XdrSchema.Arm arm : type.arms) {
+                    if (arm.field != null) {
+                        fields.add(arm.field);
+                    }
+                }
+            }
+            XdrSchema.Field field = fields.get(r.nextInt(fields.size()));
+            if (path.length() > 0) {
+                path.append('.');
+            }
+            path.append(field.name);
+            boolean array = field.kind == XdrSchema.FieldKind.FIXED_ARRAY || field.kind == XdrSchema.FieldKind.VAR_ARRAY;
+            if (field.type == null || r.nextInt(3) == 0) {
+                return path.toString();
+            }
+            XdrSchema.Type next = XdrSchema.get(field.type);
+            if (array) {
+                int index = r.nextInt(4);
+                path.append(index == 3 ? "[*]" : "[" + index + "]");
+                if (next.kind == XdrSchema.Kind.ENUM || r.nextInt(3) == 0) {
+                    return path.toString();
+                }
+            } else if (next.kind == XdrSchema.Kind.ENUM) {
+                return path.toString();
+            }
+            type = next;
+        }
+    }
+
+    /**
+     * Adds the values {@code segments} select from {@code value}, by the rules of
+     * {@link XdrProjection}, walking the decoded fields.
+     */
+    private static void follow(Object value, String[] segments, int i, List<Object> values) throws Exception {
+        if (i == segments.length) {
+            values.add(value);
+            return;
+        }
+        if (value == null) {
+            // through an absent optional field
+            return;
+        }
+        String segment = segments[i];
+        int bracket = segment.indexOf('[');
+        String name = bracket < 0 ? segment : segment.substring(0, bracket);
+        XdrSchema.Type type = XdrSchema.get(value.getClass());
+        Object child;
+        if (type.kind == XdrSchema.Kind.UNION && name.equals(type.discriminant.name)) {
+            child = value.getClass().getMethod("getDiscriminant").invoke(value);
+        } else {
+            if (type.kind == XdrSchema.Kind.UNION && !isSelected(type, value, name)) {
+                return;
+            }
+            Field field = value.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            child = field.get(value);
+        }
+        if (bracket < 0) {
+            follow(child, segments, i + 1, values);
+            return;
+        }
+        Object[] elements = (Object[]) child;
+        String selector = segment.substring(bracket + 1, segment.length() - 1);
+        if (selector.equals("*")) {
+            for (Object element : elements) {
+                follow(element, segments, i + 1, values);
+            }
+        } else if (Integer.parseInt(selector) < elements.length) {
+            follow(elements[Integer.parseInt(selector)], segments, i + 1, values);
+        }
+    }
+
+    private static boolean isSelected(XdrSchema.Type type, Object value, String name) throws Exception {
+        Object discriminant = value.getClass().getMethod("getDiscriminant").invoke(value);
+        XdrSchema.Arm selected = null;
+        for (XdrSchema.Arm arm : type.arms) {
+            if (arm.labels == null) {
+                if (selected == null) {
+                    selected = arm;
+                }
+            } else if (Arrays.asList(arm.labels).contains(discriminant)) {
+                selected = arm;
+                break;
+            }
+        }
+        return selected != null && selected.field != null && selected.field.name.equals(name);
+    }
+}
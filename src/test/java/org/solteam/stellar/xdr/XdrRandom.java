@@ -0,0 +1,296 @@
+package org.solteam.stellar.xdr;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Builds random values of the generated types from their {@link XdrSchema} layout,
+ * and encodes and compares them for the round-trip tests.
+ */
+final class XdrRandom {
+
+    // every generated type is reachable from these
+    private static final Class<?>[] ROOTS = {
+            AuthenticatedMessage.class, TransactionMeta.class, TransactionHistoryEntry.class,
+            TransactionHistoryResultEntry.class, LedgerHeaderHistoryEntry.class, BucketEntry.class,
+            SCPHistoryEntry.class, TransactionSignaturePayload.class, LedgerKey.class, LedgerUpgrade.class,
+            Curve25519Secret.class, HmacSha256Key.class, AccountFlags.class, TrustLineFlags.class,
+            OfferEntryFlags.class, ThresholdIndexes.class, CryptoKeyType.class
+    };
+
+    // nesting below which arrays are left empty and optional values absent
+    private static final int MAX_DEPTH = 4;
+
+    private final Random mRandom;
+
+    XdrRandom(long seed) {
+        mRandom = new Random(seed);
+    }
+
+    Random random() {
+        return mRandom;
+    }
+
+    /**
+     * Returns every struct and union type in the schema, in name order.
+     */
+    static List<Class<?>> types() {
+        Set<Class<?>> seen = new LinkedHashSet<Class<?>>();
+        Deque<Class<?>> queue = new ArrayDeque<Class<?>>(Arrays.asList(ROOTS));
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.pop();
+            XdrSchema.Type schema = XdrSchema.get(type);
+            if (schema == null || !seen.add(type)) {
+                continue;
+            }
+            List<XdrSchema.Field> fields = new ArrayList<XdrSchema.Field>(Arrays.asList(schema.fields));
+            if (schema.discriminant != null) {
+                fields.add(schema.discriminant);
+            }
+            if (schema.arms != null) {
+                for (XdrSchema.Arm arm : schema.arms) {
+                    if (arm.field != null) {
+                        fields.add(arm.field);
+                    }
+                }
+            }
+            for (XdrSchema.Field field : fields) {
+                if (field.type != null) {
+                    queue.push(field.type);
+                }
+            }
+        }
+        List<Class<?>> types = new ArrayList<Class<?>>();
+        for (Class<?> type : seen) {
+            if (XdrSchema.get(type).kind != XdrSchema.Kind.ENUM) {
+                types.add(type);
+            }
+        }
+        types.sort(Comparator.comparing(Class::getName));
+        return types;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T next(Class<T> type) {
+        return (T) next(type, 0);
+    }
+
+    private Object next(Class<?> type, int depth) {
+        if (type.isEnum()) {
+            Object[] values = type.getEnumConstants();
+            return values[mRandom.nextInt(values.length)];
+        }
+        XdrSchema.Type schema = XdrSchema.get(type);
+        try {
+            Object value = type.getConstructor().newInstance();
+            if (schema.kind == XdrSchema.Kind.UNION) {
+                nextArm(schema, value, depth);
+            } else {
+                for (XdrSchema.Field field : schema.fields) {
+                    set(value, field, depth);
+                }
+            }
+            return value;
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private void nextArm(XdrSchema.Type schema, Object value, int depth) throws ReflectiveOperationException {
+        XdrSchema.Arm arm = schema.arms[mRandom.nextInt(schema.arms.length)];
+        Object discriminant;
+        if (arm.labels != null) {
+            discriminant = arm.labels[mRandom.nextInt(arm.labels.length)];
+        } else {
+            discriminant = defaultLabel(schema);
+            if (discriminant == null) {
+                // every value has an arm of its own
+                arm = schema.arms[0];
+                discriminant = arm.labels[0];
+            }
+        }
+        if (discriminant instanceof Uint32) {
+            // the labels are shared by the schema
+            Uint32 copy = new Uint32();
+            copy.setUint32(((Uint32) discriminant).getUint32());
+            discriminant = copy;
+        }
+        Method setter = null;
+        for (Method method : schema.type.getMethods()) {
+            if (method.getName().equals("setDiscriminant")) {
+                setter = method;
+            }
+        }
+        setter.invoke(value, discriminant);
+        if (arm.field != null) {
+            set(value, arm.field, depth);
+        }
+    }
+
+    private Object defaultLabel(XdrSchema.Type schema) {
+        Set<Object> taken = new LinkedHashSet<Object>();
+        for (XdrSchema.Arm arm : schema.arms) {
+            if (arm.labels != null) {
+                taken.addAll(Arrays.asList(arm.labels));
+            }
+        }
+        List<Object> free = new ArrayList<Object>();
+        if (schema.discriminant.kind == XdrSchema.FieldKind.INT) {
+            while (free.isEmpty()) {
+                int label = mRandom.nextInt();
+                if (!taken.contains(label)) {
+                    free.add(label);
+                }
+            }
+        } else {
+            for (Object constant : schema.discriminant.type.getEnumConstants()) {
+                if (!taken.contains(constant)) {
+                    free.add(constant);
+                }
+            }
+        }
+        return free.isEmpty() ? null : free.get(mRandom.nextInt(free.size()));
+    }
+
+    private void set(Object target, XdrSchema.Field field, int depth) throws ReflectiveOperationException {
+        Field javaField = target.getClass().getDeclaredField(field.name);
+        javaField.setAccessible(true);
+        javaField.set(target, value(field, javaField.getType(), depth + 1));
+    }
+
+    private Object value(XdrSchema.Field field, Class<?> javaType, int depth) {
+        switch (field.kind) {
+            case TYPE:
+                return next(field.type, depth);
+            case OPTIONAL:
+                return depth < MAX_DEPTH && mRandom.nextBoolean() ? next(field.type, depth) : null;
+            case FIXED_ARRAY:
+                return array(javaType, field.type, field.size, depth);
+            case VAR_ARRAY:
+                return array(javaType, field.type,
+                        depth < MAX_DEPTH ? mRandom.nextInt(Math.min(field.size, 3) + 1) : 0, depth);
+            case INT:
+                return mRandom.nextInt();
+            case LONG:
+                return mRandom.nextLong();
+            case BOOL:
+                return mRandom.nextBoolean();
+            case STRING:
+                return string(Math.min(field.size, 24));
+            case FIXED_OPAQUE:
+                return bytes(field.size);
+            case VAR_OPAQUE:
+                return bytes(mRandom.nextInt(Math.min(field.size, 40) + 1));
+            default:
+                throw new AssertionError(field.kind);
+        }
+    }
+
+    private Object array(Class<?> arrayType, Class<?> elementType, int length, int depth) {
+        Object array = Array.newInstance(arrayType.getComponentType(), length);
+        for (int i = 0; i < length; i++) {
+            Array.set(array, i, next(elementType, depth));
+        }
+        return array;
+    }
+
+    byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        mRandom.nextBytes(bytes);
+        return bytes;
+    }
+
+    private String string(int maxBytes) {
+        StringBuilder builder = new StringBuilder();
+        int length = mRandom.nextInt(maxBytes + 1);
+        while (true) {
+            // mostly ASCII, with some two byte UTF-8 characters
+            char c = mRandom.nextInt(8) == 0 ? (char) (0x400 + mRandom.nextInt(100)) : (char) (32 + mRandom.nextInt(95));
+            if (builder.toString().getBytes(StandardCharsets.UTF_8).length + (c < 0x80 ? 1 : 2) > length) {
+                return builder.toString();
+            }
+            builder.append(c);
+        }
+    }
+
+    /**
+     * Encodes a value of any generated type with its static {@code encode}.
+     */
+    static byte[] encode(Object value) throws IOException {
+        XdrByteArrayWriter writer = new XdrByteArrayWriter();
+        call(value.getClass(), "encode", new Class<?>[] {XdrWriter.class, value.getClass()}, writer, value);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Calls a public static method of a generated type, such as {@code decode} or {@code skip}.
+     */
+    static Object call(Class<?> type, String name, Class<?>[] parameterTypes, Object... arguments) throws IOException {
+        try {
+            return type.getMethod(name, parameterTypes).invoke(null, arguments);
+        } catch (ReflectiveOperationException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Compares every field two values hold, not only those {@code equals} looks at, such
+     * as the arms a union does not select. Caches are left out.
+     */
+    static boolean deepEquals(Object a, Object b) throws IllegalAccessException {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null || a.getClass() != b.getClass()) {
+            return false;
+        }
+        Class<?> type = a.getClass();
+        if (type.isArray()) {
+            if (type.getComponentType().isPrimitive()) {
+                return Arrays.deepEquals(new Object[] {a}, new Object[] {b});
+            }
+            Object[] x = (Object[]) a;
+            Object[] y = (Object[]) b;
+            if (x.length != y.length) {
+                return false;
+            }
+            for (int i = 0; i < x.length; i++) {
+                if (!deepEquals(x[i], y[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (type.isEnum() || XdrSchema.get(type) == null) {
+            return a.equals(b);
+        }
+        for (Field field : type.getDeclaredFields()) {
+            String name = field.getName();
+            if (Modifier.isStatic(field.getModifiers()) || name.equals("cachedHashCode")
+                    || name.equals("frozen") || name.equals("encoded") || name.equals("networkHash")) {
+                continue;
+            }
+            field.setAccessible(true);
+            if (!deepEquals(field.get(a), field.get(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,171 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the validation both readers do, trusted or not.
+ */
+public class XdrReaderTest {
+
+    @Test
+    public void trustedReadersSkipPaddingChecks() throws IOException {
+        byte[] bytes = {0, 0, 0, 1, 7, 1, 2, 3};
+        for (XdrReader reader : readers(bytes, true, XdrUnknownEnumPolicy.THROW)) {
+            assertArrayEquals(new byte[] {7}, reader.readVarOpaque(4));
+        }
+        for (XdrReader reader : readers(bytes, false, XdrUnknownEnumPolicy.THROW)) {
+            expectFailure(reader, "nonzero padding");
+        }
+    }
+
+    @Test
+    public void trustedReadersCheckBounds() throws IOException {
+        // a text memo of 29 bytes, one more than the schema allows
+        XdrByteArrayWriter writer = new XdrByteArrayWriter();
+        writer.writeInt(MemoType.MEMO_TEXT.getValue());
+        writer.writeInt(29);
+        writer.write(new byte[32], 0, 32);
+        for (boolean trusted : new boolean[] {false, true}) {
+            for (XdrReader reader : readers(writer.toByteArray(), trusted, XdrUnknownEnumPolicy.THROW)) {
+                try {
+                    Memo.decode(reader);
+                    fail("memo of 29 bytes accepted");
+                } catch (IOException expected) {
+                }
+            }
+        }
+    }
+
+    @Test
+    public void trustedReadersRejectNegativeLengths() throws IOException {
+        byte[] bytes = {-1, -1, -1, -4, 0, 0, 0, 0};
+        for (boolean trusted : new boolean[] {false, true}) {
+            for (XdrReader reader : readers(bytes, trusted, XdrUnknownEnumPolicy.THROW)) {
+                expectFailure(reader, "negative length");
+            }
+            for (XdrReader reader : readers(bytes, trusted, XdrUnknownEnumPolicy.THROW)) {
+                try {
+                    reader.readFixedOpaque(-4);
+                    fail("negative fixed length accepted");
+                } catch (IOException expected) {
+                }
+            }
+            for (XdrReader reader : readers(bytes, trusted, XdrUnknownEnumPolicy.THROW)) {
+                try {
+                    reader.checkArrayLength(-4, Integer.MAX_VALUE);
+                    fail("negative count accepted");
+                } catch (IOException expected) {
+                }
+            }
+        }
+    }
+
+    @Test
+    public void trustedReadersValidateEnums() throws IOException {
+        byte[] bytes = {0, 0, 0, 99};
+        for (boolean trusted : new boolean[] {false, true}) {
+            for (XdrReader reader : readers(bytes, trusted, XdrUnknownEnumPolicy.THROW)) {
+                try {
+                    MemoType.decode(reader);
+                    fail("unknown memo type accepted");
+                } catch (IOException expected) {
+                }
+            }
+        }
+    }
+
+    @Test
+    public void unknownDiscriminantsOfUnionsWithVoidDefaultsDecodeAsNull() throws IOException {
+        // an unknown result code, then the next value
+        byte[] bytes = {0, 0, 0, 99, 0, 0, 0, 42};
+        for (XdrReader reader : readers(bytes, false, XdrUnknownEnumPolicy.RETURN_NULL)) {
+            assertNull(CreateAccountResult.decode(reader).getDiscriminant());
+            assertEquals(42, reader.readInt());
+        }
+        for (XdrReader reader : readers(bytes, false, XdrUnknownEnumPolicy.RETURN_NULL)) {
+            CreateAccountResult.skip(reader);
+            assertEquals(42, reader.readInt());
+        }
+        for (XdrReader reader : readers(bytes, false, XdrUnknownEnumPolicy.RETURN_NULL)) {
+            assertNull(XdrProjection.compile(CreateAccountResult.class, "code").decode(reader).get(0));
+            assertEquals(42, reader.readInt());
+        }
+    }
+
+    @Test
+    public void unknownDiscriminantsOfOtherUnionsFail() throws IOException {
+        // an unknown memo type, followed by what could be its arm
+        byte[] bytes = {0, 0, 0, 99, 0, 0, 0, 4, 1, 2, 3, 4};
+        for (XdrReader reader : readers(bytes, false, XdrUnknownEnumPolicy.RETURN_NULL)) {
+            try {
+                Memo.decode(reader);
+                fail("unknown memo type accepted");
+            } catch (IOException expected) {
+            }
+        }
+        for (XdrReader reader : readers(bytes, false, XdrUnknownEnumPolicy.RETURN_NULL)) {
+            try {
+                Memo.decodeInto(reader, new Memo());
+                fail("unknown memo type accepted");
+            } catch (IOException expected) {
+            }
+        }
+        for (XdrReader reader : readers(bytes, false, XdrUnknownEnumPolicy.RETURN_NULL)) {
+            try {
+                Memo.skip(reader);
+                fail("unknown memo type skipped");
+            } catch (IOException expected) {
+            }
+        }
+        for (XdrReader reader : readers(bytes, false, XdrUnknownEnumPolicy.RETURN_NULL)) {
+            try {
+                XdrProjection.compile(Memo.class, "type").decode(reader);
+                fail("unknown memo type projected");
+            } catch (IOException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void truncatedStringsFail() throws IOException {
+        // "abcd", then a string of 4 bytes cut off after the first
+        byte[] bytes = {0, 0, 0, 4, 'a', 'b', 'c', 'd', 0, 0, 0, 4, 'x'};
+        for (boolean trusted : new boolean[] {false, true}) {
+            for (XdrReader reader : readers(bytes, trusted, XdrUnknownEnumPolicy.THROW)) {
+                assertEquals("abcd", reader.readString(8));
+                try {
+                    reader.readString(8);
+                    fail("truncated string accepted");
+                } catch (EOFException expected) {
+                }
+            }
+        }
+    }
+
+    private static void expectFailure(XdrReader reader, String what) {
+        try {
+            reader.readVarOpaque(Integer.MAX_VALUE);
+            fail(what + " accepted");
+        } catch (IOException expected) {
+        }
+    }
+
+    private static XdrReader[] readers(byte[] bytes, boolean trusted, XdrUnknownEnumPolicy policy) {
+        XdrByteBufferReader buffer = new XdrByteBufferReader(bytes);
+        buffer.setTrusted(trusted);
+        buffer.setUnknownEnumPolicy(policy);
+        XdrDataInputStream stream = new XdrDataInputStream(new ByteArrayInputStream(bytes));
+        stream.setTrusted(trusted);
+        stream.setUnknownEnumPolicy(policy);
+        return new XdrReader[] {buffer, stream};
+    }
+}
@@ -0,0 +1,123 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class XdrRecordDecoderTest {
+
+    private static final int LAST_FRAGMENT = 0x80000000;
+
+    @Test
+    public void decodesRandomlyChunkedInput() throws IOException {
+        XdrRandom random = new XdrRandom(24);
+        Random r = random.random();
+        for (int round = 0; round < 50; round++) {
+            List<AuthenticatedMessage> expected = new ArrayList<AuthenticatedMessage>();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int records = 1 + r.nextInt(30);
+            for (int i = 0; i < records; i++) {
+                AuthenticatedMessage message = random.next(AuthenticatedMessage.class);
+                expected.add(message);
+                writeRecord(out, message.toXdrBytes(), r);
+            }
+            byte[] input = out.toByteArray();
+            XdrRecordDecoder<AuthenticatedMessage> decoder = new XdrRecordDecoder<AuthenticatedMessage>(AuthenticatedMessage::decode);
+            List<AuthenticatedMessage> decoded = new ArrayList<AuthenticatedMessage>();
+            int offset = 0;
+            while (offset < input.length) {
+                // chunks from a single byte to several records, at an offset in their buffer
+                int count = Math.min(input.length - offset, r.nextInt(4) == 0 ? 1 + r.nextInt(4) : r.nextInt(2000));
+                ByteBuffer chunk = ByteBuffer.allocate(count + 16);
+                ((Buffer) chunk).position(r.nextInt(16));
+                chunk.put(input, offset, count);
+                ((Buffer) chunk).flip();
+                ((Buffer) chunk).position(chunk.limit() - count);
+                decoded.addAll(decoder.feed(chunk));
+                assertFalse(chunk.hasRemaining());
+                offset += count;
+            }
+            assertEquals(expected, decoded);
+            assertFalse(decoder.hasPartialRecord());
+        }
+    }
+
+    /**
+     * Writes {@code bytes} as one record, in up to three fragments of which some may be empty.
+     */
+    private static void writeRecord(ByteArrayOutputStream out, byte[] bytes, Random r) {
+        int offset = 0;
+        int fragments = r.nextInt(3);
+        for (int i = 0; i < fragments; i++) {
+            int length = r.nextInt(bytes.length - offset + 1);
+            writeMark(out, length);
+            out.write(bytes, offset, length);
+            offset += length;
+        }
+        writeMark(out, LAST_FRAGMENT | (bytes.length - offset));
+        out.write(bytes, offset, bytes.length - offset);
+    }
+
+    private static void writeMark(ByteArrayOutputStream out, int mark) {
+        out.write(mark >>> 24);
+        out.write(mark >>> 16);
+        out.write(mark >>> 8);
+        out.write(mark);
+    }
+
+    @Test
+    public void rejectsOversizedRecords() throws IOException {
+        XdrRecordDecoder<AuthenticatedMessage> decoder = new XdrRecordDecoder<AuthenticatedMessage>(AuthenticatedMessage::decode, 100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeMark(out, 60);
+        out.write(new byte[60], 0, 60);
+        writeMark(out, LAST_FRAGMENT | 60);
+        try {
+            decoder.feed(ByteBuffer.wrap(out.toByteArray()));
+            fail("record of 120 bytes accepted");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void rejectsUndecodedBytes() throws IOException {
+        byte[] bytes = new XdrRandom(24).next(AuthenticatedMessage.class).toXdrBytes();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeMark(out, LAST_FRAGMENT | (bytes.length + 4));
+        out.write(bytes, 0, bytes.length);
+        out.write(new byte[4], 0, 4);
+        try {
+            new XdrRecordDecoder<AuthenticatedMessage>(AuthenticatedMessage::decode).feed(ByteBuffer.wrap(out.toByteArray()));
+            fail("trailing bytes accepted");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void budgetLimitsEachRecord() throws IOException {
+        XdrRandom random = new XdrRandom(24);
+        XdrRecordDecoder<TransactionEnvelope> decoder = new XdrRecordDecoder<TransactionEnvelope>(TransactionEnvelope::decode);
+        decoder.getReader().setBudget(new XdrDecodeBudget(8192, 10000));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int count = 0;
+        // together far more than the budget, each record well within it
+        while (out.size() < 200000) {
+            byte[] bytes = random.next(TransactionEnvelope.class).toXdrBytes();
+            if (bytes.length <= 8192) {
+                writeRecord(out, bytes, random.random());
+                count++;
+            }
+        }
+        assertEquals(count, decoder.feed(ByteBuffer.wrap(out.toByteArray())).size());
+    }
+}
@@ -0,0 +1,166 @@
+package org.solteam.stellar.xdr;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class XdrRecordFileReaderTest {
+
+    private static final int LAST_FRAGMENT = 0x80000000;
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    private final List<BucketEntry> mEntries = new ArrayList<BucketEntry>();
+    private Path mPath;
+    private int mMaxRecordSize;
+
+    @Before
+    public void writeFile() throws IOException {
+        XdrRandom random = new XdrRandom(4);
+        mPath = mFolder.newFile("bucket.xdr").toPath();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(mPath)))) {
+            for (int i = 0; i < 2000; i++) {
+                BucketEntry entry = random.next(BucketEntry.class);
+                byte[] bytes = entry.toXdrBytes();
+                mEntries.add(entry);
+                mMaxRecordSize = Math.max(mMaxRecordSize, bytes.length);
+                if (i % 7 == 3) {
+                    // split into fragments, the first of them possibly empty
+                    int split = random.random().nextInt(bytes.length + 1);
+                    out.writeInt(split);
+                    out.write(bytes, 0, split);
+                    out.writeInt(LAST_FRAGMENT | (bytes.length - split));
+                    out.write(bytes, split, bytes.length - split);
+                } else {
+                    out.writeInt(LAST_FRAGMENT | bytes.length);
+                    out.write(bytes);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void readsRecordsAcrossWindows() throws IOException {
+        // small windows make most records and marks straddle a window boundary
+        int[] windowSizes = {
+                XdrRecordFileReader.DEFAULT_WINDOW_SIZE, 64 * 1024, mMaxRecordSize + 4, mMaxRecordSize + 4 + 13
+        };
+        for (int windowSize : windowSizes) {
+            try (XdrRecordFileReader<BucketEntry> reader = new XdrRecordFileReader<BucketEntry>(mPath, BucketEntry::decode, windowSize)) {
+                int i = 0;
+                for (BucketEntry entry : reader) {
+                    assertEquals("window " + windowSize + ", record " + i, mEntries.get(i), entry);
+                    i++;
+                }
+                assertEquals(mEntries.size(), i);
+            }
+        }
+    }
+
+    @Test
+    public void resumesAtRecordOffset() throws IOException {
+        try (XdrRecordFileReader<BucketEntry> reader = new XdrRecordFileReader<BucketEntry>(mPath, BucketEntry::decode, mMaxRecordSize + 4)) {
+            XdrRecordFileReader<BucketEntry>.RecordIterator records = reader.iterator();
+            List<Long> offsets = new ArrayList<Long>();
+            while (records.hasNext()) {
+                records.next();
+                offsets.add(records.getRecordOffset());
+            }
+            for (int i = 0; i < mEntries.size(); i += 97) {
+                XdrRecordFileReader<BucketEntry>.RecordIterator resumed = reader.iterator(offsets.get(i));
+                for (int j = i; j < Math.min(i + 5, mEntries.size()); j++) {
+                    assertEquals(mEntries.get(j), resumed.next());
+                }
+            }
+            assertFalse(reader.iterator(reader.size()).hasNext());
+        }
+    }
+
+    @Test
+    public void rejectsTruncatedFile() throws IOException {
+        byte[] bytes = Files.readAllBytes(mPath);
+        Path truncated = mFolder.newFile("truncated.xdr").toPath();
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 3));
+        try (XdrRecordFileReader<BucketEntry> reader = new XdrRecordFileReader<BucketEntry>(truncated, BucketEntry::decode, mMaxRecordSize + 4)) {
+            for (BucketEntry ignored : reader) {
+                // read up to the damaged record
+            }
+            fail("truncated record accepted");
+        } catch (UncheckedIOException expected) {
+        }
+    }
+
+    @Test
+    public void reassemblesManyFragments() throws IOException {
+        XdrRandom random = new XdrRandom(4);
+        Path path = mFolder.newFile("fragments.xdr").toPath();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            for (BucketEntry entry : mEntries) {
+                byte[] bytes = entry.toXdrBytes();
+                // fragments of up to 8 bytes, some of them empty
+                int offset = 0;
+                while (true) {
+                    int length = Math.min(random.random().nextInt(9), bytes.length - offset);
+                    boolean last = offset + length == bytes.length && random.random().nextBoolean();
+                    out.writeInt(last ? LAST_FRAGMENT | length : length);
+                    out.write(bytes, offset, length);
+                    offset += length;
+                    if (last) {
+                        break;
+                    }
+                }
+            }
+        }
+        try (XdrRecordFileReader<BucketEntry> reader = new XdrRecordFileReader<BucketEntry>(path, BucketEntry::decode, 64)) {
+            int i = 0;
+            for (BucketEntry entry : reader) {
+                assertEquals("record " + i, mEntries.get(i), entry);
+                i++;
+            }
+            assertEquals(mEntries.size(), i);
+        }
+    }
+
+    @Test
+    public void rejectsFragmentsAddingUpPastTheArrayLimit() throws IOException {
+        Path path = mFolder.newFile("oversized.xdr").toPath();
+        byte[] bytes = mEntries.get(0).toXdrBytes();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(LAST_FRAGMENT | bytes.length);
+            out.write(bytes);
+            // 8 bytes and then a fragment that would take the record to 2^31 bytes
+            out.writeInt(8);
+            out.write(new byte[8]);
+            out.writeInt(Integer.MAX_VALUE - 7);
+            out.write(new byte[16]);
+        }
+        try (XdrRecordFileReader<BucketEntry> reader = new XdrRecordFileReader<BucketEntry>(path, BucketEntry::decode)) {
+            XdrRecordFileReader<BucketEntry>.RecordIterator records = reader.iterator();
+            assertEquals(mEntries.get(0), records.next());
+            try {
+                records.next();
+                fail("oversized record accepted");
+            } catch (UncheckedIOException expected) {
+                String message = expected.getCause().getMessage();
+                assertTrue(message, message.contains("record at offset " + (4 + bytes.length) + " has more than"));
+            }
+        }
+    }
+}